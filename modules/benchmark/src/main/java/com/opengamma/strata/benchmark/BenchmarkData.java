@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCalibrationCsvLoader;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConvention;
+
+/**
+ * The market data, curve definitions and trades shared by the benchmarks.
+ * <p>
+ * The curve definitions and quotes are those of the USD and EUR calibration examples.
+ */
+final class BenchmarkData {
+
+  /**
+   * The reference data.
+   */
+  static final ReferenceData REF_DATA = ReferenceData.standard();
+
+  /**
+   * The USD curve group, with a discount curve and a Libor 3M forward curve.
+   */
+  static final BenchmarkData USD = new BenchmarkData(
+      "usd", LocalDate.of(2015, 7, 21), CurveGroupName.of("USD-DSCON-LIBOR3M"), USD_FIXED_6M_LIBOR_3M);
+  /**
+   * The EUR curve group, with a discount curve and Euribor 3M and 6M forward curves.
+   */
+  static final BenchmarkData EUR = new BenchmarkData(
+      "eur", LocalDate.of(2015, 11, 20), CurveGroupName.of("EUR-DSCONOIS-EURIBOR3MBS-EURIBOR6MIRS"), EUR_FIXED_1Y_EURIBOR_6M);
+
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The curve group definition, filtered for the valuation date.
+   */
+  private final RatesCurveGroupDefinition curveGroup;
+  /**
+   * The market quotes used to calibrate the curve group.
+   */
+  private final MarketData marketData;
+  /**
+   * The convention of the swaps priced against the curve group.
+   */
+  private final FixedIborSwapConvention swapConvention;
+
+  // loads the data from the classpath
+  private BenchmarkData(
+      String suffix,
+      LocalDate valuationDate,
+      CurveGroupName groupName,
+      FixedIborSwapConvention swapConvention) {
+
+    this.valuationDate = valuationDate;
+    this.curveGroup = RatesCalibrationCsvLoader.load(
+        resource("groups-" + suffix + ".csv"),
+        resource("settings-" + suffix + ".csv"),
+        resource("calibrations-" + suffix + ".csv"))
+        .get(groupName)
+        .filtered(valuationDate, REF_DATA);
+    this.marketData = ImmutableMarketData.of(
+        valuationDate, QuotesCsvLoader.load(valuationDate, resource("quotes-" + suffix + ".csv")));
+    this.swapConvention = swapConvention;
+  }
+
+  private static ResourceLocator resource(String name) {
+    return ResourceLocator.ofClasspath(BenchmarkData.class, name);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the valuation date.
+   *
+   * @return the valuation date
+   */
+  LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  /**
+   * Gets the curve group definition, filtered for the valuation date.
+   *
+   * @return the curve group definition
+   */
+  RatesCurveGroupDefinition getCurveGroup() {
+    return curveGroup;
+  }
+
+  /**
+   * Gets the market quotes used to calibrate the curve group.
+   *
+   * @return the market quotes
+   */
+  MarketData getMarketData() {
+    return marketData;
+  }
+
+  /**
+   * Creates a vanilla fixed versus Ibor swap priced against the curve group.
+   *
+   * @param tenor  the tenor of the swap
+   * @return the swap
+   */
+  SwapTrade swap(Tenor tenor) {
+    return swapConvention.createTrade(
+        valuationDate, Period.ZERO, tenor, BuySell.BUY, 1_000_000d, 0.01, REF_DATA);
+  }
+
+  /**
+   * Creates a portfolio of swaps with a spread of start dates, tenors, directions and rates.
+   * <p>
+   * The portfolio is the same for a given size.
+   *
+   * @param size  the number of swaps
+   * @return the swaps
+   */
+  List<SwapTrade> swaps(int size) {
+    Random random = new Random(1);
+    ImmutableList.Builder<SwapTrade> swaps = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      Period start = Period.ofMonths(random.nextInt(12));
+      Tenor tenor = Tenor.ofYears(1 + random.nextInt(30));
+      BuySell buySell = random.nextBoolean() ? BuySell.BUY : BuySell.SELL;
+      double notional = 1_000_000d * (1 + random.nextInt(100));
+      double rate = 0.005 + random.nextInt(300) / 10_000d;
+      swaps.add(swapConvention.createTrade(valuationDate, start, tenor, buySell, notional, rate, REF_DATA));
+    }
+    return swaps.build();
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks, publishing the results as JSON.
+ * <p>
+ * This accepts the standard JMH command line, such as a regular expression selecting the benchmarks to run.
+ * Unless specified on the command line, the results are written in JSON format to {@code benchmark-results.json}
+ * in the {@code target} directory, suitable for tracking over time and comparing between versions.
+ * The {@code target} directory is located as the directory containing the benchmarks jar file,
+ * or the classes directory when run from an IDE.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * The name of the default results file.
+   */
+  private static final String DEFAULT_RESULTS_FILE = "benchmark-results.json";
+
+  /**
+   * Restricted constructor.
+   */
+  private BenchmarkRunner() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args  the JMH command line arguments
+   * @throws RunnerException if the benchmarks fail
+   * @throws CommandLineOptionException if the command line is invalid
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result(defaultResultsFile());
+    }
+    new Runner(options.build()).run();
+  }
+
+  // the results file in the target directory, which contains the jar file or classes directory
+  private static String defaultResultsFile() {
+    CodeSource codeSource = BenchmarkRunner.class.getProtectionDomain().getCodeSource();
+    if (codeSource == null) {
+      return DEFAULT_RESULTS_FILE;
+    }
+    try {
+      Path location = Paths.get(codeSource.getLocation().toURI());
+      return location.resolveSibling(DEFAULT_RESULTS_FILE).toString();
+    } catch (URISyntaxException ex) {
+      return DEFAULT_RESULTS_FILE;
+    }
+  }
+
+}
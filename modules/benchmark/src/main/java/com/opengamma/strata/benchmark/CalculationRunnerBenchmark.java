@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.CurveParallelShifts;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmarks the calculation runner pricing a portfolio of swaps for multiple scenarios.
+ * <p>
+ * The scenarios are parallel shifts of the calibrated USD curves.
+ * The market data is built once in the setup, so the benchmark covers the calculation only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CalculationRunnerBenchmark {
+
+  /**
+   * The number of swaps in the portfolio.
+   */
+  @Param({"10000"})
+  private int tradeCount;
+  /**
+   * The number of scenarios.
+   */
+  @Param({"100"})
+  private int scenarioCount;
+  /**
+   * The type of calculation runner, 'fixed' for a fixed thread pool, 'workStealing' for a chunked fork-join pool.
+   */
+  @Param({"fixed", "workStealing"})
+  private String runnerType;
+
+  /**
+   * The calculation runner.
+   */
+  private CalculationRunner runner;
+  /**
+   * The calculation rules.
+   */
+  private CalculationRules rules;
+  /**
+   * The trades.
+   */
+  private List<Trade> trades;
+  /**
+   * The columns.
+   */
+  private List<Column> columns;
+  /**
+   * The market data for the scenarios.
+   */
+  private ScenarioMarketData marketData;
+
+  /**
+   * Creates the trades and builds the scenario market data.
+   */
+  @Setup
+  public void setUp() {
+    BenchmarkData data = BenchmarkData.USD;
+    runner = runnerType.equals("workStealing") ? CalculationRunner.ofWorkStealing() : CalculationRunner.ofMultiThreaded();
+    rules = CalculationRules.of(
+        StandardComponents.calculationFunctions(),
+        RatesMarketDataLookup.of(data.getCurveGroup()));
+    trades = ImmutableList.copyOf(data.swaps(tradeCount));
+    columns = ImmutableList.of(Column.of(Measures.PRESENT_VALUE), Column.of(Measures.PV01_CALIBRATED_SUM));
+
+    double[] shifts = new double[scenarioCount];
+    for (int i = 0; i < scenarioCount; i++) {
+      shifts[i] = (i - scenarioCount / 2) * 1e-4;
+    }
+    PerturbationMapping<Curve> mapping = PerturbationMapping.of(
+        MarketDataFilter.ofIdType(CurveId.class),
+        CurveParallelShifts.absolute(shifts));
+    MarketDataConfig marketDataConfig = MarketDataConfig.builder()
+        .add(data.getCurveGroup().getName(), data.getCurveGroup())
+        .build();
+    MarketDataRequirements reqs = MarketDataRequirements.of(rules, trades, columns, REF_DATA);
+    marketData = StandardComponents.marketDataFactory().createMultiScenario(
+        reqs, marketDataConfig, data.getMarketData(), REF_DATA, ScenarioDefinition.ofMappings(mapping));
+  }
+
+  /**
+   * Closes the calculation runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks calculating the present value and PV01 of each swap in each scenario.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results calculateMultiScenario() {
+    return runner.calculateMultiScenario(rules, trades, columns, marketData, REF_DATA);
+  }
+
+}
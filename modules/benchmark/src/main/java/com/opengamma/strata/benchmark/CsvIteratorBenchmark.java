@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.io.CsvIterator;
+import com.opengamma.strata.collect.io.CsvRow;
+
+/**
+ * Benchmarks parsing CSV using {@link CsvIterator}.
+ * <p>
+ * The CSV is held in memory, so the benchmark measures tokenizing rather than I/O.
+ * The rows resemble those of a trade file, with a quoted field in every row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvIteratorBenchmark {
+
+  /**
+   * The number of rows in the CSV.
+   */
+  @Param({"10000", "100000"})
+  private int rows;
+
+  /**
+   * The CSV to parse.
+   */
+  private CharSource csv;
+
+  /**
+   * Creates the CSV.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(1);
+    StringBuilder buf = new StringBuilder(rows * 100);
+    buf.append("Id Scheme,Id,Trade Date,Direction,Notional,Fixed Rate,Convention,Description\n");
+    LocalDate tradeDate = LocalDate.of(2020, 1, 1);
+    for (int i = 0; i < rows; i++) {
+      buf.append("OG-Trade,").append(i).append(',')
+          .append(tradeDate.plusDays(random.nextInt(3000))).append(',')
+          .append(random.nextBoolean() ? "Buy" : "Sell").append(',')
+          .append(1_000_000 * (1 + random.nextInt(100))).append(',')
+          .append(random.nextInt(500) / 10_000d).append(',')
+          .append("USD-FIXED-6M-LIBOR-3M,")
+          .append("\"Swap, ").append(1 + random.nextInt(30)).append("Y\"\n");
+    }
+    csv = CharSource.wrap(buf);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks parsing all rows, accessing fields by index.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void parseByIndex(Blackhole blackhole) {
+    try (CsvIterator csvIterator = CsvIterator.of(csv, true)) {
+      while (csvIterator.hasNext()) {
+        CsvRow row = csvIterator.next();
+        blackhole.consume(row.field(1));
+        blackhole.consume(row.field(4));
+      }
+    }
+  }
+
+  /**
+   * Benchmarks parsing all rows, accessing fields by header.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void parseByHeader(Blackhole blackhole) {
+    try (CsvIterator csvIterator = CsvIterator.of(csv, true)) {
+      while (csvIterator.hasNext()) {
+        CsvRow row = csvIterator.next();
+        blackhole.consume(row.getValue("Id"));
+        blackhole.consume(row.getValue("Notional"));
+      }
+    }
+  }
+
+}
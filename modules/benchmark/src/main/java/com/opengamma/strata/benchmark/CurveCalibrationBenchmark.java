@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks the calibration of the example USD and EUR curve groups.
+ * <p>
+ * The calibration includes the computation of the Jacobian matrices stored in the curve metadata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurveCalibrationBenchmark {
+
+  /**
+   * The calibrator.
+   */
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.standard();
+
+  /**
+   * The curve group to calibrate.
+   */
+  @Param({"USD", "EUR"})
+  private String curveGroup;
+
+  /**
+   * The data used in the calibration.
+   */
+  private BenchmarkData data;
+
+  /**
+   * Selects the curve group.
+   */
+  @Setup
+  public void setUp() {
+    data = curveGroup.equals("USD") ? BenchmarkData.USD : BenchmarkData.EUR;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks the calibration.
+   *
+   * @return the calibrated curves
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(data.getCurveGroup(), data.getMarketData(), REF_DATA);
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.date.HolidayCalendarId;
+
+/**
+ * Benchmarks the holiday calendar, which underlies all date adjustments.
+ * <p>
+ * Each invocation processes every date in a ten year range, so the results are per date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayCalendarBenchmark {
+
+  /**
+   * The number of dates processed by each invocation.
+   */
+  private static final int DATE_COUNT = 3653;
+  /**
+   * The first date processed.
+   */
+  private static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+  /**
+   * The holiday calendar, including a combined calendar.
+   */
+  @Param({"GBLO", "USNY", "GBLO+USNY+EUTA"})
+  private String calendarId;
+
+  /**
+   * The holiday calendar.
+   */
+  private HolidayCalendar calendar;
+  /**
+   * The dates processed.
+   */
+  private LocalDate[] dates;
+
+  /**
+   * Resolves the calendar and creates the dates.
+   */
+  @Setup
+  public void setUp() {
+    calendar = HolidayCalendarId.of(calendarId).resolve(REF_DATA);
+    dates = new LocalDate[DATE_COUNT];
+    for (int i = 0; i < DATE_COUNT; i++) {
+      dates[i] = START_DATE.plusDays(i);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks checking whether a date is a holiday.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void isHoliday(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.isHoliday(date));
+    }
+  }
+
+  /**
+   * Benchmarks shifting a date by two business days, as used for spot dates.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void shift(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.shift(date, 2));
+    }
+  }
+
+  /**
+   * Benchmarks shifting a date by a year of business days.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  @OperationsPerInvocation(DATE_COUNT)
+  public void shiftLarge(Blackhole blackhole) {
+    for (LocalDate date : dates) {
+      blackhole.consume(calendar.shift(date, 250));
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.BlackImpliedVolatilityFormula;
+import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.NormalImpliedVolatilityFormula;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Benchmarks implied volatility, comparing the root finder of the formula repositories
+ * with {@link BlackImpliedVolatilityFormula} and {@link NormalImpliedVolatilityFormula}.
+ * <p>
+ * The options are out-of-the-money calls on a grid of strikes and expiries, as used when calibrating
+ * a volatility surface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImpliedVolatilityBenchmark {
+
+  /**
+   * The forward.
+   */
+  private static final double FORWARD = 0.025;
+  /**
+   * The ratios of strike to forward.
+   */
+  private static final double[] STRIKE_RATIOS = {1d, 1.05, 1.1, 1.15, 1.2, 1.3, 1.4, 1.5, 1.75, 2d};
+  /**
+   * The times to expiry.
+   */
+  private static final double[] TIMES = {0.25, 0.5, 1d, 2d, 3d, 5d, 10d, 30d};
+
+  /**
+   * The number of options, each strike and expiry being repeated with a different volatility.
+   */
+  @Param({"80", "8000"})
+  private int size;
+
+  /**
+   * The forwards.
+   */
+  private DoubleArray forwards;
+  /**
+   * The strikes.
+   */
+  private DoubleArray strikes;
+  /**
+   * The times to expiry.
+   */
+  private DoubleArray times;
+  /**
+   * The Black prices of calls.
+   */
+  private DoubleArray blackPrices;
+  /**
+   * The normal prices of calls.
+   */
+  private DoubleArray normalPrices;
+
+  /**
+   * Creates the options and their prices.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(1);
+    int cells = STRIKE_RATIOS.length * TIMES.length;
+    forwards = DoubleArray.filled(size, FORWARD);
+    strikes = DoubleArray.of(size, i -> FORWARD * STRIKE_RATIOS[(i % cells) % STRIKE_RATIOS.length]);
+    times = DoubleArray.of(size, i -> TIMES[(i % cells) / STRIKE_RATIOS.length]);
+    DoubleArray blackVols = DoubleArray.of(size, i -> 0.2 + 0.4 * random.nextDouble());
+    DoubleArray normalVols = DoubleArray.of(size, i -> 0.005 + 0.01 * random.nextDouble());
+    blackPrices = DoubleArray.of(
+        size, i -> BlackFormulaRepository.price(FORWARD, strikes.get(i), times.get(i), blackVols.get(i), true));
+    normalPrices = DoubleArray.of(
+        size, i -> NormalFormulaRepository.price(FORWARD, strikes.get(i), times.get(i), normalVols.get(i), PutCall.CALL));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks Black implied volatility using {@link BlackFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public DoubleArray blackRepository() {
+    return DoubleArray.of(
+        size,
+        i -> BlackFormulaRepository.impliedVolatility(blackPrices.get(i), FORWARD, strikes.get(i), times.get(i), true));
+  }
+
+  /**
+   * Benchmarks Black implied volatility using {@link BlackImpliedVolatilityFormula}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public DoubleArray blackFormula() {
+    return BlackImpliedVolatilityFormula.impliedVolatilities(blackPrices, forwards, strikes, times, true);
+  }
+
+  /**
+   * Benchmarks normal implied volatility using {@link NormalFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public DoubleArray normalRepository() {
+    return DoubleArray.of(
+        size,
+        i -> NormalFormulaRepository.impliedVolatility(
+            normalPrices.get(i), FORWARD, strikes.get(i), times.get(i), 0.01, 1d, PutCall.CALL));
+  }
+
+  /**
+   * Benchmarks normal implied volatility using {@link NormalImpliedVolatilityFormula}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public DoubleArray normalFormula() {
+    return NormalImpliedVolatilityFormula.impliedVolatilities(normalPrices, forwards, strikes, times, PutCall.CALL);
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.GBLO;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.USNY;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.RollConventions;
+import com.opengamma.strata.basics.schedule.Schedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+
+/**
+ * Benchmarks the creation of a schedule, as performed when resolving a swap leg.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeriodicScheduleBenchmark {
+
+  /**
+   * The business day adjustment.
+   */
+  private static final BusinessDayAdjustment BDA = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, GBLO.combinedWith(USNY));
+
+  /**
+   * The frequency of the schedule.
+   */
+  @Param({"P3M", "P1M"})
+  private String frequency;
+  /**
+   * The length of the schedule in years.
+   */
+  @Param({"10", "30"})
+  private int years;
+
+  /**
+   * The schedule definition, with a short initial stub.
+   */
+  private PeriodicSchedule definition;
+
+  /**
+   * Creates the schedule definition.
+   */
+  @Setup
+  public void setUp() {
+    LocalDate start = LocalDate.of(2020, 1, 17);
+    definition = PeriodicSchedule.of(
+        start,
+        start.plusYears(years).plusDays(40),
+        Frequency.parse(frequency),
+        BDA,
+        StubConvention.SMART_INITIAL,
+        RollConventions.NONE);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Benchmarks creating the schedule.
+   *
+   * @return the schedule
+   */
+  @Benchmark
+  public Schedule createSchedule() {
+    return definition.createSchedule(REF_DATA);
+  }
+
+}
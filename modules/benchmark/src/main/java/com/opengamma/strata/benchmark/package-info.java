@@ -0,0 +1,13 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks of the performance critical paths in Strata.
+ * <p>
+ * The benchmarks are packaged in {@code target/benchmarks.jar} and run using {@link BenchmarkRunner},
+ * which writes the results as JSON.
+ */
+package com.opengamma.strata.benchmark;
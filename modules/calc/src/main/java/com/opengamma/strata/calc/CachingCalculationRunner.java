@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * A calculation runner that resolves targets using a cache.
+ * <p>
+ * This is a view of another runner, using the task runner of that runner to perform the calculations.
+ * The view does not own the task runner, thus closing the view has no effect.
+ */
+class CachingCalculationRunner implements CalculationRunner {
+
+  /**
+   * The underlying runner, which owns the task runner.
+   */
+  private final CalculationRunner underlying;
+  /**
+   * The cache of resolved targets.
+   */
+  private final ResolvedTargetCache resolvedTargetCache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param underlying  the underlying runner
+   * @param resolvedTargetCache  the cache of resolved targets
+   */
+  CachingCalculationRunner(CalculationRunner underlying, ResolvedTargetCache resolvedTargetCache) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.resolvedTargetCache = ArgChecker.notNull(resolvedTargetCache, "resolvedTargetCache");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CalculationRunner withResolvedTargetCache(ResolvedTargetCache resolvedTargetCache) {
+    return new CachingCalculationRunner(underlying, resolvedTargetCache);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Results calculate(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData, resolvedTargetCache);
+    return getTaskRunner().calculate(tasks, marketData, refData);
+  }
+
+  @Override
+  public void calculateAsync(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData, resolvedTargetCache);
+    getTaskRunner().calculateAsync(tasks, marketData, refData, listener);
+  }
+
+  @Override
+  public Results calculateMultiScenario(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData, resolvedTargetCache);
+    return getTaskRunner().calculateMultiScenario(tasks, marketData, refData);
+  }
+
+  @Override
+  public void calculateMultiScenarioAsync(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData, resolvedTargetCache);
+    getTaskRunner().calculateMultiScenarioAsync(tasks, marketData, refData, listener);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public CalculationTaskRunner getTaskRunner() {
+    return underlying.getTaskRunner();
+  }
+
+  @Override
+  public void close() {
+    // the task runner is owned by the underlying runner
+  }
+
+}
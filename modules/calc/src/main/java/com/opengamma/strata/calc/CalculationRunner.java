@@ -7,11 +7,13 @@ package com.opengamma.strata.calc;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationListener;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -54,6 +56,35 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a work-stealing calculation runner, suitable for a very large number of small calculations.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Calculations are submitted to the pool in chunks, with the chunk size chosen automatically,
+   * see {@link CalculationTaskRunner#ofWorkStealing()}.
+   * It is recommended to use try-with-resources to manage the runner.
+   *
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofWorkStealing() {
+    return DefaultCalculationRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation runner suitable for calculation functions that block.
+   * <p>
+   * The executor is expected to start a new virtual thread for each submitted unit of work,
+   * see {@link CalculationTaskRunner#ofVirtualThreads(ExecutorService)}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use, starting a virtual thread for each unit of work
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofVirtualThreads(ExecutorService executor) {
+    return DefaultCalculationRunner.ofVirtualThreads(executor);
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -66,6 +97,39 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor
+   * and the maximum backlog of results.
+   * <p>
+   * The maximum backlog limits the number of results waiting to be delivered to a slow listener,
+   * see {@link CalculationTaskRunner#of(ExecutorService, int)}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxResultBacklog  the maximum number of results waiting to be delivered to a listener, zero for unbounded
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(ExecutorService executor, int maxResultBacklog) {
+    return DefaultCalculationRunner.of(executor, maxResultBacklog);
+  }
+
+  /**
+   * Creates a calculation runner submitting calculations in chunks, specifying the executor.
+   * <p>
+   * A chunk size of zero means the chunk size is chosen automatically,
+   * see {@link CalculationTaskRunner#ofChunked(ExecutorService, int)}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the number of calculations submitted to the executor as a single unit, zero for automatic
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofChunked(ExecutorService executor, int chunkSize) {
+    return DefaultCalculationRunner.ofChunked(executor, chunkSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -158,6 +222,26 @@ public interface CalculationRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a calculation runner that resolves targets using the specified cache.
+   * <p>
+   * The returned runner performs the calculations using the task runner of this runner,
+   * as returned by {@link #getTaskRunner()}.
+   * Targets are resolved using the cache, such that repeated calculations of the same targets
+   * using the same reference data do not need to resolve the targets again.
+   * The cache may be shared by many runners.
+   * <p>
+   * The returned runner does not own the task runner, thus closing it has no effect.
+   * The task runner is closed by closing this runner.
+   *
+   * @param resolvedTargetCache  the cache of resolved targets
+   * @return a calculation runner using the cache
+   */
+  public default CalculationRunner withResolvedTargetCache(ResolvedTargetCache resolvedTargetCache) {
+    return new CachingCalculationRunner(this, resolvedTargetCache);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the underlying task runner.
@@ -47,6 +47,27 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.ofMultiThreaded());
   }
 
+  /**
+   * Creates a work-stealing calculation runner, submitting calculations in chunks.
+   *
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofWorkStealing() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofWorkStealing());
+  }
+
+  /**
+   * Creates a calculation runner suitable for calculation functions that block.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use, starting a virtual thread for each unit of work
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofVirtualThreads(ExecutorService executor) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofVirtualThreads(executor));
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -59,6 +80,33 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.of(executor));
   }
 
+  /**
+   * Creates a calculation runner capable of performing calculations, specifying the executor
+   * and the maximum backlog of results.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxResultBacklog  the maximum number of results waiting to be delivered to a listener, zero for unbounded
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner of(ExecutorService executor, int maxResultBacklog) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.of(executor, maxResultBacklog));
+  }
+
+  /**
+   * Creates a calculation runner submitting calculations in chunks, specifying the executor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the number of calculations submitted to the executor as a single unit, zero for automatic
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofChunked(ExecutorService executor, int chunkSize) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofChunked(executor, chunkSize));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the underlying task runner to use.
@@ -6,6 +6,7 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
 
 /**
  * Market data that has been built.
@@ -115,6 +117,46 @@ public final class BuiltMarketData
     return underlying.getTimeSeriesFailures();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Combines this market data with other built market data.
+   * <p>
+   * The result contains the values, time-series and failures of both sets of market data.
+   * If this market data contains a value or failure for an identifier, it takes priority
+   * over any value or failure for the same identifier in the other market data.
+   * Unlike {@link #combinedWith(MarketData)}, the failures are retained, so that a query
+   * for market data that could not be built reports the reason it could not be built.
+   *
+   * @param other  the other market data
+   * @return the combined market data
+   */
+  public BuiltMarketData combinedWith(BuiltMarketData other) {
+    BuiltScenarioMarketData otherUnderlying = other.underlying;
+    Map<MarketDataId<?>, MarketDataBox<?>> values = new HashMap<>(otherUnderlying.getUnderlying().getValues());
+    values.keySet().removeAll(underlying.getValueFailures().keySet());
+    values.putAll(underlying.getUnderlying().getValues());
+    Map<MarketDataId<?>, Failure> valueFailures = new HashMap<>(otherUnderlying.getValueFailures());
+    valueFailures.keySet().removeAll(underlying.getUnderlying().getValues().keySet());
+    valueFailures.putAll(underlying.getValueFailures());
+
+    Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries =
+        new HashMap<>(otherUnderlying.getUnderlying().getTimeSeries());
+    timeSeries.keySet().removeAll(underlying.getTimeSeriesFailures().keySet());
+    timeSeries.putAll(underlying.getUnderlying().getTimeSeries());
+    Map<MarketDataId<?>, Failure> timeSeriesFailures = new HashMap<>(otherUnderlying.getTimeSeriesFailures());
+    timeSeriesFailures.keySet().removeAll(underlying.getUnderlying().getTimeSeries().keySet());
+    timeSeriesFailures.putAll(underlying.getTimeSeriesFailures());
+
+    BuiltScenarioMarketData combined = new BuiltScenarioMarketDataBuilder(
+        underlying.getValuationDate(),
+        underlying.getScenarioCount(),
+        values,
+        timeSeries,
+        valueFailures,
+        timeSeriesFailures).build();
+    return new BuiltMarketData(combined);
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code BuiltMarketData}.
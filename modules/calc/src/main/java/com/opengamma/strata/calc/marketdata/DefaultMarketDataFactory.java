@@ -9,14 +9,21 @@ import static com.opengamma.strata.collect.Guavate.not;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -30,6 +37,11 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * By default, market data is built on the calling thread, one layer of the dependency tree at a time.
+ * If an executor is specified, each item of non-observable market data is instead built on the executor
+ * as soon as the market data it depends on is available, allowing independent curves and surfaces
+ * to be calibrated concurrently.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +54,12 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The executor used to build market data in parallel, null if market data is built on the calling thread. */
+  private final Executor executor;
+
+  /** The listener notified when each item of non-observable market data has been built. */
+  private final MarketDataBuildListener listener;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +70,39 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, null, MarketDataBuildListener.none());
+  }
+
+  /**
+   * Creates an instance of the factory that builds market data in parallel.
+   * <p>
+   * Each item of non-observable market data is built using the executor as soon as
+   * all the market data it depends on has been built.
+   * If the executor is null, market data is built layer by layer on the calling thread.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build the market data, null to build on the calling thread
+   * @param listener  the listener notified when each item of market data has been built
+   */
+  @SuppressWarnings("unchecked")
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor,
+      MarketDataBuildListener listener) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = executor;
+    this.listener = ArgChecker.notNull(listener, "listener");
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -102,6 +145,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ReferenceData refData,
       ScenarioDefinition scenarioDefinition) {
 
+    if (executor != null) {
+      return createMultiScenarioParallel(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+    }
     BuiltScenarioMarketDataBuilder dataBuilder = BuiltScenarioMarketData.builder(suppliedData.getValuationDate());
     BuiltScenarioMarketData builtData = dataBuilder.build();
 
@@ -138,40 +184,8 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       // The requirements contained in the leaf nodes
       MarketDataRequirements leafRequirements = pair.getSecond();
 
-      // Time series of observable data ------------------------------------------------------------
-
-      // Build any time series that are required but not available
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> marketData.getTimeSeries(id).isEmpty())
-          .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
-
-      // Copy supplied time series to the scenario data
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
-
-      // Single values of observable data -----------------------------------------------------------
-
-      // Filter out IDs for the data that is already available
-      Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
-          .filter(not(marketData::containsValue))
-          .filter(not(suppliedData::containsValue))
-          .collect(toImmutableSet());
-
-      // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
-      if (!observableIds.isEmpty()) {
-        Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
-        MapStream.of(observableResults)
-            .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
-      }
-
-      // Copy observable data from the supplied data to the builder, applying any matching perturbations
-      leafRequirements.getObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
-
-      // Non-observable data -----------------------------------------------------------------------
+      // Observable data, time series and supplied data
+      addProvidedData(leafRequirements, marketData, suppliedData, refData, scenarioDefinition, dataBuilder);
 
       // Filter out IDs for the data that is already available and build the rest
       Set<MarketDataId<?>> nonObservableIds = leafRequirements.getNonObservables().stream()
@@ -185,13 +199,6 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       MapStream.of(nonObservableResults)
           .forEach((id, result) -> addResult(id, result, refData, scenarioDefinition, dataBuilder));
 
-      // Copy supplied data to the scenario data after applying perturbations
-      leafRequirements.getNonObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
-
-      // --------------------------------------------------------------------------------------------
-
       // Put the data built so far into an object that will be used in the next phase of building data
       builtData = dataBuilder.build();
 
@@ -201,6 +208,194 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return builtData;
   }
 
+  @Override
+  public Optional<Map<MarketDataId<?>, Set<MarketDataId<?>>>> dependencies(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      MarketData suppliedData) {
+
+    ScenarioMarketData md = ScenarioMarketData.of(1, suppliedData);
+    MarketDataNode root = MarketDataNode.buildDependencyTree(requirements, md, marketDataConfig, functions);
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> graph = new LinkedHashMap<>();
+    addDependencies(root.getDependencies(), graph);
+    return Optional.of(ImmutableMap.copyOf(graph));
+  }
+
+  // adds the nodes that are built from other market data to the graph, keyed by ID
+  private static void addDependencies(List<MarketDataNode> nodes, Map<MarketDataId<?>, Set<MarketDataId<?>>> graph) {
+    for (MarketDataNode node : nodes) {
+      if (!node.getDependencies().isEmpty() && !graph.containsKey(node.getId())) {
+        Set<MarketDataId<?>> dependencies = node.getDependencies().stream()
+            .map(MarketDataNode::getId)
+            .collect(toImmutableSet());
+        graph.put(node.getId(), dependencies);
+        addDependencies(node.getDependencies(), graph);
+      }
+    }
+  }
+
+  // builds the market data by scheduling each node as soon as its dependencies have been built
+  private BuiltScenarioMarketData createMultiScenarioParallel(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    BuiltScenarioMarketDataBuilder dataBuilder = BuiltScenarioMarketData.builder(suppliedData.getValuationDate());
+    MarketDataNode root = MarketDataNode.buildDependencyTree(requirements, suppliedData, marketDataConfig, functions);
+
+    // The tree contains a node for each usage of an item of market data, so the same item can appear many times.
+    // The tree is flattened into a graph where each item of market data to be built appears once,
+    // keyed by ID, mapped to the IDs of the market data that must be built before it.
+    // Everything else is observable data, time series or supplied data, which has no dependencies.
+    MarketDataRequirementsBuilder providedRequirements = MarketDataRequirements.builder();
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> graph = new LinkedHashMap<>();
+    for (MarketDataNode child : root.getDependencies()) {
+      flatten(child, suppliedData, providedRequirements, graph);
+    }
+
+    // The provided data is obtained up-front in bulk, which includes all the leaves of the graph
+    BuiltScenarioMarketData emptyData = dataBuilder.build();
+    addProvidedData(providedRequirements.build(), emptyData, suppliedData, refData, scenarioDefinition, dataBuilder);
+
+    // Each item of market data is built as soon as all the data it depends on has been built
+    Map<MarketDataId<?>, CompletableFuture<Void>> futures = new HashMap<>();
+    for (MarketDataId<?> id : graph.keySet()) {
+      schedule(id, graph, futures, marketDataConfig, refData, scenarioDefinition, dataBuilder);
+    }
+    try {
+      CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+    synchronized (dataBuilder) {
+      return dataBuilder.build();
+    }
+  }
+
+  // flattens the dependency tree into a graph of the non-observable data that must be built
+  private static void flatten(
+      MarketDataNode node,
+      ScenarioMarketData suppliedData,
+      MarketDataRequirementsBuilder providedRequirements,
+      Map<MarketDataId<?>, Set<MarketDataId<?>>> graph) {
+
+    MarketDataId<?> id = node.getId();
+    if (node.getDataType() == MarketDataNode.DataType.TIME_SERIES) {
+      providedRequirements.addTimeSeries((ObservableId) id);
+    } else if (id instanceof ObservableId || suppliedData.containsValue(id)) {
+      providedRequirements.addValues(id);
+    } else if (!graph.containsKey(id)) {
+      Set<MarketDataId<?>> dependencies = new HashSet<>();
+      graph.put(id, dependencies);
+      for (MarketDataNode child : node.getDependencies()) {
+        flatten(child, suppliedData, providedRequirements, graph);
+        if (graph.containsKey(child.getId())) {
+          dependencies.add(child.getId());
+        }
+      }
+    }
+  }
+
+  // creates a future that builds the market data once its dependencies are complete
+  private CompletableFuture<Void> schedule(
+      MarketDataId<?> id,
+      Map<MarketDataId<?>, Set<MarketDataId<?>>> graph,
+      Map<MarketDataId<?>, CompletableFuture<Void>> futures,
+      MarketDataConfig marketDataConfig,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition,
+      BuiltScenarioMarketDataBuilder dataBuilder) {
+
+    CompletableFuture<Void> existing = futures.get(id);
+    if (existing != null) {
+      return existing;
+    }
+    CompletableFuture<?>[] dependencies = graph.get(id).stream()
+        .map(depId -> schedule(depId, graph, futures, marketDataConfig, refData, scenarioDefinition, dataBuilder))
+        .toArray(CompletableFuture<?>[]::new);
+    CompletableFuture<Void> future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+      // the function receives a snapshot containing everything built so far, including all its dependencies
+      BuiltScenarioMarketData marketData;
+      synchronized (dataBuilder) {
+        marketData = dataBuilder.build();
+      }
+      Result<MarketDataBox<?>> result = buildNonObservableData(id, marketDataConfig, marketData, refData);
+      synchronized (dataBuilder) {
+        addResult(id, result, refData, scenarioDefinition, dataBuilder);
+      }
+    }, executor);
+    futures.put(id, future);
+    return future;
+  }
+
+  /**
+   * Adds the market data that does not need to be built using a market data function.
+   * <p>
+   * This is observable data, obtained from the observable data provider, time series, obtained from
+   * the time series provider, and any data in the supplied data.
+   * Data that is already present in the market data is not requested again.
+   *
+   * @param leafRequirements  the requirements for the market data
+   * @param marketData  the market data built so far
+   * @param suppliedData  the market data supplied by the user
+   * @param refData  the reference data
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @param dataBuilder  the market data is added to this builder
+   */
+  private void addProvidedData(
+      MarketDataRequirements leafRequirements,
+      BuiltScenarioMarketData marketData,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition,
+      BuiltScenarioMarketDataBuilder dataBuilder) {
+
+    // Time series of observable data ------------------------------------------------------------
+
+    // Build any time series that are required but not available
+    leafRequirements.getTimeSeries().stream()
+        .filter(id -> marketData.getTimeSeries(id).isEmpty())
+        .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
+        .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
+
+    // Copy supplied time series to the scenario data
+    leafRequirements.getTimeSeries().stream()
+        .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
+        .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
+
+    // Single values of observable data -----------------------------------------------------------
+
+    // Filter out IDs for the data that is already available
+    Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
+        .filter(not(marketData::containsValue))
+        .filter(not(suppliedData::containsValue))
+        .collect(toImmutableSet());
+
+    // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
+    if (!observableIds.isEmpty()) {
+      Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
+      MapStream.of(observableResults)
+          .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
+    }
+
+    // Copy observable data from the supplied data to the builder, applying any matching perturbations
+    leafRequirements.getObservables().stream()
+        .filter(suppliedData::containsValue)
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
+
+    // Non-observable data -----------------------------------------------------------------------
+
+    // Copy supplied data to the scenario data after applying perturbations
+    leafRequirements.getNonObservables().stream()
+        .filter(suppliedData::containsValue)
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds items of non-observable market data using a market data function.
@@ -231,7 +426,10 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     if (marketDataFunction == null) {
       throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
     }
-    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    long start = System.nanoTime();
+    Result<MarketDataBox<?>> result = Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    listener.marketDataBuilt(id, result, Duration.ofNanos(System.nanoTime() - start));
+    return result;
   }
 
   @SuppressWarnings("unchecked")
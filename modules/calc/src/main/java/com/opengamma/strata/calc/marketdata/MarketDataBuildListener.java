@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.time.Duration;
+
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketDataId;
+
+/**
+ * Listener that is notified each time an item of non-observable market data has been built.
+ * <p>
+ * The {@link MarketDataFactory} invokes this listener once for each item of market data that is
+ * built using a {@link MarketDataFunction}, such as a curve group or a volatility surface.
+ * It receives the result of the build and the time taken by the function, allowing applications
+ * to monitor which market data dominates the build.
+ * <p>
+ * When the factory builds market data in parallel the listener will be invoked from multiple threads.
+ * Implementations must therefore be thread-safe.
+ */
+@FunctionalInterface
+public interface MarketDataBuildListener {
+
+  /**
+   * Obtains a listener that ignores all notifications.
+   *
+   * @return the listener
+   */
+  public static MarketDataBuildListener none() {
+    return (id, result, buildTime) -> { };
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Invoked when an item of market data has been built.
+   * <p>
+   * The build time covers the invocation of the market data function only.
+   * It excludes the time spent waiting for dependencies and applying scenario perturbations.
+   *
+   * @param id  the identifier of the market data
+   * @param result  the result of building the market data, a success or details of the failure
+   * @param buildTime  the time taken to build the market data
+   */
+  public abstract void marketDataBuilt(MarketDataId<?> id, Result<?> result, Duration buildTime);
+
+}
@@ -6,11 +6,17 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
@@ -74,6 +80,58 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory that builds market data in parallel.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each item of market data is built using the executor as soon as all the market data
+   * it depends on has been built, rather than waiting for the whole of the previous layer of
+   * the dependency tree. The output is the same as that of the sequential factory.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    return of(observableDataProvider, timeSeriesProvider, executor, MarketDataBuildListener.none(), functions);
+  }
+
+  /**
+   * Obtains an instance of the factory that builds market data in parallel, notifying a listener.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each item of market data is built using the executor as soon as all the market data
+   * it depends on has been built, rather than waiting for the whole of the previous layer of
+   * the dependency tree. The output is the same as that of the sequential factory.
+   * <p>
+   * The listener is notified of the result and build time of each item of market data built by a function.
+   * It will be invoked from the threads of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param listener  the listener notified when each item of market data has been built
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      MarketDataBuildListener listener,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(executor, "executor");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, executor, listener);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
@@ -154,4 +212,33 @@ public interface MarketDataFactory {
       ReferenceData refData,
       ScenarioDefinition scenarioDefinition);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the dependencies between the items of market data needed to satisfy the requirements.
+   * <p>
+   * The result is keyed by the ID of each item of market data that would be built from other market data,
+   * such as a curve group built from quotes. The value is the set of IDs of the market data it is directly
+   * built from. Observable data, time-series and data present in the supplied data are not built,
+   * so they only appear in the values.
+   * <p>
+   * This allows the market data affected by a change to an item of market data to be found,
+   * without building any market data.
+   * <p>
+   * The default implementation returns empty, as the dependencies can only be determined by the factory.
+   * Implementations that can determine the dependencies should override this method.
+   *
+   * @param requirements  the market data required for the calculations
+   * @param marketDataConfig  configuration needed to build non-observable market data, for example curves or surfaces
+   * @param suppliedData  market data supplied by the user
+   * @return the IDs of the market data each item is built from, keyed by the ID of the built market data,
+   *  empty if the factory cannot determine the dependencies
+   */
+  public default Optional<Map<MarketDataId<?>, Set<MarketDataId<?>>>> dependencies(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      MarketData suppliedData) {
+
+    return Optional.empty();
+  }
+
 }
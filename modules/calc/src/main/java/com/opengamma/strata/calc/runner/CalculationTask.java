@@ -203,15 +203,26 @@ public final class CalculationTask implements ImmutableBean {
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
-  @SuppressWarnings("unchecked")
   public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
+    return execute(marketData, refData, ScenarioFxRateCache.of(marketData));
+  }
+
+  /**
+   * Executes the task, performing calculations for the target using multiple sets of market data.
+   * <p>
+   * The FX rates used to convert the results are obtained from the cache, which is shared by the tasks of a run.
+   *
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @param fxRateCache  the FX rates, created from the same market data
+   * @return results of the calculation, one for every scenario in the market data
+   */
+  CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData, ScenarioFxRateCache fxRateCache) {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
 
     // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
-        .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
-        .orElse(ScenarioFxRateProvider.of(marketData));
+    ScenarioFxRateProvider fxProvider = fxRateCache.fxRateProvider(parameters.findParameter(FxRateLookup.class));
 
     // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
@@ -7,6 +7,7 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
@@ -67,6 +68,43 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a work-stealing calculation task runner, suitable for a very large number of small tasks.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Rather than submitting each task separately, consecutive tasks are submitted to the pool in chunks,
+   * reducing the overhead of submission. The chunk size is chosen automatically, aiming for several
+   * chunks per thread so that idle threads can steal work when tasks vary in cost.
+   * It is recommended to use try-with-resources to manage the runner.
+   *
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation task runner suitable for tasks that block.
+   * <p>
+   * Calculation functions may block, for example when market data or time-series are loaded on demand
+   * from an {@code ObservableDataProvider} or {@code TimeSeriesProvider}. Such functions are better run
+   * with many more threads than processors, so that blocked tasks do not leave processors idle.
+   * <p>
+   * The executor is expected to start a new virtual thread for each submitted unit of work,
+   * such as the executor returned by {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21.
+   * Each chunk of tasks runs on its own virtual thread, with the chunk size chosen automatically.
+   * Where virtual threads are not available, use {@link #ofChunked(ExecutorService, int)}
+   * with a fixed thread pool having many threads per available processor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use, starting a virtual thread for each unit of work
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofVirtualThreads(ExecutorService executor) {
+    return DefaultCalculationTaskRunner.ofVirtualThreads(executor);
+  }
+
   /**
    * Creates a calculation task runner capable of performing calculations, specifying the executor.
    * <p>
@@ -79,6 +117,42 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum backlog of results.
+   * <p>
+   * Results are passed to the listener by one thread at a time. If the listener is slower than the
+   * calculations, results wait to be delivered. The maximum backlog limits the number of waiting results,
+   * with calculation threads waiting for the listener when it is reached, keeping memory use bounded.
+   * Zero means the backlog is unbounded, as with {@link #of(ExecutorService)}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxResultBacklog  the maximum number of results waiting to be delivered to a listener, zero for unbounded
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int maxResultBacklog) {
+    return DefaultCalculationTaskRunner.of(executor, maxResultBacklog);
+  }
+
+  /**
+   * Creates a calculation task runner submitting tasks in chunks, specifying the executor.
+   * <p>
+   * Each unit of work submitted to the executor runs a chunk of consecutive tasks.
+   * A chunk size of zero means the chunk size is chosen automatically, based on the number of tasks
+   * and the parallelism of the executor if it is a {@link ForkJoinPool} or {@code ThreadPoolExecutor}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the number of tasks submitted to the executor as a single unit, zero for automatic
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofChunked(ExecutorService executor, int chunkSize) {
+    return DefaultCalculationTaskRunner.ofChunked(executor, chunkSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -31,6 +31,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.ReportingCurrency;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 
 /**
@@ -108,6 +109,44 @@ public final class CalculationTasks implements ImmutableBean {
       List<Column> columns,
       ReferenceData refData) {
 
+    return create(rules, targets, columns, refData, null);
+  }
+
+  /**
+   * Obtains an instance from a set of targets, columns and rules, resolving the targets using a cache.
+   * <p>
+   * The targets will typically be trades and positions.
+   * The columns represent the measures to calculate.
+   * <p>
+   * The targets will be resolved if they implement {@link ResolvableCalculationTarget}.
+   * A target previously resolved with the same reference data is obtained from the cache.
+   * 
+   * @param rules  the rules defining how the calculation is performed
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param columns  the columns that will be calculated
+   * @param refData  the reference data to use to resolve the targets
+   * @param resolvedTargetCache  the cache of resolved targets, shared between calls
+   * @return the calculation tasks
+   */
+  public static CalculationTasks of(
+      CalculationRules rules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ReferenceData refData,
+      ResolvedTargetCache resolvedTargetCache) {
+
+    ArgChecker.notNull(resolvedTargetCache, "resolvedTargetCache");
+    return create(rules, targets, columns, refData, resolvedTargetCache);
+  }
+
+  // creates the tasks, the cache is null if targets are not cached
+  private static CalculationTasks create(
+      CalculationRules rules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ReferenceData refData,
+      ResolvedTargetCache resolvedTargetCache) {
+
     // create columns that are a combination of the column overrides and the defaults
     // this is done once as it is the same for all targets
     List<Column> effectiveColumns =
@@ -118,7 +157,7 @@ public final class CalculationTasks implements ImmutableBean {
     // loop around the targets, then the columns, to build the tasks
     ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
     for (int rowIndex = 0; rowIndex < targets.size(); rowIndex++) {
-      CalculationTarget target = resolveTarget(targets.get(rowIndex), refData);
+      CalculationTarget target = resolveTarget(targets.get(rowIndex), refData, resolvedTargetCache);
 
       // find the applicable function, resolving the target if necessary
       CalculationFunction<?> fn = target instanceof UnresolvableTarget ?
@@ -135,11 +174,17 @@ public final class CalculationTasks implements ImmutableBean {
   }
 
   // resolves the target
-  private static CalculationTarget resolveTarget(CalculationTarget target, ReferenceData refData) {
+  private static CalculationTarget resolveTarget(
+      CalculationTarget target,
+      ReferenceData refData,
+      ResolvedTargetCache resolvedTargetCache) {
+
     if (target instanceof ResolvableCalculationTarget) {
       ResolvableCalculationTarget resolvable = (ResolvableCalculationTarget) target;
       try {
-        return resolvable.resolveTarget(refData);
+        return resolvedTargetCache != null ?
+            resolvedTargetCache.resolve(resolvable, refData) :
+            resolvable.resolveTarget(refData);
       } catch (RuntimeException ex) {
         return new UnresolvableTarget(resolvable, ex.getMessage());
       }
@@ -11,7 +11,11 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -21,6 +25,7 @@ import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
@@ -30,14 +35,45 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * Tasks are either submitted to the executor one at a time, or in chunks of consecutive tasks
+ * where each submitted unit of work executes all the tasks in the chunk. Chunking reduces the overhead
+ * of submission when there are a very large number of small tasks.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
+  /**
+   * The number of chunks per thread aimed for when the chunk size is chosen automatically.
+   * Having several chunks per thread allows the work to be balanced when tasks vary in cost.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+  /**
+   * The maximum chunk size when the chunk size is chosen automatically.
+   * This ensures results continue to be delivered steadily on very large portfolios.
+   */
+  private static final int MAX_AUTO_CHUNK_SIZE = 1000;
+  /**
+   * The number of tasks that may block concurrently when using virtual threads.
+   */
+  private static final int VIRTUAL_THREAD_CONCURRENCY = 1000;
+
   /**
    * Executes the tasks that perform the individual calculations.
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of results waiting to be delivered to a listener, zero for unbounded.
+   */
+  private final int maxResultBacklog;
+  /**
+   * The number of tasks submitted to the executor as a single unit, zero to choose automatically.
+   */
+  private final int chunkSize;
+  /**
+   * The number of tasks the executor is expected to run concurrently, used to choose the chunk size.
+   */
+  private final int parallelism;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +90,8 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    int threads = Runtime.getRuntime().availableProcessors();
+    return new DefaultCalculationTaskRunner(createExecutor(threads), 0, 1, threads);
   }
 
   /**
@@ -66,7 +103,66 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, 0, 1, 1);
+  }
+
+  /**
+   * Creates a calculation task runner capable of performing calculations, specifying the executor
+   * and the maximum backlog of results.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param maxResultBacklog  the maximum number of results waiting to be delivered to a listener, zero for unbounded
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int maxResultBacklog) {
+    return new DefaultCalculationTaskRunner(executor, maxResultBacklog, 1, 1);
+  }
+
+  /**
+   * Creates a work-stealing calculation task runner, submitting tasks in chunks.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * The chunk size is chosen automatically based on the number of tasks.
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    int threads = Runtime.getRuntime().availableProcessors();
+    return new DefaultCalculationTaskRunner(createForkJoinExecutor(threads), 0, 0, threads);
+  }
+
+  /**
+   * Creates a calculation task runner for tasks that block, such as those loading market data on demand.
+   * <p>
+   * The executor is expected to start a new virtual thread for each submitted unit of work,
+   * such as the executor returned by {@code Executors.newVirtualThreadPerTaskExecutor()}.
+   * The chunk size is chosen automatically based on the number of tasks.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofVirtualThreads(ExecutorService executor) {
+    return new DefaultCalculationTaskRunner(executor, 0, 0, VIRTUAL_THREAD_CONCURRENCY);
+  }
+
+  /**
+   * Creates a calculation task runner submitting tasks in chunks, specifying the executor.
+   * <p>
+   * A chunk size of zero means the chunk size is chosen automatically based on the number of tasks
+   * and the parallelism of the executor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the number of tasks submitted to the executor as a single unit, zero for automatic
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofChunked(ExecutorService executor, int chunkSize) {
+    return new DefaultCalculationTaskRunner(executor, 0, chunkSize, parallelism(executor));
   }
 
   // create an executor with daemon threads
@@ -82,14 +178,59 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a work-stealing executor, where threads are daemon threads by default
+  private static ExecutorService createForkJoinExecutor(int threads) {
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      return t;
+    };
+    // async mode processes submitted tasks in FIFO order, suitable as they are never joined
+    return new ForkJoinPool(threads, threadFactory, null, true);
+  }
+
+  // the number of tasks the executor can run concurrently, one if unknown
+  private static int parallelism(ExecutorService executor) {
+    if (executor instanceof ForkJoinPool) {
+      return ((ForkJoinPool) executor).getParallelism();
+    }
+    if (executor instanceof ThreadPoolExecutor) {
+      return Math.max(((ThreadPoolExecutor) executor).getCorePoolSize(), 1);
+    }
+    return 1;
+  }
+
+  /**
+   * Chooses the chunk size automatically.
+   * <p>
+   * The tasks are split into several chunks for each task that can run concurrently,
+   * allowing the work to be balanced when tasks vary in cost. The chunk size is at least one
+   * and is capped to ensure results continue to be delivered steadily.
+   *
+   * @param taskCount  the number of tasks
+   * @param parallelism  the number of tasks the executor can run concurrently
+   * @return the chunk size
+   */
+  static int autoChunkSize(int taskCount, int parallelism) {
+    long chunks = (long) Math.max(parallelism, 1) * CHUNKS_PER_THREAD;
+    long size = (taskCount + chunks - 1) / chunks;
+    return (int) Math.max(1, Math.min(size, MAX_AUTO_CHUNK_SIZE));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param maxResultBacklog  the maximum number of results waiting to be delivered to a listener, zero for unbounded
+   * @param chunkSize  the number of tasks submitted to the executor as a single unit, zero for automatic
+   * @param parallelism  the number of tasks the executor is expected to run concurrently
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, int maxResultBacklog, int chunkSize, int parallelism) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.maxResultBacklog = ArgChecker.notNegative(maxResultBacklog, "maxResultBacklog");
+    this.chunkSize = ArgChecker.notNegative(chunkSize, "chunkSize");
+    this.parallelism = parallelism;
   }
 
   //-------------------------------------------------------------------------
@@ -178,10 +319,21 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
     Consumer<CalculationResults> consumer =
-        new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
-
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+        new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns(), maxResultBacklog);
+
+    // the FX rates used to convert the results are shared by all the tasks
+    ScenarioFxRateCache fxRateCache = ScenarioFxRateCache.of(marketData);
+
+    // run each task using the executor, either individually or in chunks
+    int size = chunkSize == 0 ? autoChunkSize(taskList.size(), parallelism) : chunkSize;
+    if (size == 1) {
+      taskList.forEach(task -> runTask(task, marketData, refData, fxRateCache, consumer));
+    } else {
+      for (int start = 0; start < taskList.size(); start += size) {
+        List<CalculationTask> chunk = taskList.subList(start, Math.min(start + size, taskList.size()));
+        runChunk(chunk, marketData, refData, fxRateCache, consumer);
+      }
+    }
   }
 
   // submits a task to the executor to be run
@@ -189,14 +341,56 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       CalculationTask task,
       ScenarioMarketData marketData,
       ReferenceData refData,
+      ScenarioFxRateCache fxRateCache,
       Consumer<CalculationResults> consumer) {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = () -> execute(task, marketData, refData, fxRateCache);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // submits a chunk of tasks to the executor to be run as a single unit
+  private void runChunk(
+      List<CalculationTask> chunk,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ScenarioFxRateCache fxRateCache,
+      Consumer<CalculationResults> consumer) {
+
+    // the tasks are executed in order, with each result passed to the consumer as soon as it is available
+    // a task that fails does not prevent the remaining tasks in the chunk from being executed
+    Runnable chunkExecutor = () -> {
+      for (CalculationTask task : chunk) {
+        consumer.accept(execute(task, marketData, refData, fxRateCache));
+      }
+    };
+    CompletableFuture.runAsync(chunkExecutor, executor);
+  }
+
+  // executes a task, converting an exception to a failure result for each cell of the task
+  private static CalculationResults execute(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ScenarioFxRateCache fxRateCache) {
+
+    try {
+      return task.execute(marketData, refData, fxRateCache);
+    } catch (RuntimeException ex) {
+      Result<?> failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          ex,
+          "Calculation failed for target '{}': {}",
+          task.getTarget(),
+          ex.getMessage());
+      List<CalculationResult> results = task.getCells().stream()
+          .map(cell -> CalculationResult.of(cell.getRowIndex(), cell.getColumnIndex(), failure))
+          .collect(toImmutableList());
+      return CalculationResults.of(task.getTarget(), results);
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public void close() {
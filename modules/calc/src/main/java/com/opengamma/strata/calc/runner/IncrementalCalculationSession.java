@@ -0,0 +1,351 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.BuiltMarketData;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFactory;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+
+/**
+ * A session that recalculates a set of tasks incrementally as market data changes.
+ * <p>
+ * A typical intraday process recalculates a portfolio each time a small number of quotes change.
+ * Most of the tasks do not depend on the changed quotes, directly or via the curves built from them,
+ * so their results are unchanged. This session retains the market data and results of the previous
+ * calculation, and only rebuilds the market data and recalculates the tasks affected by a change.
+ * <p>
+ * The session indexes the market data requirements of each task when created. When market data changes,
+ * the affected market data is found using the dependencies between the items of market data, as reported by
+ * {@link MarketDataFactory#dependencies(MarketDataRequirements, MarketDataConfig, MarketData)}.
+ * If the factory cannot determine the dependencies, every change results in a full calculation.
+ * The affected market data is rebuilt, with the unaffected market data reused from the previous calculation.
+ * All tasks for a target affected by the change are then recalculated and the results merged into
+ * the results of the previous calculation.
+ * <p>
+ * The session supports calculations for a single scenario.
+ * It is mutable and is not thread-safe, although the calculations themselves are performed using the task runner.
+ */
+public final class IncrementalCalculationSession {
+
+  /**
+   * The task runner used to perform the calculations.
+   */
+  private final CalculationTaskRunner taskRunner;
+  /**
+   * The factory used to build the market data.
+   */
+  private final MarketDataFactory marketDataFactory;
+  /**
+   * The configuration used to build the market data.
+   */
+  private final MarketDataConfig marketDataConfig;
+  /**
+   * The tasks.
+   */
+  private final CalculationTasks tasks;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The market data requirements of each task.
+   */
+  private final ImmutableList<MarketDataRequirements> taskRequirements;
+  /**
+   * The rows of the tasks that directly require each item of market data, keyed by market data ID.
+   */
+  private final Map<MarketDataId<?>, BitSet> rowsByRequirement = new HashMap<>();
+  /**
+   * The indices of the tasks of each row.
+   */
+  private final List<List<Integer>> tasksByRow = new ArrayList<>();
+
+  // Mutable state -----------------------------------------------------
+
+  /**
+   * The IDs of the market data built from each item of market data, keyed by the ID it is built from.
+   * This is null if the market data factory cannot determine the dependencies.
+   */
+  private Map<MarketDataId<?>, Set<MarketDataId<?>>> dependents = new HashMap<>();
+  /**
+   * The market data used by the last calculation, null if not yet calculated.
+   * <p>
+   * This retains the failures that occurred when building the market data,
+   * so that a calculation requiring market data that could not be built reports the reason.
+   */
+  private BuiltMarketData marketData;
+  /**
+   * The results of the last calculation, null if not yet calculated.
+   */
+  private Results results;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a session for a set of tasks.
+   * <p>
+   * The market data requirements of each task are determined and indexed when the session is created.
+   * No calculations are performed until {@link #calculate(MarketData)} is called.
+   *
+   * @param taskRunner  the task runner used to perform the calculations
+   * @param marketDataFactory  the factory used to build the market data
+   * @param marketDataConfig  the configuration used to build the market data
+   * @param tasks  the tasks to calculate
+   * @param refData  the reference data
+   * @return the session
+   */
+  public static IncrementalCalculationSession of(
+      CalculationTaskRunner taskRunner,
+      MarketDataFactory marketDataFactory,
+      MarketDataConfig marketDataConfig,
+      CalculationTasks tasks,
+      ReferenceData refData) {
+
+    return new IncrementalCalculationSession(taskRunner, marketDataFactory, marketDataConfig, tasks, refData);
+  }
+
+  // restricted constructor
+  private IncrementalCalculationSession(
+      CalculationTaskRunner taskRunner,
+      MarketDataFactory marketDataFactory,
+      MarketDataConfig marketDataConfig,
+      CalculationTasks tasks,
+      ReferenceData refData) {
+
+    this.taskRunner = ArgChecker.notNull(taskRunner, "taskRunner");
+    this.marketDataFactory = ArgChecker.notNull(marketDataFactory, "marketDataFactory");
+    this.marketDataConfig = ArgChecker.notNull(marketDataConfig, "marketDataConfig");
+    this.tasks = ArgChecker.notNull(tasks, "tasks");
+    this.refData = ArgChecker.notNull(refData, "refData");
+
+    // index the tasks by row and by the market data they require
+    ImmutableList.Builder<MarketDataRequirements> requirementsBuilder = ImmutableList.builder();
+    for (int i = 0; i < tasks.getTargets().size(); i++) {
+      tasksByRow.add(new ArrayList<>());
+    }
+    List<CalculationTask> taskList = tasks.getTasks();
+    for (int taskIndex = 0; taskIndex < taskList.size(); taskIndex++) {
+      CalculationTask task = taskList.get(taskIndex);
+      MarketDataRequirements requirements = task.requirements(refData);
+      requirementsBuilder.add(requirements);
+      int row = task.getRowIndex();
+      tasksByRow.get(row).add(taskIndex);
+      index(requirements.getObservables(), row);
+      index(requirements.getNonObservables(), row);
+      index(requirements.getTimeSeries(), row);
+    }
+    this.taskRequirements = requirementsBuilder.build();
+  }
+
+  // adds the row to the index for each ID
+  private void index(Set<? extends MarketDataId<?>> ids, int row) {
+    for (MarketDataId<?> id : ids) {
+      rowsByRequirement.computeIfAbsent(id, k -> new BitSet()).set(row);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the results of the last calculation.
+   *
+   * @return the results, empty if no calculation has been performed
+   */
+  public Optional<Results> getResults() {
+    return Optional.ofNullable(results);
+  }
+
+  /**
+   * Gets the market data used by the last calculation.
+   * <p>
+   * This contains the supplied market data and the market data built from it
+   * that is required by the tasks.
+   *
+   * @return the market data, empty if no calculation has been performed
+   */
+  public Optional<MarketData> getMarketData() {
+    return Optional.ofNullable(marketData);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the market data and calculates all the tasks.
+   * <p>
+   * The market data and results are retained for use by {@link #recalculate(MarketData, Set)}.
+   *
+   * @param suppliedData  the market data supplied by the user, typically containing quotes and time-series
+   * @return the results of the calculations
+   */
+  public Results calculate(MarketData suppliedData) {
+    ArgChecker.notNull(suppliedData, "suppliedData");
+    MarketDataRequirements requirements = tasks.requirements(refData);
+    dependents = marketDataFactory.dependencies(requirements, marketDataConfig, suppliedData)
+        .map(IncrementalCalculationSession::invert)
+        .orElse(null);
+    marketData = marketDataFactory.create(requirements, marketDataConfig, suppliedData, refData);
+    results = taskRunner.calculate(tasks, marketData, refData);
+    return results;
+  }
+
+  // inverts the dependency graph, mapping each ID to the IDs built from it
+  private static Map<MarketDataId<?>, Set<MarketDataId<?>>> invert(Map<MarketDataId<?>, Set<MarketDataId<?>>> graph) {
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> inverted = new HashMap<>();
+    graph.forEach((id, dependencies) -> dependencies.forEach(
+        dependency -> inverted.computeIfAbsent(dependency, k -> new HashSet<>()).add(id)));
+    return inverted;
+  }
+
+  /**
+   * Recalculates the tasks affected by a change to market data.
+   * <p>
+   * The supplied market data must contain the new values of the changed market data, typically quotes.
+   * The market data built from the changed data, directly or indirectly, is rebuilt. Every target with a task
+   * requiring the changed or rebuilt market data is recalculated, and the results merged into the previous results.
+   * Market data and results unaffected by the change are reused from the previous calculation.
+   * <p>
+   * If no calculation has been performed, the valuation date has changed, or the market data factory
+   * cannot determine the dependencies, this performs a full calculation as per {@link #calculate(MarketData)}.
+   *
+   * @param suppliedData  the market data supplied by the user, containing the new values of the changed market data
+   * @param changedIds  the IDs of the market data that has changed
+   * @return the results of the calculations
+   */
+  public Results recalculate(MarketData suppliedData, Set<? extends MarketDataId<?>> changedIds) {
+    ArgChecker.notNull(suppliedData, "suppliedData");
+    ArgChecker.notNull(changedIds, "changedIds");
+    if (results == null ||
+        dependents == null ||
+        !marketData.getValuationDate().equals(suppliedData.getValuationDate())) {
+      return calculate(suppliedData);
+    }
+    Set<MarketDataId<?>> affectedIds = affectedMarketData(changedIds);
+    BitSet affectedRows = affectedRows(affectedIds);
+    if (affectedRows.isEmpty()) {
+      return results;
+    }
+
+    // the affected tasks are renumbered to be contiguous rows, as required by CalculationTasks
+    List<CalculationTask> taskList = tasks.getTasks();
+    List<CalculationTask> affectedTasks = new ArrayList<>();
+    MarketDataRequirementsBuilder requirementsBuilder = MarketDataRequirements.builder();
+    int[] originalRows = new int[affectedRows.cardinality()];
+    int newRow = 0;
+    for (int row = affectedRows.nextSetBit(0); row >= 0; row = affectedRows.nextSetBit(row + 1)) {
+      for (int taskIndex : tasksByRow.get(row)) {
+        affectedTasks.add(withRow(taskList.get(taskIndex), newRow));
+        requirementsBuilder.addRequirements(taskRequirements.get(taskIndex));
+      }
+      originalRows[newRow++] = row;
+    }
+
+    // the unaffected market data is supplied, so only the affected market data is built
+    // the built data contains all the market data required by the affected tasks, including any failures
+    ImmutableMarketData unaffectedData = ImmutableMarketData.builder(marketData.getValuationDate())
+        .add(marketData)
+        .removeValueIf(affectedIds::contains)
+        .removeTimeSeriesIf(affectedIds::contains)
+        .build();
+    BuiltMarketData builtData = marketDataFactory.create(
+        requirementsBuilder.build(), marketDataConfig, unaffectedData.combinedWith(suppliedData), refData);
+    marketData = builtData.combinedWith(marketData);
+
+    // calculate the affected rows and merge into the previous results
+    CalculationTasks affected = CalculationTasks.of(affectedTasks, tasks.getColumns());
+    Results affectedResults = taskRunner.calculate(affected, builtData, refData);
+    int columnCount = results.getColumnCount();
+    List<Result<?>> cells = new ArrayList<>(results.getCells());
+    for (int row = 0; row < originalRows.length; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        cells.set(originalRows[row] * columnCount + column, affectedResults.get(row, column));
+      }
+    }
+    results = Results.of(results.getColumns(), cells);
+    return results;
+  }
+
+  /**
+   * Finds the rows that would be recalculated if the specified market data changed.
+   * <p>
+   * This uses the dependencies between the items of market data found by the last calculation,
+   * so only the directly required market data is considered before the first calculation.
+   * If the market data factory cannot determine the dependencies, all rows are affected.
+   *
+   * @param changedIds  the IDs of the market data that has changed
+   * @return the indices of the affected rows, in ascending order
+   */
+  public List<Integer> findAffectedRows(Set<? extends MarketDataId<?>> changedIds) {
+    if (dependents == null) {
+      return IntStream.range(0, tasksByRow.size()).boxed().collect(toImmutableList());
+    }
+    return affectedRows(affectedMarketData(changedIds)).stream().boxed().collect(toImmutableList());
+  }
+
+  // finds the changed market data and all the market data built from it, directly or indirectly
+  private Set<MarketDataId<?>> affectedMarketData(Set<? extends MarketDataId<?>> changedIds) {
+    Set<MarketDataId<?>> affected = new HashSet<>(changedIds);
+    Deque<MarketDataId<?>> queue = new ArrayDeque<>(changedIds);
+    while (!queue.isEmpty()) {
+      for (MarketDataId<?> dependent : dependents.getOrDefault(queue.remove(), ImmutableSet.of())) {
+        if (affected.add(dependent)) {
+          queue.add(dependent);
+        }
+      }
+    }
+    return affected;
+  }
+
+  // finds the rows with a task that requires any of the market data
+  private BitSet affectedRows(Set<MarketDataId<?>> affectedIds) {
+    BitSet rows = new BitSet();
+    for (MarketDataId<?> id : affectedIds) {
+      BitSet idRows = rowsByRequirement.get(id);
+      if (idRows != null) {
+        rows.or(idRows);
+      }
+    }
+    return rows;
+  }
+
+  // creates a copy of the task with the cells moved to the specified row
+  private static CalculationTask withRow(CalculationTask task, int row) {
+    List<CalculationTaskCell> cells = new ArrayList<>();
+    for (CalculationTaskCell cell : task.getCells()) {
+      cells.add(CalculationTaskCell.of(row, cell.getColumnIndex(), cell.getMeasure(), cell.getReportingCurrency()));
+    }
+    return CalculationTask.of(task.getTarget(), task.getFunction(), task.getParameters(), cells);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("IncrementalCalculationSession[tasks={}, calculated={}]", tasks, results != null);
+  }
+
+}
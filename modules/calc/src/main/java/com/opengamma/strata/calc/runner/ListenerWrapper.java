@@ -5,11 +5,11 @@
  */
 package com.opengamma.strata.calc.runner;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -29,6 +29,12 @@ import com.opengamma.strata.collect.ArgChecker;
  * Calculations may be performed in bulk for a given target.
  * The logic in this class unwraps the {@link CalculationResults}, calling the
  * listener with each individual {@link CalculationResult}.
+ * <p>
+ * Results are passed between threads using a lock-free queue. Calculation threads never
+ * wait for each other or for the listener, unless a maximum backlog has been specified.
+ * If it has, a calculation thread waits while the number of results that have been received
+ * but not yet delivered to the listener is at the maximum, keeping memory use bounded
+ * when the listener is slower than the calculations.
  */
 final class ListenerWrapper implements Consumer<CalculationResults> {
 
@@ -37,14 +43,19 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The wrapped listener. */
   private final CalculationListener listener;
 
-  /** Queue of actions to perform on the delegate. */
-  private final Queue<CalculationResults> queue = new LinkedList<>();
+  /** Queue of results to deliver to the listener, safe for concurrent use without locking. */
+  private final Queue<CalculationResults> queue = new ConcurrentLinkedQueue<>();
 
-  /** Protects the queue and the executing flag. */
-  private final Lock lock = new ReentrantLock();
+  /**
+   * The number of results added to the queue that the delivering thread has not yet seen.
+   * The thread that increments this from zero becomes the delivering thread, and it continues
+   * delivering until it decrements it back to zero. The atomic updates also guarantee that
+   * the listener state is visible to each thread that becomes the delivering thread.
+   */
+  private final AtomicInteger pending = new AtomicInteger();
 
-  /** This lock is never contended; it is used to guarantee the listener state is visible to all threads. */
-  private final Lock listenerLock = new ReentrantLock();
+  /** Limits the number of undelivered results, null if unbounded. */
+  private final Semaphore backlog;
 
   /** The total number of tasks to be executed. */
   private final int tasksExpected;
@@ -52,37 +63,53 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   // Mutable state -----------------------------------------------------
 
   /**
-   * Flags whether a call to the underlying listener is executing.
-   * If this flag is set when {@link #accept} is called, the result is added to
-   * the queue and the calling thread returns. The executing thread will ensure
-   * all queued results are delivered.
+   * The number of task results that have been delivered.
+   * This is only accessed by the delivering thread.
    */
-  private boolean executing;
-
-  /** The number of task results that have been received. */
   private int tasksReceived;
 
   //-------------------------------------------------------------------------
   /**
-   * Creates an instance wrapping the specified listener.
-   *  @param listener  the underlying listener wrapped by this object
+   * Creates an instance wrapping the specified listener, with an unbounded backlog.
+   *
+   * @param listener  the underlying listener wrapped by this object
    * @param tasksExpected  the number of tasks to be executed
+   * @param targets  the targets for which values are being calculated
    * @param columns  the columns for which values are being calculated
    */
   ListenerWrapper(CalculationListener listener, int tasksExpected, List<CalculationTarget> targets, List<Column> columns) {
+    this(listener, tasksExpected, targets, columns, 0);
+  }
+
+  /**
+   * Creates an instance wrapping the specified listener.
+   * <p>
+   * The maximum backlog is the number of results that may be waiting to be delivered to the listener
+   * before calculation threads are made to wait. Zero means the backlog is unbounded.
+   *
+   * @param listener  the underlying listener wrapped by this object
+   * @param tasksExpected  the number of tasks to be executed
+   * @param targets  the targets for which values are being calculated
+   * @param columns  the columns for which values are being calculated
+   * @param maxBacklog  the maximum number of undelivered results, zero for unbounded
+   */
+  ListenerWrapper(
+      CalculationListener listener,
+      int tasksExpected,
+      List<CalculationTarget> targets,
+      List<Column> columns,
+      int maxBacklog) {
+
     this.listener = ArgChecker.notNull(listener, "listener");
     this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this.backlog = ArgChecker.notNegative(maxBacklog, "maxBacklog") == 0 ? null : new Semaphore(maxBacklog);
 
-    listenerLock.lock();
-    try {
-      listener.calculationsStarted(targets, columns);
-
-      if (tasksExpected == 0) {
-        listener.calculationsComplete();
-      }
-    } finally {
-      listenerLock.unlock();
+    listener.calculationsStarted(targets, columns);
+    if (tasksExpected == 0) {
+      listener.calculationsComplete();
     }
+    // the atomic write guarantees the listener state is visible to the first delivering thread
+    pending.set(0);
   }
 
   //-------------------------------------------------------------------------
@@ -95,91 +122,66 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    * <p>
    * The other threads do not block while the listener is invoked. They
    * add their results to a queue and return quickly. Their results are
-   * delivered by the thread invoking the listener.
+   * delivered in batches by the thread invoking the listener.
+   * If a maximum backlog was specified, a thread waits for space in the queue
+   * before adding its result.
    *
    * @param result the result of a calculation
    */
   @Override
   public void accept(CalculationResults result) {
-    CalculationResults nextResult;
-
-    // Multiple calculation threads can try to acquire this lock at the same time.
-    // The thread which acquires the lock will set the executing flag and proceed into
-    // the body of the method.
-    // If another thread acquires the lock while the first thread is executing it will
-    // add an item to the queue and return.
-    // The lock also ensures the state of the executing flag and the queue are visible
-    // to any thread acquiring the lock.
-    lock.lock();
-    try {
-      if (executing) {
-        // Another thread is already invoking the listener. Add the result to
-        // the queue and return. The other thread will ensure the queued results
-        // are delivered.
-        queue.add(result);
-        return;
-      } else {
-        // There is no thread invoking the listener. Set the executing flag to
-        // ensure no other thread passes this point and invoke the listener.
-        executing = true;
-        nextResult = result;
-      }
-    } finally {
-      lock.unlock();
+    if (backlog != null) {
+      backlog.acquireUninterruptibly();
     }
+    queue.add(result);
+    // if no other thread is delivering, this thread becomes the delivering thread
+    // otherwise the delivering thread is guaranteed to see the result before it stops
+    if (pending.getAndIncrement() == 0) {
+      deliver();
+    }
+  }
 
-    // The logic in the block above guarantees that there will never be more than one thread in the
-    // rest of the method below this point.
-
-    // Loop until the nextResult and all the results from the queue have been delivered
+  // delivers all the queued results, looping until no more results are added
+  // only one thread is ever in this method at any given time
+  private void deliver() {
+    int seen = 1;
     for (;;) {
-      // The logic above means this lock is never contended; the executing flag means
-      // only one thread will ever be in this loop at any given time.
-      // This lock is required to ensure any state changes in the listener are visible to all threads
-      listenerLock.lock();
-      try {
-        // Invoke the listener while not protected by lock. This allows other threads
-        // to queue results while this thread is delivering them to the listener.
-        for (CalculationResult cell : nextResult.getCells()) {
-          listener.resultReceived(nextResult.getTarget(), cell);
+      // deliver a batch of results, everything currently in the queue
+      // results added while the batch is delivered are picked up by the next loop
+      CalculationResults nextResult;
+      while ((nextResult = queue.poll()) != null) {
+        if (backlog != null) {
+          backlog.release();
         }
-      } catch (RuntimeException e) {
-        log.warn("Exception invoking listener.resultReceived", e);
-      } finally {
-        listenerLock.unlock();
+        deliver(nextResult);
+      }
+      // stop once the pending count shows that every added result has been seen
+      // the queue cannot be empty if a result was added since the last check
+      int remaining = pending.addAndGet(-seen);
+      if (remaining == 0) {
+        return;
       }
+      seen = remaining;
+    }
+  }
 
-      // The following code must be executed whilst holding the lock to guarantee any changes
-      // to the executing flag and to the state of the queue are visible to all threads
-      lock.lock();
+  // delivers a single result to the listener
+  private void deliver(CalculationResults result) {
+    try {
+      for (CalculationResult cell : result.getCells()) {
+        listener.resultReceived(result.getTarget(), cell);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Exception invoking listener.resultReceived", e);
+    }
+    if (++tasksReceived == tasksExpected) {
+      // the expected number of results have been received, inform the listener
       try {
-        if (++tasksReceived == tasksExpected) {
-          // The expected number of results have been received, inform the listener.
-          // The listener lock must be acquired to ensure any state changes in the listener are
-          // visible to all threads
-          listenerLock.lock();
-          try {
-            listener.calculationsComplete();
-          } catch (RuntimeException e) {
-            log.warn("Exception invoking listener.calculationsComplete", e);
-          } finally {
-            listenerLock.unlock();
-          }
-          return;
-        } else if (queue.isEmpty()) {
-          // There are no more results to deliver. Unset the executing flag and return.
-          // This allows the next calling thread to deliver results.
-          executing = false;
-          return;
-        } else {
-          // There are results on the queue. This means another thread called accept(),
-          // added a result to the queue and returned while this thread was invoking the listener.
-          // This thread must deliver the results from the queue.
-          nextResult = queue.remove();
-        }
-      } finally {
-        lock.unlock();
+        listener.calculationsComplete();
+      } catch (RuntimeException e) {
+        log.warn("Exception invoking listener.calculationsComplete", e);
       }
     }
   }
+
 }
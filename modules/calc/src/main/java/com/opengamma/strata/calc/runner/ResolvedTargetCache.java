@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ResolvableCalculationTarget;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * A cache of resolved calculation targets, shared between calculation runs.
+ * <p>
+ * Resolving a target, such as a swap trade, generates schedules, payment periods and adjusted dates.
+ * When the same targets are calculated repeatedly, for example in intraday runs against the same
+ * reference data, the resolved form can be reused rather than being generated again.
+ * <p>
+ * An entry is keyed by the target and the reference data used to resolve it.
+ * By default, the target is matched by identity, thus only the same target instance is found.
+ * Alternatively, a function can be supplied to obtain a key for each target, such as the
+ * identifier and version of a trade. The key is matched by equality and must differ whenever
+ * the target differs, so that an amended trade is resolved again.
+ * Neither approach compares the whole target, which can be as expensive as resolving it.
+ * The reference data is matched by identity, thus new reference data causes all targets
+ * to be resolved again.
+ * <p>
+ * The cache holds at most the specified number of entries, evicting the least recently used.
+ * Targets that fail to resolve are not cached.
+ * <p>
+ * This class is thread-safe. A target may be resolved more than once if it is requested
+ * concurrently by two threads, with the result of the first to finish being retained.
+ */
+public final class ResolvedTargetCache {
+
+  /**
+   * The maximum number of entries.
+   */
+  private final int maxSize;
+  /**
+   * The function to obtain the key of a target, null to match the target by identity.
+   */
+  private final Function<? super ResolvableCalculationTarget, ?> keyFunction;
+  /**
+   * The cached resolved targets, in access order, guarded by this instance.
+   */
+  private final Map<Key, CalculationTarget> cache;
+  /**
+   * The number of requests satisfied by the cache, guarded by this instance.
+   */
+  private long hitCount;
+  /**
+   * The number of requests that resolved the target, guarded by this instance.
+   */
+  private long missCount;
+  /**
+   * The number of entries evicted, guarded by this instance.
+   */
+  private long evictionCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache with the specified maximum size, matching targets by identity.
+   *
+   * @param maxSize  the maximum number of resolved targets to retain
+   * @return the cache
+   */
+  public static ResolvedTargetCache of(int maxSize) {
+    ArgChecker.notNegativeOrZero(maxSize, "maxSize");
+    return new ResolvedTargetCache(maxSize, null);
+  }
+
+  /**
+   * Obtains an empty cache with the specified maximum size, matching targets by key.
+   * <p>
+   * The function returns the key of a target, which is compared using equals and hash code.
+   * The key must be cheap to compare and must differ whenever the target differs.
+   * For example, the identifier and version of a trade as held in a trade store.
+   *
+   * @param maxSize  the maximum number of resolved targets to retain
+   * @param keyFunction  the function to obtain the key of a target
+   * @return the cache
+   */
+  public static ResolvedTargetCache of(int maxSize, Function<? super ResolvableCalculationTarget, ?> keyFunction) {
+    ArgChecker.notNegativeOrZero(maxSize, "maxSize");
+    ArgChecker.notNull(keyFunction, "keyFunction");
+    return new ResolvedTargetCache(maxSize, keyFunction);
+  }
+
+  // restricted constructor
+  private ResolvedTargetCache(int maxSize, Function<? super ResolvableCalculationTarget, ?> keyFunction) {
+    this.maxSize = maxSize;
+    this.keyFunction = keyFunction;
+    this.cache = new LinkedHashMap<Key, CalculationTarget>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CalculationTarget> eldest) {
+        if (size() > ResolvedTargetCache.this.maxSize) {
+          evictionCount++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the target, returning the cached result if available.
+   * <p>
+   * Any exception thrown when resolving the target is propagated and nothing is cached.
+   *
+   * @param target  the target to resolve
+   * @param refData  the reference data to use to resolve the target
+   * @return the resolved target
+   * @throws RuntimeException if the target cannot be resolved
+   */
+  public CalculationTarget resolve(ResolvableCalculationTarget target, ReferenceData refData) {
+    ArgChecker.notNull(target, "target");
+    ArgChecker.notNull(refData, "refData");
+    Key key = keyFunction != null ?
+        new Key(ArgChecker.notNull(keyFunction.apply(target), "key"), false, refData) :
+        new Key(target, true, refData);
+    synchronized (this) {
+      CalculationTarget cached = cache.get(key);
+      if (cached != null) {
+        hitCount++;
+        return cached;
+      }
+      missCount++;
+    }
+    // resolve outside the lock, as resolution can be slow
+    CalculationTarget resolved = target.resolveTarget(refData);
+    synchronized (this) {
+      CalculationTarget existing = cache.putIfAbsent(key, resolved);
+      return existing != null ? existing : resolved;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the maximum number of resolved targets retained.
+   *
+   * @return the maximum size
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the number of resolved targets currently retained.
+   *
+   * @return the size
+   */
+  public synchronized int size() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the number of requests that were satisfied by the cache.
+   *
+   * @return the hit count
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of requests that had to resolve the target.
+   *
+   * @return the miss count
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Gets the number of resolved targets evicted because the cache was full.
+   *
+   * @return the eviction count
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Removes all resolved targets from the cache.
+   * <p>
+   * The counters are not reset.
+   */
+  public synchronized void clear() {
+    cache.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public synchronized String toString() {
+    return Messages.format(
+        "ResolvedTargetCache[size={}, maxSize={}, hits={}, misses={}, evictions={}]",
+        cache.size(),
+        maxSize,
+        hitCount,
+        missCount,
+        evictionCount);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cache key, matching the target or its key, and the reference data by identity.
+   */
+  private static final class Key {
+
+    private final Object target;
+    private final boolean identity;
+    private final ReferenceData refData;
+    private final int hashCode;
+
+    private Key(Object target, boolean identity, ReferenceData refData) {
+      this.target = target;
+      this.identity = identity;
+      this.refData = refData;
+      int targetHash = identity ? System.identityHashCode(target) : target.hashCode();
+      this.hashCode = targetHash * 31 + System.identityHashCode(refData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return refData == other.refData && (identity ? target == other.target : target.equals(other.target));
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
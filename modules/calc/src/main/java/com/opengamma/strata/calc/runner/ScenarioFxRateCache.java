@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * The FX rates used to convert results into the reporting currency, shared by the tasks of a calculation run.
+ * <p>
+ * Without this cache, each task creates its own {@link ScenarioFxRateProvider}, with the rate for each
+ * currency pair and scenario looked up, and possibly triangulated, for every cell being converted.
+ * Instead, the rates of a currency pair are looked up once for all scenarios, on first use,
+ * and held as an array that is shared by all the tasks of the run.
+ * The rates are held separately for each {@link FxRateLookup}, as tasks may use different lookups.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ScenarioFxRateCache {
+
+  /**
+   * The market data for a set of scenarios.
+   */
+  private final ScenarioMarketData marketData;
+  /**
+   * The FX rate providers, keyed by the FX rate lookup of the task, empty for the default lookup.
+   */
+  private final ConcurrentHashMap<Optional<FxRateLookup>, ScenarioFxRateProvider> providers = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty cache for the market data.
+   *
+   * @param marketData  the market data used in the calculation
+   * @return the cache
+   */
+  static ScenarioFxRateCache of(ScenarioMarketData marketData) {
+    return new ScenarioFxRateCache(marketData);
+  }
+
+  // restricted constructor
+  private ScenarioFxRateCache(ScenarioMarketData marketData) {
+    this.marketData = ArgChecker.notNull(marketData, "marketData");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the FX rate provider for the specified lookup.
+   *
+   * @param lookup  the FX rate lookup of the task, empty to use the default
+   * @return the FX rate provider, which caches the rates of each currency pair
+   */
+  ScenarioFxRateProvider fxRateProvider(Optional<FxRateLookup> lookup) {
+    return providers.computeIfAbsent(lookup, key -> new CachedProvider(key
+        .map(fxLookup -> LookupScenarioFxRateProvider.of(marketData, fxLookup))
+        .orElse(ScenarioFxRateProvider.of(marketData))));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * An FX rate provider that caches the rates of each currency pair for all scenarios.
+   */
+  private static final class CachedProvider implements ScenarioFxRateProvider {
+
+    /**
+     * The underlying provider.
+     */
+    private final ScenarioFxRateProvider underlying;
+    /**
+     * The rates for each scenario, keyed by currency pair.
+     */
+    private final ConcurrentHashMap<CurrencyPair, DoubleArray> rates = new ConcurrentHashMap<>();
+
+    private CachedProvider(ScenarioFxRateProvider underlying) {
+      this.underlying = underlying;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return underlying.getScenarioCount();
+    }
+
+    @Override
+    public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+      if (baseCurrency.equals(counterCurrency)) {
+        return 1;
+      }
+      return fxRates(baseCurrency, counterCurrency).get(scenarioIndex);
+    }
+
+    @Override
+    public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+      // a failed lookup is not cached, thus each conversion reports the failure
+      return rates.computeIfAbsent(
+          CurrencyPair.of(baseCurrency, counterCurrency), pair -> underlying.fxRates(baseCurrency, counterCurrency));
+    }
+
+    @Override
+    public FxRateProvider fxRateProvider(int scenarioIndex) {
+      return underlying.fxRateProvider(scenarioIndex);
+    }
+  }
+
+}
@@ -8,13 +8,19 @@ package com.opengamma.strata.calc;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ResolvableCalculationTarget;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.ResolvedTargetCache;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -52,8 +58,58 @@ public class DefaultCalculationRunnerTest {
     }
   }
 
+  @Test
+  public void calculate_resolvedTargetCache() {
+    ResolvableTestTarget target = new ResolvableTestTarget();
+    ImmutableList<CalculationTarget> targets = ImmutableList.of(target);
+    ImmutableList<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    MarketData md = MarketData.empty(date(2016, 6, 30));
+    ResolvedTargetCache cache = ResolvedTargetCache.of(10);
+
+    try (CalculationRunner base = CalculationRunner.of(MoreExecutors.newDirectExecutorService())) {
+      CalculationRunner test = base.withResolvedTargetCache(cache);
+      assertThat(test.getTaskRunner()).isSameAs(base.getTaskRunner());
+      test.calculate(rules, targets, columns, md, REF_DATA);
+      test.calculate(rules, targets, columns, md, REF_DATA);
+      assertThat(target.resolutions.get()).isEqualTo(1);
+      assertThat(cache.getHitCount()).isEqualTo(1);
+      // the original runner does not use the cache
+      base.calculate(rules, targets, columns, md, REF_DATA);
+      assertThat(target.resolutions.get()).isEqualTo(2);
+      // a runner with a different cache
+      ResolvedTargetCache cache2 = ResolvedTargetCache.of(10);
+      CalculationRunner test2 = test.withResolvedTargetCache(cache2);
+      test2.calculateMultiScenario(rules, targets, columns, ScenarioMarketData.of(1, md), REF_DATA);
+      assertThat(target.resolutions.get()).isEqualTo(3);
+      assertThat(cache2.getMissCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void close_resolvedTargetCache() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CalculationRunner base = CalculationRunner.of(executor);
+    CalculationRunner test = base.withResolvedTargetCache(ResolvedTargetCache.of(10));
+    // closing the runner using the cache does not close the shared task runner
+    test.close();
+    assertThat(executor.isShutdown()).isFalse();
+    base.close();
+    assertThat(executor.isShutdown()).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   private static class TestTarget implements CalculationTarget {
   }
 
+  private static class ResolvableTestTarget implements ResolvableCalculationTarget {
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    @Override
+    public CalculationTarget resolveTarget(ReferenceData refData) {
+      resolutions.incrementAndGet();
+      return TARGET;
+    }
+  }
+
 }
@@ -60,6 +60,33 @@ public class BuiltMarketDataTest {
     assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> test.getValue(ID));
   }
 
+  @Test
+  public void test_combinedWith() {
+    TestObservableId id2 = TestObservableId.of("2");
+    TestObservableId id3 = TestObservableId.of("3");
+    BuiltMarketData test1 = new BuiltMarketData(BuiltScenarioMarketData.builder(MarketDataBox.ofSingleValue(VAL_DATE))
+        .addValue(ID, 1d)
+        .addResult(id2, Result.failure(FailureReason.ERROR, "Failed 2"))
+        .build());
+    BuiltMarketData test2 = new BuiltMarketData(BuiltScenarioMarketData.builder(MarketDataBox.ofSingleValue(VAL_DATE))
+        .addResult(ID, Result.failure(FailureReason.ERROR, "Failed 1"))
+        .addValue(id2, 2d)
+        .addResult(id3, Result.failure(FailureReason.ERROR, "Failed 3"))
+        .build());
+    BuiltMarketData test = test1.combinedWith(test2);
+
+    assertThat(test.getValuationDate()).isEqualTo(VAL_DATE);
+    assertThat(test.getValue(ID)).isEqualTo(1d);
+    assertThat(test.findValue(id2)).isEmpty();
+    assertThatExceptionOfType(FailureException.class)
+        .isThrownBy(() -> test.getValue(id2))
+        .withMessage("Failed 2");
+    assertThatExceptionOfType(FailureException.class)
+        .isThrownBy(() -> test.getValue(id3))
+        .withMessage("Failed 3");
+    assertThat(test.getValueFailures()).containsOnlyKeys(id2, id3);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -9,10 +9,16 @@ import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -364,6 +370,109 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(new TestIdC("2"))).isEqualTo(expectedC2);
   }
 
+  /**
+   * Tests the dependencies between items of market data, with supplied data not built.
+   */
+  @Test
+  public void dependencies() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"), new TestIdA("3"))
+        .build();
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        new TestMarketDataFunctionB(),
+        new TestMarketDataFunctionC());
+    MarketData suppliedData = ImmutableMarketData.builder(date(2011, 3, 8))
+        .addValue(new TestIdC("2"), new TestMarketDataC(LocalDateDoubleTimeSeries.empty()))
+        .build();
+
+    Optional<Map<MarketDataId<?>, Set<MarketDataId<?>>>> test =
+        factory.dependencies(requirements, MARKET_DATA_CONFIG, suppliedData);
+    assertThat(test).isPresent();
+    assertThat(test.get()).containsOnly(
+        entry(new TestIdB("1"), ImmutableSet.of(new TestIdA("1"), new TestIdC("1"))),
+        entry(new TestIdC("1"), ImmutableSet.of(new TestIdA("1"))),
+        entry(new TestIdB("2"), ImmutableSet.of(new TestIdA("2"), new TestIdC("2"))));
+  }
+
+  /**
+   * Tests building market data in parallel gives the same result as building it sequentially.
+   */
+  @Test
+  public void buildParallel() {
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 1)
+        .put(date(2011, 3, 9), 2)
+        .build();
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 10)
+        .put(date(2011, 3, 9), 20)
+        .build();
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap = ImmutableMap.of(
+        new TestIdA("1"), timeSeries1,
+        new TestIdA("2"), timeSeries2);
+
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"), new TestIdC("2"), new TestIdC("3"))
+        .build();
+    List<MarketDataFunction<?, ?>> functions =
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC());
+    Map<MarketDataId<?>, Result<?>> built = new ConcurrentHashMap<>();
+    MarketDataBuildListener listener = (id, result, buildTime) -> {
+      assertThat(buildTime.isNegative()).isFalse();
+      built.put(id, result);
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      MarketDataFactory sequentialFactory = MarketDataFactory.of(
+          new TestObservableDataProvider(), new TestTimeSeriesProvider(timeSeriesMap), functions);
+      MarketDataFactory parallelFactory = MarketDataFactory.of(
+          new TestObservableDataProvider(), new TestTimeSeriesProvider(timeSeriesMap), executor, listener, functions);
+
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      BuiltMarketData expected = sequentialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      BuiltMarketData test = parallelFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      assertThat(test.getIds()).isEqualTo(expected.getIds());
+      assertThat(test.getIds()).allMatch(id -> test.getValue(id).equals(expected.getValue(id)));
+      assertThat(test.getTimeSeriesIds()).isEqualTo(expected.getTimeSeriesIds());
+      assertThat(test.getTimeSeriesFailures().keySet()).isEqualTo(expected.getTimeSeriesFailures().keySet());
+      assertThat(test.getValue(new TestIdB("2")))
+          .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+      assertThat(test.getTimeSeriesFailures()).containsOnlyKeys(new TestIdA("3"));
+      assertThat(built).containsOnlyKeys(
+          new TestIdB("1"), new TestIdB("2"), new TestIdC("1"), new TestIdC("2"), new TestIdC("3"));
+      assertThat(built.values()).allMatch(Result::isSuccess);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests an exception is thrown when there is no builder for an ID type when building in parallel.
+   */
+  @Test
+  public void buildParallelNoMarketDataBuilderAvailable() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"))
+        .build();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new TestMarketDataFunctionB()));
+
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      assertThatIllegalStateException()
+          .isThrownBy(() -> factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA))
+          .withMessageStartingWith("No market data function available for market data ID of type");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Tests building multiple observable values for scenarios where the values aren't perturbed.
    */
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -138,6 +139,94 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(result2).hasValue(scenarioResult);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void chunked() {
+    CalculationTasks tasks = tasks(25);
+    MarketData marketData = MarketData.empty(VAL_DATE);
+    // using the direct executor means there is no need to close/shutdown the runner
+    for (int chunkSize = 0; chunkSize < 30; chunkSize += 3) {
+      CalculationTaskRunner test = CalculationTaskRunner.ofChunked(MoreExecutors.newDirectExecutorService(), chunkSize);
+      Results results = test.calculate(tasks, marketData, REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(25);
+      for (int i = 0; i < 25; i++) {
+        assertThat(results.get(i, 0)).hasValue("foo");
+      }
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunner.ofChunked(MoreExecutors.newDirectExecutorService(), -1));
+  }
+
+  @Test
+  public void workStealing() {
+    CalculationTasks tasks = tasks(1000);
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(1000);
+      for (int i = 0; i < 1000; i++) {
+        assertThat(results.get(i, 0)).hasValue("foo");
+      }
+    }
+  }
+
+  @Test
+  public void virtualThreads() {
+    CalculationTasks tasks = tasks(100);
+    // a thread per task executor stands in for virtual threads, which require Java 21
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofVirtualThreads(Executors.newCachedThreadPool())) {
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(100);
+      for (int i = 0; i < 100; i++) {
+        assertThat(results.get(i, 0)).hasValue("foo");
+      }
+    }
+  }
+
+  @Test
+  public void chunked_taskThrows() {
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo"));
+    ImmutableList.Builder<CalculationTask> taskList = ImmutableList.builder();
+    for (int i = 0; i < 5; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskList.add(CalculationTask.of(TARGET, i == 2 ? new ThrowingFunction() : fn, cell));
+    }
+    CalculationTasks tasks =
+        CalculationTasks.of(taskList.build(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.ofChunked(MoreExecutors.newDirectExecutorService(), 5);
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.getRowCount()).isEqualTo(5);
+    for (int i = 0; i < 5; i++) {
+      if (i == 2) {
+        assertThat(results.get(i, 0)).isFailure(FailureReason.CALCULATION_FAILED);
+        assertThat(results.get(i, 0).getFailure().getMessage()).contains("No identifier");
+      } else {
+        assertThat(results.get(i, 0)).hasValue("foo");
+      }
+    }
+  }
+
+  @Test
+  public void autoChunkSize() {
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(0, 8)).isEqualTo(1);
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(10, 8)).isEqualTo(1);
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(320, 8)).isEqualTo(10);
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(321, 8)).isEqualTo(11);
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(500_000, 64)).isEqualTo(1000);
+    assertThat(DefaultCalculationTaskRunner.autoChunkSize(100, 0)).isEqualTo(25);
+  }
+
+  // creates tasks, one for each row, whose result is "foo"
+  private static CalculationTasks tasks(int count) {
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo"));
+    ImmutableList.Builder<CalculationTask> taskList = ImmutableList.builder();
+    for (int i = 0; i < count; i++) {
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskList.add(CalculationTask.of(TARGET, fn, cell));
+    }
+    return CalculationTasks.of(taskList.build(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Tests that running an empty list of tasks completes and returns a set of results with zero rows.
@@ -205,6 +294,52 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // a function that fails in such a way that the exception escapes from the task
+  private static final class ThrowingFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Optional<String> identifier(TestTarget target) {
+      throw new IllegalStateException("No identifier");
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      throw new IllegalStateException("Calculation failed");
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.BuiltMarketData;
+import com.opengamma.strata.calc.marketdata.BuiltScenarioMarketData;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFactory;
+import com.opengamma.strata.calc.marketdata.MarketDataFunction;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.ObservableDataProvider;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
+import com.opengamma.strata.calc.marketdata.TimeSeriesProvider;
+import com.opengamma.strata.collect.result.FailureException;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link IncrementalCalculationSession}.
+ */
+public class IncrementalCalculationSessionTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final Measure MEASURE = TestingMeasures.PAR_RATE;
+  private static final TestObservableId EUR_QUOTE = TestObservableId.of("EUR");
+  private static final TestObservableId USD_QUOTE = TestObservableId.of("USD");
+  private static final CurveTestId EUR_CURVE = new CurveTestId("EUR");
+  private static final CurveTestId USD_CURVE = new CurveTestId("USD");
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void recalculate() {
+    CurveFunction curveFn = new CurveFunction();
+    ValueFunction valueFn = new ValueFunction();
+    IncrementalCalculationSession test = session(curveFn, valueFn);
+    assertThat(test.getResults()).isEmpty();
+    assertThat(test.getMarketData()).isEmpty();
+
+    Results results1 = test.calculate(quotes(VAL_DATE, 1d, 10d));
+    assertThat(results1.get(0, 0)).hasValue(2d);
+    assertThat(results1.get(1, 0)).hasValue(20d);
+    assertThat(results1.get(2, 0)).hasValue(2d);
+    assertThat(curveFn.builds).containsEntry("EUR", 1).containsEntry("USD", 1);
+    assertThat(valueFn.calculations.get()).isEqualTo(3);
+    assertThat(test.getResults()).hasValue(results1);
+
+    // only the EUR curve is rebuilt and the EUR targets recalculated
+    assertThat(test.findAffectedRows(ImmutableSet.of(EUR_QUOTE))).containsExactly(0, 2);
+    Results results2 = test.recalculate(quotes(VAL_DATE, 3d, 10d), ImmutableSet.of(EUR_QUOTE));
+    assertThat(results2.get(0, 0)).hasValue(6d);
+    assertThat(results2.get(1, 0)).hasValue(20d);
+    assertThat(results2.get(2, 0)).hasValue(6d);
+    assertThat(results2.getColumns()).isEqualTo(results1.getColumns());
+    assertThat(curveFn.builds).containsEntry("EUR", 2).containsEntry("USD", 1);
+    assertThat(valueFn.calculations.get()).isEqualTo(5);
+    assertThat(test.getMarketData().get().getValue(EUR_CURVE)).isEqualTo(6d);
+    assertThat(test.getMarketData().get().getValue(USD_CURVE)).isEqualTo(20d);
+
+    // the curves are directly required by the targets
+    assertThat(test.findAffectedRows(ImmutableSet.of(USD_CURVE))).containsExactly(1);
+    Results results3 = test.recalculate(quotes(VAL_DATE, 3d, 20d), ImmutableSet.of(USD_QUOTE));
+    assertThat(results3.get(0, 0)).hasValue(6d);
+    assertThat(results3.get(1, 0)).hasValue(40d);
+    assertThat(results3.get(2, 0)).hasValue(6d);
+    assertThat(curveFn.builds).containsEntry("EUR", 2).containsEntry("USD", 2);
+    assertThat(valueFn.calculations.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void recalculate_unaffected() {
+    CurveFunction curveFn = new CurveFunction();
+    ValueFunction valueFn = new ValueFunction();
+    IncrementalCalculationSession test = session(curveFn, valueFn);
+    Results results1 = test.calculate(quotes(VAL_DATE, 1d, 10d));
+
+    TestObservableId otherQuote = TestObservableId.of("GBP");
+    assertThat(test.findAffectedRows(ImmutableSet.of(otherQuote))).isEmpty();
+    Results results2 = test.recalculate(quotes(VAL_DATE, 1d, 10d), ImmutableSet.of(otherQuote));
+    assertThat(results2).isSameAs(results1);
+    assertThat(valueFn.calculations.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void recalculate_full() {
+    CurveFunction curveFn = new CurveFunction();
+    ValueFunction valueFn = new ValueFunction();
+    IncrementalCalculationSession test = session(curveFn, valueFn);
+
+    // no previous calculation
+    Results results1 = test.recalculate(quotes(VAL_DATE, 1d, 10d), ImmutableSet.of(EUR_QUOTE));
+    assertThat(results1.get(1, 0)).hasValue(20d);
+    assertThat(valueFn.calculations.get()).isEqualTo(3);
+
+    // different valuation date
+    Results results2 = test.recalculate(quotes(VAL_DATE.plusDays(1), 3d, 10d), ImmutableSet.of(EUR_QUOTE));
+    assertThat(results2.get(0, 0)).hasValue(6d);
+    assertThat(valueFn.calculations.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void recalculate_curveFailure() {
+    CurveFunction curveFn = new CurveFunction();
+    ValueFunction valueFn = new ValueFunction();
+    IncrementalCalculationSession test = session(curveFn, valueFn);
+
+    // the failure to build the curve is reported, not the absence of the curve
+    Results results1 = test.calculate(quotes(VAL_DATE, -1d, 10d));
+    assertThat(results1.get(0, 0)).isFailure().hasFailureMessageMatching(".*Invalid quote for curve EUR.*");
+    assertThat(results1.get(1, 0)).hasValue(20d);
+    assertThat(results1.get(2, 0)).isFailure().hasFailureMessageMatching(".*Invalid quote for curve EUR.*");
+
+    // the failure is retained when unaffected market data changes
+    Results results2 = test.recalculate(quotes(VAL_DATE, -1d, 20d), ImmutableSet.of(USD_QUOTE));
+    assertThat(results2.get(0, 0)).isFailure().hasFailureMessageMatching(".*Invalid quote for curve EUR.*");
+    assertThat(results2.get(1, 0)).hasValue(40d);
+    assertThatExceptionOfType(FailureException.class)
+        .isThrownBy(() -> test.getMarketData().get().getValue(EUR_CURVE))
+        .withMessageContaining("Invalid quote for curve EUR");
+
+    // the failure is reported when the curve is rebuilt
+    Results results3 = test.recalculate(quotes(VAL_DATE, 3d, -20d), ImmutableSet.of(EUR_QUOTE, USD_QUOTE));
+    assertThat(results3.get(0, 0)).hasValue(6d);
+    assertThat(results3.get(1, 0)).isFailure().hasFailureMessageMatching(".*Invalid quote for curve USD.*");
+    assertThat(results3.get(2, 0)).hasValue(6d);
+    assertThat(test.getMarketData().get().getValue(EUR_CURVE)).isEqualTo(6d);
+  }
+
+  @Test
+  public void recalculate_dependenciesNotAvailable() {
+    CurveFunction curveFn = new CurveFunction();
+    ValueFunction valueFn = new ValueFunction();
+    MarketDataFactory factory = MarketDataFactory.of(ObservableDataProvider.none(), TimeSeriesProvider.none(), curveFn);
+    MarketDataFactory noDependenciesFactory = new MarketDataFactory() {
+      @Override
+      public BuiltMarketData create(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData) {
+
+        return factory.create(requirements, marketDataConfig, suppliedData, refData);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return factory.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          ScenarioMarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return factory.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+    };
+    assertThat(noDependenciesFactory.dependencies(
+        MarketDataRequirements.empty(), MarketDataConfig.empty(), MarketData.empty(VAL_DATE))).isEmpty();
+    IncrementalCalculationSession test = session(noDependenciesFactory, valueFn);
+    test.calculate(quotes(VAL_DATE, 1d, 10d));
+    assertThat(valueFn.calculations.get()).isEqualTo(3);
+
+    // every row is affected by a change
+    assertThat(test.findAffectedRows(ImmutableSet.of(EUR_QUOTE))).containsExactly(0, 1, 2);
+    Results results = test.recalculate(quotes(VAL_DATE, 3d, 10d), ImmutableSet.of(EUR_QUOTE));
+    assertThat(results.get(0, 0)).hasValue(6d);
+    assertThat(results.get(1, 0)).hasValue(20d);
+    assertThat(valueFn.calculations.get()).isEqualTo(6);
+  }
+
+  //-------------------------------------------------------------------------
+  private static IncrementalCalculationSession session(CurveFunction curveFn, ValueFunction valueFn) {
+    MarketDataFactory factory = MarketDataFactory.of(ObservableDataProvider.none(), TimeSeriesProvider.none(), curveFn);
+    return session(factory, valueFn);
+  }
+
+  private static IncrementalCalculationSession session(MarketDataFactory factory, ValueFunction valueFn) {
+    List<CurveTarget> targets = ImmutableList.of(new CurveTarget("EUR"), new CurveTarget("USD"), new CurveTarget("EUR"));
+    ImmutableList.Builder<CalculationTask> tasks = ImmutableList.builder();
+    for (int i = 0; i < targets.size(); i++) {
+      tasks.add(CalculationTask.of(targets.get(i), valueFn, CalculationTaskCell.of(i, 0, MEASURE, NATURAL)));
+    }
+    // using the direct executor means there is no need to close/shutdown the runner
+    return IncrementalCalculationSession.of(
+        CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()),
+        factory,
+        MarketDataConfig.empty(),
+        CalculationTasks.of(tasks.build(), ImmutableList.of(Column.of(MEASURE))),
+        REF_DATA);
+  }
+
+  private static MarketData quotes(LocalDate valuationDate, double eur, double usd) {
+    return ImmutableMarketData.builder(valuationDate)
+        .addValue(EUR_QUOTE, eur)
+        .addValue(USD_QUOTE, usd)
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  // a target whose value is the value of a curve
+  private static final class CurveTarget implements CalculationTarget {
+
+    private final String name;
+
+    private CurveTarget(String name) {
+      this.name = name;
+    }
+  }
+
+  // the ID of a curve built from a quote
+  private static final class CurveTestId implements MarketDataId<Double> {
+
+    private final String name;
+
+    private CurveTestId(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Class<Double> getMarketDataType() {
+      return Double.class;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CurveTestId && ((CurveTestId) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name);
+    }
+  }
+
+  // builds a curve whose value is twice the quote, counting the builds, failing if the quote is negative
+  private static final class CurveFunction implements MarketDataFunction<Double, CurveTestId> {
+
+    private final Map<String, Integer> builds = new ConcurrentHashMap<>();
+
+    @Override
+    public MarketDataRequirements requirements(CurveTestId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.builder().addValues(TestObservableId.of(id.name)).build();
+    }
+
+    @Override
+    public MarketDataBox<Double> build(
+        CurveTestId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      builds.merge(id.name, 1, Integer::sum);
+      MarketDataBox<Double> quote = marketData.getValue(TestObservableId.of(id.name));
+      if (quote.getSingleValue() < 0) {
+        throw new IllegalArgumentException("Invalid quote for curve " + id.name);
+      }
+      return quote.map(value -> value * 2);
+    }
+
+    @Override
+    public Class<CurveTestId> getMarketDataIdType() {
+      return CurveTestId.class;
+    }
+  }
+
+  // returns the value of the curve of the target, counting the calculations
+  private static final class ValueFunction implements CalculationFunction<CurveTarget> {
+
+    private final AtomicInteger calculations = new AtomicInteger();
+
+    @Override
+    public Class<CurveTarget> targetType() {
+      return CurveTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(MEASURE);
+    }
+
+    @Override
+    public Currency naturalCurrency(CurveTarget target, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        CurveTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(new CurveTestId(target.name)).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        CurveTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      calculations.incrementAndGet();
+      double value = marketData.getValue(new CurveTestId(target.name)).getSingleValue();
+      return ImmutableMap.of(MEASURE, Result.success(ScenarioArray.of(value)));
+    }
+  }
+
+}
@@ -6,6 +6,7 @@
 package com.opengamma.strata.calc.runner;
 
 import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Queue;
@@ -13,6 +14,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
@@ -52,6 +54,40 @@ public class ListenerWrapperTest {
     }
   }
 
+  // Tests that all results are delivered when the backlog is bounded, with the calculation threads
+  // waiting for the listener when the backlog is full.
+  @Test
+  public void concurrentExecution_boundedBacklog() throws InterruptedException {
+    int nThreads = Runtime.getRuntime().availableProcessors() + 1;
+    int resultsPerThread = 10;
+    ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    int expectedResultCount = nThreads * resultsPerThread;
+    Listener listener = new Listener(errors, latch);
+    Consumer<CalculationResults> wrapper =
+        new ListenerWrapper(listener, expectedResultCount, ImmutableList.of(), ImmutableList.of(), 2);
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    CalculationResult result = CalculationResult.of(0, 0, Result.failure(FailureReason.ERROR, "foo"));
+    CalculationTarget target = new CalculationTarget() {};
+    CalculationResults results = CalculationResults.of(target, ImmutableList.of(result));
+    IntStream.range(0, expectedResultCount).forEach(i -> executor.submit(() -> wrapper.accept(results)));
+
+    assertThat(latch.await(1, TimeUnit.MINUTES)).isTrue();
+    executor.shutdown();
+
+    if (!errors.isEmpty()) {
+      String allErrors = errors.stream().collect(joining("\n"));
+      fail(allErrors);
+    }
+  }
+
+  @Test
+  public void noTasks() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    new ListenerWrapper(new Listener(new ConcurrentLinkedQueue<>(), latch), 0, ImmutableList.of(), ImmutableList.of());
+    assertThat(latch.getCount()).isEqualTo(0);
+  }
+
   public static final class Listener implements CalculationListener {
 
     /**
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ResolvableCalculationTarget;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.TestingMeasures;
+
+/**
+ * Test {@link ResolvedTargetCache}.
+ */
+public class ResolvedTargetCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    assertThat(test.getMaxSize()).isEqualTo(10);
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.toString()).isEqualTo("ResolvedTargetCache[size=0, maxSize=10, hits=0, misses=0, evictions=0]");
+    assertThatIllegalArgumentException().isThrownBy(() -> ResolvedTargetCache.of(0));
+  }
+
+  @Test
+  public void test_resolve() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    TestTarget target = new TestTarget("A");
+    CalculationTarget resolved = test.resolve(target, REF_DATA);
+    assertThat(resolved).isEqualTo(new ResolvedTestTarget("A"));
+    assertThat(test.resolve(target, REF_DATA)).isSameAs(resolved);
+    assertThat(target.resolutions.get()).isEqualTo(1);
+    // equal target, matched by identity
+    TestTarget equalTarget = new TestTarget("A");
+    assertThat(test.resolve(equalTarget, REF_DATA)).isNotSameAs(resolved);
+    assertThat(equalTarget.resolutions.get()).isEqualTo(1);
+    assertThat(test.getHitCount()).isEqualTo(1);
+    assertThat(test.getMissCount()).isEqualTo(2);
+    assertThat(test.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_resolve_keyFunction() {
+    AtomicInteger keyCount = new AtomicInteger();
+    ResolvedTargetCache test = ResolvedTargetCache.of(10, target -> {
+      keyCount.incrementAndGet();
+      return ((TestTarget) target).name;
+    });
+    TestTarget target = new TestTarget("A");
+    CalculationTarget resolved = test.resolve(target, REF_DATA);
+    assertThat(resolved).isEqualTo(new ResolvedTestTarget("A"));
+    // equal key, the target is not compared
+    TestTarget sameKey = new TestTarget("A");
+    assertThat(test.resolve(sameKey, REF_DATA)).isSameAs(resolved);
+    assertThat(sameKey.resolutions.get()).isEqualTo(0);
+    assertThat(test.resolve(new TestTarget("B"), REF_DATA)).isEqualTo(new ResolvedTestTarget("B"));
+    assertThat(keyCount.get()).isEqualTo(3);
+    assertThat(target.comparisons.get()).isEqualTo(0);
+    assertThat(test.getHitCount()).isEqualTo(1);
+    assertThat(test.getMissCount()).isEqualTo(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> ResolvedTargetCache.of(10, null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ResolvedTargetCache.of(10, t -> null).resolve(target, REF_DATA));
+  }
+
+  @Test
+  public void test_resolve_differentReferenceData() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    TestTarget target = new TestTarget("A");
+    CalculationTarget resolved = test.resolve(target, REF_DATA);
+    ReferenceData otherRefData = ReferenceData.of(ImmutableMap.of());
+    assertThat(test.resolve(target, otherRefData)).isNotSameAs(resolved);
+    assertThat(target.resolutions.get()).isEqualTo(2);
+    assertThat(test.getMissCount()).isEqualTo(2);
+    assertThat(test.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_resolve_failure() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    TestTarget target = new TestTarget("Fail");
+    assertThatIllegalStateException().isThrownBy(() -> test.resolve(target, REF_DATA));
+    assertThatIllegalStateException().isThrownBy(() -> test.resolve(target, REF_DATA));
+    assertThat(test.getMissCount()).isEqualTo(2);
+    assertThat(test.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_eviction() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(2);
+    TestTarget targetA = new TestTarget("A");
+    TestTarget targetB = new TestTarget("B");
+    TestTarget targetC = new TestTarget("C");
+    test.resolve(targetA, REF_DATA);
+    test.resolve(targetB, REF_DATA);
+    // A is now more recently used than B
+    test.resolve(targetA, REF_DATA);
+    test.resolve(targetC, REF_DATA);
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.getEvictionCount()).isEqualTo(1);
+    test.resolve(targetA, REF_DATA);
+    test.resolve(targetB, REF_DATA);
+    assertThat(targetA.resolutions.get()).isEqualTo(1);
+    assertThat(targetB.resolutions.get()).isEqualTo(2);
+    assertThat(test.toString()).isEqualTo("ResolvedTargetCache[size=2, maxSize=2, hits=2, misses=4, evictions=2]");
+
+    test.clear();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.getHitCount()).isEqualTo(2);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_calculationTasks() {
+    ResolvedTargetCache cache = ResolvedTargetCache.of(10);
+    TestTarget target = new TestTarget("A");
+    TestTarget failing = new TestTarget("Fail");
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    List<TestTarget> targets = ImmutableList.of(target, failing);
+    List<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationTasks tasks1 = CalculationTasks.of(rules, targets, columns, REF_DATA, cache);
+    CalculationTasks tasks2 = CalculationTasks.of(rules, targets, columns, REF_DATA, cache);
+    assertThat(tasks2.getTasks().get(0).getTarget()).isSameAs(tasks1.getTasks().get(0).getTarget());
+    assertThat(tasks2.getTasks().get(1).getTarget()).isInstanceOf(UnresolvableTarget.class);
+    assertThat(target.resolutions.get()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  //-------------------------------------------------------------------------
+  // a target that counts the number of times it is resolved
+  private static final class TestTarget implements ResolvableCalculationTarget {
+
+    private final String name;
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final AtomicInteger comparisons = new AtomicInteger();
+
+    private TestTarget(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public CalculationTarget resolveTarget(ReferenceData refData) {
+      resolutions.incrementAndGet();
+      if (name.equals("Fail")) {
+        throw new IllegalStateException("Unable to resolve");
+      }
+      return new ResolvedTestTarget(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      comparisons.incrementAndGet();
+      return obj instanceof TestTarget && ((TestTarget) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      comparisons.incrementAndGet();
+      return name.hashCode();
+    }
+  }
+
+  // the resolved form of the target
+  private static final class ResolvedTestTarget implements CalculationTarget {
+
+    private final String name;
+
+    private ResolvedTestTarget(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ResolvedTestTarget && ((ResolvedTestTarget) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+
+}
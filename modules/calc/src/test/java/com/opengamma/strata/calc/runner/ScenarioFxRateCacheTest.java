@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.JPY;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataNotFoundException;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ScenarioFxRateCache}.
+ */
+public class ScenarioFxRateCacheTest {
+
+  private static final ScenarioMarketData MARKET_DATA = ImmutableScenarioMarketData.builder(date(2011, 3, 8))
+      .addScenarioValue(FxRateId.of(GBP, USD), ImmutableList.of(FxRate.of(GBP, USD, 1.61), FxRate.of(GBP, USD, 1.62)))
+      .addScenarioValue(FxRateId.of(EUR, USD), ImmutableList.of(FxRate.of(EUR, USD, 1.11), FxRate.of(EUR, USD, 1.12)))
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_fxRates() {
+    ScenarioFxRateCache test = ScenarioFxRateCache.of(MARKET_DATA);
+    ScenarioFxRateProvider provider = test.fxRateProvider(Optional.empty());
+    ScenarioFxRateProvider expected = ScenarioFxRateProvider.of(MARKET_DATA);
+    assertThat(provider.getScenarioCount()).isEqualTo(2);
+    assertThat(provider.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.61, 1.62));
+    assertThat(provider.fxRates(USD, USD)).isEqualTo(DoubleArray.of(1, 1));
+    assertThat(provider.fxRate(GBP, GBP, 1)).isEqualTo(1d);
+    assertThat(provider.fxRate(USD, GBP, 1)).isEqualTo(expected.fxRate(USD, GBP, 1));
+    assertThat(provider.fxRateProvider(1).fxRate(GBP, USD)).isEqualTo(1.62);
+    // triangulated
+    assertThat(provider.fxRates(GBP, EUR)).isEqualTo(expected.fxRates(GBP, EUR));
+    assertThat(test.fxRateProvider(Optional.empty())).isSameAs(provider);
+  }
+
+  @Test
+  public void test_fxRates_missing() {
+    ScenarioFxRateProvider provider = ScenarioFxRateCache.of(MARKET_DATA).fxRateProvider(Optional.empty());
+    assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> provider.fxRates(GBP, JPY));
+    assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> provider.fxRate(GBP, JPY, 0));
+  }
+
+  @Test
+  public void test_fxRates_lookedUpOnce() {
+    AtomicInteger lookups = new AtomicInteger();
+    FxRateLookup lookup = new FxRateLookup() {
+      @Override
+      public FxRateProvider fxRateProvider(MarketData marketData) {
+        lookups.incrementAndGet();
+        return FxRateLookup.ofRates().fxRateProvider(marketData);
+      }
+    };
+    ScenarioFxRateCache test = ScenarioFxRateCache.of(MARKET_DATA);
+    ScenarioFxRateProvider provider = test.fxRateProvider(Optional.of(lookup));
+    assertThat(test.fxRateProvider(Optional.of(lookup))).isSameAs(provider);
+    assertThat(test.fxRateProvider(Optional.empty())).isNotSameAs(provider);
+    for (int i = 0; i < 3; i++) {
+      CurrencyScenarioArray converted = CurrencyScenarioArray.of(GBP, DoubleArray.of(10, 20)).convertedTo(USD, provider);
+      assertThat(converted.get(0).getAmount()).isCloseTo(16.1, offset(1e-12));
+      assertThat(converted.get(1).getAmount()).isCloseTo(32.4, offset(1e-12));
+    }
+    // one lookup for each scenario, when the rates of the currency pair are first used
+    assertThat(lookups.get()).isEqualTo(2);
+
+    MultiCurrencyScenarioArray multi = MultiCurrencyScenarioArray.of(
+        ImmutableMap.of(GBP, DoubleArray.of(10, 20), USD, DoubleArray.of(1, 2)));
+    CurrencyScenarioArray converted = multi.convertedTo(USD, provider);
+    assertThat(converted.get(0).getAmount()).isCloseTo(17.1, offset(1e-12));
+    assertThat(converted.get(1).getAmount()).isCloseTo(34.4, offset(1e-12));
+    assertThat(lookups.get()).isEqualTo(2);
+  }
+
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * A cursor over the rows of a {@link MappedCsvFile}.
+ * <p>
+ * The cursor is positioned before the first row when created, and {@link #next()} moves to the next row.
+ * The methods that access the fields refer to the current row.
+ * <pre>
+ *  MappedCsvCursor cursor = file.cursor();
+ *  while (cursor.next()) {
+ *    LocalDate date = cursor.getLocalDate(dateIndex);
+ *    double value = cursor.getDouble(valueIndex);
+ *  }
+ * </pre>
+ * The fields of the current row are located within the mapped file rather than copied.
+ * The {@code CharSequence} returned by {@link #field(int)} is a view of the mapped file,
+ * and numbers and dates are parsed without creating a {@code String} where possible.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * To parse a file in parallel, {@linkplain MappedCsvFile#split(int) split} it and use one cursor per chunk.
+ */
+public final class MappedCsvCursor {
+
+  /**
+   * The powers of ten that can be represented exactly.
+   */
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+  /**
+   * The largest mantissa that can be represented exactly.
+   */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  /**
+   * The header row, ordered as the headers appear in the file.
+   */
+  private final ImmutableList<String> headers;
+  /**
+   * The header map, transformed for case-insensitive searching.
+   */
+  private final ImmutableMap<String, Integer> searchHeaders;
+  /**
+   * The separator.
+   */
+  private final byte separator;
+  /**
+   * The mapped segments.
+   */
+  private final ImmutableList<ByteBuffer> segments;
+  /**
+   * The index of the current segment.
+   */
+  private int segmentIndex;
+  /**
+   * The current segment, null if there are no segments.
+   */
+  private ByteBuffer buffer;
+  /**
+   * The position of the next line in the current segment.
+   */
+  private int position;
+  /**
+   * The line number of the next line.
+   */
+  private int nextLineNumber;
+  /**
+   * The line number of the current row.
+   */
+  private int lineNumber;
+  /**
+   * The number of fields in the current row, when tokenized in place.
+   */
+  private int fieldCount;
+  /**
+   * The start of each field in the current row, when tokenized in place.
+   */
+  private int[] fieldStarts = new int[16];
+  /**
+   * The end of each field in the current row, when tokenized in place.
+   */
+  private int[] fieldEnds = new int[16];
+  /**
+   * The fields of the current row, when it could not be tokenized in place.
+   */
+  private ImmutableList<String> parsedFields;
+
+  // creates an instance
+  MappedCsvCursor(
+      ImmutableList<String> headers,
+      ImmutableMap<String, Integer> searchHeaders,
+      char separator,
+      ImmutableList<ByteBuffer> segments,
+      int firstLineNumber) {
+
+    this.headers = headers;
+    this.searchHeaders = searchHeaders;
+    this.separator = (byte) separator;
+    this.segments = segments;
+    this.buffer = segments.isEmpty() ? null : segments.get(0);
+    this.nextLineNumber = firstLineNumber;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Moves to the next row.
+   * <p>
+   * Blank lines and comment lines are skipped, as per {@link CsvFile}.
+   *
+   * @return true if there is another row, false if the end of the file has been reached
+   */
+  public boolean next() {
+    while (buffer != null) {
+      int limit = buffer.limit();
+      if (position >= limit) {
+        segmentIndex++;
+        buffer = segmentIndex < segments.size() ? segments.get(segmentIndex) : null;
+        position = 0;
+        continue;
+      }
+      int start = position;
+      int end = start;
+      while (end < limit && buffer.get(end) != '\n' && buffer.get(end) != '\r') {
+        end++;
+      }
+      position = end + 1;
+      if (end + 1 < limit && buffer.get(end) == '\r' && buffer.get(end + 1) == '\n') {
+        position++;
+      }
+      lineNumber = nextLineNumber++;
+      if (tokenize(start, end)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // tokenizes the line, returning false if there is no content
+  private boolean tokenize(int start, int end) {
+    fieldCount = 0;
+    parsedFields = null;
+    if (start == end) {
+      return false;
+    }
+    byte first = buffer.get(start);
+    if (first == '#' || (first == ';' && separator != ';')) {
+      return false;
+    }
+    boolean content = false;
+    int fieldStart = start;
+    for (int i = start; i < end; i++) {
+      byte b = buffer.get(i);
+      if (b == separator) {
+        content |= addField(fieldStart, i);
+        fieldStart = i + 1;
+      } else if (b == '"' || b < 0) {
+        // quotes and non-ASCII characters are handled by the standard parser
+        byte[] bytes = new byte[end - start];
+        for (int j = 0; j < bytes.length; j++) {
+          bytes[j] = buffer.get(start + j);
+        }
+        fieldCount = 0;
+        parsedFields = CsvFile.parseLine(new String(bytes, StandardCharsets.UTF_8), (char) separator);
+        return !parsedFields.isEmpty();
+      }
+    }
+    content |= addField(fieldStart, end);
+    return content;
+  }
+
+  // adds a field, trimming whitespace, returning true if not empty
+  private boolean addField(int start, int end) {
+    int trimmedStart = start;
+    int trimmedEnd = end;
+    while (trimmedStart < trimmedEnd && buffer.get(trimmedStart) <= ' ') {
+      trimmedStart++;
+    }
+    while (trimmedEnd > trimmedStart && buffer.get(trimmedEnd - 1) <= ' ') {
+      trimmedEnd--;
+    }
+    if (fieldCount == fieldStarts.length) {
+      fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+      fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+    }
+    fieldStarts[fieldCount] = trimmedStart;
+    fieldEnds[fieldCount] = trimmedEnd;
+    fieldCount++;
+    return trimmedStart < trimmedEnd;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the header row.
+   * <p>
+   * If there is no header row, an empty list is returned.
+   *
+   * @return the header row
+   */
+  public ImmutableList<String> headers() {
+    return headers;
+  }
+
+  /**
+   * Gets the line number of the current row in the source file.
+   *
+   * @return the line number
+   */
+  public int lineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Gets the number of fields in the current row.
+   * <p>
+   * This will never be less than the number of headers.
+   *
+   * @return the number of fields
+   */
+  public int fieldCount() {
+    return Math.max(parsedFields != null ? parsedFields.size() : fieldCount, headers.size());
+  }
+
+  /**
+   * Gets the specified field of the current row.
+   * <p>
+   * The result is a view of the mapped file where possible, thus it must not be retained
+   * after the cursor is moved. Use {@link #getField(int)} to obtain a {@code String}.
+   *
+   * @param index  the field index
+   * @return the field, trimmed unless surrounded by quotes
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  public CharSequence field(int index) {
+    if (parsedFields != null) {
+      return index >= parsedFields.size() && index < headers.size() ? "" : parsedFields.get(index);
+    }
+    if (index >= fieldCount) {
+      if (index < headers.size()) {
+        return "";
+      }
+      throw new IndexOutOfBoundsException("Invalid field index: " + index);
+    }
+    int start = fieldStarts[index];
+    int end = fieldEnds[index];
+    return start == end ? "" : new AsciiSequence(buffer, start, end);
+  }
+
+  /**
+   * Gets the specified field of the current row as a {@code String}.
+   *
+   * @param index  the field index
+   * @return the field, trimmed unless surrounded by quotes
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  public String getField(int index) {
+    return field(index).toString();
+  }
+
+  /**
+   * Gets the specified field of the current row as a {@code double}.
+   * <p>
+   * The field is parsed as per {@link Double#parseDouble(String)}.
+   * Plain decimal numbers, such as those typically found in market data files,
+   * are parsed directly from the mapped file.
+   *
+   * @param index  the field index
+   * @return the parsed value
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   * @throws NumberFormatException if the field cannot be parsed
+   */
+  public double getDouble(int index) {
+    if (parsedFields == null && index < fieldCount) {
+      double value = parseDouble(buffer, fieldStarts[index], fieldEnds[index]);
+      if (!Double.isNaN(value)) {
+        return value;
+      }
+    }
+    return Double.parseDouble(getField(index));
+  }
+
+  /**
+   * Gets the specified field of the current row as a date in ISO-8601 format.
+   * <p>
+   * The field is parsed as per {@link LocalDate#parse(CharSequence)}.
+   *
+   * @param index  the field index
+   * @return the parsed date
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   * @throws RuntimeException if the field cannot be parsed
+   */
+  public LocalDate getLocalDate(int index) {
+    return getLocalDate(index, LocalDate::parse);
+  }
+
+  /**
+   * Gets the specified field of the current row as a date, using a parser for formats other than ISO-8601.
+   * <p>
+   * Valid dates in the format 'yyyy-MM-dd' are parsed directly from the mapped file.
+   * Other formats, and invalid dates, are passed to the specified parser.
+   *
+   * @param index  the field index
+   * @param parser  the parser for formats other than 'yyyy-MM-dd'
+   * @return the parsed date
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   * @throws RuntimeException if the field cannot be parsed
+   */
+  public LocalDate getLocalDate(int index, Function<String, LocalDate> parser) {
+    if (parsedFields == null && index < fieldCount && fieldEnds[index] - fieldStarts[index] == 10) {
+      int start = fieldStarts[index];
+      if (buffer.get(start + 4) == '-' && buffer.get(start + 7) == '-') {
+        int year = parseDigits(buffer, start, start + 4);
+        int month = parseDigits(buffer, start + 5, start + 7);
+        int day = parseDigits(buffer, start + 8, start + 10);
+        if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year))) {
+          return LocalDate.of(year, month, day);
+        }
+      }
+    }
+    return parser.apply(getField(index));
+  }
+
+  /**
+   * Converts the current row to a {@code CsvRow}.
+   * <p>
+   * This creates a {@code String} for each field.
+   *
+   * @return the row
+   */
+  public CsvRow toCsvRow() {
+    ImmutableList<String> fields = parsedFields;
+    if (fields == null) {
+      ImmutableList.Builder<String> builder = ImmutableList.builderWithExpectedSize(fieldCount);
+      for (int i = 0; i < fieldCount; i++) {
+        builder.add(getField(i));
+      }
+      fields = builder.build();
+    }
+    return new CsvRow(headers, searchHeaders, lineNumber, fields);
+  }
+
+  // the segments after the current position
+  ImmutableList<ByteBuffer> remainingSegments() {
+    if (buffer == null) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<ByteBuffer> builder = ImmutableList.builder();
+    if (position < buffer.limit()) {
+      builder.add(MappedCsvFile.slice(buffer, position, buffer.limit()));
+    }
+    builder.addAll(segments.subList(segmentIndex + 1, segments.size()));
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  // parses a plain decimal number, returning NaN if the format requires the standard parser
+  // a mantissa and power of ten that are both exact are combined with a single correctly rounded operation
+  static double parseDouble(ByteBuffer buf, int start, int end) {
+    int pos = start;
+    boolean negative = false;
+    if (pos < end && (buf.get(pos) == '-' || buf.get(pos) == '+')) {
+      negative = buf.get(pos) == '-';
+      pos++;
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean digits = false;
+    boolean decimalPoint = false;
+    for (; pos < end; pos++) {
+      byte b = buf.get(pos);
+      if (b >= '0' && b <= '9') {
+        digits = true;
+        if (mantissa != 0 || b != '0') {
+          if (++significantDigits > 18) {
+            return Double.NaN;
+          }
+          mantissa = mantissa * 10 + (b - '0');
+        }
+        if (decimalPoint) {
+          exponent--;
+        }
+      } else if (b == '.' && !decimalPoint) {
+        decimalPoint = true;
+      } else {
+        break;
+      }
+    }
+    if (!digits) {
+      return Double.NaN;
+    }
+    if (pos < end && (buf.get(pos) == 'e' || buf.get(pos) == 'E')) {
+      pos++;
+      boolean negativeExponent = false;
+      if (pos < end && (buf.get(pos) == '-' || buf.get(pos) == '+')) {
+        negativeExponent = buf.get(pos) == '-';
+        pos++;
+      }
+      if (pos == end || end - pos > 3) {
+        return Double.NaN;
+      }
+      int explicitExponent = parseDigits(buf, pos, end);
+      if (explicitExponent < 0) {
+        return Double.NaN;
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+      pos = end;
+    }
+    if (pos != end || mantissa > MAX_EXACT_MANTISSA) {
+      return Double.NaN;
+    }
+    double value;
+    if (mantissa == 0) {
+      value = 0d;
+    } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+      value = mantissa * POWERS_OF_TEN[exponent];
+    } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-exponent];
+    } else {
+      return Double.NaN;
+    }
+    return negative ? -value : value;
+  }
+
+  // parses ASCII digits, returning -1 if a character is not a digit
+  private static int parseDigits(ByteBuffer buf, int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      byte b = buf.get(i);
+      if (b < '0' || b > '9') {
+        return -1;
+      }
+      value = value * 10 + (b - '0');
+    }
+    return value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a string describing the cursor.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return "MappedCsvCursor[line " + lineNumber + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // a view of ASCII bytes as characters
+  private static final class AsciiSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    private AsciiSequence(ByteBuffer buffer, int start, int end) {
+      this.buffer = buffer;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (index < 0 || index >= end - start) {
+        throw new IndexOutOfBoundsException("Invalid index: " + index);
+      }
+      return (char) buffer.get(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int subStart, int subEnd) {
+      if (subStart < 0 || subEnd > end - start || subStart > subEnd) {
+        throw new IndexOutOfBoundsException("Invalid range: " + subStart + " to " + subEnd);
+      }
+      return new AsciiSequence(buffer, start + subStart, start + subEnd);
+    }
+
+    @Override
+    public String toString() {
+      char[] chars = new char[end - start];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = (char) buffer.get(start + i);
+      }
+      return new String(chars);
+    }
+  }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.ParseFailureException;
+
+/**
+ * A CSV file that is memory-mapped and parsed in place.
+ * <p>
+ * This provides access to the rows of a large CSV file without reading it through a {@code Reader}.
+ * The file is mapped into memory using NIO, and each row is tokenized directly from the mapped bytes.
+ * The rows are accessed using a {@link MappedCsvCursor}, which is reused from one row to the next.
+ * Fields are exposed as {@code CharSequence} views of the mapped bytes, and numbers and dates can
+ * be parsed without creating a {@code String}. Where necessary, a row can be converted to a {@link CsvRow}.
+ * <p>
+ * The file can be {@linkplain #split(int) split} into chunks at line boundaries,
+ * allowing the chunks to be parsed in parallel.
+ * <p>
+ * The file must be encoded in UTF-8, with an optional byte order mark.
+ * The CSV format is as per {@link CsvFile}, including the handling of comments and blank lines.
+ * Rows that consist only of ASCII characters without quotes are tokenized in place, other rows are
+ * decoded and parsed as per {@link CsvFile}.
+ * <p>
+ * This class is immutable and thread-safe, however the file must not be modified while it is mapped.
+ */
+public final class MappedCsvFile {
+
+  /**
+   * The maximum size of a mapped segment.
+   */
+  private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+  /**
+   * The header row, ordered as the headers appear in the file.
+   */
+  private final ImmutableList<String> headers;
+  /**
+   * The header map, transformed for case-insensitive searching.
+   */
+  private final ImmutableMap<String, Integer> searchHeaders;
+  /**
+   * The separator.
+   */
+  private final char separator;
+  /**
+   * The mapped segments, each of which ends at the end of a line or the end of the file.
+   */
+  private final ImmutableList<ByteBuffer> segments;
+  /**
+   * The line number of the first line in the segments.
+   */
+  private final int firstLineNumber;
+
+  //------------------------------------------------------------------------
+  /**
+   * Maps the specified file as a CSV file, using a comma as the separator.
+   *
+   * @param path  the path of the file
+   * @param headerRow  whether the file has a header row, an empty file must still contain the header
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static MappedCsvFile of(Path path, boolean headerRow) {
+    return of(path, headerRow, ',');
+  }
+
+  /**
+   * Maps the specified file as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * The separator must be an ASCII character.
+   *
+   * @param path  the path of the file
+   * @param headerRow  whether the file has a header row, an empty file must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static MappedCsvFile of(Path path, boolean headerRow, char separator) {
+    return of(path, headerRow, separator, MAX_SEGMENT_SIZE);
+  }
+
+  // maps the file, package-scoped for testing
+  static MappedCsvFile of(Path path, boolean headerRow, char separator, int maxSegmentSize) {
+    ArgChecker.notNull(path, "path");
+    ArgChecker.isTrue(separator < 128 && separator != '"', "Separator must be an ASCII character other than quote");
+    ImmutableList<ByteBuffer> segments = map(path, maxSegmentSize);
+    if (!headerRow) {
+      return new MappedCsvFile(ImmutableList.of(), ImmutableMap.of(), separator, segments, 1);
+    }
+    MappedCsvCursor cursor = new MappedCsvCursor(ImmutableList.of(), ImmutableMap.of(), separator, segments, 1);
+    if (!cursor.next()) {
+      throw new IllegalArgumentException("Could not read header row from empty CSV file");
+    }
+    ImmutableList<String> headers = cursor.toCsvRow().fields();
+    return new MappedCsvFile(
+        headers,
+        CsvFile.buildSearchHeaders(headers),
+        separator,
+        cursor.remainingSegments(),
+        cursor.lineNumber() + 1);
+  }
+
+  // maps the file in segments that end at line boundaries
+  private static ImmutableList<ByteBuffer> map(Path path, int maxSegmentSize) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long pos = skipByteOrderMark(channel, size);
+      ImmutableList.Builder<ByteBuffer> segments = ImmutableList.builder();
+      while (pos < size) {
+        int length = (int) Math.min(maxSegmentSize, size - pos);
+        ByteBuffer mapped = channel.map(MapMode.READ_ONLY, pos, length);
+        if (pos + length < size) {
+          length = lastLineEnd(mapped, length);
+          mapped = slice(mapped, 0, length);
+        }
+        segments.add(mapped);
+        pos += length;
+      }
+      return segments.build();
+
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // skips the UTF-8 byte order mark if present
+  private static long skipByteOrderMark(FileChannel channel, long size) throws IOException {
+    if (size < 3) {
+      return 0;
+    }
+    ByteBuffer bom = ByteBuffer.allocate(3);
+    channel.read(bom, 0);
+    return bom.get(0) == (byte) 0xEF && bom.get(1) == (byte) 0xBB && bom.get(2) == (byte) 0xBF ? 3 : 0;
+  }
+
+  // finds the end of the last complete line in the buffer
+  private static int lastLineEnd(ByteBuffer buf, int length) {
+    for (int i = length - 1; i >= 0; i--) {
+      if (buf.get(i) == '\n') {
+        return i + 1;
+      }
+    }
+    throw new IllegalArgumentException("CSV file contains a line that is too long to be mapped");
+  }
+
+  // slices the buffer
+  static ByteBuffer slice(ByteBuffer buf, int start, int end) {
+    ByteBuffer duplicate = buf.duplicate();
+    duplicate.limit(end);
+    duplicate.position(start);
+    return duplicate.slice();
+  }
+
+  //------------------------------------------------------------------------
+  // restricted constructor
+  private MappedCsvFile(
+      ImmutableList<String> headers,
+      ImmutableMap<String, Integer> searchHeaders,
+      char separator,
+      ImmutableList<ByteBuffer> segments,
+      int firstLineNumber) {
+
+    this.headers = headers;
+    this.searchHeaders = searchHeaders;
+    this.separator = separator;
+    this.segments = segments;
+    this.firstLineNumber = firstLineNumber;
+  }
+
+  //------------------------------------------------------------------------
+  /**
+   * Gets the header row.
+   * <p>
+   * If there is no header row, an empty list is returned.
+   *
+   * @return the header row
+   */
+  public ImmutableList<String> headers() {
+    return headers;
+  }
+
+  /**
+   * Checks if the header is present in the file.
+   * <p>
+   * Matching is case insensitive.
+   *
+   * @param header  the column header to match
+   * @return true if the header is present
+   */
+  public boolean containsHeader(String header) {
+    return searchHeaders.containsKey(header.toLowerCase(Locale.ENGLISH));
+  }
+
+  /**
+   * Gets the index of the specified header.
+   * <p>
+   * This returns the index of the first column where the header matches the specified header.
+   * Matching is case insensitive. The index is used to access the fields of a {@link MappedCsvCursor}.
+   *
+   * @param header  the column header to match
+   * @return the index of the column
+   * @throws ParseFailureException if the header is not found
+   */
+  public int headerIndex(String header) {
+    Integer index = searchHeaders.get(header.toLowerCase(Locale.ENGLISH));
+    if (index == null) {
+      throw new ParseFailureException("Header not found: '{header}'", header);
+    }
+    return index;
+  }
+
+  /**
+   * Gets the number of bytes in the file, excluding the header row.
+   *
+   * @return the size in bytes
+   */
+  public long size() {
+    long size = 0;
+    for (ByteBuffer segment : segments) {
+      size += segment.limit();
+    }
+    return size;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a new cursor over the rows of the file.
+   * <p>
+   * The cursor is positioned before the first row.
+   * Each call to this method returns an independent cursor.
+   *
+   * @return the cursor
+   */
+  public MappedCsvCursor cursor() {
+    return new MappedCsvCursor(headers, searchHeaders, separator, segments, firstLineNumber);
+  }
+
+  /**
+   * Splits the file into chunks that can be parsed independently.
+   * <p>
+   * The rows of the file are divided into the specified number of chunks of similar size.
+   * Each chunk has the same headers as this file, and reports line numbers relative to the whole file.
+   * The chunks are returned in the order of the file, and fewer chunks are returned if the file is small.
+   *
+   * @param chunkCount  the number of chunks, typically the number of threads
+   * @return the chunks
+   */
+  public ImmutableList<MappedCsvFile> split(int chunkCount) {
+    ArgChecker.notNegativeOrZero(chunkCount, "chunkCount");
+    long size = size();
+    long targetSize = Math.max((size + chunkCount - 1) / chunkCount, 1);
+    // find the boundaries, each of which is the start of a line
+    List<List<ByteBuffer>> chunkSegments = new ArrayList<>();
+    List<ByteBuffer> current = new ArrayList<>();
+    long currentSize = 0;
+    for (ByteBuffer segment : segments) {
+      int start = 0;
+      int limit = segment.limit();
+      while (start < limit) {
+        long required = targetSize - currentSize;
+        if (limit - start <= required || chunkSegments.size() == chunkCount - 1) {
+          current.add(slice(segment, start, limit));
+          currentSize += limit - start;
+          break;
+        }
+        int end = nextLineStart(segment, start + (int) required);
+        current.add(slice(segment, start, end));
+        chunkSegments.add(current);
+        current = new ArrayList<>();
+        currentSize = 0;
+        start = end;
+      }
+    }
+    if (!current.isEmpty()) {
+      chunkSegments.add(current);
+    }
+    // determine the first line number of each chunk
+    int[] lineCounts = IntStream.range(0, chunkSegments.size())
+        .parallel()
+        .map(i -> countLines(chunkSegments.get(i)))
+        .toArray();
+    ImmutableList.Builder<MappedCsvFile> chunks = ImmutableList.builder();
+    int lineNumber = firstLineNumber;
+    for (int i = 0; i < chunkSegments.size(); i++) {
+      chunks.add(new MappedCsvFile(
+          headers, searchHeaders, separator, ImmutableList.copyOf(chunkSegments.get(i)), lineNumber));
+      lineNumber += lineCounts[i];
+    }
+    return chunks.build();
+  }
+
+  // finds the start of the line following the specified position
+  private static int nextLineStart(ByteBuffer buf, int pos) {
+    int limit = buf.limit();
+    for (int i = Math.max(pos - 1, 0); i < limit; i++) {
+      byte b = buf.get(i);
+      if (b == '\n') {
+        return i + 1;
+      } else if (b == '\r' && (i + 1 == limit || buf.get(i + 1) != '\n')) {
+        return i + 1;
+      }
+    }
+    return limit;
+  }
+
+  // counts the line terminators
+  private static int countLines(List<ByteBuffer> buffers) {
+    int count = 0;
+    for (ByteBuffer buf : buffers) {
+      int limit = buf.limit();
+      for (int i = 0; i < limit; i++) {
+        byte b = buf.get(i);
+        if (b == '\n' || (b == '\r' && (i + 1 == limit || buf.get(i + 1) != '\n'))) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a string describing the CSV file.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return "MappedCsvFile" + headers.toString();
+  }
+
+}
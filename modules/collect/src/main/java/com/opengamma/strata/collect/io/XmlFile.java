@@ -9,6 +9,8 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 
 import javax.xml.stream.XMLInputFactory;
@@ -108,7 +110,7 @@ public final class XmlFile {
         XMLStreamReader xmlReader = XML_FACTORY.createXMLStreamReader(in);
         try {
           HashMap<String, XmlElement> refs = new HashMap<>();
-          XmlElement root = parse(xmlReader, refAttrName, refs);
+          XmlElement root = parse(xmlReader, refAttrName, refs, name -> false);
           return new XmlFile(root, refs);
         } finally {
           xmlReader.close();
@@ -147,6 +149,80 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file, excluding the content of selected elements.
+   * <p>
+   * This behaves as per {@link #of(ByteSource, String)}, except that elements whose name matches
+   * the predicate are not parsed. Each such element is represented by an element with the same
+   * name and attributes but no children or content, and is not added to the map of references.
+   * <p>
+   * This is intended to obtain the structure of a file whose bulk consists of repeated elements,
+   * such as trades, with the repeated elements processed by
+   * {@link #parseElements(ByteSource, String, Predicate, BiConsumer)}.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param excludeFn  the predicate matching the names of the elements to exclude
+   * @return the parsed file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static XmlFile parseExcluding(ByteSource source, String refAttrName, Predicate<String> excludeFn) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(excludeFn, "excludeFn");
+    return Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = XML_FACTORY.createXMLStreamReader(in);
+        try {
+          HashMap<String, XmlElement> refs = new HashMap<>();
+          XmlElement root = parse(xmlReader, refAttrName, refs, excludeFn);
+          return new XmlFile(root, refs);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
+  /**
+   * Parses the selected elements from the specified source, passing each to a consumer.
+   * <p>
+   * This parses the specified byte source expecting an XML file format, without creating an
+   * in-memory representation of the whole file. Each element whose name matches the predicate is
+   * parsed in full and passed to the consumer, together with the references found within it.
+   * Once an element has been matched, the elements within it are not matched separately.
+   * All other elements are skipped.
+   * <p>
+   * Only one matched element is held in memory at a time, allowing large files to be processed.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param selectFn  the predicate matching the names of the elements to parse
+   * @param consumer  the consumer of each parsed element and the references within it
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static void parseElements(
+      ByteSource source,
+      String refAttrName,
+      Predicate<String> selectFn,
+      BiConsumer<XmlElement, ImmutableMap<String, XmlElement>> consumer) {
+
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(selectFn, "selectFn");
+    ArgChecker.notNull(consumer, "consumer");
+    Unchecked.wrap(() -> {
+      try (InputStream in = source.openBufferedStream()) {
+        XMLStreamReader xmlReader = XML_FACTORY.createXMLStreamReader(in);
+        try {
+          parseElements(xmlReader, refAttrName, selectFn, consumer);
+        } finally {
+          xmlReader.close();
+        }
+      }
+    });
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the tree from the StAX stream reader, capturing references.
@@ -160,10 +236,16 @@ public final class XmlFile {
    * @param reader  the StAX stream reader, positioned at or before the element to be parsed
    * @param refAttr  the attribute name that should be parsed as a reference, null if not applicable
    * @param refs  the mutable map of references to update, null if not applicable
+   * @param excludeFn  the predicate matching the names of child elements to exclude
    * @return the parsed element
    * @throws IllegalArgumentException if the input cannot be parsed
    */
-  private static XmlElement parse(XMLStreamReader reader, String refAttr, Map<String, XmlElement> refs) {
+  private static XmlElement parse(
+      XMLStreamReader reader,
+      String refAttr,
+      Map<String, XmlElement> refs,
+      Predicate<String> excludeFn) {
+
     try {
       // parse start element
       String elementName = parseElementName(reader);
@@ -177,7 +259,11 @@ public final class XmlFile {
         switch (event) {
           // parse child when start element found
           case XMLStreamConstants.START_ELEMENT:
-            childBuilder.add(parse(reader, refAttr, refs));
+            if (excludeFn.test(reader.getLocalName())) {
+              childBuilder.add(parseExcluded(reader));
+            } else {
+              childBuilder.add(parse(reader, refAttr, refs, excludeFn));
+            }
             break;
           // append content when characters found
           // since XMLStreamReader has IS_COALESCING=true means there should only be one content call
@@ -205,6 +291,38 @@ public final class XmlFile {
     }
   }
 
+  // parses the name and attributes of an excluded element, skipping the children and content
+  private static XmlElement parseExcluded(XMLStreamReader reader) throws XMLStreamException {
+    String elementName = reader.getLocalName();
+    ImmutableMap<String, String> attrs = parseAttributes(reader);
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+    return XmlElement.ofContent(elementName, attrs, "");
+  }
+
+  // parses the selected elements from the input, skipping all other elements
+  private static void parseElements(
+      XMLStreamReader reader,
+      String refAttr,
+      Predicate<String> selectFn,
+      BiConsumer<XmlElement, ImmutableMap<String, XmlElement>> consumer) throws XMLStreamException {
+
+    while (reader.hasNext()) {
+      if (reader.next() == XMLStreamConstants.START_ELEMENT && selectFn.test(reader.getLocalName())) {
+        Map<String, XmlElement> refs = new HashMap<>();
+        XmlElement parsed = parse(reader, refAttr, refs, name -> false);
+        consumer.accept(parsed, ImmutableMap.copyOf(refs));
+      }
+    }
+  }
+
   // parses the element structure from the input, filtering as necessary
   private static XmlElement parseElements(XMLStreamReader reader, ToIntFunction<String> filterFn, int currentLevel) {
     try {
@@ -82,6 +82,7 @@ public final class FailureItem
    * Stack trace where the failure occurred.
    * If the failure was caused by an {@code Exception} its stack trace is used, otherwise it's the
    * location where the failure was created.
+   * The location is omitted if {@link FailureStackTraces} suppresses the reason.
    */
   @PropertyDefinition(validate = "notNull")
   private final String stackTrace;
@@ -105,6 +106,7 @@ public final class FailureItem
    * <p>
    * An exception will be created internally to obtain a stack trace.
    * The cause type will not be present in the resulting failure.
+   * The stack is not captured if {@link FailureStackTraces} suppresses the reason.
    * 
    * @param reason  the reason
    * @param message  a message explaining the failure, not empty, uses "{}" for inserting {@code messageArgs}
@@ -131,7 +133,7 @@ public final class FailureItem
     ArgChecker.notNull(reason, "reason");
     ArgChecker.notEmpty(message, "message");
     Pair<String, Map<String, String>> messageArgPair = Messages.formatWithAttributes(message, messageArgs);
-    String stackTrace = localGetStackTraceAsString(messageArgPair.getFirst(), skipFrames);
+    String stackTrace = localGetStackTraceAsString(reason, messageArgPair.getFirst(), skipFrames);
     return new FailureItem(reason, messageArgPair.getFirst(), messageArgPair.getSecond(), stackTrace, null);
   }
 
@@ -148,20 +150,20 @@ public final class FailureItem
   private static FailureItem of(FailureReason reason, String message, Map<String, String> attributes) {
     ArgChecker.notNull(reason, "reason");
     ArgChecker.notEmpty(message, "message");
-    String stackTrace = localGetStackTraceAsString(message, 1);
+    String stackTrace = localGetStackTraceAsString(reason, message, 1);
     return new FailureItem(reason, message, attributes, stackTrace, null);
   }
 
-  private static String localGetStackTraceAsString(String message, int skipFrames) {
-    StringBuilder builder = new StringBuilder();
-    StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+  // identical stack traces are formatted once, see FailureStackTraces
+  private static String localGetStackTraceAsString(FailureReason reason, String message, int skipFrames) {
     // simulate full stack trace, pretending this class is a Throwable subclass
-    builder.append(FAILURE_EXCEPTION).append(message).append("\n");
-    // drop the first few frames because they are part of the immediate calling code
-    for (int i = skipFrames + 3; i < stackTrace.length; i++) {
-      builder.append("\tat ").append(stackTrace[i]).append("\n");
+    String header = FAILURE_EXCEPTION + message + "\n";
+    if (!FailureStackTraces.isCaptured(reason)) {
+      return header;
     }
-    return builder.toString();
+    StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+    // drop the first few frames because they are part of the immediate calling code
+    return FailureStackTraces.stackTrace(header, stackTrace, skipFrames + 3);
   }
 
   /**
@@ -445,6 +447,7 @@ public final class FailureItem
    * Gets stack trace where the failure occurred.
    * If the failure was caused by an {@code Exception} its stack trace is used, otherwise it's the
    * location where the failure was created.
+   * The location is omitted if {@link FailureStackTraces} suppresses the reason.
    * @return the value of the property, not null
    */
   public String getStackTrace() {
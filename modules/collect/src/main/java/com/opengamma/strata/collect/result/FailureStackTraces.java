@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.result;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Controls the stack traces captured when a {@link FailureItem} is created without an exception.
+ * <p>
+ * When a failure is created from a reason and message, the stack of the calling thread is used
+ * as the stack trace of the failure. A common problem, such as missing market data, can result in
+ * many failures with the same message created at the same location.
+ * Rather than formatting the same stack trace many times, each distinct combination of message and
+ * stack frames is formatted once and the resulting string is shared.
+ * <p>
+ * For some failure reasons, such as {@link FailureReason#MISSING_DATA}, the location is rarely of interest.
+ * Capture of the stack can be suppressed for these reasons, with the stack trace then only containing the message.
+ * <p>
+ * Counters are provided to show how many stack traces were formatted, deduplicated and suppressed.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class FailureStackTraces {
+
+  /**
+   * The maximum number of distinct stack traces that are held for reuse.
+   */
+  private static final int MAX_CACHED_TRACES = 1000;
+  /**
+   * The formatted stack traces, keyed by message and stack frames.
+   */
+  private static final ConcurrentMap<TraceKey, String> TRACES = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_TRACES)
+      .<TraceKey, String>build()
+      .asMap();
+  /**
+   * The number of stack traces formatted.
+   */
+  private static final LongAdder FORMATTED = new LongAdder();
+  /**
+   * The number of stack traces reused instead of being formatted.
+   */
+  private static final LongAdder DEDUPLICATED = new LongAdder();
+  /**
+   * The number of stack traces not captured.
+   */
+  private static final LongAdder SUPPRESSED = new LongAdder();
+  /**
+   * The failure reasons for which the stack is not captured.
+   */
+  private static final AtomicReference<ImmutableSet<FailureReason>> SUPPRESSED_REASONS =
+      new AtomicReference<>(ImmutableSet.of());
+
+  //-------------------------------------------------------------------------
+  /**
+   * Sets the failure reasons for which the stack is not captured.
+   * <p>
+   * This replaces any reasons previously set, with an empty set capturing the stack for every reason.
+   * This applies to failures created from a reason and message, not to those created from an exception.
+   *
+   * @param reasons  the reasons for which the stack is not captured
+   */
+  public static void suppressFor(Set<FailureReason> reasons) {
+    SUPPRESSED_REASONS.set(ImmutableSet.copyOf(ArgChecker.noNulls(reasons, "reasons")));
+  }
+
+  /**
+   * Gets the failure reasons for which the stack is not captured.
+   *
+   * @return the reasons for which the stack is not captured
+   */
+  public static ImmutableSet<FailureReason> getSuppressedReasons() {
+    return SUPPRESSED_REASONS.get();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of stack traces that have been formatted.
+   *
+   * @return the number of stack traces formatted
+   */
+  public static long getFormattedCount() {
+    return FORMATTED.sum();
+  }
+
+  /**
+   * Gets the number of stack traces that were identical to one already formatted, and were thus shared.
+   *
+   * @return the number of stack traces deduplicated
+   */
+  public static long getDeduplicatedCount() {
+    return DEDUPLICATED.sum();
+  }
+
+  /**
+   * Gets the number of stack traces that were not captured as the failure reason is suppressed.
+   *
+   * @return the number of stack traces suppressed
+   */
+  public static long getSuppressedCount() {
+    return SUPPRESSED.sum();
+  }
+
+  /**
+   * Resets the counters to zero.
+   */
+  public static void resetCounts() {
+    FORMATTED.reset();
+    DEDUPLICATED.reset();
+    SUPPRESSED.reset();
+  }
+
+  //-------------------------------------------------------------------------
+  // checks if the stack should be captured for the reason, counting those that are not
+  static boolean isCaptured(FailureReason reason) {
+    if (SUPPRESSED_REASONS.get().contains(reason)) {
+      SUPPRESSED.increment();
+      return false;
+    }
+    return true;
+  }
+
+  // gets the stack trace for the header and frames, formatting only if not already known
+  static String stackTrace(String header, StackTraceElement[] frames, int firstFrame) {
+    TraceKey key = new TraceKey(header, Arrays.copyOfRange(frames, Math.min(firstFrame, frames.length), frames.length));
+    String trace = TRACES.get(key);
+    if (trace != null) {
+      DEDUPLICATED.increment();
+      return trace;
+    }
+    StringBuilder builder = new StringBuilder(header);
+    for (StackTraceElement frame : key.frames) {
+      builder.append("\tat ").append(frame).append("\n");
+    }
+    FORMATTED.increment();
+    String formatted = builder.toString();
+    String existing = TRACES.putIfAbsent(key, formatted);
+    return existing != null ? existing : formatted;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The key used to find identical stack traces.
+   */
+  private static final class TraceKey {
+
+    /**
+     * The header, containing the message.
+     */
+    private final String header;
+    /**
+     * The stack frames.
+     */
+    private final StackTraceElement[] frames;
+    /**
+     * The hash code.
+     */
+    private final int hashCode;
+
+    private TraceKey(String header, StackTraceElement[] frames) {
+      this.header = header;
+      this.frames = frames;
+      this.hashCode = header.hashCode() * 31 + Arrays.hashCode(frames);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof TraceKey) {
+        TraceKey other = (TraceKey) obj;
+        return hashCode == other.hashCode && header.equals(other.header) && Arrays.equals(frames, other.frames);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private FailureStackTraces() {
+  }
+
+}
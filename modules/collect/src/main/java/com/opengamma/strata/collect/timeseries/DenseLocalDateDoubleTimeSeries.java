@@ -81,6 +81,15 @@ final class DenseLocalDateDoubleTimeSeries
         return unadjusted - (2 * numWeekends);
       }
 
+      @Override
+      int calculatePosition(int startEpochDay, int epochDay) {
+        // as above, but using the day-of-week derived from the epoch-day
+        int unadjusted = epochDay - startEpochDay;
+        int weekendAdjustment = dayOfWeek(startEpochDay) > dayOfWeek(epochDay) ? 1 : 0;
+        int numWeekends = (unadjusted / 7) + weekendAdjustment;
+        return unadjusted - (2 * numWeekends);
+      }
+
       @Override
       LocalDate calculateDateFromPosition(LocalDate startDate, int position) {
         int numWeekends = position / 5;
@@ -110,6 +119,11 @@ final class DenseLocalDateDoubleTimeSeries
         return (int) DAYS.between(startDate, date);
       }
 
+      @Override
+      int calculatePosition(int startEpochDay, int epochDay) {
+        return epochDay - startEpochDay;
+      }
+
       @Override
       LocalDate calculateDateFromPosition(LocalDate startDate, int position) {
         return startDate.plusDays(position);
@@ -138,6 +152,16 @@ final class DenseLocalDateDoubleTimeSeries
      */
     abstract int calculatePosition(LocalDate startDate, LocalDate date);
 
+    /**
+     * Calculates the position in the array where the supplied epoch-day should
+     * be located given a start epoch-day.
+     *
+     * @param startEpochDay  the start date for the series, as an epoch-day
+     * @param epochDay  the date to calculate a position for, as an epoch-day
+     * @return the position in the array where the date would be located
+     */
+    abstract int calculatePosition(int startEpochDay, int epochDay);
+
     /**
      * Given a start date and a position in an array, calculate what date
      * the position holds data for.
@@ -172,6 +196,16 @@ final class DenseLocalDateDoubleTimeSeries
     private static boolean isWeekend(LocalDate date) {
       return date.get(DAY_OF_WEEK) > 5;
     }
+
+    // checks if the epoch-day is a weekend
+    static boolean isWeekendEpochDay(int epochDay) {
+      return dayOfWeek(epochDay) > 5;
+    }
+
+    // the ISO day-of-week of the epoch-day, from 1 (Monday) to 7 (Sunday), 1970-01-01 being a Thursday
+    private static int dayOfWeek(int epochDay) {
+      return Math.floorMod(epochDay + 3, 7) + 1;
+    }
   }
 
   /**
@@ -238,6 +272,31 @@ final class DenseLocalDateDoubleTimeSeries
     return new DenseLocalDateDoubleTimeSeries(startDate, points, dateCalculation, true, size);
   }
 
+  /**
+   * Package protected factory method intended to be called when creating
+   * a time-series from epoch-days. As such all the information passed is
+   * assumed to be consistent, with the dates in ascending order.
+   *
+   * @param epochDays  the dates of the time-series, as epoch-days
+   * @param values  the values of the time-series
+   * @param dateCalculation  the date calculation method to be used
+   * @return a new time-series
+   */
+  static LocalDateDoubleTimeSeries ofEpochDays(
+      int[] epochDays,
+      double[] values,
+      DenseTimeSeriesCalculation dateCalculation) {
+
+    int startEpochDay = epochDays[0];
+    double[] points = new double[dateCalculation.calculatePosition(startEpochDay, epochDays[epochDays.length - 1]) + 1];
+    Arrays.fill(points, Double.NaN);
+    for (int i = 0; i < epochDays.length; i++) {
+      points[dateCalculation.calculatePosition(startEpochDay, epochDays[i])] = values[i];
+    }
+    return new DenseLocalDateDoubleTimeSeries(
+        LocalDate.ofEpochDay(startEpochDay), points, dateCalculation, true, epochDays.length + 1);
+  }
+
   // Private constructor, the trusted flag indicates whether the
   // points array should be cloned. If trusted, it will not be cloned.
   // size is the size of the time series + 1 if known, 0 if unknown
@@ -8,6 +8,7 @@ package com.opengamma.strata.collect.timeseries;
 import static java.util.stream.Collectors.partitioningBy;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
@@ -21,6 +22,7 @@ import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.function.ObjDoublePredicate;
 import com.opengamma.strata.collect.tuple.Pair;
 
@@ -64,6 +66,23 @@ public interface LocalDateDoubleTimeSeries {
     return builder().put(date, value).build();
   }
 
+  /**
+   * Obtains a time-series from matching arrays of epoch-days and values.
+   * <p>
+   * Each date is specified as an epoch-day, as per {@link LocalDate#toEpochDay()}.
+   * The two arrays must be the same size and the dates must be sorted from earliest to latest.
+   * This is intended for loading data that is already held as epoch-days, as no
+   * {@code LocalDate} is created for each point. The arrays are copied.
+   *
+   * @param epochDays  the dates, as epoch-days
+   * @param values  the values
+   * @return the time-series
+   * @throws IllegalArgumentException if the arrays are of different sizes or the dates are not in order
+   */
+  public static LocalDateDoubleTimeSeries ofEpochDays(int[] epochDays, double[] values) {
+    return SparseLocalDateDoubleTimeSeries.ofEpochDays(epochDays, values);
+  }
+
   /**
    * Creates an empty builder, used to create time-series.
    * <p>
@@ -125,6 +144,25 @@ public interface LocalDateDoubleTimeSeries {
    */
   public abstract OptionalDouble get(LocalDate date);
 
+  /**
+   * Gets the values associated with a list of dates.
+   * <p>
+   * The result contains one value for each date in the list, in the same order.
+   * If there is no value for a date then the default value is used.
+   * Passing {@link Double#NaN} as the default allows missing values to be detected.
+   * <p>
+   * Implementations may be able to locate the values faster if the dates are sorted
+   * from earliest to latest, however this is not required.
+   *
+   * @param dates  the dates to get the values for
+   * @param defaultValue  the value to use when there is no value for a date
+   * @return the value associated with each date
+   */
+  public default DoubleArray getAll(List<LocalDate> dates, double defaultValue) {
+    ArgChecker.noNulls(dates, "dates");
+    return DoubleArray.of(dates.size(), i -> get(dates.get(i)).orElse(defaultValue));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Get the earliest date contained in this time-series.
@@ -36,7 +36,7 @@ public final class LocalDateDoubleTimeSeriesBuilder {
   /**
    * Threshold for deciding whether we use the dense or sparse time-series implementation.
    */
-  private static final double DENSITY_THRESHOLD = 0.7;
+  static final double DENSITY_THRESHOLD = 0.7;
 
   /**
    * The entries for the time-series.
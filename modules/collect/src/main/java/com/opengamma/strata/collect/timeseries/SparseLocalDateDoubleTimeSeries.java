@@ -5,10 +5,15 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import static com.opengamma.strata.collect.timeseries.DenseLocalDateDoubleTimeSeries.DenseTimeSeriesCalculation.INCLUDE_WEEKENDS;
+import static com.opengamma.strata.collect.timeseries.DenseLocalDateDoubleTimeSeries.DenseTimeSeriesCalculation.SKIP_WEEKENDS;
+
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
@@ -37,7 +42,9 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.function.ObjDoublePredicate;
+import com.opengamma.strata.collect.timeseries.DenseLocalDateDoubleTimeSeries.DenseTimeSeriesCalculation;
 
 /**
  * A immutable implementation of {@code LocalDateDoubleTimeSeries} where the
@@ -48,7 +55,15 @@ import com.opengamma.strata.collect.function.ObjDoublePredicate;
  * If more or less continuous data is being used then {@link DenseLocalDateDoubleTimeSeries}
  * is likely to be a better choice for the data.
  * <p>
- * This implementation uses arrays internally.
+ * This implementation uses arrays internally, storing each date as an {@code int} epoch-day.
+ * This avoids holding a {@code LocalDate} object for every point and allows dates to be
+ * located by a primitive binary search.
+ * <p>
+ * The sub-series returned by {@link #subSeries(LocalDate, LocalDate)}, {@link #headSeries(int)}
+ * and {@link #tailSeries(int)} are views that share the arrays of this series.
+ * <p>
+ * The bean properties are the dates and values, which are also the serialized form.
+ * The dates are only held as {@code LocalDate} objects in the serialized form.
  */
 @BeanDefinition(builderScope = "private", metaScope = "package")
 final class SparseLocalDateDoubleTimeSeries
@@ -58,20 +73,35 @@ final class SparseLocalDateDoubleTimeSeries
    * An empty time-series.
    */
   static final LocalDateDoubleTimeSeries EMPTY =
-      new SparseLocalDateDoubleTimeSeries(new LocalDate[0], new double[0]);
+      new SparseLocalDateDoubleTimeSeries(new int[0], new double[0], 0, 0);
 
   /**
    * The dates in the series.
    * The dates are ordered from earliest to latest.
+   * This is only set in the serialized form, otherwise the dates are held as epoch-days.
    */
   @PropertyDefinition(get = "manual", validate = "notNull")
   private final LocalDate[] dates;
   /**
    * The values in the series.
    * The date for each value is at the matching array index.
+   * This array may be shared with other series, only the range from start to end is in this series.
    */
   @PropertyDefinition(get = "manual", validate = "notNull")
   private final double[] values;
+  /**
+   * The dates in the series, as epoch-days.
+   * This array may be shared with other series, only the range from start to end is in this series.
+   */
+  private final transient int[] epochDays;  // derived, not a property
+  /**
+   * The index of the first point in the arrays, inclusive.
+   */
+  private final transient int start;  // derived, not a property
+  /**
+   * The index of the last point in the arrays, exclusive.
+   */
+  private final transient int end;  // derived, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -86,35 +116,96 @@ final class SparseLocalDateDoubleTimeSeries
   static SparseLocalDateDoubleTimeSeries of(Collection<LocalDate> dates, Collection<Double> values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.noNulls(values, "values");
-    LocalDate[] datesArray = dates.toArray(new LocalDate[dates.size()]);
     double[] valuesArray = Doubles.toArray(values);
-    validate(datesArray, valuesArray);
-    return createUnsafe(datesArray, valuesArray);
+    return createUnsafe(toEpochDays(dates, valuesArray), valuesArray);
+  }
+
+  /**
+   * Obtains a time-series from matching arrays of epoch-days and values.
+   * <p>
+   * The two arrays must be the same size and must be sorted from earliest to latest.
+   * As per {@link LocalDateDoubleTimeSeriesBuilder}, a dense time-series is returned if the dates are dense enough.
+   *
+   * @param epochDays  the dates, as epoch-days
+   * @param values  the values
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries ofEpochDays(int[] epochDays, double[] values) {
+    ArgChecker.notNull(epochDays, "epochDays");
+    ArgChecker.notNull(values, "values");
+    ArgChecker.isTrue(epochDays.length == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", epochDays.length, values.length);
+    if (epochDays.length == 0) {
+      return EMPTY;
+    }
+    // the minimum and maximum int values are reserved, see toEpochDay()
+    int previous = Integer.MIN_VALUE;
+    boolean containsWeekends = false;
+    for (int epochDay : epochDays) {
+      if (epochDay == Integer.MIN_VALUE || epochDay == Integer.MAX_VALUE) {
+        throw new IllegalArgumentException(Messages.format(
+            "Date is outside the range supported by a time-series: {}", LocalDate.ofEpochDay(epochDay)));
+      }
+      if (epochDay <= previous) {
+        throw new IllegalArgumentException(Messages.format(
+            "Dates must be in ascending order but: {} is not after: {}",
+            LocalDate.ofEpochDay(epochDay), LocalDate.ofEpochDay(previous)));
+      }
+      previous = epochDay;
+      containsWeekends = containsWeekends || DenseTimeSeriesCalculation.isWeekendEpochDay(epochDay);
+    }
+    // choose the same implementation as the builder, as the two are not equal to each other
+    DenseTimeSeriesCalculation dateCalculation = containsWeekends ? INCLUDE_WEEKENDS : SKIP_WEEKENDS;
+    double rangeSize = dateCalculation.calculatePosition(epochDays[0], epochDays[epochDays.length - 1]) + 1;
+    if (epochDays.length / rangeSize > LocalDateDoubleTimeSeriesBuilder.DENSITY_THRESHOLD) {
+      return DenseLocalDateDoubleTimeSeries.ofEpochDays(epochDays, values, dateCalculation);
+    }
+    return createUnsafe(epochDays.clone(), values.clone());
   }
 
   // creates time-series by directly assigning the input arrays
   // must only be called when safe to do so
-  private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
-    return new SparseLocalDateDoubleTimeSeries(dates, values, true);
+  private static SparseLocalDateDoubleTimeSeries createUnsafe(int[] epochDays, double[] values) {
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values, 0, epochDays.length);
   }
 
-  // validates the arrays are same length and in order
-  private static void validate(LocalDate[] dates, double[] values) {
-    ArgChecker.isTrue(dates.length == values.length,
-        "Arrays are of different sizes - dates: {}, values: {}", dates.length, values.length);
+  // validates the arrays are same length and in order, converting the dates to epoch-days
+  private static int[] toEpochDays(Collection<LocalDate> dates, double[] values) {
+    ArgChecker.isTrue(dates.size() == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", dates.size(), values.length);
+    int[] epochDays = new int[values.length];
+    Iterator<LocalDate> it = dates.iterator();
     LocalDate maxDate = LocalDate.MIN;
-    for (LocalDate date : dates) {
+    for (int i = 0; i < epochDays.length; i++) {
+      LocalDate date = it.next();
       ArgChecker.isTrue(date.isAfter(maxDate),
           "Dates must be in ascending order but: {} is not after: {}", date, maxDate);
+      epochDays[i] = toEpochDay(date);
       maxDate = date;
     }
+    return epochDays;
+  }
+
+  // converts a date in the series to an epoch-day
+  // the minimum and maximum int values are reserved for the search of dates outside the supported range
+  private static int toEpochDay(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    ArgChecker.isTrue(epochDay > Integer.MIN_VALUE && epochDay < Integer.MAX_VALUE,
+        "Date is outside the range supported by a time-series: {}", date);
+    return (int) epochDay;
+  }
+
+  // converts a date to search for to an epoch-day, dates outside the supported range never match
+  private static int toSearchKey(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, epochDay));
   }
 
   //-------------------------------------------------------------------------
   /**
    * Creates an instance, validating the supplied arrays.
    * <p>
-   * The arrays are cloned as this constructor is called from Joda-Beans.
+   * The arrays are copied as this constructor is called from Joda-Beans.
    *
    * @param dates  the dates
    * @param values  the values
@@ -123,34 +214,78 @@ final class SparseLocalDateDoubleTimeSeries
   private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values) {
     ArgChecker.noNulls(dates, "dates");
     ArgChecker.notNull(values, "values");
-    validate(dates, values);
-    this.dates = dates.clone();
+    this.dates = null;
+    this.epochDays = toEpochDays(Arrays.asList(dates), values);
     this.values = values.clone();
+    this.start = 0;
+    this.end = values.length;
   }
 
   /**
    * Creates an instance without validating the supplied arrays.
    *
+   * @param epochDays  the epoch-days
+   * @param values  the values
+   * @param start  the start index, inclusive
+   * @param end  the end index, exclusive
+   */
+  private SparseLocalDateDoubleTimeSeries(int[] epochDays, double[] values, int start, int end) {
+    this.dates = null;
+    this.epochDays = epochDays;
+    this.values = values;
+    this.start = start;
+    this.end = end;
+  }
+
+  // creates a view over the shared arrays, the indices are relative to the arrays
+  private SparseLocalDateDoubleTimeSeries view(int startPos, int endPos) {
+    if (startPos == start && endPos == end) {
+      return this;
+    }
+    return new SparseLocalDateDoubleTimeSeries(epochDays, values, startPos, endPos);
+  }
+
+  /**
+   * Creates an instance in the serialized form.
+   *
    * @param dates  the dates
    * @param values  the values
-   * @param trusted  flag to distinguish constructor
+   * @param serialForm  flag to distinguish constructor
    */
-  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values, boolean trusted) {
-    // constructor exists to avoid clones where possible
+  private SparseLocalDateDoubleTimeSeries(LocalDate[] dates, double[] values, boolean serialForm) {
     // because Joda-Beans owns the main constructor, this one has a weird flag
-    // use createUnsafe() instead of calling this directly
     this.dates = dates;
     this.values = values;
+    this.epochDays = null;
+    this.start = 0;
+    this.end = 0;
   }
 
-  //-----------------------------------------------------------------------
+  // serialize the dates and values, compacting a view
+  private Object writeReplace() {
+    if (epochDays == null) {
+      return this;
+    }
+    return new SparseLocalDateDoubleTimeSeries(getDates(), getValues(), true);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new SparseLocalDateDoubleTimeSeries(dates, values);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * Gets the dates in the series.
    * The dates are ordered from earliest to latest.
    * @return the value of the property, not null
    */
   private LocalDate[] getDates() {
-    return dates.clone();
+    LocalDate[] dates = new LocalDate[size()];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[start + i]);
+    }
+    return dates;
   }
 
   /**
@@ -159,18 +294,23 @@ final class SparseLocalDateDoubleTimeSeries
    * @return the value of the property, not null
    */
   private double[] getValues() {
-    return values.clone();
+    return Arrays.copyOfRange(values, start, end);
+  }
+
+  // gets the epoch-days, sharing the array if possible
+  private int[] epochDaysShared() {
+    return start == 0 && end == epochDays.length ? epochDays : Arrays.copyOfRange(epochDays, start, end);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public int size() {
-    return dates.length;
+    return end - start;
   }
 
   @Override
   public boolean isEmpty() {
-    return dates.length == 0;
+    return end == start;
   }
 
   @Override
@@ -184,17 +324,87 @@ final class SparseLocalDateDoubleTimeSeries
     return (position >= 0 ? OptionalDouble.of(values[position]) : OptionalDouble.empty());
   }
 
+  // the result is relative to the arrays, negative if not found
   private int findDatePosition(LocalDate date) {
-    return Arrays.binarySearch(dates, date);
+    return Arrays.binarySearch(epochDays, start, end, toSearchKey(date));
+  }
+
+  // the position of the first date that is equal or after the date, relative to the arrays
+  private int findInsertionPosition(LocalDate date) {
+    int pos = findDatePosition(date);
+    return pos >= 0 ? pos : -pos - 1;
+  }
+
+  /**
+   * Gets the values associated with a list of dates.
+   * <p>
+   * When the dates are sorted, each date is located by searching forward from the position
+   * of the previous date, expanding the search range exponentially.
+   * As such, looking up a run of consecutive dates, such as the fixings of an overnight
+   * compounded rate, costs little more than a scan of the matching part of the series.
+   * Unsorted dates are supported, but are slower.
+   *
+   * @param dates  the dates to get the values for
+   * @param defaultValue  the value to use when there is no value for a date
+   * @return the value associated with each date
+   */
+  @Override
+  public DoubleArray getAll(List<LocalDate> dates, double defaultValue) {
+    ArgChecker.noNulls(dates, "dates");
+    double[] result = new double[dates.size()];
+    int from = start;
+    int previousKey = Integer.MIN_VALUE;
+    for (int i = 0; i < result.length; i++) {
+      int key = toSearchKey(dates.get(i));
+      int pos = gallop(key < previousKey ? start : from, key);
+      if (pos >= 0) {
+        result[i] = values[pos];
+        from = pos;
+      } else {
+        result[i] = defaultValue;
+        from = -pos - 1;
+      }
+      previousKey = key;
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  // searches for the key, where all the dates before the specified position are known to be before the key
+  private int gallop(int from, int key) {
+    int low = from;
+    int high = from;
+    int step = 1;
+    while (high < end && epochDays[high] < key) {
+      low = high + 1;
+      high += step;
+      step <<= 1;
+    }
+    return Arrays.binarySearch(epochDays, low, Math.min(high + 1, end), key);
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getEarliestDate() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return earliest date, time-series is empty");
+    }
+    return LocalDate.ofEpochDay(epochDays[start]);
+  }
+
+  @Override
+  public double getEarliestValue() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("Unable to return earliest value, time-series is empty");
+    }
+    return values[start];
+  }
+
   @Override
   public LocalDate getLatestDate() {
     if (isEmpty()) {
       throw new NoSuchElementException("Unable to return latest, time-series is empty");
     }
-    return dates[dates.length - 1];
+    return LocalDate.ofEpochDay(epochDays[end - 1]);
   }
 
   @Override
@@ -202,7 +412,7 @@ final class SparseLocalDateDoubleTimeSeries
     if (isEmpty()) {
       throw new NoSuchElementException("Unable to return latest, time-series is empty");
     }
-    return values[values.length - 1];
+    return values[end - 1];
   }
 
   //-------------------------------------------------------------------------
@@ -219,14 +429,9 @@ final class SparseLocalDateDoubleTimeSeries
       return EMPTY;
     }
     // where in the array would start/end be (whether or not it's actually in the series)
-    int startPos = Arrays.binarySearch(dates, startInclusive);
-    startPos = startPos >= 0 ? startPos : -startPos - 1;
-    int endPos = Arrays.binarySearch(dates, endExclusive);
-    endPos = endPos >= 0 ? endPos : -endPos - 1;
-    // create sub-series
-    LocalDate[] timesArray = Arrays.copyOfRange(dates, startPos, endPos);
-    double[] valuesArray = Arrays.copyOfRange(values, startPos, endPos);
-    return createUnsafe(timesArray, valuesArray);
+    int startPos = findInsertionPosition(startInclusive);
+    int endPos = findInsertionPosition(endExclusive);
+    return view(startPos, endPos);
   }
 
   @Override
@@ -237,9 +442,7 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, 0, numPoints);
-    double[] valuesArray = Arrays.copyOfRange(values, 0, numPoints);
-    return createUnsafe(datesArray, valuesArray);
+    return view(start, start + numPoints);
   }
 
   @Override
@@ -250,61 +453,68 @@ final class SparseLocalDateDoubleTimeSeries
     } else if (numPoints >= size()) {
       return this;
     }
-    LocalDate[] datesArray = Arrays.copyOfRange(dates, size() - numPoints, size());
-    double[] valuesArray = Arrays.copyOfRange(values, size() - numPoints, size());
-    return createUnsafe(datesArray, valuesArray);
+    return view(end - numPoints, end);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public Stream<LocalDateDoublePoint> stream() {
-    return IntStream.range(0, size()).mapToObj(i -> LocalDateDoublePoint.of(dates[i], values[i]));
+    return IntStream.range(start, end)
+        .mapToObj(i -> LocalDateDoublePoint.of(LocalDate.ofEpochDay(epochDays[i]), values[i]));
   }
 
   @Override
   public Stream<LocalDate> dates() {
-    return Stream.of(dates);
+    return IntStream.range(start, end).mapToObj(i -> LocalDate.ofEpochDay(epochDays[i]));
   }
 
   @Override
   public DoubleStream values() {
-    return DoubleStream.of(values);
+    return Arrays.stream(values, start, end);
   }
 
   //-------------------------------------------------------------------------
   @Override
   public void forEach(ObjDoubleConsumer<LocalDate> action) {
     ArgChecker.notNull(action, "action");
-    for (int i = 0; i < size(); i++) {
-      action.accept(dates[i], values[i]);
+    for (int i = start; i < end; i++) {
+      action.accept(LocalDate.ofEpochDay(epochDays[i]), values[i]);
     }
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapDates(Function<? super LocalDate, ? extends LocalDate> mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    LocalDate[] dates = Arrays.stream(this.dates).map(mapper).toArray(size -> new LocalDate[size]);
-    // Check the dates are still in ascending order after the mapping
-    Arrays.stream(dates).reduce(this::checkAscending);
-    return createUnsafe(dates, values);
+    int[] mapped = new int[size()];
+    LocalDate previous = null;
+    for (int i = 0; i < mapped.length; i++) {
+      LocalDate date = mapper.apply(LocalDate.ofEpochDay(epochDays[start + i]));
+      // Check the dates are still in ascending order after the mapping
+      if (previous != null) {
+        checkAscending(previous, date);
+      }
+      mapped[i] = toEpochDay(date);
+      previous = date;
+    }
+    return createUnsafe(mapped, getValues());
   }
 
   @Override
   public LocalDateDoubleTimeSeries mapValues(DoubleUnaryOperator mapper) {
     ArgChecker.notNull(mapper, "mapper");
-    return createUnsafe(dates, DoubleStream.of(values).map(mapper).toArray());
+    return createUnsafe(epochDaysShared(), Arrays.stream(values, start, end).map(mapper).toArray());
   }
 
   @Override
   public LocalDateDoubleTimeSeries filter(ObjDoublePredicate<LocalDate> predicate) {
     ArgChecker.notNull(predicate, "predicate");
     // build up result in arrays keeping track of count of retained dates
-    LocalDate[] resDates = new LocalDate[size()];
+    int[] resDates = new int[size()];
     double[] resValues = new double[size()];
     int resCount = 0;
-    for (int i = 0; i < size(); i++) {
-      if (predicate.test(dates[i], values[i])) {
-        resDates[resCount] = dates[i];
+    for (int i = start; i < end; i++) {
+      if (predicate.test(LocalDate.ofEpochDay(epochDays[i]), values[i])) {
+        resDates[resCount] = epochDays[i];
         resValues[resCount] = values[i];
         resCount++;
       }
@@ -315,7 +525,7 @@ final class SparseLocalDateDoubleTimeSeries
   //-------------------------------------------------------------------------
   @Override
   public LocalDateDoubleTimeSeriesBuilder toBuilder() {
-    return new LocalDateDoubleTimeSeriesBuilder(dates, values);
+    return new LocalDateDoubleTimeSeriesBuilder(getDates(), getValues());
   }
 
   //-------------------------------------------------------------------------
@@ -335,7 +545,16 @@ final class SparseLocalDateDoubleTimeSeries
     }
     if (obj instanceof SparseLocalDateDoubleTimeSeries) {
       SparseLocalDateDoubleTimeSeries other = (SparseLocalDateDoubleTimeSeries) obj;
-      return Arrays.equals(dates, other.dates) && Arrays.equals(values, other.values);
+      if (size() != other.size()) {
+        return false;
+      }
+      for (int i = 0; i < size(); i++) {
+        if (epochDays[start + i] != other.epochDays[other.start + i] ||
+            Double.doubleToLongBits(values[start + i]) != Double.doubleToLongBits(other.values[other.start + i])) {
+          return false;
+        }
+      }
+      return true;
     }
     return false;
   }
@@ -347,12 +566,17 @@ final class SparseLocalDateDoubleTimeSeries
    */
   @Override
   public int hashCode() {
-    return 31 * Arrays.hashCode(dates) + Arrays.hashCode(values);
+    int hash = 1;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + epochDays[i];
+      hash = 31 * hash + Double.hashCode(values[i]);
+    }
+    return hash;
   }
 
   /**
    * Returns a string representation of the time-series.
-   * 
+   *
    * @return the string
    */
   @Override
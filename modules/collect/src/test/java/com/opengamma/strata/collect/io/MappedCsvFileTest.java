@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.result.ParseFailureException;
+
+/**
+ * Test {@link MappedCsvFile} and {@link MappedCsvCursor}.
+ */
+public class MappedCsvFileTest {
+
+  private static final String CSV1 = "" +
+      "h1,h2,h3\n" +
+      "r11, r12 ,r13\n" +
+      "# comment\n" +
+      ";comment\n" +
+      "\n" +
+      ",,\n" +
+      "\"r,21\",\"r\"\"22\",r23\r\n" +
+      "r31,été\r" +
+      "r41,r42,r43,r44\n" +
+      "r51";
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_matchesCsvIterator() throws IOException {
+    Path path = write(CSV1);
+    MappedCsvFile test = MappedCsvFile.of(path, true);
+    assertThat(test.headers()).containsExactly("h1", "h2", "h3");
+    assertThat(test.containsHeader("H2")).isTrue();
+    assertThat(test.containsHeader("h4")).isFalse();
+    assertThat(test.headerIndex("H3")).isEqualTo(2);
+    assertThat(test.toString()).isEqualTo("MappedCsvFile[h1, h2, h3]");
+    assertThat(readRows(test)).isEqualTo(expectedRows(CSV1, true));
+  }
+
+  @Test
+  public void test_of_byteOrderMark() throws IOException {
+    Path path = Files.createTempFile("mapped-csv-test", ".csv");
+    path.toFile().deleteOnExit();
+    byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    byte[] content = "h1,h2\nr11,r12\n".getBytes(StandardCharsets.UTF_8);
+    byte[] bytes = new byte[bom.length + content.length];
+    System.arraycopy(bom, 0, bytes, 0, bom.length);
+    System.arraycopy(content, 0, bytes, bom.length, content.length);
+    Files.write(path, bytes);
+    MappedCsvFile test = MappedCsvFile.of(path, true);
+    assertThat(test.headers()).containsExactly("h1", "h2");
+    MappedCsvCursor cursor = test.cursor();
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.getField(0)).isEqualTo("r11");
+    assertThat(cursor.lineNumber()).isEqualTo(2);
+    assertThat(cursor.next()).isFalse();
+  }
+
+  @Test
+  public void test_of_noHeader_separator() throws IOException {
+    Path path = write("a;b\n;comment\nc; d\n");
+    MappedCsvFile test = MappedCsvFile.of(path, false, ';');
+    assertThat(test.headers()).isEmpty();
+    assertThat(readRows(test)).isEqualTo(expectedRows("a;b\n;comment\nc; d\n", false, ';'));
+  }
+
+  @Test
+  public void test_of_empty() throws IOException {
+    Path path = write("");
+    assertThatIllegalArgumentException().isThrownBy(() -> MappedCsvFile.of(path, true));
+    MappedCsvFile test = MappedCsvFile.of(path, false);
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.cursor().next()).isFalse();
+    assertThat(test.split(4)).isEmpty();
+  }
+
+  @Test
+  public void test_of_invalid() throws IOException {
+    Path path = write("h1\n");
+    assertThatIllegalArgumentException().isThrownBy(() -> MappedCsvFile.of(path, true, '"'));
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> MappedCsvFile.of(path, true).headerIndex("h2"));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_cursor_fields() throws IOException {
+    Path path = write("h1,h2,h3\na,,c\nd\n");
+    MappedCsvCursor cursor = MappedCsvFile.of(path, true).cursor();
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.fieldCount()).isEqualTo(3);
+    assertThat(cursor.field(0).length()).isEqualTo(1);
+    assertThat(cursor.field(0).charAt(0)).isEqualTo('a');
+    assertThat(cursor.field(1).toString()).isEmpty();
+    assertThat(cursor.field(2).subSequence(0, 1).toString()).isEqualTo("c");
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> cursor.field(3));
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.fieldCount()).isEqualTo(3);
+    assertThat(cursor.getField(0)).isEqualTo("d");
+    assertThat(cursor.getField(2)).isEmpty();
+    assertThat(cursor.toCsvRow().getField("h1")).isEqualTo("d");
+    assertThat(cursor.next()).isFalse();
+  }
+
+  @Test
+  public void test_cursor_getDouble() throws IOException {
+    List<String> values = ImmutableList.of(
+        "0", "-0", "1", "+2.5", "-0.0001", "123456.789", "1e10", "1.5E-3", "-2.25e+2", "0.1", "0.30000000000000004",
+        "9007199254740993", "123456789012345678901", "1e23", "1e-30", "4.9e-324", "NaN", "-Infinity", ".5", "5.",
+        "00012.50");
+    Path path = write("value\n" + String.join("\n", values));
+    MappedCsvCursor cursor = MappedCsvFile.of(path, true).cursor();
+    for (String value : values) {
+      assertThat(cursor.next()).isTrue();
+      assertThat(Double.doubleToLongBits(cursor.getDouble(0))).as(value)
+          .isEqualTo(Double.doubleToLongBits(Double.parseDouble(value)));
+    }
+  }
+
+  @Test
+  public void test_cursor_getDouble_invalid() throws IOException {
+    Path path = write("value\n1.2.3\n\"1.5\"\n");
+    MappedCsvCursor cursor = MappedCsvFile.of(path, true).cursor();
+    assertThat(cursor.next()).isTrue();
+    assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> cursor.getDouble(0));
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.getDouble(0)).isEqualTo(1.5d);
+  }
+
+  @Test
+  public void test_cursor_getLocalDate() throws IOException {
+    Path path = write("date\n2024-02-29\n2024-13-01\n29/02/2024\n");
+    MappedCsvCursor cursor = MappedCsvFile.of(path, true).cursor();
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.getLocalDate(0)).isEqualTo(LocalDate.of(2024, 2, 29));
+    assertThat(cursor.next()).isTrue();
+    assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> cursor.getLocalDate(0));
+    assertThat(cursor.next()).isTrue();
+    assertThat(cursor.getLocalDate(0, str -> LocalDate.of(2024, 2, 29))).isEqualTo(LocalDate.of(2024, 2, 29));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_split() throws IOException {
+    StringBuilder buf = new StringBuilder("h1,h2\n");
+    for (int i = 0; i < 500; i++) {
+      buf.append("r").append(i).append(',').append(i * 0.25).append(i % 7 == 0 ? "\r\n" : "\n");
+      if (i % 50 == 0) {
+        buf.append("# comment\n\n");
+      }
+    }
+    Path path = write(buf.toString());
+    List<String> expected = expectedRows(buf.toString(), true);
+    // small segments test mapping in multiple parts
+    MappedCsvFile file = MappedCsvFile.of(path, true, ',', 64);
+    assertThat(readRows(file)).isEqualTo(expected);
+    for (int chunkCount : new int[] {1, 3, 7, 64}) {
+      ImmutableList<MappedCsvFile> chunks = file.split(chunkCount);
+      assertThat(chunks.size()).isLessThanOrEqualTo(chunkCount);
+      List<String> combined = new ArrayList<>();
+      for (MappedCsvFile chunk : chunks) {
+        assertThat(chunk.headers()).isEqualTo(file.headers());
+        combined.addAll(readRows(chunk));
+      }
+      assertThat(combined).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void test_of_lineTooLong() throws IOException {
+    Path path = write("h1\n" + "abcdefghij,abcdefghij\n" + "x\n");
+    assertThatIllegalArgumentException().isThrownBy(() -> MappedCsvFile.of(path, true, ',', 8));
+  }
+
+  //-------------------------------------------------------------------------
+  private static Path write(String content) throws IOException {
+    Path path = Files.createTempFile("mapped-csv-test", ".csv");
+    path.toFile().deleteOnExit();
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return path;
+  }
+
+  private static List<String> readRows(MappedCsvFile file) {
+    List<String> rows = new ArrayList<>();
+    MappedCsvCursor cursor = file.cursor();
+    while (cursor.next()) {
+      rows.add(cursor.lineNumber() + ":" + cursor.toCsvRow().fields());
+    }
+    return rows;
+  }
+
+  private static List<String> expectedRows(String content, boolean headerRow) {
+    return expectedRows(content, headerRow, ',');
+  }
+
+  private static List<String> expectedRows(String content, boolean headerRow, char separator) {
+    List<String> rows = new ArrayList<>();
+    try (CsvIterator csv = CsvIterator.of(CharSource.wrap(content), headerRow, separator)) {
+      csv.forEachRemaining(row -> rows.add(row.lineNumber() + ":" + row.fields()));
+    }
+    return rows;
+  }
+
+}
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import java.io.File;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -207,6 +208,65 @@ public class XmlFileTest {
         .isThrownBy(() -> XmlFile.parseElements(source, name -> Integer.MAX_VALUE));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parseExcluding() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.parseExcluding(source, "key", name -> name.equals("obj"));
+    XmlElement expected = XmlElement.ofChildren(
+        "test", ATTR_MAP, ImmutableList.of(LEAF1, LEAF2A, LEAF2B, XmlElement.ofContent("obj", "")));
+    assertThat(test.getRoot()).isEqualTo(XmlElement.ofChildren("base", ImmutableList.of(expected)));
+    assertThat(test.getReferences()).isEqualTo(ImmutableMap.of("value", expected));
+  }
+
+  @Test
+  public void test_parseExcluding_referenceExcluded() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    XmlFile test = XmlFile.parseExcluding(source, "key", name -> name.equals("test"));
+    XmlElement expected = XmlElement.ofContent("test", ATTR_MAP, "");
+    assertThat(test.getRoot()).isEqualTo(XmlElement.ofChildren("base", ImmutableList.of(expected)));
+    assertThat(test.getReferences()).isEmpty();
+  }
+
+  @Test
+  public void test_parseExcluding_mismatchedTags() {
+    ByteSource source = ByteSource.wrap(SAMPLE_MISMATCHED_TAGS.getBytes(StandardCharsets.UTF_8));
+    assertThatIllegalArgumentException().isThrownBy(() -> XmlFile.parseExcluding(source, "", name -> false));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parseElements_ByteSource_consumer() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    XmlFile.parseElements(source, "key", name -> name.startsWith("leaf"), (el, refs) -> {
+      assertThat(refs).isEmpty();
+      elements.add(el);
+    });
+    assertThat(elements).containsExactly(LEAF1, LEAF2A, LEAF2B, LEAF3);
+  }
+
+  @Test
+  public void test_parseElements_ByteSource_consumer_references() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<XmlElement> elements = new ArrayList<>();
+    List<Map<String, XmlElement>> references = new ArrayList<>();
+    XmlFile.parseElements(source, "key", name -> name.equals("test") || name.equals("leaf3"), (el, refs) -> {
+      elements.add(el);
+      references.add(refs);
+    });
+    XmlElement expected = XmlElement.ofChildren("test", ATTR_MAP, CHILD_LIST_MULTI);
+    assertThat(elements).containsExactly(expected);
+    assertThat(references).containsExactly(ImmutableMap.of("value", expected));
+  }
+
+  @Test
+  public void test_parseElements_ByteSource_consumer_badEnd() {
+    ByteSource source = ByteSource.wrap(SAMPLE_BAD_END.getBytes(StandardCharsets.UTF_8));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> XmlFile.parseElements(source, "", name -> name.equals("test"), (el, refs) -> {}));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_equalsHashCodeToString() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.result;
+
+import static com.opengamma.strata.collect.TestHelper.assertUtilityClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Test {@link FailureStackTraces}.
+ */
+public class FailureStackTracesTest {
+
+  @AfterEach
+  public void reset() {
+    FailureStackTraces.suppressFor(ImmutableSet.of());
+    FailureStackTraces.resetCounts();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_deduplicated() {
+    FailureStackTraces.resetCounts();
+    List<FailureItem> failures = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      failures.add(FailureItem.of(FailureReason.MISSING_DATA, "Missing curve"));
+    }
+    FailureItem other = FailureItem.of(FailureReason.MISSING_DATA, "Missing curve");
+
+    assertThat(failures.get(0).getStackTrace())
+        .startsWith("com.opengamma.strata.collect.result.FailureItem: Missing curve")
+        .contains(".test_deduplicated(");
+    for (FailureItem failure : failures) {
+      assertThat(failure.getStackTrace()).isSameAs(failures.get(0).getStackTrace());
+    }
+    // a different line is a different location
+    assertThat(other.getStackTrace()).isNotEqualTo(failures.get(0).getStackTrace());
+    assertThat(FailureStackTraces.getFormattedCount()).isGreaterThanOrEqualTo(1);
+    assertThat(FailureStackTraces.getFormattedCount() + FailureStackTraces.getDeduplicatedCount()).isEqualTo(6);
+    assertThat(FailureStackTraces.getDeduplicatedCount()).isGreaterThanOrEqualTo(4);
+    assertThat(FailureStackTraces.getSuppressedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_differentMessage() {
+    FailureItem test1 = FailureItem.of(FailureReason.MISSING_DATA, "Missing curve {}", "A");
+    FailureItem test2 = FailureItem.of(FailureReason.MISSING_DATA, "Missing curve {}", "B");
+    assertThat(test1.getStackTrace()).startsWith("com.opengamma.strata.collect.result.FailureItem: Missing curve A");
+    assertThat(test2.getStackTrace()).startsWith("com.opengamma.strata.collect.result.FailureItem: Missing curve B");
+  }
+
+  @Test
+  public void test_suppressed() {
+    FailureStackTraces.resetCounts();
+    FailureStackTraces.suppressFor(ImmutableSet.of(FailureReason.MISSING_DATA));
+    assertThat(FailureStackTraces.getSuppressedReasons()).containsOnly(FailureReason.MISSING_DATA);
+
+    FailureItem test = FailureItem.of(FailureReason.MISSING_DATA, "Missing curve");
+    assertThat(test.getStackTrace()).isEqualTo("com.opengamma.strata.collect.result.FailureItem: Missing curve\n");
+    assertThat(test.summarizeStackTrace()).isEmpty();
+    assertThat(test.toString()).isEqualTo("MISSING_DATA: Missing curve");
+    Result<Object> result = Result.failure(FailureReason.MISSING_DATA, "Missing curve");
+    assertThat(result.getFailure().getItems().iterator().next().getStackTrace()).isEqualTo(test.getStackTrace());
+    assertThat(FailureStackTraces.getSuppressedCount()).isEqualTo(2);
+
+    // other reasons are captured
+    FailureItem captured = FailureItem.of(FailureReason.INVALID, "Invalid");
+    assertThat(captured.getStackTrace()).contains(".test_suppressed(");
+    assertThat(FailureStackTraces.getSuppressedCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_suppressed_exceptionUnaffected() {
+    FailureStackTraces.suppressFor(ImmutableSet.of(FailureReason.MISSING_DATA));
+    FailureItem test = FailureItem.of(FailureReason.MISSING_DATA, new IllegalArgumentException("exmsg"));
+    assertThat(test.getStackTrace()).contains(".test_suppressed_exceptionUnaffected(");
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_resetCounts() {
+    FailureItem.of(FailureReason.INVALID, "Invalid");
+    FailureStackTraces.resetCounts();
+    assertThat(FailureStackTraces.getFormattedCount()).isEqualTo(0);
+    assertThat(FailureStackTraces.getDeduplicatedCount()).isEqualTo(0);
+    assertThat(FailureStackTraces.getSuppressedCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void coverage() {
+    assertUtilityClass(FailureStackTraces.class);
+  }
+
+}
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.timeseries;
 
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static java.util.stream.Collectors.toList;
@@ -13,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.within;
 
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,6 +25,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.assertj.core.data.Offset;
 import org.joda.beans.Bean;
@@ -162,6 +166,59 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThatIllegalArgumentException().isThrownBy(() -> SparseLocalDateDoubleTimeSeries.of(dates, values));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofEpochDays() {
+    int[] epochDays = {(int) DATE_2011_01_01.toEpochDay(), (int) DATE_2012_01_01.toEpochDay()};
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.ofEpochDays(epochDays, new double[] {2d, 3d});
+    assertThat(test).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(DATE_2011_01_01, 2d)
+        .put(DATE_2012_01_01, 3d)
+        .build());
+    assertThat(LocalDateDoubleTimeSeries.ofEpochDays(new int[0], new double[0]))
+        .isSameAs(LocalDateDoubleTimeSeries.empty());
+  }
+
+  @Test
+  public void test_ofEpochDays_dense() {
+    // Friday to Tuesday, skipping the weekend
+    LocalDate friday = date(2015, 1, 2);
+    LocalDate monday = date(2015, 1, 5);
+    LocalDate tuesday = date(2015, 1, 6);
+    int[] epochDays = {(int) friday.toEpochDay(), (int) monday.toEpochDay(), (int) tuesday.toEpochDay()};
+    LocalDateDoubleTimeSeries test = LocalDateDoubleTimeSeries.ofEpochDays(epochDays, new double[] {2d, 3d, 4d});
+    LocalDateDoubleTimeSeries expected = LocalDateDoubleTimeSeries.builder()
+        .put(friday, 2d)
+        .put(monday, 3d)
+        .put(tuesday, 4d)
+        .build();
+    assertThat(test).isInstanceOf(DenseLocalDateDoubleTimeSeries.class).isEqualTo(expected);
+
+    // including a weekend
+    LocalDate saturday = date(2015, 1, 3);
+    int[] epochDays2 = {(int) friday.toEpochDay(), (int) saturday.toEpochDay()};
+    LocalDateDoubleTimeSeries test2 = LocalDateDoubleTimeSeries.ofEpochDays(epochDays2, new double[] {2d, 3d});
+    LocalDateDoubleTimeSeries expected2 = LocalDateDoubleTimeSeries.builder()
+        .put(friday, 2d)
+        .put(saturday, 3d)
+        .build();
+    assertThat(test2).isInstanceOf(DenseLocalDateDoubleTimeSeries.class).isEqualTo(expected2);
+  }
+
+  @Test
+  public void test_ofEpochDays_invalid() {
+    int day1 = (int) DATE_2011_01_01.toEpochDay();
+    int day2 = (int) DATE_2012_01_01.toEpochDay();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(new int[] {day1, day2}, new double[] {1d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(new int[] {day2, day1}, new double[] {1d, 2d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(new int[] {day1, day1}, new double[] {1d, 2d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofEpochDays(new int[] {Integer.MAX_VALUE}, new double[] {1d}));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_of_map() {
@@ -429,6 +486,68 @@ public class SparseLocalDateDoubleTimeSeriesTest {
     assertThatIllegalArgumentException().isThrownBy(() -> base.tailSeries(-1));
   }
 
+  @Test
+  public void test_views() {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    LocalDateDoubleTimeSeries test = base.subSeries(DATE_2011_01_01, DATE_2014_01_01).tailSeries(2).headSeries(1);
+    assertThat(test.size()).isEqualTo(1);
+    assertThat(test.getEarliestDate()).isEqualTo(DATE_2012_01_01);
+    assertThat(test.getLatestValue()).isEqualTo(12d);
+    assertThat(test.get(DATE_2011_01_01)).isEmpty();
+    assertThat(test.get(DATE_2013_01_01)).isEmpty();
+    assertThat(test.subSeries(DATE_2010_01_01, DATE_2014_01_01)).isEqualTo(test);
+    SparseLocalDateDoubleTimeSeries expected = SparseLocalDateDoubleTimeSeries.of(dates(DATE_2012_01_01), values(12));
+    assertThat(test).isEqualTo(expected);
+    assertThat(test.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(test.mapValues(v -> v * 2))
+        .isEqualTo(SparseLocalDateDoubleTimeSeries.of(dates(DATE_2012_01_01), values(24)));
+    assertThat(test.toBuilder().build().stream()).containsExactlyElementsOf(test.stream().collect(toList()));
+    assertSerialization(test);
+    assertSerialization(base);
+  }
+
+  @Test
+  public void test_serializedForm() {
+    ObjectStreamClass desc = ObjectStreamClass.lookup(SparseLocalDateDoubleTimeSeries.class);
+    assertThat(desc.getSerialVersionUID()).isEqualTo(1L);
+    assertThat(Arrays.stream(desc.getFields()).map(ObjectStreamField::getName)).containsExactly("dates", "values");
+    assertThat(desc.getField("dates").getType()).isEqualTo(LocalDate[].class);
+    assertThat(desc.getField("values").getType()).isEqualTo(double[].class);
+  }
+
+  @Test
+  public void test_getAll() {
+    LocalDateDoubleTimeSeries base = LocalDateDoubleTimeSeries.builder().putAll(DATES_2010_14, VALUES_10_14).build();
+    List<LocalDate> sorted = ImmutableList.of(
+        DATE_2010_06_01, DATE_2011_01_01, DATE_2011_01_01, DATE_2013_01_01, DATE_2014_01_01, DATE_2015_06_01);
+    assertThat(base.getAll(sorted, Double.NaN).toArray())
+        .containsExactly(Double.NaN, 11d, 11d, 13d, 14d, Double.NaN);
+    List<LocalDate> unsorted = ImmutableList.of(DATE_2014_01_01, DATE_2010_01_01, DATE_2012_06_01, DATE_2012_01_01);
+    assertThat(base.getAll(unsorted, -1d).toArray()).containsExactly(14d, 10d, -1d, 12d);
+    assertThat(base.getAll(ImmutableList.of(LocalDate.MIN, LocalDate.MAX), -1d).toArray()).containsExactly(-1d, -1d);
+    assertThat(base.tailSeries(2).getAll(sorted, 0d).toArray()).containsExactly(0d, 0d, 0d, 13d, 14d, 0d);
+  }
+
+  @Test
+  public void test_getAll_daily() {
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    for (int i = 0; i < 1000; i += 3) {
+      builder.put(DATE_2010_01_01.plusDays(i), i);
+    }
+    LocalDateDoubleTimeSeries base = builder.build();
+    List<LocalDate> dates = IntStream.range(0, 1000).mapToObj(DATE_2010_01_01::plusDays).collect(toList());
+    double[] expected = IntStream.range(0, 1000).mapToDouble(i -> i % 3 == 0 ? i : Double.NaN).toArray();
+    assertThat(base.getAll(dates, Double.NaN).toArray()).containsExactly(expected);
+  }
+
+  @Test
+  public void test_dateOutOfRange() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SparseLocalDateDoubleTimeSeries.of(ImmutableList.of(LocalDate.MAX), values(1)));
+    assertThat(LocalDateDoubleTimeSeries.of(DATE_2010_01_01, 1d).subSeries(LocalDate.MIN, LocalDate.MAX).size())
+        .isEqualTo(1);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_stream() {
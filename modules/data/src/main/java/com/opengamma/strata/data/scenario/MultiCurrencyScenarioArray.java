@@ -195,9 +195,10 @@ public final class MultiCurrencyScenarioArray
     for (Map.Entry<Currency, DoubleArray> entry : amounts.getValues().entrySet()) {
       Currency currency = entry.getKey();
       DoubleArray currencyValues = entry.getValue();
+      DoubleArray fxRates = fxRateProvider.fxRates(currency, reportingCurrency);
 
       for (int i = 0; i < size; i++) {
-        double convertedValue = currencyValues.get(i) * fxRateProvider.fxRate(currency, reportingCurrency, i);
+        double convertedValue = currencyValues.get(i) * fxRates.get(i);
         singleCurrencyValues[i] += convertedValue;
       }
     }
@@ -8,6 +8,7 @@ package com.opengamma.strata.loader.csv;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
@@ -23,6 +24,8 @@ import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.io.CharSources;
 import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.io.MappedCsvCursor;
+import com.opengamma.strata.collect.io.MappedCsvFile;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
 import com.opengamma.strata.collect.result.ParseFailureException;
@@ -57,6 +60,8 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
  * <p>
  * CSV files sometimes contain a Unicode Byte Order Mark.
  * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+ * <p>
+ * Large files on the file system can instead be memory-mapped using {@link #parseMapped(Collection)}.
  */
 public final class FixingSeriesCsvLoader {
 
@@ -122,6 +127,42 @@ public final class FixingSeriesCsvLoader {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses one or more CSV format fixing series files using memory-mapping.
+   * <p>
+   * This is intended for large files, such as those containing the history of fixings.
+   * Each file is memory-mapped using {@link MappedCsvFile}, avoiding the cost of reading it as text.
+   * The files must be encoded in UTF-8, with an optional byte order mark.
+   * <p>
+   * The mapping of each file is released when it is garbage collected, not when this method returns.
+   * Until then, some operating systems, notably Windows, do not allow the file to be modified or deleted.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param paths  the paths of the fixing series CSV files
+   * @return the loaded fixing series, mapped by {@linkplain ObservableId observable ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseMapped(Collection<Path> paths) {
+    // builder ensures keys can only be seen once
+    try {
+      ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
+      for (Path path : paths) {
+        builder.putAll(parseMappedFile(path));
+      }
+      return builder.build();
+    } catch (ParseFailureException ex) {
+      throw ex;
+    } catch (RuntimeException ex) {
+      throw new ParseFailureException(
+          ex,
+          "Error parsing CSV files '{fileName}': {exceptionMessage}",
+          paths.stream().map(path -> path.getFileName().toString()).collect(toImmutableList()),
+          ex.getMessage());
+    }
+  }
+
   //-------------------------------------------------------------------------
   // loads a single fixing series CSV file
   private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseSingle(CharSource resource) {
@@ -136,22 +177,7 @@ public final class FixingSeriesCsvLoader {
         Index index = LoaderUtils.findIndex(referenceStr);
         ObservableId id = IndexQuoteId.of(index);
         double value = Double.parseDouble(valueStr);
-        LocalDate date;
-        if (index instanceof PriceIndex) {
-          try {
-            YearMonth ym = LoaderUtils.parseYearMonth(dateStr);
-            date = ym.atEndOfMonth();
-          } catch (RuntimeException ex) {
-            date = LoaderUtils.parseDate(dateStr);
-            if (date.getDayOfMonth() != date.lengthOfMonth()) {
-              throw new ParseFailureException(
-                  "Unable to parse price index from '{fileName}', must have date at end of month",
-                  CharSources.extractFileName(resource));
-            }
-          }
-        } else {
-          date = LoaderUtils.parseDate(dateStr);
-        }
+        LocalDate date = parseFixingDate(index, dateStr, CharSources.extractFileName(resource));
 
         LocalDateDoubleTimeSeriesBuilder builder = builders.computeIfAbsent(id, k -> LocalDateDoubleTimeSeries.builder());
         builder.put(date, value);
@@ -166,6 +192,62 @@ public final class FixingSeriesCsvLoader {
     }
   }
 
+  // loads a single memory-mapped fixing series CSV file
+  private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseMappedFile(Path path) {
+    Map<ObservableId, LocalDateDoubleTimeSeriesBuilder> builders = new HashMap<>();
+    String fileName = path.getFileName().toString();
+    try {
+      MappedCsvFile csv = MappedCsvFile.of(path, true);
+      int referenceIndex = csv.headerIndex(REFERENCE_FIELD);
+      int dateIndex = csv.headerIndex(DATE_FIELD);
+      int valueIndex = csv.headerIndex(VALUE_FIELD);
+      MappedCsvCursor cursor = csv.cursor();
+      // consecutive rows typically refer to the same index
+      String lastReferenceStr = null;
+      Index index = null;
+      LocalDateDoubleTimeSeriesBuilder builder = null;
+      while (cursor.next()) {
+        String referenceStr = cursor.getField(referenceIndex);
+        if (!referenceStr.equals(lastReferenceStr)) {
+          index = LoaderUtils.findIndex(referenceStr);
+          builder = builders.computeIfAbsent(IndexQuoteId.of(index), k -> LocalDateDoubleTimeSeries.builder());
+          lastReferenceStr = referenceStr;
+        }
+        double value = cursor.getDouble(valueIndex);
+        LocalDate date = index instanceof PriceIndex ?
+            parseFixingDate(index, cursor.getField(dateIndex), fileName) :
+            cursor.getLocalDate(dateIndex, LoaderUtils::parseDate);
+        builder.put(date, value);
+      }
+      return MapStream.of(builders).mapValues(b -> b.build()).toMap();
+    } catch (RuntimeException ex) {
+      throw new ParseFailureException(
+          ex,
+          "Error parsing CSV file '{fileName}': {exceptionMessage}",
+          fileName,
+          ex.getMessage());
+    }
+  }
+
+  // parses the date of a fixing, price indices use the end of the month
+  private static LocalDate parseFixingDate(Index index, String dateStr, String fileName) {
+    if (!(index instanceof PriceIndex)) {
+      return LoaderUtils.parseDate(dateStr);
+    }
+    try {
+      YearMonth ym = LoaderUtils.parseYearMonth(dateStr);
+      return ym.atEndOfMonth();
+    } catch (RuntimeException ex) {
+      LocalDate date = LoaderUtils.parseDate(dateStr);
+      if (date.getDayOfMonth() != date.lengthOfMonth()) {
+        throw new ParseFailureException(
+            "Unable to parse price index from '{fileName}', must have date at end of month",
+            fileName);
+      }
+      return date;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
@@ -7,10 +7,12 @@ package com.opengamma.strata.loader.csv;
 
 import static java.util.stream.Collectors.toList;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -20,9 +22,12 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.io.CharSources;
 import com.opengamma.strata.collect.io.CsvFile;
 import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.io.MappedCsvCursor;
+import com.opengamma.strata.collect.io.MappedCsvFile;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
 import com.opengamma.strata.collect.result.ParseFailureException;
@@ -58,6 +63,9 @@ import com.opengamma.strata.market.observable.QuoteId;
  * <p>
  * CSV files sometimes contain a Unicode Byte Order Mark.
  * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+ * <p>
+ * Large files on the file system can instead be memory-mapped and parsed in parallel
+ * using {@link #parseMapped(Predicate, Collection)}.
  */
 public final class QuotesCsvLoader {
 
@@ -200,11 +208,47 @@ public final class QuotesCsvLoader {
       for (CharSource charSource : charSources) {
         parseSingle(datePredicate, charSource, mutableMap);
       }
-      ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
-      for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
-        builder.put(entry.getKey(), entry.getValue().build());
+      return buildResult(mutableMap);
+
+    } catch (ParseFailureException ex) {
+      throw ex;
+    } catch (RuntimeException ex) {
+      throw new ParseFailureException(ex, "Error parsing quotes CSV files: {exceptionMessage}", ex.getMessage());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Parses one or more CSV format quote files using memory-mapping.
+   * <p>
+   * This is intended for large files, such as those containing the history of quotes.
+   * Each file is memory-mapped using {@link MappedCsvFile} and split into chunks that are parsed in parallel.
+   * The files must be encoded in UTF-8, with an optional byte order mark.
+   * <p>
+   * The mapping of each file is released when it is garbage collected, not when this method returns.
+   * Until then, some operating systems, notably Windows, do not allow the file to be modified or deleted.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param datePredicate  the predicate used to select the dates
+   * @param paths  the paths of the CSV files
+   * @return the loaded quotes, mapped by {@link LocalDate} and {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> parseMapped(
+      Predicate<LocalDate> datePredicate,
+      Collection<Path> paths) {
+
+    try {
+      // builder ensures keys can only be seen once
+      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
+      for (Path path : paths) {
+        parseMappedFile(datePredicate, path, mutableMap);
       }
-      return builder.build();
+      return buildResult(mutableMap);
 
     } catch (ParseFailureException ex) {
       throw ex;
@@ -213,6 +257,17 @@ public final class QuotesCsvLoader {
     }
   }
 
+  // builds the result
+  private static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> buildResult(
+      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
+
+    ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
+    for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
+      builder.put(entry.getKey(), entry.getValue().build());
+    }
+    return builder.build();
+  }
+
   // loads a single CSV file, filtering by date
   private static void parseSingle(
       Predicate<LocalDate> datePredicate,
@@ -244,6 +299,60 @@ public final class QuotesCsvLoader {
     }
   }
 
+  // loads a single memory-mapped CSV file, filtering by date
+  // the file is split into chunks that are parsed in parallel, then combined in file order
+  private static void parseMappedFile(
+      Predicate<LocalDate> datePredicate,
+      Path path,
+      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
+
+    try {
+      MappedCsvFile csv = MappedCsvFile.of(path, true);
+      int[] indices = {
+          csv.headerIndex(DATE_FIELD),
+          csv.headerIndex(SYMBOLOGY_FIELD),
+          csv.headerIndex(TICKER_FIELD),
+          csv.headerIndex(FIELD_NAME_FIELD),
+          csv.headerIndex(VALUE_FIELD)};
+      List<Map<LocalDate, ImmutableMap<QuoteId, Double>>> chunkResults =
+          csv.split(Runtime.getRuntime().availableProcessors()).parallelStream()
+              .map(chunk -> parseChunk(datePredicate, chunk, indices))
+              .collect(toList());
+      for (Map<LocalDate, ImmutableMap<QuoteId, Double>> chunkResult : chunkResults) {
+        for (Entry<LocalDate, ImmutableMap<QuoteId, Double>> entry : chunkResult.entrySet()) {
+          mutableMap.computeIfAbsent(entry.getKey(), k -> ImmutableMap.builder()).putAll(entry.getValue());
+        }
+      }
+    } catch (RuntimeException ex) {
+      throw new ParseFailureException(
+          ex, "Error parsing CSV file '{fileName}': {exceptionMessage}", path.getFileName(), ex.getMessage());
+    }
+  }
+
+  // parses a chunk of a memory-mapped CSV file, filtering by date
+  private static Map<LocalDate, ImmutableMap<QuoteId, Double>> parseChunk(
+      Predicate<LocalDate> datePredicate,
+      MappedCsvFile chunk,
+      int[] indices) {
+
+    Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
+    MappedCsvCursor cursor = chunk.cursor();
+    while (cursor.next()) {
+      LocalDate date = cursor.getLocalDate(indices[0], LoaderUtils::parseDate);
+      if (datePredicate.test(date)) {
+        StandardId id = StandardId.of(cursor.getField(indices[1]), cursor.getField(indices[2]));
+        CharSequence fieldNameStr = cursor.field(indices[3]);
+        FieldName fieldName = fieldNameStr.length() == 0 ? FieldName.MARKET_VALUE : FieldName.of(fieldNameStr.toString());
+        double value = cursor.getDouble(indices[4]);
+
+        ImmutableMap.Builder<QuoteId, Double> builderForDate = mutableMap.computeIfAbsent(date, k -> ImmutableMap.builder());
+        builderForDate.put(QuoteId.of(id, fieldName), value);
+      }
+    }
+    // building checks for duplicates within the chunk
+    return MapStream.of(mutableMap).mapValues(builder -> builder.build()).toMap();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
@@ -29,12 +29,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.io.CharSource;
 import com.google.common.primitives.Booleans;
 import com.opengamma.strata.basics.ReferenceData;
@@ -216,6 +219,8 @@ public final class TradeCsvLoader {
   // default schemes
   private static final String DEFAULT_TRADE_SCHEME = StandardSchemes.OG_TRADE_SCHEME;
   private static final String DEFAULT_CPTY_SCHEME = StandardSchemes.OG_COUNTERPARTY;
+  // the number of trades parsed together when parsing in parallel
+  private static final int PARALLEL_BATCH_SIZE = 1024;
 
   /**
    * The lookup of trade parsers.
@@ -396,38 +401,176 @@ public final class TradeCsvLoader {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses one or more CSV format trade files, passing each trade to a consumer.
+   * <p>
+   * This parses the rows of each file in turn, without retaining the trades that have been parsed.
+   * It is intended for large files, where holding all the trades in memory is undesirable.
+   * <p>
+   * A type is specified to filter the trades.
+   * Trades that do not match the type are silently dropped.
+   * Each trade is passed to the trade consumer, and each failure, such as a row that cannot be parsed,
+   * is passed to the failure consumer. Both consumers are invoked on the calling thread in the order of
+   * the input rows. Any exception thrown by a consumer is propagated.
+   * <p>
+   * CSV files sometimes contain a Unicode Byte Order Mark.
+   * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+   * 
+   * @param <T>  the trade type
+   * @param charSources  the CSV character sources
+   * @param tradeType  the trade type to return
+   * @param tradeConsumer  the consumer of trades
+   * @param failureConsumer  the consumer of failures
+   */
+  public <T extends Trade> void parse(
+      Collection<CharSource> charSources,
+      Class<T> tradeType,
+      Consumer<? super T> tradeConsumer,
+      Consumer<? super FailureItem> failureConsumer) {
+
+    for (CharSource charSource : charSources) {
+      parseFile(charSource, tradeType, 1, tradeConsumer, failureConsumer);
+    }
+  }
+
+  /**
+   * Parses one or more CSV format trade files in parallel, passing each trade to a consumer.
+   * <p>
+   * This behaves as per {@link #parse(Collection, Class, Consumer, Consumer)}, except that the rows
+   * are parsed in batches using multiple threads. The trades and failures are still passed to the
+   * consumers on the calling thread in the order of the input rows.
+   * <p>
+   * The resolver and the trade parser plugins must be thread-safe to use this method.
+   * The standard implementations are thread-safe.
+   * 
+   * @param <T>  the trade type
+   * @param charSources  the CSV character sources
+   * @param tradeType  the trade type to return
+   * @param tradeConsumer  the consumer of trades
+   * @param failureConsumer  the consumer of failures
+   */
+  public <T extends Trade> void parseInParallel(
+      Collection<CharSource> charSources,
+      Class<T> tradeType,
+      Consumer<? super T> tradeConsumer,
+      Consumer<? super FailureItem> failureConsumer) {
+
+    for (CharSource charSource : charSources) {
+      parseFile(charSource, tradeType, PARALLEL_BATCH_SIZE, tradeConsumer, failureConsumer);
+    }
+  }
+
+  // parses a single CSV file in batches, passing the results to the consumers
+  // exceptions from the consumers are not caught
+  private <T extends Trade> void parseFile(
+      CharSource charSource,
+      Class<T> tradeType,
+      int batchSize,
+      Consumer<? super T> tradeConsumer,
+      Consumer<? super FailureItem> failureConsumer) {
+
+    CsvIterator csv;
+    try {
+      csv = CsvIterator.of(charSource, true);
+    } catch (RuntimeException ex) {
+      failureConsumer.accept(fileFailure(charSource, ex));
+      return;
+    }
+    try {
+      if (!csv.headers().contains(TRADE_TYPE_FIELD)) {
+        failureConsumer.accept(missingHeaderFailure(charSource));
+        return;
+      }
+      while (true) {
+        List<List<CsvRow>> batch;
+        try {
+          batch = nextRowGroups(csv, batchSize);
+        } catch (RuntimeException ex) {
+          failureConsumer.accept(fileFailure(charSource, ex));
+          return;
+        }
+        if (batch.isEmpty()) {
+          return;
+        }
+        List<ValueWithFailures<List<T>>> parsed = (batch.size() > 1 ? batch.parallelStream() : batch.stream())
+            .map(rows -> parseRows(Iterators.peekingIterator(rows.iterator()), charSource, tradeType))
+            .collect(toList());
+        for (ValueWithFailures<List<T>> result : parsed) {
+          result.getValue().forEach(tradeConsumer);
+          result.getFailures().forEach(failureConsumer);
+        }
+      }
+    } finally {
+      csv.close();
+    }
+  }
+
+  // reads the next groups of rows, where each group contains a row and its additional rows
+  private static List<List<CsvRow>> nextRowGroups(CsvIterator csv, int count) {
+    List<List<CsvRow>> groups = new ArrayList<>();
+    while (groups.size() < count && csv.hasNext()) {
+      CsvRow row = csv.next();
+      String typeUpper = row.findField(TRADE_TYPE_FIELD).orElse("").toUpperCase(Locale.ENGLISH);
+      TradeCsvParserPlugin plugin = PLUGINS.get(typeUpper);
+      if (plugin == null || !csv.hasNext() || !plugin.isAdditionalRow(row, csv.peek())) {
+        groups.add(ImmutableList.of(row));
+      } else {
+        List<CsvRow> group = new ArrayList<>();
+        group.add(row);
+        while (csv.hasNext() && plugin.isAdditionalRow(row, csv.peek())) {
+          group.add(csv.next());
+        }
+        groups.add(group);
+      }
+    }
+    return groups;
+  }
+
+  //-------------------------------------------------------------------------
   // loads a single CSV file, filtering by trade type
   private <T extends Trade> ValueWithFailures<List<T>> parseFile(CharSource charSource, Class<T> tradeType) {
     try (CsvIterator csv = CsvIterator.of(charSource, true)) {
       if (!csv.headers().contains(TRADE_TYPE_FIELD)) {
-        return ValueWithFailures.of(
-            ImmutableList.of(),
-            FailureItem.of(
-                FailureReason.PARSING,
-                "CSV trade file '{fileName}' does not contain '{header}' header",
-                CharSources.extractFileName(charSource),
-                TRADE_TYPE_FIELD));
+        return ValueWithFailures.of(ImmutableList.of(), missingHeaderFailure(charSource));
       }
-      return parseFile(csv, charSource, tradeType);
+      return parseRows(csv, charSource, tradeType);
 
     } catch (RuntimeException ex) {
-      return ValueWithFailures.of(
-          ImmutableList.of(),
-          FailureItem.of(
-              FailureReason.PARSING,
-              ex,
-              "CSV trade file '{fileName}' could not be parsed: {exceptionMessage}",
-              CharSources.extractFileName(charSource),
-              ex.getMessage()));
+      return ValueWithFailures.of(ImmutableList.of(), fileFailure(charSource, ex));
     }
   }
 
-  // loads a single CSV file
+  // failure when the trade type header is missing
+  private static FailureItem missingHeaderFailure(CharSource charSource) {
+    return FailureItem.of(
+        FailureReason.PARSING,
+        "CSV trade file '{fileName}' does not contain '{header}' header",
+        CharSources.extractFileName(charSource),
+        TRADE_TYPE_FIELD);
+  }
+
+  // failure when the file cannot be parsed
+  private static FailureItem fileFailure(CharSource charSource, RuntimeException ex) {
+    return FailureItem.of(
+        FailureReason.PARSING,
+        ex,
+        "CSV trade file '{fileName}' could not be parsed: {exceptionMessage}",
+        CharSources.extractFileName(charSource),
+        ex.getMessage());
+  }
+
+  // loads the rows of a CSV file
   @SuppressWarnings("unchecked")
-  private <T extends Trade> ValueWithFailures<List<T>> parseFile(CsvIterator csv, CharSource charSource, Class<T> tradeType) {
+  private <T extends Trade> ValueWithFailures<List<T>> parseRows(
+      PeekingIterator<CsvRow> csv,
+      CharSource charSource,
+      Class<T> tradeType) {
+
     List<T> trades = new ArrayList<>();
     List<FailureItem> failures = new ArrayList<>();
-    for (CsvRow row : csv.asIterable()) {
+    while (csv.hasNext()) {
+      CsvRow row = csv.next();
       // handle mixed trade/position files
       Optional<String> tradeTypeOpt = row.findValue(TRADE_TYPE_FIELD).filter(str -> !str.equalsIgnoreCase("POSITION"));
       Optional<String> positionTypeOpt = row.findValue(POSITION_TYPE_FIELD).filter(str -> !str.equalsIgnoreCase("TRADE"));
@@ -253,6 +253,33 @@ public final class FpmlDocument {
     this.strictValidation = strictValidation;
   }
 
+  // creates a copy with additional references
+  private FpmlDocument(FpmlDocument base, Map<String, XmlElement> additionalReferences) {
+    this.fpmlRoot = base.fpmlRoot;
+    this.references = ImmutableMap.<String, XmlElement>builder()
+        .putAll(base.references)
+        .putAll(additionalReferences)
+        .buildKeepingLast();
+    this.parties = base.parties;
+    this.ourPartyHrefIds = base.ourPartyHrefIds;
+    this.tradeInfoParser = base.tradeInfoParser;
+    this.refData = base.refData;
+    this.strictValidation = base.strictValidation;
+  }
+
+  /**
+   * Returns a copy of this document with additional references.
+   * <p>
+   * This is used when the trades are parsed separately from the rest of the document,
+   * adding the references found within a trade.
+   *
+   * @param additionalReferences  the additional map of id/href to referenced element
+   * @return the document with the additional references
+   */
+  FpmlDocument withReferences(Map<String, XmlElement> additionalReferences) {
+    return additionalReferences.isEmpty() ? this : new FpmlDocument(this, additionalReferences);
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
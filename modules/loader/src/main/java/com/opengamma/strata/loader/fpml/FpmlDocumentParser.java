@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -22,6 +23,8 @@ import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.io.XmlElement;
 import com.opengamma.strata.collect.io.XmlFile;
 import com.opengamma.strata.collect.named.ExtendedEnum;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.product.Trade;
 
 /**
@@ -36,6 +39,7 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // as such, streaming reads the file twice, once excluding the trades and once for the trades
 
   /**
    * The lookup of trade parsers.
@@ -300,6 +304,53 @@ public final class FpmlDocumentParser {
     return parseTrades(root, xmlFile.getReferences());
   }
 
+  /**
+   * Parses FpML from the specified source, passing each trade to a consumer.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * Unlike {@link #parseTrades(ByteSource)}, the whole document is not held in memory.
+   * Instead, the source is read twice, firstly to parse the document excluding the trades,
+   * and secondly to parse each trade in turn.
+   * <p>
+   * Each trade is passed to the trade consumer. If a trade cannot be parsed, a failure is
+   * passed to the failure consumer and parsing continues with the next trade.
+   * Any exception thrown by a consumer is propagated.
+   * <p>
+   * The FpML root element is found as per {@link #parseTrades(ByteSource)}.
+   * Every {@code <trade>} element in the source is parsed, wherever it is located in the document.
+   * A trade may refer to elements elsewhere in the document, or within the same trade,
+   * but not to elements within another trade.
+   * 
+   * @param source  the source of the FpML XML document
+   * @param tradeConsumer  the consumer of trades
+   * @param failureConsumer  the consumer of failures
+   * @throws RuntimeException if a parse error occurred that is not specific to a trade
+   */
+  public void parseTrades(
+      ByteSource source,
+      Consumer<? super Trade> tradeConsumer,
+      Consumer<? super FailureItem> failureConsumer) {
+
+    XmlFile xmlFile = XmlFile.parseExcluding(source, FpmlDocument.ID, name -> name.equals("trade"));
+    XmlElement root = findFpmlRoot(xmlFile.getRoot());
+    if (root == null) {
+      throw new FpmlParseException("Unable to find FpML root element");
+    }
+    FpmlDocument document = new FpmlDocument(
+        root, xmlFile.getReferences(), ourPartySelector, tradeInfoParser, refData, strictValidation);
+    XmlFile.parseElements(source, FpmlDocument.ID, name -> name.equals("trade"), (tradeEl, references) -> {
+      Trade trade;
+      try {
+        trade = parseTrade(document.withReferences(references), tradeEl);
+      } catch (RuntimeException ex) {
+        failureConsumer.accept(FailureItem.of(
+            FailureReason.PARSING, ex, "FpML trade could not be parsed: {exceptionMessage}", ex.getMessage()));
+        return;
+      }
+      tradeConsumer.accept(trade);
+    });
+  }
+
   // intelligently finds the FpML root element
   private static XmlElement findFpmlRoot(XmlElement root) {
     XmlElement fpmlRoot = getFpmlRoot(root);
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+
+/**
+ * A snapshot of market data, as stored in the binary snapshot format.
+ * <p>
+ * This contains the quotes and time-series of a valuation date, together with the rates curve groups.
+ * It is written by {@link MarketDataSnapshotWriter} and read by {@link MarketDataSnapshotLoader}.
+ */
+@BeanDefinition(style = "light")
+public final class MarketDataSnapshot
+    implements ImmutableBean {
+
+  /**
+   * The market data, containing the quotes and time-series.
+   * <p>
+   * Each value must be a {@code Double} keyed by a {@code QuoteId} or {@code IndexQuoteId}.
+   * Each time-series must be keyed by a {@code QuoteId} or {@code IndexQuoteId}.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMarketData marketData;
+  /**
+   * The rates curve groups.
+   * <p>
+   * Each curve must be an {@code InterpolatedNodalCurve} with dated parameter metadata,
+   * as per {@link com.opengamma.strata.loader.csv.RatesCurvesCsvLoader}.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<RatesCurveGroup> curveGroups;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from market data, without any curve groups.
+   *
+   * @param marketData  the market data
+   * @return the snapshot
+   */
+  public static MarketDataSnapshot of(ImmutableMarketData marketData) {
+    return new MarketDataSnapshot(marketData, ImmutableList.of());
+  }
+
+  /**
+   * Obtains an instance from market data and curve groups.
+   *
+   * @param marketData  the market data
+   * @param curveGroups  the curve groups
+   * @return the snapshot
+   */
+  public static MarketDataSnapshot of(ImmutableMarketData marketData, List<RatesCurveGroup> curveGroups) {
+    return new MarketDataSnapshot(marketData, ImmutableList.copyOf(curveGroups));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code MarketDataSnapshot}.
+   */
+  private static final TypedMetaBean<MarketDataSnapshot> META_BEAN =
+      LightMetaBean.of(
+          MarketDataSnapshot.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "marketData",
+              "curveGroups"},
+          null,
+          ImmutableList.of());
+
+  /**
+   * The meta-bean for {@code MarketDataSnapshot}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<MarketDataSnapshot> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private MarketDataSnapshot(
+      ImmutableMarketData marketData,
+      List<RatesCurveGroup> curveGroups) {
+    JodaBeanUtils.notNull(marketData, "marketData");
+    JodaBeanUtils.notNull(curveGroups, "curveGroups");
+    this.marketData = marketData;
+    this.curveGroups = ImmutableList.copyOf(curveGroups);
+  }
+
+  @Override
+  public TypedMetaBean<MarketDataSnapshot> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the market data, containing the quotes and time-series.
+   * <p>
+   * Each value must be a {@code Double} keyed by a {@code QuoteId} or {@code IndexQuoteId}.
+   * Each time-series must be keyed by a {@code QuoteId} or {@code IndexQuoteId}.
+   * @return the value of the property, not null
+   */
+  public ImmutableMarketData getMarketData() {
+    return marketData;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the rates curve groups.
+   * <p>
+   * Each curve must be an {@code InterpolatedNodalCurve} with dated parameter metadata,
+   * as per {@link com.opengamma.strata.loader.csv.RatesCurvesCsvLoader}.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<RatesCurveGroup> getCurveGroups() {
+    return curveGroups;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      MarketDataSnapshot other = (MarketDataSnapshot) obj;
+      return JodaBeanUtils.equal(marketData, other.marketData) &&
+          JodaBeanUtils.equal(curveGroups, other.curveGroups);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(marketData);
+    hash = hash * 31 + JodaBeanUtils.hashCode(curveGroups);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("MarketDataSnapshot{");
+    buf.append("marketData").append('=').append(JodaBeanUtils.toString(marketData)).append(',').append(' ');
+    buf.append("curveGroups").append('=').append(JodaBeanUtils.toString(curveGroups));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.io.BeanByteSource;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.result.ParseFailureException;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.DefaultCurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.market.param.LabelDateParameterMetadata;
+import com.opengamma.strata.market.param.ParameterMetadata;
+
+/**
+ * Loads market data snapshots from a binary columnar format.
+ * <p>
+ * The format is intended for the fast loading of a large end-of-day snapshot, such as one that
+ * has previously been loaded using {@code QuotesCsvLoader}, {@code FixingSeriesCsvLoader} and
+ * {@code RatesCurvesCsvLoader}. Snapshots are written by {@link MarketDataSnapshotWriter}.
+ * The snapshot is read without text parsing. Large files can instead be memory-mapped
+ * using {@link #loadMapped(Path)}.
+ * <p>
+ * The format consists of the following sections, with all numbers in big-endian order:
+ * <ul>
+ * <li>The header - a magic number, the format version and the valuation date as an epoch-day.
+ * <li>The string table - each distinct string, such as a ticker, in UTF-8.
+ * <li>The identifier table - each distinct {@link QuoteId} or {@link IndexQuoteId}, referring to the string table.
+ * <li>The quotes - a column of identifier references and a column of values.
+ * <li>The time-series - for each series, an identifier reference, a column of epoch-days and a column of values.
+ * <li>The curve groups - for each curve, the settings, the columns of x-values, y-values,
+ *  node dates and node labels, followed by the discount and forward curve mappings.
+ * </ul>
+ * <p>
+ * Each curve is loaded as an {@link InterpolatedNodalCurve} with {@link LabelDateParameterMetadata},
+ * as per {@code RatesCurvesCsvLoader}.
+ */
+public final class MarketDataSnapshotLoader {
+
+  /**
+   * The magic number at the start of the format, 'OGSN'.
+   */
+  static final int MAGIC = 0x4F47534E;
+  /**
+   * The version of the format.
+   */
+  static final int VERSION = 1;
+  /**
+   * The kind of identifier for {@code QuoteId}.
+   */
+  static final byte KIND_QUOTE = 1;
+  /**
+   * The kind of identifier for {@code IndexQuoteId}.
+   */
+  static final byte KIND_INDEX_QUOTE = 2;
+  /**
+   * The reference used when there is no string.
+   */
+  static final int NO_REF = -1;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Loads a snapshot from a resource.
+   * <p>
+   * The resource is read fully into memory before parsing.
+   *
+   * @param resource  the resource
+   * @return the snapshot
+   * @throws ParseFailureException if the snapshot cannot be parsed
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static MarketDataSnapshot load(ResourceLocator resource) {
+    ArgChecker.notNull(resource, "resource");
+    return parse(resource.getByteSource());
+  }
+
+  /**
+   * Loads a snapshot by memory-mapping a file.
+   * <p>
+   * This is intended for large snapshots, avoiding the need to copy the file into memory.
+   * The mapping of the file is released when it is garbage collected, not when this method returns.
+   * Until then, some operating systems, notably Windows, do not allow the file to be modified or deleted.
+   *
+   * @param path  the path of the file
+   * @return the snapshot
+   * @throws ParseFailureException if the snapshot cannot be parsed
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static MarketDataSnapshot loadMapped(Path path) {
+    ArgChecker.notNull(path, "path");
+    ByteBuffer buf;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ArgChecker.isTrue(channel.size() <= Integer.MAX_VALUE, "Market data snapshot must be less than 2GB");
+      buf = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return parse(buf, String.valueOf(path.getFileName()));
+  }
+
+  /**
+   * Parses a snapshot from a byte source.
+   *
+   * @param source  the byte source
+   * @return the snapshot
+   * @throws ParseFailureException if the snapshot cannot be parsed
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static MarketDataSnapshot parse(ByteSource source) {
+    ArgChecker.notNull(source, "source");
+    String fileName = source instanceof BeanByteSource ?
+        ((BeanByteSource) source).getFileName().orElse("Unknown.bin") :
+        "Unknown.bin";
+    try {
+      return parse(ByteBuffer.wrap(source.read()), fileName);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // parses the snapshot
+  private static MarketDataSnapshot parse(ByteBuffer buf, String fileName) {
+    try {
+      if (buf.remaining() < 12 || buf.getInt() != MAGIC) {
+        throw new ParseFailureException("File is not a market data snapshot");
+      }
+      int version = buf.getInt();
+      if (version != VERSION) {
+        throw new ParseFailureException("Unsupported market data snapshot version: {value}", version);
+      }
+      LocalDate valuationDate = LocalDate.ofEpochDay(buf.getInt());
+      String[] strings = readStrings(buf);
+      ObservableId[] ids = readIds(buf, strings);
+
+      // quotes
+      int quoteCount = buf.getInt();
+      int[] quoteIds = readInts(buf, quoteCount);
+      double[] quotes = readDoubles(buf, quoteCount);
+      Map<ObservableId, Double> values = new LinkedHashMap<>();
+      for (int i = 0; i < quoteCount; i++) {
+        values.put(ids[quoteIds[i]], quotes[i]);
+      }
+
+      // time-series, the columns are read sequentially and the series built in parallel
+      int seriesCount = buf.getInt();
+      int[] seriesIds = new int[seriesCount];
+      int[][] seriesDates = new int[seriesCount][];
+      double[][] seriesValues = new double[seriesCount][];
+      for (int i = 0; i < seriesCount; i++) {
+        seriesIds[i] = buf.getInt();
+        int size = buf.getInt();
+        seriesDates[i] = readInts(buf, size);
+        seriesValues[i] = readDoubles(buf, size);
+      }
+      LocalDateDoubleTimeSeries[] series = IntStream.range(0, seriesCount)
+          .parallel()
+          .mapToObj(i -> LocalDateDoubleTimeSeries.ofEpochDays(seriesDates[i], seriesValues[i]))
+          .toArray(LocalDateDoubleTimeSeries[]::new);
+      Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries = new LinkedHashMap<>();
+      for (int i = 0; i < seriesCount; i++) {
+        timeSeries.put(ids[seriesIds[i]], series[i]);
+      }
+
+      // curve groups
+      int groupCount = buf.getInt();
+      List<RatesCurveGroup> curveGroups = new ArrayList<>(groupCount);
+      for (int i = 0; i < groupCount; i++) {
+        curveGroups.add(readCurveGroup(buf, strings));
+      }
+      if (buf.hasRemaining()) {
+        throw new ParseFailureException("Market data snapshot has unexpected content at the end");
+      }
+
+      ImmutableMarketData marketData = ImmutableMarketData.builder(valuationDate)
+          .values(values)
+          .timeSeries(timeSeries)
+          .build();
+      return MarketDataSnapshot.of(marketData, curveGroups);
+
+    } catch (RuntimeException ex) {
+      throw new ParseFailureException(
+          ex, "Error parsing market data snapshot '{fileName}': {exceptionMessage}", fileName, ex.getMessage());
+    }
+  }
+
+  // reads the string table
+  private static String[] readStrings(ByteBuffer buf) {
+    String[] strings = new String[buf.getInt()];
+    for (int i = 0; i < strings.length; i++) {
+      byte[] bytes = new byte[buf.getInt()];
+      buf.get(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return strings;
+  }
+
+  // reads the identifier table
+  private static ObservableId[] readIds(ByteBuffer buf, String[] strings) {
+    ObservableId[] ids = new ObservableId[buf.getInt()];
+    for (int i = 0; i < ids.length; i++) {
+      byte kind = buf.get();
+      int ref1 = buf.getInt();
+      int ref2 = buf.getInt();
+      FieldName fieldName = FieldName.of(strings[buf.getInt()]);
+      ObservableSource source = ObservableSource.of(strings[buf.getInt()]);
+      if (kind == KIND_QUOTE) {
+        ids[i] = QuoteId.of(StandardId.of(strings[ref1], strings[ref2]), fieldName, source);
+      } else if (kind == KIND_INDEX_QUOTE) {
+        ids[i] = IndexQuoteId.of(Index.of(strings[ref1]), fieldName, source);
+      } else {
+        throw new ParseFailureException("Unknown identifier kind: {value}", kind);
+      }
+    }
+    return ids;
+  }
+
+  // reads a curve group
+  private static RatesCurveGroup readCurveGroup(ByteBuffer buf, String[] strings) {
+    CurveGroupName name = CurveGroupName.of(strings[buf.getInt()]);
+    Curve[] curves = new Curve[buf.getInt()];
+    for (int i = 0; i < curves.length; i++) {
+      curves[i] = readCurve(buf, strings);
+    }
+    int discountCount = buf.getInt();
+    Map<Currency, Curve> discountCurves = new LinkedHashMap<>();
+    for (int i = 0; i < discountCount; i++) {
+      discountCurves.put(Currency.of(strings[buf.getInt()]), curves[buf.getInt()]);
+    }
+    int forwardCount = buf.getInt();
+    Map<Index, Curve> forwardCurves = new LinkedHashMap<>();
+    for (int i = 0; i < forwardCount; i++) {
+      forwardCurves.put(Index.of(strings[buf.getInt()]), curves[buf.getInt()]);
+    }
+    return RatesCurveGroup.of(name, discountCurves, forwardCurves);
+  }
+
+  // reads a curve
+  private static Curve readCurve(ByteBuffer buf, String[] strings) {
+    CurveName name = CurveName.of(strings[buf.getInt()]);
+    ValueType xValueType = ValueType.of(strings[buf.getInt()]);
+    ValueType yValueType = ValueType.of(strings[buf.getInt()]);
+    int dayCountRef = buf.getInt();
+    DayCount dayCount = dayCountRef == NO_REF ? null : DayCount.of(strings[dayCountRef]);
+    CurveInterpolator interpolator = CurveInterpolator.of(strings[buf.getInt()]);
+    CurveExtrapolator extrapolatorLeft = CurveExtrapolator.of(strings[buf.getInt()]);
+    CurveExtrapolator extrapolatorRight = CurveExtrapolator.of(strings[buf.getInt()]);
+    int size = buf.getInt();
+    double[] xValues = readDoubles(buf, size);
+    double[] yValues = readDoubles(buf, size);
+    int[] dates = readInts(buf, size);
+    int[] labels = readInts(buf, size);
+    List<ParameterMetadata> parameterMetadata = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      parameterMetadata.add(LabelDateParameterMetadata.of(LocalDate.ofEpochDay(dates[i]), strings[labels[i]]));
+    }
+    return InterpolatedNodalCurve.builder()
+        .metadata(DefaultCurveMetadata.builder()
+            .curveName(name)
+            .xValueType(xValueType)
+            .yValueType(yValueType)
+            .dayCount(dayCount)
+            .parameterMetadata(parameterMetadata)
+            .build())
+        .xValues(DoubleArray.ofUnsafe(xValues))
+        .yValues(DoubleArray.ofUnsafe(yValues))
+        .interpolator(interpolator)
+        .extrapolatorLeft(extrapolatorLeft)
+        .extrapolatorRight(extrapolatorRight)
+        .build();
+  }
+
+  // reads a column of ints
+  private static int[] readInts(ByteBuffer buf, int size) {
+    int[] values = new int[size];
+    buf.asIntBuffer().get(values);
+    buf.position(buf.position() + size * Integer.BYTES);
+    return values;
+  }
+
+  // reads a column of doubles
+  private static double[] readDoubles(ByteBuffer buf, int size) {
+    double[] values = new double[size];
+    buf.asDoubleBuffer().get(values);
+    buf.position(buf.position() + size * Double.BYTES);
+    return values;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Restricted constructor.
+   */
+  private MarketDataSnapshotLoader() {
+  }
+
+}
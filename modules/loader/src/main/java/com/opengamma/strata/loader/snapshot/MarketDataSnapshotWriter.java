@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader.KIND_INDEX_QUOTE;
+import static com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader.KIND_QUOTE;
+import static com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader.MAGIC;
+import static com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader.NO_REF;
+import static com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.market.param.DatedParameterMetadata;
+import com.opengamma.strata.market.param.ParameterMetadata;
+
+/**
+ * Writes market data snapshots in a binary columnar format.
+ * <p>
+ * The format is described in {@link MarketDataSnapshotLoader}.
+ * Each distinct string, such as a ticker or curve name, is written once and referred to by index.
+ * Dates and values are written as primitive columns.
+ */
+public final class MarketDataSnapshotWriter {
+
+  /**
+   * The interned strings, mapped to their index.
+   */
+  private final Map<String, Integer> strings = new LinkedHashMap<>();
+  /**
+   * The interned identifiers, mapped to their index.
+   */
+  private final Map<ObservableId, Integer> ids = new LinkedHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes a snapshot to a file.
+   *
+   * @param path  the path of the file
+   * @param snapshot  the snapshot
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if the snapshot contains data that cannot be written
+   */
+  public static void write(Path path, MarketDataSnapshot snapshot) {
+    try (OutputStream out = Files.newOutputStream(path)) {
+      write(out, snapshot);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Writes a snapshot to an output stream.
+   * <p>
+   * The stream is not closed.
+   *
+   * @param out  the output stream
+   * @param snapshot  the snapshot
+   * @throws UncheckedIOException if an IO error occurs
+   * @throws IllegalArgumentException if the snapshot contains data that cannot be written
+   */
+  public static void write(OutputStream out, MarketDataSnapshot snapshot) {
+    ArgChecker.notNull(out, "out");
+    ArgChecker.notNull(snapshot, "snapshot");
+    try {
+      new MarketDataSnapshotWriter().writeSnapshot(out, snapshot);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // restricted constructor
+  private MarketDataSnapshotWriter() {
+  }
+
+  //-------------------------------------------------------------------------
+  // writes the snapshot, the body is written first so that the string table is complete
+  private void writeSnapshot(OutputStream out, MarketDataSnapshot snapshot) throws IOException {
+    ImmutableMarketData marketData = snapshot.getMarketData();
+    ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    DataOutputStream body = new DataOutputStream(bodyBytes);
+    writeQuotes(body, marketData.getValues());
+    writeTimeSeries(body, marketData.getTimeSeries());
+    body.writeInt(snapshot.getCurveGroups().size());
+    for (RatesCurveGroup group : snapshot.getCurveGroups()) {
+      writeCurveGroup(body, group);
+    }
+    body.flush();
+
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt((int) marketData.getValuationDate().toEpochDay());
+    data.writeInt(strings.size());
+    for (String str : strings.keySet()) {
+      byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+      data.writeInt(bytes.length);
+      data.write(bytes);
+    }
+    data.writeInt(ids.size());
+    for (ObservableId id : ids.keySet()) {
+      writeId(data, id);
+    }
+    bodyBytes.writeTo(data);
+    data.flush();
+  }
+
+  // writes the quotes as a column of identifiers and a column of values
+  private void writeQuotes(DataOutputStream out, Map<MarketDataId<?>, Object> values) throws IOException {
+    int[] idRefs = new int[values.size()];
+    double[] quotes = new double[values.size()];
+    int i = 0;
+    for (Entry<MarketDataId<?>, Object> entry : values.entrySet()) {
+      ArgChecker.isTrue(
+          entry.getValue() instanceof Double,
+          "Market data snapshot can only contain values of type Double, but found {} for '{}'",
+          entry.getValue().getClass().getSimpleName(),
+          entry.getKey());
+      idRefs[i] = idRef(entry.getKey());
+      quotes[i] = (Double) entry.getValue();
+      i++;
+    }
+    out.writeInt(idRefs.length);
+    writeInts(out, idRefs);
+    writeDoubles(out, quotes);
+  }
+
+  // writes each time-series as a column of epoch-days and a column of values
+  private void writeTimeSeries(DataOutputStream out, Map<ObservableId, LocalDateDoubleTimeSeries> timeSeries)
+      throws IOException {
+
+    out.writeInt(timeSeries.size());
+    for (Entry<ObservableId, LocalDateDoubleTimeSeries> entry : timeSeries.entrySet()) {
+      LocalDateDoubleTimeSeries series = entry.getValue();
+      out.writeInt(idRef(entry.getKey()));
+      out.writeInt(series.size());
+      writeInts(out, series.dates().mapToInt(date -> (int) date.toEpochDay()).toArray());
+      writeDoubles(out, series.values().toArray());
+    }
+  }
+
+  // writes the curve group, each curve is written once and referred to by index
+  private void writeCurveGroup(DataOutputStream out, RatesCurveGroup group) throws IOException {
+    Map<CurveName, Integer> curveIndices = new HashMap<>();
+    List<Curve> curves = new ArrayList<>();
+    for (Curve curve : group.getDiscountCurves().values()) {
+      curveIndices.computeIfAbsent(curve.getName(), name -> addCurve(curves, curve));
+    }
+    for (Curve curve : group.getForwardCurves().values()) {
+      curveIndices.computeIfAbsent(curve.getName(), name -> addCurve(curves, curve));
+    }
+    out.writeInt(stringRef(group.getName().getName()));
+    out.writeInt(curves.size());
+    for (Curve curve : curves) {
+      writeCurve(out, curve);
+    }
+    out.writeInt(group.getDiscountCurves().size());
+    for (Entry<Currency, Curve> entry : group.getDiscountCurves().entrySet()) {
+      out.writeInt(stringRef(entry.getKey().getCode()));
+      out.writeInt(curveIndices.get(entry.getValue().getName()));
+    }
+    out.writeInt(group.getForwardCurves().size());
+    for (Entry<Index, Curve> entry : group.getForwardCurves().entrySet()) {
+      out.writeInt(stringRef(entry.getKey().getName()));
+      out.writeInt(curveIndices.get(entry.getValue().getName()));
+    }
+  }
+
+  // adds a curve to the list, returning its index
+  private static int addCurve(List<Curve> curves, Curve curve) {
+    curves.add(curve);
+    return curves.size() - 1;
+  }
+
+  // writes the curve settings followed by the node columns
+  private void writeCurve(DataOutputStream out, Curve curve) throws IOException {
+    ArgChecker.isTrue(curve instanceof InterpolatedNodalCurve, "Curve must be an InterpolatedNodalCurve: {}", curve.getName());
+    InterpolatedNodalCurve nodalCurve = (InterpolatedNodalCurve) curve;
+    int size = nodalCurve.getParameterCount();
+    int[] dates = new int[size];
+    int[] labels = new int[size];
+    for (int i = 0; i < size; i++) {
+      ParameterMetadata metadata = nodalCurve.getParameterMetadata(i);
+      ArgChecker.isTrue(
+          metadata instanceof DatedParameterMetadata,
+          "Curve metadata must contain a date, but was {}",
+          metadata.getClass().getSimpleName());
+      dates[i] = (int) ((DatedParameterMetadata) metadata).getDate().toEpochDay();
+      labels[i] = stringRef(metadata.getLabel());
+    }
+    out.writeInt(stringRef(curve.getName().getName()));
+    out.writeInt(stringRef(curve.getMetadata().getXValueType().getName()));
+    out.writeInt(stringRef(curve.getMetadata().getYValueType().getName()));
+    out.writeInt(curve.getMetadata().findInfo(CurveInfoType.DAY_COUNT).map(dc -> stringRef(dc.getName())).orElse(NO_REF));
+    out.writeInt(stringRef(nodalCurve.getInterpolator().getName()));
+    out.writeInt(stringRef(nodalCurve.getExtrapolatorLeft().getName()));
+    out.writeInt(stringRef(nodalCurve.getExtrapolatorRight().getName()));
+    out.writeInt(size);
+    writeDoubles(out, nodalCurve.getXValues().toArrayUnsafe());
+    writeDoubles(out, nodalCurve.getYValues().toArrayUnsafe());
+    writeInts(out, dates);
+    writeInts(out, labels);
+  }
+
+  // writes an identifier as a kind followed by four string references
+  private void writeId(DataOutputStream out, ObservableId id) throws IOException {
+    if (id instanceof QuoteId) {
+      QuoteId quoteId = (QuoteId) id;
+      out.writeByte(KIND_QUOTE);
+      out.writeInt(stringRef(quoteId.getStandardId().getScheme()));
+      out.writeInt(stringRef(quoteId.getStandardId().getValue()));
+    } else {
+      IndexQuoteId indexQuoteId = (IndexQuoteId) id;
+      out.writeByte(KIND_INDEX_QUOTE);
+      out.writeInt(stringRef(indexQuoteId.getIndex().getName()));
+      out.writeInt(NO_REF);
+    }
+    out.writeInt(stringRef(id.getFieldName().getName()));
+    out.writeInt(stringRef(id.getObservableSource().getName()));
+  }
+
+  //-------------------------------------------------------------------------
+  // obtains the index of the identifier, adding it if necessary
+  private int idRef(MarketDataId<?> id) {
+    ArgChecker.isTrue(
+        id instanceof QuoteId || id instanceof IndexQuoteId,
+        "Market data snapshot can only contain identifiers of type QuoteId or IndexQuoteId, but found '{}'",
+        id);
+    ObservableId observableId = (ObservableId) id;
+    Integer ref = ids.get(observableId);
+    if (ref == null) {
+      ref = ids.size();
+      ids.put(observableId, ref);
+      // ensure the strings of the identifier are in the table before the body is written
+      internId(observableId);
+    }
+    return ref;
+  }
+
+  // interns the strings of an identifier
+  private void internId(ObservableId id) {
+    if (id instanceof QuoteId) {
+      stringRef(((QuoteId) id).getStandardId().getScheme());
+      stringRef(((QuoteId) id).getStandardId().getValue());
+    } else {
+      stringRef(((IndexQuoteId) id).getIndex().getName());
+    }
+    stringRef(id.getFieldName().getName());
+    stringRef(id.getObservableSource().getName());
+  }
+
+  // obtains the index of the string, adding it if necessary
+  private int stringRef(String str) {
+    Integer ref = strings.get(str);
+    if (ref == null) {
+      ref = strings.size();
+      strings.put(str, ref);
+    }
+    return ref;
+  }
+
+  private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+    for (int value : values) {
+      out.writeInt(value);
+    }
+  }
+
+  private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+    for (double value : values) {
+      out.writeDouble(value);
+    }
+  }
+
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Loader and writer for market data snapshots in a binary columnar format.
+ * <p>
+ * See {@link com.opengamma.strata.loader.snapshot.MarketDataSnapshotLoader}.
+ */
+package com.opengamma.strata.loader.snapshot;
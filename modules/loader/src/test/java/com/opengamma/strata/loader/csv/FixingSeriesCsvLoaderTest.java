@@ -9,6 +9,8 @@ import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -46,6 +48,10 @@ public class FixingSeriesCsvLoaderTest {
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings-price2.csv");
   private static final ResourceLocator FIXING_SERIES_PRICE_INVALID =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings-price-invalid.csv");
+  private static final Path FIXING_SERIES_1_AND_2_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/fixings-1-and-2.csv");
+  private static final Path FIXING_SERIES_PRICE1_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/fixings-price1.csv");
+  private static final Path FIXING_SERIES_PRICE_INVALID_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/fixings-price-invalid.csv");
+  private static final Path FIXING_SERIES_INVALID_DATE_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/fixings-invalid-date.csv");
 
   //-------------------------------------------------------------------------
   @Test
@@ -109,6 +115,24 @@ public class FixingSeriesCsvLoaderTest {
         .withMessageStartingWith("Error parsing CSV file 'fixings-invalid-date.csv': Unable to parse date from '1971-01-32',");
   }
 
+  @Test
+  public void test_parseMapped() {
+    assertLibor3m6mSeries(FixingSeriesCsvLoader.parseMapped(ImmutableList.of(FIXING_SERIES_1_AND_2_PATH)));
+    Map<ObservableId, LocalDateDoubleTimeSeries> ts =
+        FixingSeriesCsvLoader.parseMapped(ImmutableList.of(FIXING_SERIES_PRICE1_PATH));
+    assertThat(ts).hasSize(1);
+    assertPriceIndexSeries(ts.get(ID_GB_RPI));
+  }
+
+  @Test
+  public void test_parseMapped_invalid() {
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> FixingSeriesCsvLoader.parseMapped(ImmutableList.of(FIXING_SERIES_PRICE_INVALID_PATH)));
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> FixingSeriesCsvLoader.parseMapped(ImmutableList.of(FIXING_SERIES_INVALID_DATE_PATH)))
+        .withMessageStartingWith("Error parsing CSV file 'fixings-invalid-date.csv': Unable to parse date from '1971-01-32',");
+  }
+
   //-------------------------------------------------------------------------
   private void assertLibor3m6mSeries(Map<ObservableId, LocalDateDoubleTimeSeries> ts) {
     assertThat(ts).hasSize(2);
@@ -11,6 +11,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.data.Offset.offset;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -44,6 +46,10 @@ public class QuotesCsvLoaderTest {
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-invalid-date.csv");
   private static final ResourceLocator QUOTES_INVALID_DUPLICATE =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-invalid-duplicate.csv");
+  private static final Path QUOTES_1_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/quotes-1.csv");
+  private static final Path QUOTES_2_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/quotes-2.csv");
+  private static final Path QUOTES_INVALID_DATE_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/quotes-invalid-date.csv");
+  private static final Path QUOTES_INVALID_DUPLICATE_PATH = Paths.get("src/test/resources/com/opengamma/strata/loader/csv/quotes-invalid-duplicate.csv");
 
   //-------------------------------------------------------------------------
   @Test
@@ -94,6 +100,27 @@ public class QuotesCsvLoaderTest {
         .isThrownBy(() -> QuotesCsvLoader.load(DATE1, QUOTES_INVALID_DUPLICATE));
   }
 
+  @Test
+  public void test_parseMapped() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map =
+        QuotesCsvLoader.parseMapped(d -> d.equals(DATE1), ImmutableList.of(QUOTES_1_PATH, QUOTES_2_PATH));
+    assertThat(map).containsOnlyKeys(DATE1);
+    assertThat(map.get(DATE1)).isEqualTo(QuotesCsvLoader.load(DATE1, ImmutableList.of(QUOTES_1, QUOTES_2)));
+    assertFile1Date1(map.get(DATE1));
+    assertFile2Date1(map.get(DATE1));
+    assertThat(QuotesCsvLoader.parseMapped(d -> true, ImmutableList.of(QUOTES_1_PATH)))
+        .isEqualTo(QuotesCsvLoader.loadAllDates(QUOTES_1));
+  }
+
+  @Test
+  public void test_parseMapped_invalid() {
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> QuotesCsvLoader.parseMapped(d -> true, ImmutableList.of(QUOTES_INVALID_DATE_PATH)))
+        .withMessageStartingWith("Error parsing CSV file 'quotes-invalid-date.csv': Unable to parse date");
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> QuotesCsvLoader.parseMapped(d -> true, ImmutableList.of(QUOTES_INVALID_DUPLICATE_PATH)));
+  }
+
   @Test
   public void test_load_dateSet_file1_date1() {
     Map<LocalDate, ImmutableMap<QuoteId, Double>> map = QuotesCsvLoader.load(ImmutableSet.of(DATE1, DATE2), QUOTES_1);
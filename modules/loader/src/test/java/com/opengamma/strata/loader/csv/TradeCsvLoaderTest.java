@@ -38,6 +38,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -2106,6 +2107,58 @@ public class TradeCsvLoaderTest {
         "Trade type not allowed " + SwapTrade.class.getName() + ", only these types are supported: FraTrade, TermDepositTrade");
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parse_consumer() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    ResourceLocator mixed = ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/mixed-trades-positions.csv");
+    ImmutableList<CharSource> charSources = ImmutableList.of(FILE.getCharSource(), mixed.getCharSource());
+    ValueWithFailures<List<Trade>> expected = test.parse(charSources);
+
+    List<Trade> trades = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    test.parse(charSources, Trade.class, trades::add, failures::add);
+    assertThat(trades).isEqualTo(expected.getValue());
+    assertThat(failures).hasToString(expected.getFailures().toString());
+
+    List<Trade> tradesParallel = new ArrayList<>();
+    List<FailureItem> failuresParallel = new ArrayList<>();
+    test.parseInParallel(charSources, Trade.class, tradesParallel::add, failuresParallel::add);
+    assertThat(tradesParallel).isEqualTo(expected.getValue());
+    assertThat(failuresParallel).hasToString(expected.getFailures().toString());
+  }
+
+  @Test
+  public void test_parse_consumer_filtered() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    ImmutableList<CharSource> charSources = ImmutableList.of(FILE.getCharSource());
+    List<SwapTrade> trades = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    test.parseInParallel(charSources, SwapTrade.class, trades::add, failures::add);
+    assertThat(trades).isEqualTo(test.parse(charSources, SwapTrade.class).getValue());
+    assertThat(failures).isEmpty();
+  }
+
+  @Test
+  public void test_parse_consumer_invalid() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    List<Trade> trades = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    test.parseInParallel(
+        ImmutableList.of(CharSource.wrap(""), CharSource.wrap("Id"), CharSource.wrap("Strata Trade Type\nFoo")),
+        Trade.class,
+        trades::add,
+        failures::add);
+
+    assertThat(trades).isEmpty();
+    assertThat(failures).hasSize(3);
+    assertThat(failures.get(0).getMessage()).startsWith("CSV trade file 'Unknown.txt' could not be parsed");
+    assertThat(failures.get(1).getMessage())
+        .startsWith("CSV trade file 'Unknown.txt' does not contain 'Strata Trade Type' header");
+    assertThat(failures.get(2).getMessage())
+        .isEqualTo("CSV trade file 'Unknown.txt' contained unknown trade type 'Foo' at line 2");
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_load_resolver() {
@@ -56,6 +56,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -101,6 +102,8 @@ import com.opengamma.strata.basics.value.ValueStep;
 import com.opengamma.strata.basics.value.ValueStepSequence;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.XmlElement;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.ParseFailureException;
 import com.opengamma.strata.product.Trade;
 import com.opengamma.strata.product.common.LongShort;
@@ -1711,6 +1714,57 @@ public class FpmlDocumentParserTest {
         .withMessageMatching(".*unknown.*");
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void parseTrades_consumer() {
+    FpmlPartySelector selector = FpmlPartySelector.matchingRegex(Pattern.compile("Party1[ab]?"));
+    FpmlDocumentParser parser = FpmlDocumentParser.of(selector);
+    List<String> files = ImmutableList.of(
+        "bullet-payment-weird.xml",
+        "ird-ex01-vanilla-swap.xml",
+        "ird-ex06-xccy-swap.xml",
+        "ird-ex08-fra-wrapper-clearing-status.xml",
+        "fx-ex08-fx-swap.xml");
+    for (String file : files) {
+      ByteSource resource = ResourceLocator.of("classpath:com/opengamma/strata/loader/fpml/" + file).getByteSource();
+      List<Trade> trades = new ArrayList<>();
+      List<FailureItem> failures = new ArrayList<>();
+      parser.parseTrades(resource, trades::add, failures::add);
+      assertThat(trades).isEqualTo(parser.parseTrades(resource));
+      assertThat(failures).isEmpty();
+    }
+  }
+
+  @Test
+  public void parseTrades_consumer_unknownProduct() {
+    String xml = "<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n" +
+        "<dataDocument>\r\n" +
+        " <trade><tradeHeader><tradeDate>2000-06-30</tradeDate></tradeHeader><unknown/></trade>\r\n" +
+        " <party id=\"p1\"><partyId>Party1</partyId></party>\r\n" +
+        "</dataDocument>";
+    ByteSource resource = CharSource.wrap(xml).asByteSource(StandardCharsets.UTF_8);
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    List<Trade> trades = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    parser.parseTrades(resource, trades::add, failures::add);
+    assertThat(trades).isEmpty();
+    assertThat(failures).hasSize(1);
+    assertThat(failures.get(0).getReason()).isEqualTo(FailureReason.PARSING);
+    assertThat(failures.get(0).getMessage()).contains("unknown");
+  }
+
+  @Test
+  public void parseTrades_consumer_notFpml() {
+    String xml = "<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n" +
+        "<root>\r\n" +
+        "</root>";
+    ByteSource resource = CharSource.wrap(xml).asByteSource(StandardCharsets.UTF_8);
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.any());
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> parser.parseTrades(resource, trade -> {}, failure -> {}))
+        .withMessageStartingWith("Unable to find FpML root element");
+  }
+
   @Test
   public void badSelector() {
     String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra.xml";
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.coverPrivateConstructor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.index.IborIndices;
+import com.opengamma.strata.collect.io.ArrayByteSource;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.result.ParseFailureException;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.loader.csv.RatesCurvesCsvLoader;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+
+/**
+ * Test {@link MarketDataSnapshotLoader} and {@link MarketDataSnapshotWriter}.
+ */
+public class MarketDataSnapshotLoaderTest {
+
+  private static final LocalDate DATE = LocalDate.of(2009, 7, 31);
+  private static final QuoteId QUOTE_1 = QuoteId.of(StandardId.of("OG-Ticker", "EUR-1M"));
+  private static final QuoteId QUOTE_2 =
+      QuoteId.of(StandardId.of("OG-Ticker", "EUR-3M"), FieldName.of("Bid"), ObservableSource.of("Vendor"));
+  private static final IndexQuoteId INDEX_1 = IndexQuoteId.of(IborIndices.USD_LIBOR_3M);
+
+  private static final LocalDateDoubleTimeSeries SERIES_1 = LocalDateDoubleTimeSeries.builder()
+      .put(LocalDate.of(2009, 7, 29), 0.012)
+      .put(LocalDate.of(2009, 7, 30), 0.013)
+      .put(LocalDate.of(2009, 7, 31), 0.0125)
+      .build();
+  private static final LocalDateDoubleTimeSeries SERIES_2 = LocalDateDoubleTimeSeries.builder()
+      .put(LocalDate.of(2008, 1, 31), 1.5)
+      .put(LocalDate.of(2009, 1, 31), 2.5)
+      .build();
+
+  private static final ImmutableMarketData MARKET_DATA = ImmutableMarketData.builder(DATE)
+      .addValue(QUOTE_1, 0.0101)
+      .addValue(QUOTE_2, 0.0202)
+      .addValue(INDEX_1, 0.0303)
+      .addTimeSeries(INDEX_1, SERIES_1)
+      .addTimeSeries(QUOTE_1, SERIES_2)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_roundTrip_file() throws IOException {
+    MarketDataSnapshot snapshot = MarketDataSnapshot.of(MARKET_DATA, curveGroups());
+    Path path = Files.createTempFile("snapshot", ".bin");
+    try {
+      MarketDataSnapshotWriter.write(path, snapshot);
+      MarketDataSnapshot loaded = MarketDataSnapshotLoader.load(ResourceLocator.ofFile(path.toFile()));
+      assertThat(loaded).isEqualTo(snapshot);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void test_roundTrip_mapped() throws IOException {
+    MarketDataSnapshot snapshot = MarketDataSnapshot.of(MARKET_DATA, curveGroups());
+    Path path = Files.createTempFile("snapshot", ".bin");
+    // the mapping outlives the load, so the file cannot be deleted immediately on all platforms
+    path.toFile().deleteOnExit();
+    MarketDataSnapshotWriter.write(path, snapshot);
+    MarketDataSnapshot loaded = MarketDataSnapshotLoader.loadMapped(path);
+    assertThat(loaded).isEqualTo(snapshot);
+  }
+
+  @Test
+  public void test_roundTrip_bytes() {
+    MarketDataSnapshot snapshot = MarketDataSnapshot.of(MARKET_DATA);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MarketDataSnapshotWriter.write(out, snapshot);
+    MarketDataSnapshot loaded = MarketDataSnapshotLoader.parse(ByteSource.wrap(out.toByteArray()));
+    assertThat(loaded).isEqualTo(snapshot);
+    assertThat(loaded.getMarketData().getValue(QUOTE_2)).isEqualTo(0.0202);
+    assertThat(loaded.getMarketData().getTimeSeries(INDEX_1)).isEqualTo(SERIES_1);
+    assertThat(loaded.getCurveGroups()).isEmpty();
+  }
+
+  @Test
+  public void test_roundTrip_empty() {
+    MarketDataSnapshot snapshot = MarketDataSnapshot.of(ImmutableMarketData.builder(DATE).build());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MarketDataSnapshotWriter.write(out, snapshot);
+    assertThat(MarketDataSnapshotLoader.parse(ByteSource.wrap(out.toByteArray()))).isEqualTo(snapshot);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_write_unsupported() {
+    ImmutableMarketData marketData = ImmutableMarketData.builder(DATE)
+        .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.5))
+        .build();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MarketDataSnapshotWriter.write(new ByteArrayOutputStream(), MarketDataSnapshot.of(marketData)));
+  }
+
+  @Test
+  public void test_parse_invalid() {
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> MarketDataSnapshotLoader.parse(ArrayByteSource.ofUtf8("Not a snapshot").withFileName("a.bin")))
+        .withMessage("Error parsing market data snapshot 'a.bin': File is not a market data snapshot");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MarketDataSnapshotWriter.write(out, MarketDataSnapshot.of(MARKET_DATA));
+    byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 4);
+    assertThatExceptionOfType(ParseFailureException.class)
+        .isThrownBy(() -> MarketDataSnapshotLoader.parse(ByteSource.wrap(truncated)))
+        .withMessageStartingWith("Error parsing market data snapshot 'Unknown.bin'");
+  }
+
+  @Test
+  public void coverage() {
+    coverPrivateConstructor(MarketDataSnapshotLoader.class);
+  }
+
+  //-------------------------------------------------------------------------
+  private static List<RatesCurveGroup> curveGroups() {
+    return RatesCurvesCsvLoader.load(
+        DATE,
+        ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/groups.csv"),
+        ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/settings.csv"),
+        ImmutableList.of(ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/curves-1.csv")));
+  }
+
+}
@@ -23,6 +23,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
@@ -104,6 +105,17 @@ public final class AddFixedCurve
     return fixedCurve.yValue(x) + spreadCurve.yValue(x);
   }
 
+  @Override
+  public void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as the x-values");
+    double[] spread = new double[xValues.length];
+    spreadCurve.yValues(xValues, spread);
+    fixedCurve.yValues(xValues, result);
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] += spread[i];
+    }
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     return spreadCurve.yValueParameterSensitivity(x);
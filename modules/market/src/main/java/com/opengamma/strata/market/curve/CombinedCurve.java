@@ -32,6 +32,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -249,6 +250,17 @@ public final class CombinedCurve
     return baseCurve.yValue(x) + spreadCurve.yValue(x);
   }
 
+  @Override
+  public void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as the x-values");
+    double[] spread = new double[xValues.length];
+    spreadCurve.yValues(xValues, spread);
+    baseCurve.yValues(xValues, result);
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] += spread[i];
+    }
+  }
+
   @Override
   public UnitParameterSensitivity yValueParameterSensitivity(double x) {
     UnitParameterSensitivity baseSens = baseCurve.yValueParameterSensitivity(x);
@@ -14,6 +14,7 @@ import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -97,6 +98,39 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * This is equivalent to calling {@link #yValue(double)} for each x-value.
+   * Implementations may be faster than repeated calls if the x-values are sorted from low to high.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @return the values at the x-values
+   */
+  public default DoubleArray yValues(DoubleArray xValues) {
+    double[] result = new double[xValues.size()];
+    yValues(xValues.toArrayUnsafe(), result);
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  /**
+   * Computes the y-values for the specified x-values, storing them in the specified array.
+   * <p>
+   * This is equivalent to calling {@link #yValue(double)} for each x-value.
+   * Implementations may be faster than repeated calls if the x-values are sorted from low to high.
+   * The result array must be at least as long as the array of x-values.
+   * The x-value array is not altered, and may be the same array as the result.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the values at the x-values in
+   */
+  public default void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as the x-values");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValue(xValues[i]);
+    }
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
@@ -27,6 +27,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +58,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +78,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -91,6 +97,44 @@ public abstract class AbstractBoundCurveInterpolator
     return doInterpolate(xValue);
   }
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation, storing them in the specified array.
+   * <p>
+   * When the x-values are sorted from low to high, the interval containing each x-value is found
+   * by walking forward from the interval of the previous x-value, rather than by a binary search.
+   * Where an x-value is lower than the previous one, a binary search is used.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the values at the x-values in
+   */
+  @Override
+  public final void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as the x-values");
+    int lowerIndex = 0;
+    double previousXValue = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        if (xValue < previousXValue) {
+          lowerIndex = lowerBoundIndex(xValue, nodeXValues);
+        } else {
+          // x-value is less than the x-value of the last node, so this stops before the last node
+          while (nodeXValues[lowerIndex + 1] <= xValue) {
+            lowerIndex++;
+          }
+        }
+        result[i] = doInterpolate(xValue, lowerIndex);
+        previousXValue = xValue;
+      }
+    }
+  }
+
   /**
    * Method for subclasses to calculate the interpolated value.
    * <p>
@@ -101,6 +145,24 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  /**
+   * Method for subclasses to calculate the interpolated value, where the interval is known.
+   * <p>
+   * Callers can assume that {@code xValue} is less than the x-value of the last node,
+   * and that {@code lowerIndex} is the index of the last node with an x-value lower than
+   * or equal to {@code xValue}, as would be returned by {@link #lowerBoundIndex(double, double[])}.
+   * <p>
+   * This is used when interpolating many x-values at once, avoiding the search for the interval.
+   * The default implementation ignores the index, subclasses should override it if they search for the interval.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the lower node of the interval containing the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
   /**
    * Method for {@code InterpolatorCurveExtrapolator} to calculate the interpolated value.
    * <p>
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -29,6 +30,25 @@ public interface BoundCurveInterpolator {
    */
   public abstract double interpolate(double x);
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation, storing them in the specified array.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double)} for each x-value.
+   * Implementations may be faster than repeated calls if the x-values are sorted from low to high.
+   * The result array must be at least as long as the array of x-values.
+   * The x-value array is not altered, and may be the same array as the result.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to store the values at the x-values in
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(result.length >= xValues.length, "Result array must be at least as long as the x-values");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+  }
+
   /**
    * Computes the first derivative of the y-value for the specified x-value.
    * <p>
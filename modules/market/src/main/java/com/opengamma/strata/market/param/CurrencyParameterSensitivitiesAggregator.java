@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Mutable, thread-safe aggregator of {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This sums a large number of sensitivities, such as the bucketed PV01 of each trade in a portfolio,
+ * without creating intermediate immutable instances. Each market data name and currency is accumulated
+ * into a primitive array that is updated in place.
+ * <p>
+ * Sensitivities with the same market data name, currency and parameter metadata are summed
+ * by parameter index. Where the parameter metadata differs, the values are summed by metadata,
+ * as per {@link CurrencyParameterSensitivities#mergedWith(CurrencyParameterSensitivities)},
+ * and the parameter split is discarded.
+ * <p>
+ * The accumulators are partitioned into stripes, each guarded by its own lock, so that threads
+ * adding sensitivities to different curves rarely contend.
+ */
+public final class CurrencyParameterSensitivitiesAggregator {
+
+  /**
+   * The default number of stripes.
+   */
+  private static final int DEFAULT_STRIPE_COUNT = 16;
+
+  /**
+   * The stripes, each holding the accumulators of a subset of the keys.
+   */
+  private final Stripe[] stripes;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty aggregator.
+   *
+   * @return the aggregator
+   */
+  public static CurrencyParameterSensitivitiesAggregator create() {
+    return new CurrencyParameterSensitivitiesAggregator(DEFAULT_STRIPE_COUNT);
+  }
+
+  /**
+   * Creates an empty aggregator with the specified number of stripes.
+   *
+   * @param stripeCount  the number of independently locked stripes
+   * @return the aggregator
+   */
+  public static CurrencyParameterSensitivitiesAggregator create(int stripeCount) {
+    ArgChecker.notNegativeOrZero(stripeCount, "stripeCount");
+    return new CurrencyParameterSensitivitiesAggregator(stripeCount);
+  }
+
+  // restricted constructor
+  private CurrencyParameterSensitivitiesAggregator(int stripeCount) {
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds sensitivities to the aggregate.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAggregator add(CurrencyParameterSensitivities sensitivities) {
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a sensitivity to the aggregate.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   */
+  public CurrencyParameterSensitivitiesAggregator add(CurrencyParameterSensitivity sensitivity) {
+    Pair<MarketDataName<?>, Currency> key = Pair.of(sensitivity.getMarketDataName(), sensitivity.getCurrency());
+    Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+    synchronized (stripe) {
+      Accumulator accumulator = stripe.accumulators.get(key);
+      if (accumulator == null) {
+        stripe.accumulators.put(key, new Accumulator(sensitivity));
+      } else {
+        accumulator.add(sensitivity);
+      }
+    }
+    return this;
+  }
+
+  // spreads the hash code so that keys differing only in high bits use different stripes
+  private static int spread(int hashCode) {
+    return hashCode ^ (hashCode >>> 16);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the aggregate is empty.
+   *
+   * @return true if no sensitivities have been added
+   */
+  public boolean isEmpty() {
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        if (!stripe.accumulators.isEmpty()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the aggregate sensitivities.
+   * <p>
+   * The aggregator may continue to be used after this method is called.
+   * If sensitivities are added concurrently with this method, the result is not guaranteed to contain them.
+   *
+   * @return the sensitivities
+   */
+  public CurrencyParameterSensitivities toSensitivities() {
+    List<CurrencyParameterSensitivity> result = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        for (Accumulator accumulator : stripe.accumulators.values()) {
+          result.add(accumulator.toSensitivity());
+        }
+      }
+    }
+    return CurrencyParameterSensitivities.of(result);
+  }
+
+  @Override
+  public String toString() {
+    return "CurrencyParameterSensitivitiesAggregator" + toSensitivities().getSensitivities();
+  }
+
+  //-------------------------------------------------------------------------
+  // a partition of the accumulators, guarded by its own monitor
+  private static final class Stripe {
+    private final Map<Pair<MarketDataName<?>, Currency>, Accumulator> accumulators = new HashMap<>();
+  }
+
+  // the sum of the sensitivities of one market data name and currency
+  private static final class Accumulator {
+
+    private final MarketDataName<?> marketDataName;
+    private final Currency currency;
+    private List<ParameterMetadata> metadata;
+    private List<ParameterSize> parameterSplit;
+    private double[] values;
+    private int size;
+    // the index of each metadata, only created if metadata differs between sensitivities
+    private Map<ParameterMetadata, Integer> indices;
+
+    private Accumulator(CurrencyParameterSensitivity sensitivity) {
+      this.marketDataName = sensitivity.getMarketDataName();
+      this.currency = sensitivity.getCurrency();
+      this.metadata = sensitivity.getParameterMetadata();
+      this.parameterSplit = sensitivity.getParameterSplit().orElse(null);
+      this.values = sensitivity.getSensitivity().toArray();
+      this.size = values.length;
+    }
+
+    private void add(CurrencyParameterSensitivity sensitivity) {
+      List<ParameterMetadata> otherMetadata = sensitivity.getParameterMetadata();
+      if (indices == null &&
+          (otherMetadata == metadata || otherMetadata.equals(metadata)) &&
+          (parameterSplit == null || parameterSplit.equals(sensitivity.getParameterSplit().orElse(null)))) {
+        DoubleArray other = sensitivity.getSensitivity();
+        for (int i = 0; i < size; i++) {
+          values[i] += other.get(i);
+        }
+      } else {
+        addByMetadata(otherMetadata, sensitivity.getSensitivity());
+      }
+    }
+
+    // slow path, matching the parameters by metadata
+    private void addByMetadata(List<ParameterMetadata> otherMetadata, DoubleArray other) {
+      if (indices == null) {
+        indices = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+          indices.putIfAbsent(metadata.get(i), i);
+        }
+        metadata = new ArrayList<>(metadata);
+        parameterSplit = null;
+      }
+      for (int i = 0; i < otherMetadata.size(); i++) {
+        ParameterMetadata md = otherMetadata.get(i);
+        Integer index = indices.get(md);
+        if (index == null) {
+          if (size == values.length) {
+            double[] expanded = new double[Math.max(size * 2, 4)];
+            System.arraycopy(values, 0, expanded, 0, size);
+            values = expanded;
+          }
+          index = size++;
+          indices.put(md, index);
+          metadata.add(md);
+        }
+        values[index] += other.get(i);
+      }
+    }
+
+    private CurrencyParameterSensitivity toSensitivity() {
+      if (indices == null) {
+        return CurrencyParameterSensitivity.of(
+            marketDataName, metadata, currency, DoubleArray.copyOf(values, 0, size), parameterSplit);
+      }
+      // sorts the metadata in the same way as merging
+      CurrencyParameterSensitivityBuilder builder = new CurrencyParameterSensitivityBuilder(marketDataName, currency);
+      for (int i = 0; i < size; i++) {
+        builder.add(metadata.get(i), values[i]);
+      }
+      return builder.build();
+    }
+  }
+
+}
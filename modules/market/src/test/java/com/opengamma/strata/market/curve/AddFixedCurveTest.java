@@ -102,6 +102,15 @@ public class AddFixedCurveTest {
     }
   }
 
+  @Test
+  public void yValues() {
+    double[] yComputed = new double[NB_X_SAMPLE];
+    ADD_FIXED_CURVE.yValues(X_SAMPLE, yComputed);
+    for (int i = 0; i < NB_X_SAMPLE; i++) {
+      assertThat(yComputed[i]).isCloseTo(ADD_FIXED_CURVE.yValue(X_SAMPLE[i]), offset(TOLERANCE_Y));
+    }
+  }
+
   @Test
   public void firstDerivative() {
     for (int i = 0; i < NB_X_SAMPLE; i++) {
@@ -193,6 +193,14 @@ public class CombinedCurveTest {
     }
   }
 
+  @Test
+  public void test_yValues() {
+    DoubleArray computed = COMBINED_CURVE.yValues(X_SAMPLES);
+    for (int i = 0; i < NUM_SAMPLES; ++i) {
+      assertThat(computed.get(i)).isCloseTo(COMBINED_CURVE.yValue(X_SAMPLES.get(i)), offset(TOL));
+    }
+  }
+
   @Test
   public void test_firstDerivative() {
     for (int i = 0; i < NUM_SAMPLES; ++i) {
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -132,6 +133,42 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  @Test
+  public void test_yValues() {
+    DoubleArray xValues = DoubleArray.of(0.5d, 1d, 1.5d, 2d, 3d, 4d, 6d, 8d);
+    DoubleArray yValues = DoubleArray.of(2d, 2.5d, 2.2d, 2.8d, 3.1d, 3.3d, 3.2d, 3.6d);
+    DoubleArray sorted = DoubleArray.of(0d, 0.5d, 0.5d, 0.7d, 1.5d, 1.7d, 3.9d, 4d, 7d, 8d, 9d);
+    DoubleArray unsorted = DoubleArray.of(7d, 0.7d, 8d, 4d, 1.7d, -1d, 3.9d, 1.5d, 9d, 0.5d);
+    List<CurveInterpolator> interpolators = ImmutableList.of(
+        CurveInterpolators.LINEAR,
+        CurveInterpolators.LOG_LINEAR,
+        CurveInterpolators.SQUARE_LINEAR,
+        CurveInterpolators.TIME_SQUARE,
+        CurveInterpolators.DOUBLE_QUADRATIC,
+        CurveInterpolators.NATURAL_CUBIC_SPLINE,
+        CurveInterpolators.PRODUCT_NATURAL_SPLINE);
+    for (CurveInterpolator interpolator : interpolators) {
+      InterpolatedNodalCurve test = InterpolatedNodalCurve.of(
+          METADATA, xValues, yValues, interpolator, FLAT_EXTRAPOLATOR, LINEAR_EXTRAPOLATOR);
+      for (DoubleArray x : ImmutableList.of(sorted, unsorted)) {
+        DoubleArray expected = x.map(test::yValue);
+        assertThat(test.yValues(x)).isEqualTo(expected);
+        assertThat(test.yValues(x)).isEqualTo(x.map(test.getInterpolator()
+            .bind(xValues, yValues, FLAT_EXTRAPOLATOR, LINEAR_EXTRAPOLATOR)::interpolate));
+        double[] result = x.toArray();
+        test.yValues(result, result);
+        assertThat(result).containsExactly(expected.toArrayUnsafe());
+      }
+    }
+  }
+
+  @Test
+  public void test_yValues_badSize() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.yValues(new double[3], new double[2]));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesAggregator}.
+ */
+public class CurrencyParameterSensitivitiesAggregatorTest {
+
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA_1Y_3Y = ImmutableList.of(
+      TenorParameterMetadata.of(Tenor.TENOR_1Y),
+      TenorParameterMetadata.of(Tenor.TENOR_3Y));
+  private static final List<ParameterMetadata> METADATA_2Y_3Y = ImmutableList.of(
+      TenorParameterMetadata.of(Tenor.TENOR_2Y),
+      TenorParameterMetadata.of(Tenor.TENOR_3Y));
+  private static final CurrencyParameterSensitivity ENTRY1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA_1Y_3Y, USD, DoubleArray.of(1, 2));
+  private static final CurrencyParameterSensitivity ENTRY2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA_1Y_3Y, USD, DoubleArray.of(10, 20));
+  private static final CurrencyParameterSensitivity ENTRY_OTHER_METADATA =
+      CurrencyParameterSensitivity.of(NAME1, METADATA_2Y_3Y, USD, DoubleArray.of(100, 200));
+  private static final CurrencyParameterSensitivity ENTRY_EUR =
+      CurrencyParameterSensitivity.of(NAME1, METADATA_1Y_3Y, EUR, DoubleArray.of(5, 6));
+  private static final CurrencyParameterSensitivity ENTRY_NAME2 =
+      CurrencyParameterSensitivity.of(NAME2, METADATA_1Y_3Y, USD, DoubleArray.of(7, 8));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_empty() {
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create();
+    assertThat(test.isEmpty()).isTrue();
+    assertThat(test.toSensitivities()).isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
+  @Test
+  public void test_add_sameMetadata() {
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create()
+        .add(ENTRY1)
+        .add(CurrencyParameterSensitivities.of(ENTRY2, ENTRY_EUR, ENTRY_NAME2));
+    assertThat(test.isEmpty()).isFalse();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY1)
+        .combinedWith(CurrencyParameterSensitivities.of(ENTRY2, ENTRY_EUR, ENTRY_NAME2));
+    assertThat(test.toSensitivities()).isEqualTo(expected);
+    // the aggregator can be used after the sensitivities have been obtained
+    test.add(ENTRY1);
+    assertThat(test.toSensitivities()).isEqualTo(expected.combinedWith(ENTRY1));
+  }
+
+  @Test
+  public void test_add_differentMetadata() {
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create()
+        .add(ENTRY1)
+        .add(ENTRY_OTHER_METADATA)
+        .add(ENTRY2);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY1)
+        .mergedWith(CurrencyParameterSensitivities.of(ENTRY_OTHER_METADATA))
+        .mergedWith(CurrencyParameterSensitivities.of(ENTRY2));
+    assertThat(test.toSensitivities().equalWithTolerance(expected, 0d)).isTrue();
+    assertThat(test.toSensitivities().getSensitivity(NAME1, USD).getSensitivity())
+        .isEqualTo(DoubleArray.of(11, 100, 222));
+  }
+
+  @Test
+  public void test_add_parameterSplit() {
+    CurrencyParameterSensitivity combined = CurrencyParameterSensitivity.combine(NAME2, ENTRY1, ENTRY_NAME2);
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create(1)
+        .add(combined)
+        .add(combined);
+    assertThat(test.toSensitivities()).isEqualTo(CurrencyParameterSensitivities.of(combined.multipliedBy(2)));
+  }
+
+  @Test
+  public void test_add_concurrent() throws Exception {
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create(4);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            test.add(ENTRY1).add(ENTRY_EUR).add(ENTRY_NAME2);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+        ENTRY1.multipliedBy(4000), ENTRY_EUR.multipliedBy(4000), ENTRY_NAME2.multipliedBy(4000));
+    assertThat(test.toSensitivities()).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CurrencyParameterSensitivitiesAggregator.create(0));
+  }
+
+  @Test
+  public void test_toString() {
+    CurrencyParameterSensitivitiesAggregator test = CurrencyParameterSensitivitiesAggregator.create().add(ENTRY1);
+    assertThat(test.toString()).startsWith("CurrencyParameterSensitivitiesAggregator[");
+  }
+
+}
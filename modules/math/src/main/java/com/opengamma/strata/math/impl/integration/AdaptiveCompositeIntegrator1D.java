@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +16,7 @@ import com.opengamma.strata.collect.ArgChecker;
  * Adaptive composite integrator: step size is set to be small if functional variation of integrand is large
  * The integrator in individual intervals (base integrator) should be specified by constructor.
  */
-public class AdaptiveCompositeIntegrator1D extends Integrator1D<Double, Double> {
+public class AdaptiveCompositeIntegrator1D extends RealIntegrator1D {
   private static final Logger log = LoggerFactory.getLogger(AdaptiveCompositeIntegrator1D.class);
   private final Integrator1D<Double, Double> integrator;
   private static final int MAX_IT = 15;
@@ -50,10 +50,8 @@ public class AdaptiveCompositeIntegrator1D extends Integrator1D<Double, Double>
   }
 
   @Override
-  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+  public double integratePrimitive(DoubleUnaryOperator f, double lower, double upper) {
     ArgChecker.notNull(f, "f");
-    ArgChecker.notNull(lower, "lower bound");
-    ArgChecker.notNull(upper, "upper bound");
     try {
       if (lower < upper) {
         return integration(f, lower, upper);
@@ -65,16 +63,16 @@ public class AdaptiveCompositeIntegrator1D extends Integrator1D<Double, Double>
     }
   }
 
-  private Double integration(Function<Double, Double> f, Double lower, Double upper) {
-    double res = integrator.integrate(f, lower, upper);
+  private double integration(DoubleUnaryOperator f, double lower, double upper) {
+    double res = integrateBase(f, lower, upper);
     return integrationRec(f, lower, upper, res, MAX_IT);
   }
 
-  private double integrationRec(Function<Double, Double> f, double lower, double upper, double res, double counter) {
+  private double integrationRec(DoubleUnaryOperator f, double lower, double upper, double res, double counter) {
     double localTol = gain * tol;
     double half = 0.5 * (lower + upper);
-    double newResDw = integrator.integrate(f, lower, half);
-    double newResUp = integrator.integrate(f, half, upper);
+    double newResDw = integrateBase(f, lower, half);
+    double newResUp = integrateBase(f, half, upper);
     double newRes = newResUp + newResDw;
 
     if (Math.abs(res - newRes) < localTol || counter == 0 ||
@@ -86,6 +84,14 @@ public class AdaptiveCompositeIntegrator1D extends Integrator1D<Double, Double>
         integrationRec(f, half, upper, newResUp, counter - 1);
   }
 
+  // integrates using the base integrator, only boxing if it does not support primitive functions
+  private double integrateBase(DoubleUnaryOperator f, double lower, double upper) {
+    if (integrator instanceof RealIntegrator1D) {
+      return ((RealIntegrator1D) integrator).integratePrimitive(f, lower, upper);
+    }
+    return integrator.integrate(f::applyAsDouble, lower, upper);
+  }
+
   @Override
   public int hashCode() {
     int prime = 31;
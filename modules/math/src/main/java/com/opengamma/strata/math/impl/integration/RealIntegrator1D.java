@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.integration;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Parent class for integrators of real functions of a single real variable.
+ * <p>
+ * Implementations integrate a primitive {@link DoubleUnaryOperator}, thus function evaluations do not box.
+ * Integration of a boxed function is supported by adapting it to the primitive form.
+ */
+public abstract class RealIntegrator1D extends Integrator1D<Double, Double> {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+    ArgChecker.notNull(f, "f");
+    ArgChecker.notNull(lower, "lower");
+    ArgChecker.notNull(upper, "upper");
+    return integratePrimitive(f::apply, lower.doubleValue(), upper.doubleValue());
+  }
+
+  /**
+   * 1-D integration method for a primitive function.
+   * 
+   * @param f The function to integrate, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
+   * @return The result of the integration
+   */
+  public abstract double integratePrimitive(DoubleUnaryOperator f, double lower, double upper);
+
+}
@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.apache.commons.math3.analysis.integration.RombergIntegrator;
 import org.apache.commons.math3.analysis.integration.UnivariateIntegrator;
@@ -27,7 +27,7 @@ import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
  * <a href="http://commons.apache.org/proper/commons-math/apidocs/org/apache/commons/math3/analysis/integration/RombergIntegrator.html">Commons Math library implementation</a> 
  * of Romberg integration.
  */
-public class RombergIntegrator1D extends Integrator1D<Double, Double> {
+public class RombergIntegrator1D extends RealIntegrator1D {
 
   private static final Logger log = LoggerFactory.getLogger(RombergIntegrator1D.class);
   private static final int MAX_EVAL = 10000;
@@ -37,15 +37,13 @@ public class RombergIntegrator1D extends Integrator1D<Double, Double> {
    * Romberg integration method. Note that the Commons implementation fails if the lower bound is larger than the upper - 
    * in this case, the bounds are reversed and the result negated. 
    * @param f The function to integrate, not null
-   * @param lower The lower bound, not null
-   * @param upper The upper bound, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
    * @return The result of the integration
    */
   @Override
-  public Double integrate(Function<Double, Double> f, Double lower, Double upper) {
+  public double integratePrimitive(DoubleUnaryOperator f, double lower, double upper) {
     ArgChecker.notNull(f, "f");
-    ArgChecker.notNull(lower, "lower bound");
-    ArgChecker.notNull(upper, "upper bound");
 
     try {
       if (lower < upper) {
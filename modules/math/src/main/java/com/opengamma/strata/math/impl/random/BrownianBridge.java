@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Brownian bridge construction of Brownian motion paths.
+ * <p>
+ * The path is observed at a set of increasing times. The first normal number determines the value
+ * at the last time, the second the value at the middle time, and so on by bisection.
+ * The large scale structure of the path is thus driven by the first numbers, which makes the
+ * construction well suited to quasi-random sequences, whose first dimensions are the best distributed.
+ * <p>
+ * The times are expressed as the variance of the process, thus a time-changed Brownian motion,
+ * such as an integral of a deterministic volatility, is handled by passing its cumulative variance.
+ * <p>
+ * Reference: Jäckel, P. "Monte Carlo Methods in Finance", Wiley, 2002, chapter 10.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BrownianBridge {
+
+  /**
+   * The number of times.
+   */
+  private final int size;
+  /**
+   * The index of the point constructed at each step.
+   */
+  private final int[] bridgeIndex;
+  /**
+   * The index after the left point of each step, zero if the left point is the origin.
+   */
+  private final int[] leftIndex;
+  /**
+   * The index of the right point of each step.
+   */
+  private final int[] rightIndex;
+  /**
+   * The weight of the left point of each step.
+   */
+  private final double[] leftWeight;
+  /**
+   * The weight of the right point of each step.
+   */
+  private final double[] rightWeight;
+  /**
+   * The standard deviation of each step.
+   */
+  private final double[] stdDev;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the cumulative variances.
+   * <p>
+   * For a standard Brownian motion the variances are the times.
+   *
+   * @param variances  the variance at each time, strictly positive and increasing
+   * @return the bridge
+   */
+  public static BrownianBridge of(DoubleArray variances) {
+    ArgChecker.isTrue(variances.size() > 0, "Variances must not be empty");
+    ArgChecker.isTrue(variances.get(0) > 0d, "Variances must be strictly positive");
+    for (int i = 1; i < variances.size(); i++) {
+      ArgChecker.isTrue(variances.get(i) > variances.get(i - 1), "Variances must be strictly increasing");
+    }
+    return new BrownianBridge(variances.toArrayUnsafe());
+  }
+
+  // restricted constructor
+  private BrownianBridge(double[] t) {
+    int n = t.length;
+    this.size = n;
+    this.bridgeIndex = new int[n];
+    this.leftIndex = new int[n];
+    this.rightIndex = new int[n];
+    this.leftWeight = new double[n];
+    this.rightWeight = new double[n];
+    this.stdDev = new double[n];
+    // map records the step at which each point is constructed, plus one, zero when not yet constructed
+    int[] map = new int[n];
+    map[n - 1] = 1;
+    bridgeIndex[0] = n - 1;
+    stdDev[0] = Math.sqrt(t[n - 1]);
+    int j = 0;
+    for (int i = 1; i < n; i++) {
+      while (map[j] != 0) {
+        j++;
+      }
+      int k = j;
+      while (map[k] == 0) {
+        k++;
+      }
+      // points j to k-1 are not yet constructed, point k is
+      int l = j + ((k - 1 - j) >> 1);
+      map[l] = i + 1;
+      bridgeIndex[i] = l;
+      leftIndex[i] = j;
+      rightIndex[i] = k;
+      double tLeft = j == 0 ? 0d : t[j - 1];
+      leftWeight[i] = (t[k] - t[l]) / (t[k] - tLeft);
+      rightWeight[i] = (t[l] - tLeft) / (t[k] - tLeft);
+      stdDev[i] = Math.sqrt((t[l] - tLeft) * (t[k] - t[l]) / (t[k] - tLeft));
+      j = k + 1;
+      if (j >= n) {
+        j = 0;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of times.
+   *
+   * @return the size
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Builds a path from independent standard normal numbers.
+   * <p>
+   * The path holds the value of the process at each time, starting from zero at time zero.
+   *
+   * @param normals  the independent standard normal numbers, of the same size as the bridge
+   * @param path  the array to populate with the path, of the same size as the bridge
+   */
+  public void buildPath(double[] normals, double[] path) {
+    ArgChecker.isTrue(normals.length == size, "Normals must have size {}", size);
+    ArgChecker.isTrue(path.length == size, "Path must have size {}", size);
+    path[size - 1] = stdDev[0] * normals[0];
+    for (int i = 1; i < size; i++) {
+      int j = leftIndex[i];
+      int l = bridgeIndex[i];
+      double value = rightWeight[i] * path[rightIndex[i]] + stdDev[i] * normals[i];
+      if (j != 0) {
+        value += leftWeight[i] * path[j - 1];
+      }
+      path[l] = value;
+    }
+  }
+
+}
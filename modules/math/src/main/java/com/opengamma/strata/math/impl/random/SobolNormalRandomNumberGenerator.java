@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.random.SobolSequenceGenerator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.cern.Probability;
+
+/**
+ * Quasi-random generator of standard normal numbers based on a Sobol sequence.
+ * <p>
+ * Each vector is the next point of a Sobol sequence, mapped to standard normal numbers using
+ * the inverse cumulative distribution function. The first point of the sequence, the origin,
+ * is skipped as it has no normal equivalent.
+ * <p>
+ * The dimension of the sequence is fixed, thus every vector has the same size.
+ * The sequence is deterministic, so a generator positioned using {@link #skipTo(int)} can
+ * produce a block of the sequence independently of the other blocks.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SobolNormalRandomNumberGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The maximum dimension supported.
+   */
+  public static final int MAX_DIMENSION = 1000;
+
+  /**
+   * The dimension of the sequence.
+   */
+  private final int dimension;
+  /**
+   * The underlying uniform sequence.
+   */
+  private final SobolSequenceGenerator sobol;
+
+  /**
+   * Creates an instance.
+   *
+   * @param dimension  the dimension of the sequence, from 1 to 1000
+   */
+  public SobolNormalRandomNumberGenerator(int dimension) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    this.dimension = dimension;
+    this.sobol = new SobolSequenceGenerator(dimension);
+    this.sobol.nextVector();  // skip the origin
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the dimension of the sequence.
+   *
+   * @return the dimension
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Positions the generator so that the next vector is the one at the specified index.
+   * <p>
+   * The index is zero-based and excludes the skipped origin.
+   *
+   * @param index  the index of the next vector
+   */
+  public void skipTo(int index) {
+    ArgChecker.notNegative(index, "index");
+    // the underlying generator returns the point at the index, which is the origin for index zero
+    sobol.skipTo(index);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.isTrue(size == dimension, "Size must equal the dimension {}, but was {}", dimension, size);
+    double[] result = sobol.nextVector();
+    for (int i = 0; i < size; i++) {
+      result[i] = Probability.normalInverse(result[i]);
+    }
+    return result;
+  }
+
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(getVector(arraySize));
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.cern.Probability;
+
+/**
+ * Pseudo-random generator of standard normal numbers that can be split into independent streams.
+ * <p>
+ * The uniform numbers are produced by {@link SplittableRandom} and mapped to standard normal
+ * numbers using the inverse cumulative distribution function.
+ * <p>
+ * Splitting produces a new generator whose stream is statistically independent of this one.
+ * The streams depend only on the seed and the order of the calls to {@link #split()}, thus a
+ * calculation that splits one stream per block of work in a fixed order is reproducible
+ * regardless of how the blocks are scheduled on threads.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SplittableNormalRandomNumberGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The underlying uniform generator.
+   */
+  private final SplittableRandom random;
+
+  /**
+   * Creates an instance.
+   *
+   * @param seed  the seed
+   */
+  public SplittableNormalRandomNumberGenerator(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  // creates an instance
+  private SplittableNormalRandomNumberGenerator(SplittableRandom random) {
+    this.random = random;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Splits off a new generator with an independent stream.
+   * <p>
+   * This advances the stream of this generator.
+   *
+   * @return the new generator
+   */
+  public SplittableNormalRandomNumberGenerator split() {
+    return new SplittableNormalRandomNumberGenerator(random.split());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.notNegative(size, "size");
+    double[] result = new double[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = nextNormal();
+    }
+    return result;
+  }
+
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.notNegative(arraySize, "arraySize");
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(getVector(arraySize));
+    }
+    return result;
+  }
+
+  // the uniform number is in the open interval (0, 1)
+  private double nextNormal() {
+    double uniform = random.nextDouble();
+    while (uniform == 0d) {
+      uniform = random.nextDouble();
+    }
+    return Probability.normalInverse(uniform);
+  }
+
+}
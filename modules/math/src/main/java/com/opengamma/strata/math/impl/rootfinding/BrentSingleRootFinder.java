@@ -5,8 +5,10 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
 
 /**
@@ -37,8 +39,16 @@ public class BrentSingleRootFinder extends RealSingleRootFinder {
   //-------------------------------------------------------------------------
   @Override
   public Double getRoot(Function<Double, Double> function, Double xLower, Double xUpper) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(xLower, "xLower");
+    ArgChecker.notNull(xUpper, "xUpper");
+    return getRootPrimitive(function::apply, xLower.doubleValue(), xUpper.doubleValue());
+  }
+
+  @Override
+  public double getRootPrimitive(DoubleUnaryOperator function, double xLower, double xUpper) {
     checkInputs(function, xLower, xUpper);
-    if (xLower.equals(xUpper)) {
+    if (xLower == xUpper) {
       return xLower;
     }
     double x1 = xLower;
@@ -46,8 +56,8 @@ public class BrentSingleRootFinder extends RealSingleRootFinder {
     double x3 = xUpper;
     double delta = 0;
     double oldDelta = 0;
-    double f1 = function.apply(x1);
-    double f2 = function.apply(x2);
+    double f1 = function.applyAsDouble(x1);
+    double f2 = function.applyAsDouble(x2);
     double f3 = f2;
     double r1, r2, r3, r4, eps, xMid, min1, min2;
     for (int i = 0; i < MAX_ITER; i++) {
@@ -104,9 +114,9 @@ public class BrentSingleRootFinder extends RealSingleRootFinder {
       } else {
         x2 += Math.copySign(eps, xMid);
       }
-      f1 = function.apply(x1);
-      f2 = function.apply(x2);
-      f3 = function.apply(x3);
+      f1 = function.applyAsDouble(x1);
+      f2 = function.applyAsDouble(x2);
+      f3 = function.applyAsDouble(x3);
     }
     throw new MathException("Could not converge to root in " + MAX_ITER + " attempts");
   }
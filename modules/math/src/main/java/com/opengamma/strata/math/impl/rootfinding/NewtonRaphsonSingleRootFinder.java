@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -74,6 +75,20 @@ public class NewtonRaphsonSingleRootFinder extends RealSingleRootFinder {
     return getRoot(DoubleFunction1D.from(function), x1, x2);
   }
 
+  /**
+   * {@inheritDoc}
+   * The derivative is taken from {@link DoubleFunction1D#derivative()} if the function is
+   * a {@code DoubleFunction1D}, otherwise it is approximated using finite difference.
+   * @throws MathException If the root is not found in 1000 attempts; if the Newton
+   *   step takes the estimate for the root outside the original bounds.
+   */
+  @Override
+  public double getRootPrimitive(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    DoubleFunction1D f = function instanceof DoubleFunction1D ? (DoubleFunction1D) function : function::applyAsDouble;
+    return getRoot(f, f.derivative(), x1, x2);
+  }
+
   //-------------------------------------------------------------------------
   public Double getRoot(Function<Double, Double> function, Double x) {
     ArgChecker.notNull(function, "function");
@@ -128,6 +143,24 @@ public class NewtonRaphsonSingleRootFinder extends RealSingleRootFinder {
     return getRoot(DoubleFunction1D.from(function), DoubleFunction1D.from(derivative), x1, x2);
   }
 
+  /**
+   * Uses the primitive function and its derivative.
+   * @param function The function, not null
+   * @param derivative The derivative, not null
+   * @param x1 The first bound of the root
+   * @param x2 The second bound of the root
+   * @return The root
+   * @throws MathException If the root is not found in 1000 attempts; if the Newton
+   *   step takes the estimate for the root outside the original bounds.
+   */
+  public double getRootPrimitive(DoubleUnaryOperator function, DoubleUnaryOperator derivative, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(derivative, "derivative");
+    DoubleFunction1D f = function instanceof DoubleFunction1D ? (DoubleFunction1D) function : function::applyAsDouble;
+    DoubleFunction1D df = derivative instanceof DoubleFunction1D ? (DoubleFunction1D) derivative : derivative::applyAsDouble;
+    return getRoot(f, df, x1, x2);
+  }
+
   /**
    * Uses the function and its derivative. This method uses an initial guess for the root, rather than bounds.
    * @param function The function, not null
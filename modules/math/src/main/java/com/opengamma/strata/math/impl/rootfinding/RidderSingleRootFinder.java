@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
@@ -12,6 +13,7 @@ import org.apache.commons.math3.analysis.solvers.RiddersSolver;
 import org.apache.commons.math3.exception.NoBracketingException;
 import org.apache.commons.math3.exception.TooManyEvaluationsException;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.util.CommonsMathWrapper;
 
@@ -54,6 +56,19 @@ public class RidderSingleRootFinder extends RealSingleRootFinder {
    */
   @Override
   public Double getRoot(Function<Double, Double> function, Double xLow, Double xHigh) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(xLow, "xLow");
+    ArgChecker.notNull(xHigh, "xHigh");
+    return getRootPrimitive(function::apply, xLow.doubleValue(), xHigh.doubleValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws MathException If the Commons method could not evaluate the function;
+   *   if the Commons method could not converge.
+   */
+  @Override
+  public double getRootPrimitive(DoubleUnaryOperator function, double xLow, double xHigh) {
     checkInputs(function, xLow, xHigh);
     UnivariateFunction wrapped = CommonsMathWrapper.wrapUnivariate(function);
     try {
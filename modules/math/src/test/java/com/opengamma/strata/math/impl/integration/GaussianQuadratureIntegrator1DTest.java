@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.data.Offset.offset;
 
 import java.util.function.Function;
@@ -120,6 +121,25 @@ public class GaussianQuadratureIntegrator1DTest {
     assertThat(rootPI).isCloseTo(integrator.integrate(DF3, lower, upper), offset(EPS));
   }
 
+  @Test
+  public void testPrimitive() {
+    GaussianQuadratureIntegrator1D legendre = new GaussLegendreQuadratureIntegrator1D(6);
+    assertThat(legendre.integratePrimitive(x -> x * x * x * (x - 4), -6d, 2d))
+        .isEqualTo(legendre.integrate(DF1, -6d, 2d));
+    GaussianQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(15);
+    assertThat(laguerre.integratePrimitive(x -> Math.exp(-2 * x), 0d, Double.POSITIVE_INFINITY))
+        .isEqualTo(laguerre.integrate(DF2, 0d, Double.POSITIVE_INFINITY));
+    GaussianQuadratureIntegrator1D jacobi = new GaussJacobiQuadratureIntegrator1D(7);
+    assertThat(jacobi.integratePrimitive(x -> x * x * x * (x - 4), -1d, 12d))
+        .isEqualTo(jacobi.integrate(DF1, -1d, 12d));
+    GaussianQuadratureIntegrator1D hermite = new GaussHermiteQuadratureIntegrator1D(10);
+    assertThat(hermite.integratePrimitive(x -> Math.exp(-x * x), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+        .isEqualTo(hermite.integrate(DF3, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    assertThat(hermite.integrateFromPolyFuncPrimitive(x -> 1d)).isEqualTo(hermite.integrateFromPolyFunc(ONE));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> hermite.integratePrimitive(x -> x, 0d, 1d));
+  }
+
   @Test
   public void testGaussHermite2() {
     final RungeKuttaIntegrator1D rk = new RungeKuttaIntegrator1D(1e-15);
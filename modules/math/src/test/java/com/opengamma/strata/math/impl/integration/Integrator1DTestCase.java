@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -63,6 +64,16 @@ public abstract class Integrator1DTestCase {
         .isCloseTo(-getIntegrator().integrate(DF, LOWER, UPPER), offset(EPS));
   }
 
+  @Test
+  public void test_primitive() {
+    RealIntegrator1D test = (RealIntegrator1D) getIntegrator();
+    DoubleUnaryOperator df = x -> 1 + Math.exp(-x);
+    assertThat(test.integratePrimitive(df, 0d, 12d)).isEqualTo(getIntegrator().integrate(DF, LOWER, UPPER));
+    assertThat(test.integratePrimitive(df, 12d, 0d)).isEqualTo(getIntegrator().integrate(DF, UPPER, LOWER));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.integratePrimitive(null, 0d, 12d));
+  }
+
   protected abstract Integrator1D<Double, Double> getIntegrator();
 
 }
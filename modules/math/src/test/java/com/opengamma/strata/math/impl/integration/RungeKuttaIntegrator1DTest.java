@@ -109,6 +109,15 @@ public class RungeKuttaIntegrator1DTest {
     assertThat(1.0).isCloseTo(integrator.integrate(MIX_NORM, lower, upper), offset(eps));
   }
 
+  @Test
+  public void test_primitive() {
+    RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(1e-9, 1e-9, 10);
+    assertThat(integrator.integratePrimitive(x -> x * x * x, 0d, 2d)).isCloseTo(4d, offset(1e-9));
+    assertThat(integrator.integratePrimitive(x -> x * x * x, 0d, 2d)).isEqualTo(integrator.integrate(CUBE, 0d, 2d));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> integrator.integratePrimitive(x -> x, 0d, Double.NaN));
+  }
+
   @Test
   public void testCutoff() {
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link BrownianBridge}.
+ */
+public class BrownianBridgeTest {
+
+  private static final DoubleArray VARIANCES = DoubleArray.of(0.1, 0.25, 0.5, 0.6, 1.2, 2.0, 3.5);
+
+  @Test
+  public void test_covariance() {
+    BrownianBridge test = BrownianBridge.of(VARIANCES);
+    int size = VARIANCES.size();
+    assertThat(test.getSize()).isEqualTo(size);
+    // the path is linear in the normals, column i is the path for the i-th unit vector
+    double[][] columns = new double[size][size];
+    for (int i = 0; i < size; i++) {
+      double[] normals = new double[size];
+      normals[i] = 1d;
+      test.buildPath(normals, columns[i]);
+    }
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        double covariance = 0d;
+        for (int k = 0; k < size; k++) {
+          covariance += columns[k][i] * columns[k][j];
+        }
+        assertThat(covariance).isCloseTo(Math.min(VARIANCES.get(i), VARIANCES.get(j)), offset(1e-12));
+      }
+    }
+  }
+
+  @Test
+  public void test_firstNormalDrivesLastPoint() {
+    BrownianBridge test = BrownianBridge.of(VARIANCES);
+    double[] normals = new double[VARIANCES.size()];
+    normals[0] = 1d;
+    double[] path = new double[VARIANCES.size()];
+    test.buildPath(normals, path);
+    assertThat(path[VARIANCES.size() - 1]).isCloseTo(Math.sqrt(3.5), offset(1e-15));
+  }
+
+  @Test
+  public void test_single() {
+    BrownianBridge test = BrownianBridge.of(DoubleArray.of(4d));
+    double[] path = new double[1];
+    test.buildPath(new double[] {0.5}, path);
+    assertThat(path[0]).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.EMPTY));
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.of(0d, 1d)));
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.of(1d, 1d)));
+    BrownianBridge test = BrownianBridge.of(VARIANCES);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.buildPath(new double[2], new double[7]));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.buildPath(new double[7], new double[2]));
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SobolNormalRandomNumberGenerator}.
+ */
+public class SobolNormalRandomNumberGeneratorTest {
+
+  @Test
+  public void test_vector() {
+    SobolNormalRandomNumberGenerator test = new SobolNormalRandomNumberGenerator(3);
+    assertThat(test.getDimension()).isEqualTo(3);
+    // the first point after the origin is the centre, which maps to zero
+    assertThat(test.getVector(3)).containsExactly(0d, 0d, 0d);
+    assertThat(test.getVector(3)).hasSize(3);
+  }
+
+  @Test
+  public void test_list() {
+    SobolNormalRandomNumberGenerator test = new SobolNormalRandomNumberGenerator(5);
+    List<double[]> result = test.getVectors(5, 50);
+    assertThat(result).hasSize(50);
+    for (double[] d : result) {
+      assertThat(d).hasSize(5);
+    }
+  }
+
+  @Test
+  public void test_skipTo() {
+    List<double[]> expected = new SobolNormalRandomNumberGenerator(4).getVectors(4, 20);
+    SobolNormalRandomNumberGenerator test = new SobolNormalRandomNumberGenerator(4);
+    test.skipTo(13);
+    assertThat(test.getVector(4)).containsExactly(expected.get(13));
+    test.skipTo(2);
+    assertThat(test.getVector(4)).containsExactly(expected.get(2));
+  }
+
+  @Test
+  public void test_moments() {
+    SobolNormalRandomNumberGenerator test = new SobolNormalRandomNumberGenerator(2);
+    int n = 4095;
+    double sum = 0d;
+    double sumSquare = 0d;
+    for (int i = 0; i < n; i++) {
+      double[] x = test.getVector(2);
+      sum += x[1];
+      sumSquare += x[1] * x[1];
+    }
+    assertThat(sum / n).isCloseTo(0d, offset(1e-3));
+    assertThat(sumSquare / n).isCloseTo(1d, offset(1e-2));
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new SobolNormalRandomNumberGenerator(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> new SobolNormalRandomNumberGenerator(1001));
+    SobolNormalRandomNumberGenerator test = new SobolNormalRandomNumberGenerator(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getVector(3));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getVectors(2, -1));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.skipTo(-1));
+  }
+
+}
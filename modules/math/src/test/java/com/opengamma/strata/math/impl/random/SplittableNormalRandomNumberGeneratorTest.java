@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SplittableNormalRandomNumberGenerator}.
+ */
+public class SplittableNormalRandomNumberGeneratorTest {
+
+  @Test
+  public void test_list() {
+    List<double[]> result = new SplittableNormalRandomNumberGenerator(1).getVectors(10, 50);
+    assertThat(result).hasSize(50);
+    for (double[] d : result) {
+      assertThat(d).hasSize(10);
+    }
+  }
+
+  @Test
+  public void test_reproducible() {
+    SplittableNormalRandomNumberGenerator test1 = new SplittableNormalRandomNumberGenerator(42);
+    SplittableNormalRandomNumberGenerator test2 = new SplittableNormalRandomNumberGenerator(42);
+    SplittableNormalRandomNumberGenerator split1 = test1.split();
+    SplittableNormalRandomNumberGenerator split2 = test2.split();
+    assertThat(split1.getVector(5)).containsExactly(split2.getVector(5));
+    assertThat(test1.getVector(5)).containsExactly(test2.getVector(5));
+    assertThat(test1.getVector(5)).isNotEqualTo(split1.getVector(5));
+  }
+
+  @Test
+  public void test_moments() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(7);
+    double[] x = test.getVector(100_000);
+    double sum = 0d;
+    double sumSquare = 0d;
+    for (double value : x) {
+      sum += value;
+      sumSquare += value * value;
+    }
+    assertThat(sum / x.length).isCloseTo(0d, offset(1e-2));
+    assertThat(sumSquare / x.length).isCloseTo(1d, offset(2e-2));
+  }
+
+  @Test
+  public void test_invalid() {
+    SplittableNormalRandomNumberGenerator test = new SplittableNormalRandomNumberGenerator(1);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getVector(-1));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getVectors(-1, 4));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getVectors(1, -5));
+  }
+
+}
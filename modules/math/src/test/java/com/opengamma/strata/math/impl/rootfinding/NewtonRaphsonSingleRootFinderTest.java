@@ -215,5 +215,8 @@ public class NewtonRaphsonSingleRootFinderTest {
     assertThat(ROOT_FINDER.getRoot(F1, DF1, X)).isCloseTo(ROOT, offset(EPS));
     assertThat(ROOT_FINDER.getRoot(F2, X)).isCloseTo(ROOT, offset(EPS));
     assertThat(ROOT_FINDER.getRoot(F2, DF2, X)).isCloseTo(ROOT, offset(EPS));
+    assertThat(ROOT_FINDER.getRootPrimitive(F1, DF1, X1, X2)).isCloseTo(ROOT, offset(EPS));
+    assertThat(ROOT_FINDER.getRootPrimitive(x -> F1.applyAsDouble(x), x -> DF1.applyAsDouble(x), X1, X2))
+        .isCloseTo(ROOT, offset(EPS));
   }
 }
@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -66,4 +67,17 @@ public abstract class RealSingleRootFinderTestCase {
     assertThat(finder.getRoot(F, 1.5, 2.5)).isCloseTo(2, offset(EPS));
     assertThat(finder.getRoot(F, -1.5, 0.5)).isCloseTo(-1, offset(EPS));
   }
+
+  @Test
+  public void test_primitive() {
+    RealSingleRootFinder finder = getRootFinder();
+    DoubleUnaryOperator f = x -> x * x * x - 4 * x * x + x + 6;
+    assertThat(finder.getRootPrimitive(f, 2.5, 3.5)).isCloseTo(3, offset(EPS));
+    assertThat(finder.getRootPrimitive(f, 1.5, 2.5)).isCloseTo(2, offset(EPS));
+    assertThat(finder.getRootPrimitive(f, -1.5, 0.5)).isEqualTo(finder.getRoot(F, -1.5, 0.5));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> finder.getRootPrimitive(f, 1.5, 3.5));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> finder.getRootPrimitive(null, 1.5, 2.5));
+  }
 }
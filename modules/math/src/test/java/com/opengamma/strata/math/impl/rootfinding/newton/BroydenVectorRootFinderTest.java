@@ -5,10 +5,14 @@
  */
 package com.opengamma.strata.math.impl.rootfinding.newton;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
 
 import org.junit.jupiter.api.Test;
 
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
 
 /**
@@ -51,4 +55,21 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(SV_JACOBIAN_3D, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
   }
+
+  @Test
+  public void testInitialJacobian() {
+    DoubleArray x0 = DoubleArray.of(0.8, 0.2, -0.7);
+    DoubleArray x1 = DEFAULT.findRoot(FUNCTION3D, JACOBIAN3D, x0, JACOBIAN3D.apply(x0));
+    assertThat(x1.get(0)).isCloseTo(1.0, offset(EPS));
+    assertThat(x1.get(1)).isCloseTo(0.0, offset(EPS));
+    assertThat(x1.get(2)).isCloseTo(-1.0, offset(EPS));
+    // starting at the root with the Jacobian at the root
+    DoubleArray root = DoubleArray.of(1.0, 0.0, -1.0);
+    DoubleArray x2 = SV.findRoot(FUNCTION3D, JACOBIAN3D, root, JACOBIAN3D.apply(root));
+    assertThat(x2.get(0)).isCloseTo(1.0, offset(EPS));
+    assertThat(x2.get(1)).isCloseTo(0.0, offset(EPS));
+    assertThat(x2.get(2)).isCloseTo(-1.0, offset(EPS));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DEFAULT.findRoot(FUNCTION3D, JACOBIAN3D, x0, DoubleMatrix.identity(2)));
+  }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesAggregator;
+import com.opengamma.strata.market.sensitivity.CurveSensitivities;
+import com.opengamma.strata.market.sensitivity.CurveSensitivitiesType;
+import com.opengamma.strata.product.AttributeType;
+import com.opengamma.strata.product.PortfolioItem;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Calculation listener that sums the sensitivities of a column as the results are received.
+ * <p>
+ * The sensitivities of each target, such as the bucketed PV01 of each trade, are added to a
+ * {@link CurrencyParameterSensitivitiesAggregator} and then discarded. This allows the sensitivity of
+ * a large portfolio to be obtained without retaining the results of each trade.
+ * <p>
+ * The values of the column may be {@link CurrencyParameterSensitivities} or {@link CurveSensitivities}.
+ * For the latter, the sensitivities of a single {@link CurveSensitivitiesType} are summed.
+ * Other columns are ignored. Failed results, and values that cannot be summed, are recorded as failures.
+ * <p>
+ * The targets can be grouped, for example by book or counterparty, with the sensitivities summed
+ * separately for each group. Targets that do not have a group are placed in the group
+ * {@link #NO_GROUP}, the empty string.
+ * <p>
+ * The aggregate result is a map from group to sensitivities, sorted by group.
+ * A listener instance should not be used for multiple sets of calculations.
+ */
+public final class SensitivityAggregatingListener
+    extends AggregatingCalculationListener<ImmutableMap<String, CurrencyParameterSensitivities>> {
+
+  /**
+   * The group of targets that do not have a group.
+   */
+  public static final String NO_GROUP = "";
+
+  /**
+   * The index of the column containing the sensitivities.
+   */
+  private final int columnIndex;
+  /**
+   * The type of sensitivity used when the values are {@code CurveSensitivities}.
+   */
+  private final CurveSensitivitiesType curveSensitivitiesType;
+  /**
+   * The function providing the group of a target.
+   */
+  private final Function<? super CalculationTarget, String> groupFn;
+  /**
+   * The aggregate sensitivities of each group.
+   */
+  private final Map<String, CurrencyParameterSensitivitiesAggregator> groups = new ConcurrentHashMap<>();
+  /**
+   * The failures.
+   */
+  private final List<FailureItem> failures = new ArrayList<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener that sums the sensitivities of all targets.
+   * <p>
+   * The {@linkplain CurveSensitivitiesType#ZERO_RATE_DELTA zero rate delta} is used for {@code CurveSensitivities}.
+   *
+   * @param columnIndex  the index of the column containing the sensitivities
+   * @return the listener
+   */
+  public static SensitivityAggregatingListener of(int columnIndex) {
+    return of(columnIndex, CurveSensitivitiesType.ZERO_RATE_DELTA, target -> NO_GROUP);
+  }
+
+  /**
+   * Obtains a listener that sums the sensitivities of the targets grouped by an attribute.
+   * <p>
+   * The group is the string form of the attribute value.
+   * The {@linkplain CurveSensitivitiesType#ZERO_RATE_DELTA zero rate delta} is used for {@code CurveSensitivities}.
+   *
+   * @param columnIndex  the index of the column containing the sensitivities
+   * @param attributeType  the attribute to group by, such as the book
+   * @return the listener
+   */
+  public static SensitivityAggregatingListener groupedByAttribute(int columnIndex, AttributeType<?> attributeType) {
+    ArgChecker.notNull(attributeType, "attributeType");
+    return of(columnIndex, CurveSensitivitiesType.ZERO_RATE_DELTA, target -> target instanceof PortfolioItem ?
+        ((PortfolioItem) target).getInfo().findAttribute(attributeType).map(Object::toString).orElse(NO_GROUP) :
+        NO_GROUP);
+  }
+
+  /**
+   * Obtains a listener that sums the sensitivities of the targets grouped by trade counterparty.
+   * <p>
+   * The group is the string form of the counterparty identifier.
+   * The {@linkplain CurveSensitivitiesType#ZERO_RATE_DELTA zero rate delta} is used for {@code CurveSensitivities}.
+   *
+   * @param columnIndex  the index of the column containing the sensitivities
+   * @return the listener
+   */
+  public static SensitivityAggregatingListener groupedByCounterparty(int columnIndex) {
+    return of(columnIndex, CurveSensitivitiesType.ZERO_RATE_DELTA, target -> target instanceof Trade ?
+        ((Trade) target).getInfo().getCounterparty().map(StandardId::toString).orElse(NO_GROUP) :
+        NO_GROUP);
+  }
+
+  /**
+   * Obtains a listener that sums the sensitivities of the targets grouped by a function.
+   *
+   * @param columnIndex  the index of the column containing the sensitivities
+   * @param curveSensitivitiesType  the type of sensitivity used when the values are {@code CurveSensitivities}
+   * @param groupFn  the function providing the group of a target, {@link #NO_GROUP} if it has no group
+   * @return the listener
+   */
+  public static SensitivityAggregatingListener of(
+      int columnIndex,
+      CurveSensitivitiesType curveSensitivitiesType,
+      Function<? super CalculationTarget, String> groupFn) {
+
+    ArgChecker.notNegative(columnIndex, "columnIndex");
+    ArgChecker.notNull(curveSensitivitiesType, "curveSensitivitiesType");
+    ArgChecker.notNull(groupFn, "groupFn");
+    return new SensitivityAggregatingListener(columnIndex, curveSensitivitiesType, groupFn);
+  }
+
+  // restricted constructor
+  private SensitivityAggregatingListener(
+      int columnIndex,
+      CurveSensitivitiesType curveSensitivitiesType,
+      Function<? super CalculationTarget, String> groupFn) {
+
+    this.columnIndex = columnIndex;
+    this.curveSensitivitiesType = curveSensitivitiesType;
+    this.groupFn = groupFn;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult calculationResult) {
+    if (calculationResult.getColumnIndex() != columnIndex) {
+      return;
+    }
+    Result<?> result = calculationResult.getResult();
+    if (result.isFailure()) {
+      addFailures(result.getFailure().getItems());
+      return;
+    }
+    Object value = result.getValue();
+    if (value instanceof ScenarioArray && ((ScenarioArray<?>) value).getScenarioCount() == 1) {
+      value = ((ScenarioArray<?>) value).get(0);
+    }
+    CurrencyParameterSensitivities sensitivities;
+    if (value instanceof CurrencyParameterSensitivities) {
+      sensitivities = (CurrencyParameterSensitivities) value;
+    } else if (value instanceof CurveSensitivities) {
+      sensitivities = ((CurveSensitivities) value).findTypedSensitivity(curveSensitivitiesType)
+          .orElse(CurrencyParameterSensitivities.empty());
+    } else {
+      addFailures(ImmutableList.of(FailureItem.of(
+          FailureReason.INVALID,
+          "Unable to aggregate sensitivities of type {} for row {}",
+          value.getClass().getSimpleName(),
+          calculationResult.getRowIndex())));
+      return;
+    }
+    String group = ArgChecker.notNull(groupFn.apply(target), "group");
+    groups.computeIfAbsent(group, g -> CurrencyParameterSensitivitiesAggregator.create()).add(sensitivities);
+  }
+
+  // records failures
+  private void addFailures(Iterable<FailureItem> items) {
+    synchronized (failures) {
+      for (FailureItem item : items) {
+        failures.add(item);
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the failures that were received or that occurred when summing.
+   * <p>
+   * The sensitivities of the targets with failures are not included in the result.
+   *
+   * @return the failures
+   */
+  public ImmutableList<FailureItem> getFailures() {
+    synchronized (failures) {
+      return ImmutableList.copyOf(failures);
+    }
+  }
+
+  @Override
+  protected ImmutableMap<String, CurrencyParameterSensitivities> createAggregateResult() {
+    Map<String, CurrencyParameterSensitivities> sorted = new TreeMap<>();
+    groups.forEach((group, aggregator) -> sorted.put(group, aggregator.toSensitivities()));
+    return ImmutableMap.copyOf(sorted);
+  }
+
+}
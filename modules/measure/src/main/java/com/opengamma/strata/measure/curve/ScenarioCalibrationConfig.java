@@ -0,0 +1,394 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+
+/**
+ * Configuration controlling how curves are calibrated when there are multiple scenarios.
+ * <p>
+ * When the market data used to calibrate a curve group contains multiple scenarios, for example
+ * a set of historical or perturbed quotes, a curve group is calibrated independently for each scenario.
+ * This configuration allows the calibrations to be performed in parallel, and allows each scenario
+ * to be warm-started from the solution of the first scenario.
+ * <p>
+ * The configuration is added to the {@code MarketDataConfig} in the same way as {@link RootFinderConfig}.
+ * The calibrated curves are the same whether calibration is sequential or parallel.
+ */
+@BeanDefinition
+public final class ScenarioCalibrationConfig implements ImmutableBean, Serializable {
+
+  /** The standard configuration, calibrating scenarios sequentially. */
+  private static final ScenarioCalibrationConfig STANDARD = new ScenarioCalibrationConfig(false, false);
+
+  /**
+   * Whether the scenarios are calibrated in parallel.
+   * <p>
+   * If true, the calibrations for each scenario are performed in parallel using the common fork-join pool.
+   * The default is false.
+   */
+  @PropertyDefinition
+  private final boolean parallel;
+  /**
+   * Whether the scenarios are warm-started from the calibration of the first scenario.
+   * <p>
+   * If true, the first scenario is calibrated in full, and its calibrated parameters and calibration Jacobian
+   * are used as the starting point of the root finder for the other scenarios.
+   * This typically reduces the number of iterations when the scenarios are small shocks of the first scenario.
+   * The calibrated curves agree with those of a full calibration to within the tolerance of the root finder.
+   * The default is false.
+   */
+  @PropertyDefinition
+  private final boolean warmStart;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the standard configuration, where scenarios are calibrated sequentially.
+   *
+   * @return the standard configuration
+   */
+  public static ScenarioCalibrationConfig standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Returns the configuration where scenarios are calibrated in parallel.
+   *
+   * @return the parallel configuration
+   */
+  public static ScenarioCalibrationConfig ofParallel() {
+    return new ScenarioCalibrationConfig(true, false);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   * @return the meta-bean, not null
+   */
+  public static ScenarioCalibrationConfig.Meta meta() {
+    return ScenarioCalibrationConfig.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(ScenarioCalibrationConfig.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Returns a builder used to create an instance of the bean.
+   * @return the builder, not null
+   */
+  public static ScenarioCalibrationConfig.Builder builder() {
+    return new ScenarioCalibrationConfig.Builder();
+  }
+
+  private ScenarioCalibrationConfig(
+      boolean parallel,
+      boolean warmStart) {
+    this.parallel = parallel;
+    this.warmStart = warmStart;
+  }
+
+  @Override
+  public ScenarioCalibrationConfig.Meta metaBean() {
+    return ScenarioCalibrationConfig.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets whether the scenarios are calibrated in parallel.
+   * <p>
+   * If true, the calibrations for each scenario are performed in parallel using the common fork-join pool.
+   * The default is false.
+   * @return the value of the property
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets whether the scenarios are warm-started from the calibration of the first scenario.
+   * <p>
+   * If true, the first scenario is calibrated in full, and its calibrated parameters and calibration Jacobian
+   * are used as the starting point of the root finder for the other scenarios.
+   * This typically reduces the number of iterations when the scenarios are small shocks of the first scenario.
+   * The calibrated curves agree with those of a full calibration to within the tolerance of the root finder.
+   * The default is false.
+   * @return the value of the property
+   */
+  public boolean isWarmStart() {
+    return warmStart;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Returns a builder that allows this bean to be mutated.
+   * @return the mutable builder, not null
+   */
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioCalibrationConfig other = (ScenarioCalibrationConfig) obj;
+      return (parallel == other.parallel) &&
+          (warmStart == other.warmStart);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(parallel);
+    hash = hash * 31 + JodaBeanUtils.hashCode(warmStart);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ScenarioCalibrationConfig{");
+    buf.append("parallel").append('=').append(JodaBeanUtils.toString(parallel)).append(',').append(' ');
+    buf.append("warmStart").append('=').append(JodaBeanUtils.toString(warmStart));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code ScenarioCalibrationConfig}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code parallel} property.
+     */
+    private final MetaProperty<Boolean> parallel = DirectMetaProperty.ofImmutable(
+        this, "parallel", ScenarioCalibrationConfig.class, Boolean.TYPE);
+    /**
+     * The meta-property for the {@code warmStart} property.
+     */
+    private final MetaProperty<Boolean> warmStart = DirectMetaProperty.ofImmutable(
+        this, "warmStart", ScenarioCalibrationConfig.class, Boolean.TYPE);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "parallel",
+        "warmStart");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 1171402247:  // parallel
+          return parallel;
+        case -1787818787:  // warmStart
+          return warmStart;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public ScenarioCalibrationConfig.Builder builder() {
+      return new ScenarioCalibrationConfig.Builder();
+    }
+
+    @Override
+    public Class<? extends ScenarioCalibrationConfig> beanType() {
+      return ScenarioCalibrationConfig.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code parallel} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Boolean> parallel() {
+      return parallel;
+    }
+
+    /**
+     * The meta-property for the {@code warmStart} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Boolean> warmStart() {
+      return warmStart;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 1171402247:  // parallel
+          return ((ScenarioCalibrationConfig) bean).isParallel();
+        case -1787818787:  // warmStart
+          return ((ScenarioCalibrationConfig) bean).isWarmStart();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code ScenarioCalibrationConfig}.
+   */
+  public static final class Builder extends DirectFieldsBeanBuilder<ScenarioCalibrationConfig> {
+
+    private boolean parallel;
+    private boolean warmStart;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    /**
+     * Restricted copy constructor.
+     * @param beanToCopy  the bean to copy from, not null
+     */
+    private Builder(ScenarioCalibrationConfig beanToCopy) {
+      this.parallel = beanToCopy.isParallel();
+      this.warmStart = beanToCopy.isWarmStart();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 1171402247:  // parallel
+          return parallel;
+        case -1787818787:  // warmStart
+          return warmStart;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 1171402247:  // parallel
+          this.parallel = (Boolean) newValue;
+          break;
+        case -1787818787:  // warmStart
+          this.warmStart = (Boolean) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder set(MetaProperty<?> property, Object value) {
+      super.set(property, value);
+      return this;
+    }
+
+    @Override
+    public ScenarioCalibrationConfig build() {
+      return new ScenarioCalibrationConfig(
+          parallel,
+          warmStart);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets whether the scenarios are calibrated in parallel.
+     * <p>
+     * If true, the calibrations for each scenario are performed in parallel using the common fork-join pool.
+     * The default is false.
+     * @param parallel  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder parallel(boolean parallel) {
+      this.parallel = parallel;
+      return this;
+    }
+
+    /**
+     * Sets whether the scenarios are warm-started from the calibration of the first scenario.
+     * <p>
+     * If true, the first scenario is calibrated in full, and its calibrated parameters and calibration Jacobian
+     * are used as the starting point of the root finder for the other scenarios.
+     * This typically reduces the number of iterations when the scenarios are small shocks of the first scenario.
+     * The calibrated curves agree with those of a full calibration to within the tolerance of the root finder.
+     * The default is false.
+     * @param warmStart  the new value
+     * @return this, for chaining, not null
+     */
+    public Builder warmStart(boolean warmStart) {
+      this.warmStart = warmStart;
+      return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(96);
+      buf.append("ScenarioCalibrationConfig.Builder{");
+      buf.append("parallel").append('=').append(JodaBeanUtils.toString(parallel)).append(',').append(' ');
+      buf.append("warmStart").append('=').append(JodaBeanUtils.toString(warmStart));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
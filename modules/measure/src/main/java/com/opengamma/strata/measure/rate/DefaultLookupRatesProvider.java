@@ -14,6 +14,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.joda.beans.ImmutableBean;
@@ -63,6 +64,11 @@ import com.opengamma.strata.pricer.rate.RatesProvider;
  * A rates provider based on a rates lookup.
  * <p>
  * This uses a {@link DefaultRatesMarketDataLookup} to provide a view on {@link MarketData}.
+ * <p>
+ * The discount factors and index rates are resolved from the market data on first use
+ * and then retained for the lifetime of the provider.
+ * Pricing a trade typically queries the same curve many times, once for each cash flow,
+ * thus this avoids repeatedly looking up the curve and time-series and creating the wrapper.
  */
 @BeanDefinition(style = "light")
 final class DefaultLookupRatesProvider
@@ -82,6 +88,23 @@ final class DefaultLookupRatesProvider
    * The FX rate provider.
    */
   private final transient FxRateProvider fxRateProvider;  // derived
+  /**
+   * The resolved discount factors, keyed by currency.
+   */
+  private final transient Map<Currency, DiscountFactors> discountFactors = new ConcurrentHashMap<>();  // cached
+  /**
+   * The resolved Ibor index rates, keyed by index.
+   */
+  private final transient Map<IborIndex, IborIndexRates> iborIndexRates = new ConcurrentHashMap<>();  // cached
+  /**
+   * The resolved Overnight index rates, keyed by index.
+   */
+  private final transient Map<OvernightIndex, OvernightIndexRates> overnightIndexRates =
+      new ConcurrentHashMap<>();  // cached
+  /**
+   * The resolved price index values, keyed by index.
+   */
+  private final transient Map<PriceIndex, PriceIndexValues> priceIndexValues = new ConcurrentHashMap<>();  // cached
 
   //-------------------------------------------------------------------------
   /**
@@ -185,6 +208,11 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    return discountFactors.computeIfAbsent(currency, this::resolveDiscountFactors);
+  }
+
+  // resolves the discount factors from the market data
+  private DiscountFactors resolveDiscountFactors(Currency currency) {
     CurveId curveId = lookup.getDiscountCurves().get(currency);
     if (curveId == null) {
       throw new MarketDataNotFoundException(lookup.msgCurrencyNotFound(currency));
@@ -213,6 +241,11 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    return iborIndexRates.computeIfAbsent(index, this::resolveIborIndexRates);
+  }
+
+  // resolves the rates from the market data
+  private IborIndexRates resolveIborIndexRates(IborIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       return historicCurve(index);
@@ -232,6 +265,11 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    return overnightIndexRates.computeIfAbsent(index, this::resolveOvernightIndexRates);
+  }
+
+  // resolves the rates from the market data
+  private OvernightIndexRates resolveOvernightIndexRates(OvernightIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       return historicCurve(index);
@@ -251,6 +289,11 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public PriceIndexValues priceIndexValues(PriceIndex index) {
+    return priceIndexValues.computeIfAbsent(index, this::resolvePriceIndexValues);
+  }
+
+  // resolves the values from the market data
+  private PriceIndexValues resolvePriceIndexValues(PriceIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       return historicCurve(index);
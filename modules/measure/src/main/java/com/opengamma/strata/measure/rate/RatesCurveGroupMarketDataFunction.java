@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -36,7 +37,9 @@ import com.opengamma.strata.market.curve.RatesCurveInputs;
 import com.opengamma.strata.market.curve.RatesCurveInputsId;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.measure.curve.RootFinderConfig;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.pricer.curve.CalibrationMeasures;
+import com.opengamma.strata.pricer.curve.CalibrationWarmStart;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 
@@ -58,7 +61,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * <p>
    * This will use the standard {@linkplain CalibrationMeasures#PAR_SPREAD par spread} measures
    * for calibration. The {@link MarketDataConfig} may contain a {@link RootFinderConfig}
-   * to define the tolerances.
+   * to define the tolerances, and a {@link ScenarioCalibrationConfig} to calibrate scenarios in parallel.
    */
   public RatesCurveGroupMarketDataFunction() {
     this(CalibrationMeasures.PAR_SPREAD);
@@ -111,10 +114,13 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(
         rfc.getAbsoluteTolerance(), rfc.getRelativeTolerance(), rfc.getMaximumSteps(), calibrationMeasures);
 
+    ScenarioCalibrationConfig scc =
+        marketDataConfig.find(ScenarioCalibrationConfig.class).orElse(ScenarioCalibrationConfig.standard());
+
     // calibrate
     CurveGroupName groupName = id.getCurveGroupName();
     RatesCurveGroupDefinition configuredDefn = marketDataConfig.get(RatesCurveGroupDefinition.class, groupName);
-    return buildCurveGroup(configuredDefn, calibrator, marketData, refData, id.getObservableSource());
+    return buildCurveGroup(configuredDefn, calibrator, scc, marketData, refData, id.getObservableSource());
   }
 
   @Override
@@ -140,6 +146,29 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData,
       ObservableSource obsSource) {
 
+    return buildCurveGroup(
+        configuredGroup, calibrator, ScenarioCalibrationConfig.standard(), marketData, refData, obsSource);
+  }
+
+  /**
+   * Builds a curve group given the configuration for the group and a set of market data.
+   *
+   * @param configuredGroup  the definition of the curve group
+   * @param calibrator  the calibrator
+   * @param scenarioConfig  the configuration controlling how scenarios are calibrated
+   * @param marketData  the market data containing any values required to build the curve group
+   * @param refData  the reference data, used for resolving trades
+   * @param obsSource  the source of observable market data
+   * @return a result containing the curve group or details of why it couldn't be built
+   */
+  MarketDataBox<RatesCurveGroup> buildCurveGroup(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ObservableSource obsSource) {
+
     // find and combine all the input data
     CurveGroupName groupName = configuredGroup.getName();
 
@@ -154,7 +183,8 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
     Map<ObservableId, LocalDateDoubleTimeSeries> fixings = extractFixings(marketData);
 
     return multipleValues || multipleValuationDates ?
-        buildMultipleCurveGroups(configuredGroup, calibrator, valuationDates, inputBoxes, fixings, refData) :
+        buildMultipleCurveGroups(
+            configuredGroup, calibrator, scenarioConfig, valuationDates, inputBoxes, fixings, refData) :
         buildSingleCurveGroup(configuredGroup, calibrator, valuationDates.getSingleValue(), inputBoxes, fixings, refData);
   }
 
@@ -171,23 +201,57 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
   private MarketDataBox<RatesCurveGroup> buildMultipleCurveGroups(
       RatesCurveGroupDefinition configuredGroup,
       RatesCurveCalibrator calibrator,
+      ScenarioCalibrationConfig scenarioConfig,
       MarketDataBox<LocalDate> valuationDateBox,
       List<MarketDataBox<RatesCurveInputs>> inputBoxes,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
-    ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
-
-    for (int i = 0; i < scenarioCount; i++) {
-      LocalDate valuationDate = valuationDateBox.getValue(i);
+    // when warm-starting, the first scenario is calibrated in full and seeds the others
+    CalibrationWarmStart warmStart = null;
+    int firstIndex = 0;
+    ImmutableList.Builder<RatesCurveGroup> curveGroups = ImmutableList.builder();
+    if (scenarioConfig.isWarmStart()) {
+      LocalDate valuationDate = valuationDateBox.getValue(0);
       RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
-      List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+      MarketData inputs = inputsByKey(valuationDate, inputsForScenario(inputBoxes, 0), fixings);
+      warmStart = calibrator.calibrateWarmStart(filteredGroup, inputs, refData);
+      curveGroups.add(curveGroup(filteredGroup, warmStart.getCalibratedProvider()));
+      firstIndex = 1;
     }
-    ImmutableList<RatesCurveGroup> curveGroups = builder.build();
-    return MarketDataBox.ofScenarioValues(curveGroups);
+    IntStream scenarioIndices = IntStream.range(firstIndex, scenarioCount);
+    if (scenarioConfig.isParallel()) {
+      // each scenario is calibrated independently, the ordered collect keeps the scenario order
+      scenarioIndices = scenarioIndices.parallel();
+    }
+    CalibrationWarmStart scenarioWarmStart = warmStart;
+    curveGroups.addAll(scenarioIndices
+        .mapToObj(i -> buildScenarioGroup(
+            configuredGroup, calibrator, scenarioWarmStart, valuationDateBox, inputBoxes, fixings, refData, i))
+        .collect(toImmutableList()));
+    return MarketDataBox.ofScenarioValues(curveGroups.build());
+  }
+
+  // calibrates the group for a single scenario
+  private RatesCurveGroup buildScenarioGroup(
+      RatesCurveGroupDefinition configuredGroup,
+      RatesCurveCalibrator calibrator,
+      CalibrationWarmStart warmStart,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<RatesCurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int scenarioIndex) {
+
+    LocalDate valuationDate = valuationDateBox.getValue(scenarioIndex);
+    RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+    List<RatesCurveInputs> curveInputsList = inputsForScenario(inputBoxes, scenarioIndex);
+    MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
+    if (warmStart != null) {
+      return curveGroup(filteredGroup, calibrator.calibrate(filteredGroup, inputs, refData, warmStart));
+    }
+    return buildGroup(filteredGroup, calibrator, inputs, refData);
   }
 
   private static List<RatesCurveInputs> inputsForScenario(List<MarketDataBox<RatesCurveInputs>> boxes, int scenarioIndex) {
@@ -261,6 +325,11 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
         marketData,
         refData);
 
+    return curveGroup(groupDefn, calibratedProvider);
+  }
+
+  // creates the curve group from the calibrated provider
+  private static RatesCurveGroup curveGroup(RatesCurveGroupDefinition groupDefn, ImmutableRatesProvider calibratedProvider) {
     return RatesCurveGroup.of(
         groupDefn.getName(),
         calibratedProvider.getDiscountCurves(),
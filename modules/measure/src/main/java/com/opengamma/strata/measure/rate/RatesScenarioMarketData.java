@@ -5,7 +5,12 @@
  */
 package com.opengamma.strata.measure.rate;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.stream.IntStream;
+
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 
 /**
  * Market data for rates products, used for calculation across multiple scenarios.
@@ -59,4 +64,19 @@ public interface RatesScenarioMarketData {
    */
   public abstract RatesMarketData scenario(int scenarioIndex);
 
+  /**
+   * Returns a provider of rates for all scenarios.
+   * <p>
+   * This allows a pricer to obtain discount factors and forward rates for all scenarios at once,
+   * walking the cash flows of a trade once rather than once per scenario.
+   * The returned provider is not thread-safe, and should be used to price a single trade.
+   * 
+   * @return the rates provider of each scenario
+   */
+  public default ScenarioRatesProvider scenarioRatesProvider() {
+    return ScenarioRatesProvider.of(IntStream.range(0, getScenarioCount())
+        .mapToObj(i -> scenario(i).ratesProvider())
+        .collect(toImmutableList()));
+  }
+
 }
@@ -102,9 +102,8 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
-        marketData.getScenarioCount(),
-        i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
+    // the cash flows are walked once, pricing all scenarios together
+    return tradePricer.presentValue(trade, marketData.scenarioRatesProvider());
   }
 
   // present value for one scenario
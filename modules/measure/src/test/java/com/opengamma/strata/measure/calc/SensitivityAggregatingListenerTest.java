@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.calc;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.CurveSensitivities;
+import com.opengamma.strata.market.sensitivity.CurveSensitivitiesType;
+import com.opengamma.strata.product.AttributeType;
+import com.opengamma.strata.product.GenericSecurity;
+import com.opengamma.strata.product.GenericSecurityTrade;
+import com.opengamma.strata.product.PortfolioItemInfo;
+import com.opengamma.strata.product.SecurityId;
+import com.opengamma.strata.product.SecurityInfo;
+import com.opengamma.strata.product.TradeInfo;
+
+/**
+ * Test {@link SensitivityAggregatingListener}.
+ */
+public class SensitivityAggregatingListenerTest {
+
+  private static final CurveName NAME1 = CurveName.of("GBP-Curve");
+  private static final CurveName NAME2 = CurveName.of("USD-Curve");
+  private static final StandardId ID1 = StandardId.of("test", "cpty1");
+  private static final StandardId ID2 = StandardId.of("test", "cpty2");
+
+  private static final GenericSecurity SEC =
+      GenericSecurity.of(SecurityInfo.of(SecurityId.of("test", "sec"), 1.0, CurrencyAmount.of(Currency.GBP, 1.0)));
+  private static final GenericSecurityTrade TRADE_1 = GenericSecurityTrade.of(
+      TradeInfo.builder().counterparty(ID1).addAttribute(AttributeType.DESCRIPTION, "A").build(), SEC, 1, 1.0);
+  private static final GenericSecurityTrade TRADE_2 = GenericSecurityTrade.of(
+      TradeInfo.builder().counterparty(ID2).addAttribute(AttributeType.DESCRIPTION, "B").build(), SEC, 1, 1.0);
+  private static final GenericSecurityTrade TRADE_3 = GenericSecurityTrade.of(TradeInfo.empty(), SEC, 1, 1.0);
+
+  private static final CurrencyParameterSensitivities SENS_1 = CurrencyParameterSensitivities.of(
+      CurrencyParameterSensitivity.of(NAME1, GBP, DoubleArray.of(1, 2, 3)));
+  private static final CurrencyParameterSensitivities SENS_2 = CurrencyParameterSensitivities.of(
+      CurrencyParameterSensitivity.of(NAME1, GBP, DoubleArray.of(10, 20, 30)),
+      CurrencyParameterSensitivity.of(NAME2, USD, DoubleArray.of(5, 6)));
+  private static final CurrencyParameterSensitivities SENS_3 = CurrencyParameterSensitivities.of(
+      CurrencyParameterSensitivity.of(NAME2, USD, DoubleArray.of(100, 200)));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    SensitivityAggregatingListener test = SensitivityAggregatingListener.of(1);
+    test.resultReceived(TRADE_1, CalculationResult.of(0, 1, Result.success(SENS_1)));
+    test.resultReceived(TRADE_2, CalculationResult.of(1, 1, Result.success(SENS_2)));
+    test.resultReceived(TRADE_3, CalculationResult.of(2, 1, Result.success(ScenarioArray.of(SENS_3))));
+    test.resultReceived(TRADE_3, CalculationResult.of(2, 0, Result.success(SENS_3)));
+    test.calculationsComplete();
+    ImmutableMap<String, CurrencyParameterSensitivities> result = test.result();
+    assertThat(result).containsOnlyKeys(SensitivityAggregatingListener.NO_GROUP);
+    assertThat(result.get(SensitivityAggregatingListener.NO_GROUP))
+        .isEqualTo(SENS_1.combinedWith(SENS_2).combinedWith(SENS_3));
+    assertThat(test.getFailures()).isEmpty();
+  }
+
+  @Test
+  public void test_groupedByCounterparty() {
+    SensitivityAggregatingListener test = SensitivityAggregatingListener.groupedByCounterparty(0);
+    test.resultReceived(TRADE_1, CalculationResult.of(0, 0, Result.success(SENS_1)));
+    test.resultReceived(TRADE_2, CalculationResult.of(1, 0, Result.success(SENS_2)));
+    test.resultReceived(TRADE_3, CalculationResult.of(2, 0, Result.success(SENS_3)));
+    test.resultReceived(TRADE_1, CalculationResult.of(3, 0, Result.success(SENS_2)));
+    test.calculationsComplete();
+    ImmutableMap<String, CurrencyParameterSensitivities> result = test.result();
+    assertThat(result.keySet()).containsExactly("", ID1.toString(), ID2.toString());
+    assertThat(result.get(ID1.toString())).isEqualTo(SENS_1.combinedWith(SENS_2));
+    assertThat(result.get(ID2.toString())).isEqualTo(SENS_2);
+    assertThat(result.get("")).isEqualTo(SENS_3);
+  }
+
+  @Test
+  public void test_groupedByAttribute() {
+    SensitivityAggregatingListener test = SensitivityAggregatingListener.groupedByAttribute(0, AttributeType.DESCRIPTION);
+    test.resultReceived(TRADE_1, CalculationResult.of(0, 0, Result.success(SENS_1)));
+    test.resultReceived(TRADE_2, CalculationResult.of(1, 0, Result.success(SENS_2)));
+    test.calculationsComplete();
+    ImmutableMap<String, CurrencyParameterSensitivities> result = test.result();
+    assertThat(result).containsOnlyKeys("A", "B");
+    assertThat(result.get("A")).isEqualTo(SENS_1);
+    assertThat(result.get("B")).isEqualTo(SENS_2);
+  }
+
+  @Test
+  public void test_curveSensitivities() {
+    CurveSensitivities curveSens = CurveSensitivities.of(
+        PortfolioItemInfo.empty(),
+        ImmutableMap.of(CurveSensitivitiesType.ZERO_RATE_DELTA, SENS_1, CurveSensitivitiesType.ZERO_RATE_GAMMA, SENS_3));
+    SensitivityAggregatingListener test =
+        SensitivityAggregatingListener.of(0, CurveSensitivitiesType.ZERO_RATE_GAMMA, target -> "G");
+    test.resultReceived(TRADE_1, CalculationResult.of(0, 0, Result.success(curveSens)));
+    test.resultReceived(TRADE_2, CalculationResult.of(1, 0, Result.success(curveSens)));
+    test.calculationsComplete();
+    assertThat(test.result()).containsOnlyKeys("G");
+    assertThat(test.result().get("G")).isEqualTo(SENS_3.multipliedBy(2));
+  }
+
+  @Test
+  public void test_failures() {
+    SensitivityAggregatingListener test = SensitivityAggregatingListener.of(0);
+    test.resultReceived(TRADE_1, CalculationResult.of(0, 0, Result.success(SENS_1)));
+    test.resultReceived(TRADE_2, CalculationResult.of(1, 0, Result.failure(FailureReason.CALCULATION_FAILED, "Bad")));
+    test.resultReceived(TRADE_3, CalculationResult.of(2, 0, Result.success("Text")));
+    test.calculationsComplete();
+    assertThat(test.result().get(SensitivityAggregatingListener.NO_GROUP)).isEqualTo(SENS_1);
+    assertThat(test.getFailures()).hasSize(2);
+    assertThat(test.getFailures().get(0).getReason()).isEqualTo(FailureReason.CALCULATION_FAILED);
+    assertThat(test.getFailures().get(1).getReason()).isEqualTo(FailureReason.INVALID);
+  }
+
+  @Test
+  public void test_empty() {
+    SensitivityAggregatingListener test = SensitivityAggregatingListener.of(0);
+    test.calculationsComplete();
+    assertThat(test.result()).isEmpty();
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> SensitivityAggregatingListener.of(-1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SensitivityAggregatingListener.groupedByAttribute(0, null));
+  }
+
+}
@@ -62,6 +62,7 @@ import com.opengamma.strata.market.curve.node.FxSwapCurveNode;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.measure.curve.ScenarioCalibrationConfig;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
@@ -187,6 +188,96 @@ public class RatesCurveGroupMarketDataFunctionTest {
     checkSwapPvIsZero((FixedIborSwapCurveNode) nodes.get(4), ratesProvider, marketData);
   }
 
+  /**
+   * Tests that calibrating scenarios in parallel gives the same curves as calibrating them sequentially.
+   */
+  @Test
+  public void parallelScenarios() {
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraSwapCurveDefinition();
+    CurveName curveName = curveDefn.getName();
+    List<CurveNode> nodes = curveDefn.getNodes();
+
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+
+    double[] rates = {0.0037, 0.0054, 0.005, 0.0087, 0.012};
+    ImmutableList.Builder<RatesCurveInputs> scenarioInputs = ImmutableList.builder();
+    for (int i = 0; i < 8; i++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int j = 0; j < nodes.size(); j++) {
+        inputData.put(CurveTestUtils.key(nodes.get(j)), rates[j] + i * 0.0001);
+      }
+      scenarioInputs.add(RatesCurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    LocalDate valuationDate = date(2011, 3, 8);
+    ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs.build())
+        .build();
+
+    RatesCurveGroupMarketDataFunction function = new RatesCurveGroupMarketDataFunction();
+    MarketDataBox<RatesCurveGroup> sequential = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.standard(), inputMarketData, REF_DATA, ObservableSource.NONE);
+    MarketDataBox<RatesCurveGroup> parallel = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.ofParallel(), inputMarketData, REF_DATA, ObservableSource.NONE);
+    assertThat(parallel.getScenarioCount()).isEqualTo(8);
+    assertThat(parallel).isEqualTo(sequential);
+
+    MarketDataConfig marketDataConfig = MarketDataConfig.builder()
+        .add(groupName, groupDefn)
+        .addDefault(ScenarioCalibrationConfig.ofParallel())
+        .build();
+    MarketDataBox<RatesCurveGroup> built =
+        function.build(RatesCurveGroupId.of(groupName), marketDataConfig, inputMarketData, REF_DATA);
+    assertThat(built).isEqualTo(sequential);
+  }
+
+  @Test
+  public void warmStartScenarios() {
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraSwapCurveDefinition();
+    CurveName curveName = curveDefn.getName();
+    List<CurveNode> nodes = curveDefn.getNodes();
+
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+
+    double[] rates = {0.0037, 0.0054, 0.005, 0.0087, 0.012};
+    ImmutableList.Builder<RatesCurveInputs> scenarioInputs = ImmutableList.builder();
+    for (int i = 0; i < 8; i++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int j = 0; j < nodes.size(); j++) {
+        inputData.put(CurveTestUtils.key(nodes.get(j)), rates[j] + i * 0.0001);
+      }
+      scenarioInputs.add(RatesCurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    LocalDate valuationDate = date(2011, 3, 8);
+    ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs.build())
+        .build();
+
+    RatesCurveGroupMarketDataFunction function = new RatesCurveGroupMarketDataFunction();
+    MarketDataBox<RatesCurveGroup> cold = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, ScenarioCalibrationConfig.standard(), inputMarketData, REF_DATA, ObservableSource.NONE);
+    ScenarioCalibrationConfig warmConfig = ScenarioCalibrationConfig.builder().parallel(true).warmStart(true).build();
+    MarketDataBox<RatesCurveGroup> warm = function.buildCurveGroup(
+        groupDefn, CALIBRATOR, warmConfig, inputMarketData, REF_DATA, ObservableSource.NONE);
+    assertThat(warm.getScenarioCount()).isEqualTo(8);
+    assertThat(warm.getValue(0)).isEqualTo(cold.getValue(0));
+    for (int i = 1; i < 8; i++) {
+      Curve coldCurve = cold.getValue(i).findDiscountCurve(Currency.USD).get();
+      Curve warmCurve = warm.getValue(i).findDiscountCurve(Currency.USD).get();
+      assertThat(warmCurve.getParameterCount()).isEqualTo(coldCurve.getParameterCount());
+      for (int j = 0; j < coldCurve.getParameterCount(); j++) {
+        assertThat(warmCurve.getParameter(j)).isCloseTo(coldCurve.getParameter(j), offset(1e-8));
+      }
+    }
+  }
+
   /**
    * Tests that par rates and ibor index are required for curves.
    */
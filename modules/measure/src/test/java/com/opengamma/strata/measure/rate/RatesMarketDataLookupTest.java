@@ -268,6 +268,37 @@ public class RatesMarketDataLookupTest {
     assertThat(ratesProvider.toImmutableRatesProvider()).isEqualTo(expectedImmutable);
   }
 
+  @Test
+  public void test_ratesProvider_cached() {
+    ImmutableMap<Currency, CurveId> discounts = ImmutableMap.of(USD, CURVE_ID_DSC);
+    ImmutableMap<Index, CurveId> forwards = ImmutableMap.of(USD_FED_FUND, CURVE_ID_DSC, USD_LIBOR_3M, CURVE_ID_FWD);
+    RatesMarketDataLookup test = RatesMarketDataLookup.of(discounts, forwards);
+    LocalDate valDate = date(2015, 6, 30);
+    Curve dscCurve = ConstantCurve.of(Curves.discountFactors(CURVE_ID_DSC.getCurveName(), ACT_360), 1d);
+    Curve fwdCurve = ConstantCurve.of(Curves.discountFactors(CURVE_ID_FWD.getCurveName(), ACT_360), 2d);
+    LocalDateDoubleTimeSeries dummyTimeSeries = LocalDateDoubleTimeSeries.of(valDate, 1);
+    MarketData md = ImmutableMarketData.builder(valDate)
+        .addValue(CURVE_ID_DSC, dscCurve)
+        .addValue(CURVE_ID_FWD, fwdCurve)
+        .addTimeSeries(IndexQuoteId.of(INACTIVE_IBOR_INDEX), dummyTimeSeries)
+        .build();
+    RatesProvider ratesProvider = test.ratesProvider(md);
+    assertThat(ratesProvider.discountFactors(USD)).isSameAs(ratesProvider.discountFactors(USD));
+    assertThat(ratesProvider.iborIndexRates(USD_LIBOR_3M)).isSameAs(ratesProvider.iborIndexRates(USD_LIBOR_3M));
+    assertThat(ratesProvider.iborIndexRates(INACTIVE_IBOR_INDEX))
+        .isSameAs(ratesProvider.iborIndexRates(INACTIVE_IBOR_INDEX));
+    assertThat(ratesProvider.overnightIndexRates(USD_FED_FUND))
+        .isSameAs(ratesProvider.overnightIndexRates(USD_FED_FUND));
+    // failures are not cached
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ratesProvider.discountFactors(GBP));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ratesProvider.discountFactors(GBP));
+    // a new provider resolves afresh
+    assertThat(test.ratesProvider(md).discountFactors(USD)).isNotSameAs(ratesProvider.discountFactors(USD));
+    assertThat(test.ratesProvider(md).discountFactors(USD)).isEqualTo(ratesProvider.discountFactors(USD));
+  }
+
   @Test
   public void test_fxProvider() {
     RatesMarketDataLookup test = RatesMarketDataLookup.of(ImmutableMap.of(), ImmutableMap.of());
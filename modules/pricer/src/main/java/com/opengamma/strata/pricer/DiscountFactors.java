@@ -5,11 +5,14 @@
  */
 package com.opengamma.strata.pricer;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors.EFFECTIVE_ZERO;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
@@ -121,6 +124,36 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(LocalDate)} for each date.
+   * Implementations may be faster than repeated calls if the dates are sorted from earliest to latest.
+   * 
+   * @param dates  the dates to discount to
+   * @return the discount factor for each date
+   * @throws RuntimeException if a value cannot be obtained
+   */
+  public default DoubleArray discountFactors(List<LocalDate> dates) {
+    return discountFactors(DoubleArray.of(dates.size(), i -> relativeYearFraction(dates.get(i))));
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(double)} for each year fraction.
+   * Implementations may be faster than repeated calls if the year fractions are sorted from low to high.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param yearFractions  the year fractions
+   * @return the discount factor for each year fraction
+   * @throws RuntimeException if a value cannot be obtained
+   */
+  public default DoubleArray discountFactors(DoubleArray yearFractions) {
+    return yearFractions.map(this::discountFactor);
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -301,6 +334,22 @@ public interface DiscountFactors
    */
   public abstract ZeroRateSensitivity zeroRatePointSensitivity(double yearFraction, Currency sensitivityCurrency);
 
+  /**
+   * Calculates the zero rate point sensitivity at each of the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #zeroRatePointSensitivity(LocalDate)} for each date.
+   * Implementations may be faster than repeated calls if the dates are sorted from earliest to latest.
+   * 
+   * @param dates  the dates to discount to
+   * @return the point sensitivity of the zero rate for each date
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default ImmutableList<ZeroRateSensitivity> zeroRatePointSensitivities(List<LocalDate> dates) {
+    return dates.stream()
+        .map(date -> zeroRatePointSensitivity(date))
+        .collect(toImmutableList());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the zero rate point sensitivity with z-spread at the specified date.
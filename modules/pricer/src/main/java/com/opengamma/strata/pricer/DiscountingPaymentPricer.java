@@ -5,12 +5,22 @@
  */
 package com.opengamma.strata.pricer;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.function.IntDoubleConsumer;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -91,6 +101,23 @@ public class DiscountingPaymentPricer {
     return payment.getAmount() * df;
   }
 
+  /**
+   * Computes the present value of each payment by discounting.
+   * <p>
+   * This is equivalent to calling {@link #presentValueAmount(Payment, BaseProvider)} for each payment.
+   * The discount factors are obtained in a single call for each currency,
+   * which is faster if the payments are sorted from earliest to latest.
+   * 
+   * @param payments  the payments
+   * @param provider  the provider
+   * @return the present value of each payment, zero if the payment date is before the valuation date
+   */
+  public DoubleArray presentValueAmounts(List<Payment> payments, BaseProvider provider) {
+    double[] result = new double[payments.size()];
+    discountFactors(payments, provider, (i, df) -> result[i] = payments.get(i).getAmount() * df);
+    return DoubleArray.ofUnsafe(result);
+  }
+
   /**
    * Computes the present value of the payment with z-spread by discounting.
    * <p>
@@ -278,6 +305,44 @@ public class DiscountingPaymentPricer {
     return CashFlows.of(flow);
   }
 
+  /**
+   * Calculates the future cash flows of the payments.
+   * <p>
+   * This is equivalent to combining the result of {@link #cashFlows(Payment, BaseProvider)} for each payment.
+   * The discount factors are obtained in a single call for each currency,
+   * which is faster if the payments are sorted from earliest to latest.
+   * 
+   * @param payments  the payments
+   * @param provider  the provider
+   * @return the cash flows, excluding the payments that have occurred
+   */
+  public CashFlows cashFlows(List<Payment> payments, BaseProvider provider) {
+    CashFlow[] flows = new CashFlow[payments.size()];
+    discountFactors(payments, provider, (i, df) -> {
+      Payment payment = payments.get(i);
+      flows[i] = CashFlow.ofForecastValue(payment.getDate(), payment.getCurrency(), payment.getAmount(), df);
+    });
+    return CashFlows.of(Arrays.stream(flows).filter(Objects::nonNull).collect(toImmutableList()));
+  }
+
+  // obtains the discount factor of each payment that has not occurred, using one call for each currency
+  private static void discountFactors(List<Payment> payments, BaseProvider provider, IntDoubleConsumer consumer) {
+    Map<Currency, List<Integer>> indicesByCurrency = new LinkedHashMap<>();
+    for (int i = 0; i < payments.size(); i++) {
+      Payment payment = payments.get(i);
+      if (!provider.getValuationDate().isAfter(payment.getDate())) {
+        indicesByCurrency.computeIfAbsent(payment.getCurrency(), ccy -> new ArrayList<>()).add(i);
+      }
+    }
+    indicesByCurrency.forEach((currency, indices) -> {
+      List<LocalDate> dates = indices.stream().map(i -> payments.get(i).getDate()).collect(toImmutableList());
+      DoubleArray dfs = provider.discountFactors(currency).discountFactors(dates);
+      for (int j = 0; j < indices.size(); j++) {
+        consumer.accept(indices.get(j), dfs.get(j));
+      }
+    });
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure.
@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -26,6 +27,7 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
@@ -174,6 +176,11 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    return curve.yValues(yearFractions);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     return curve.firstDerivative(yearFraction);
@@ -196,6 +203,24 @@ public final class SimpleDiscountFactors
     return ZeroRateSensitivity.of(currency, yearFraction, sensitivityCurrency, -discountFactor * yearFractionMod);
   }
 
+  @Override
+  public ImmutableList<ZeroRateSensitivity> zeroRatePointSensitivities(List<LocalDate> dates) {
+    // zero rate sensitivity is undefined in general for tiny year fractions.
+    double[] yearFractions = new double[dates.size()];
+    double[] yearFractionsMod = new double[dates.size()];
+    for (int i = 0; i < yearFractions.length; i++) {
+      yearFractions[i] = relativeYearFraction(dates.get(i));
+      yearFractionsMod[i] = modifyYearFraction(yearFractions[i]);
+    }
+    double[] discountFactors = new double[dates.size()];
+    curve.yValues(yearFractionsMod, discountFactors);
+    ImmutableList.Builder<ZeroRateSensitivity> builder = ImmutableList.builder();
+    for (int i = 0; i < yearFractions.length; i++) {
+      builder.add(ZeroRateSensitivity.of(currency, yearFractions[i], -discountFactors[i] * yearFractionsMod[i]));
+    }
+    return builder.build();
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
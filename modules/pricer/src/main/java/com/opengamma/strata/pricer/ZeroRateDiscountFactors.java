@@ -7,6 +7,8 @@ package com.opengamma.strata.pricer;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -26,6 +28,7 @@ import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
@@ -179,6 +182,31 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public DoubleArray discountFactors(DoubleArray yearFractions) {
+    // the curve is only queried for year fractions that are not effectively zero
+    int size = yearFractions.size();
+    int[] indices = new int[size];
+    double[] queried = new double[size];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (yearFractions.get(i) > EFFECTIVE_ZERO) {
+        indices[count] = i;
+        queried[count] = yearFractions.get(i);
+        count++;
+      }
+    }
+    double[] zeroRates = new double[count];
+    curve.yValues(Arrays.copyOf(queried, count), zeroRates);
+    // convert zero rates to discount factors
+    double[] result = new double[size];
+    Arrays.fill(result, 1d);
+    for (int j = 0; j < count; j++) {
+      result[indices[j]] = Math.exp(-queried[j] * zeroRates[j]);
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
@@ -206,6 +234,19 @@ public final class ZeroRateDiscountFactors
     return ZeroRateSensitivity.of(currency, yearFraction, sensitivityCurrency, -discountFactor * yearFraction);
   }
 
+  @Override
+  public ImmutableList<ZeroRateSensitivity> zeroRatePointSensitivities(List<LocalDate> dates) {
+    DoubleArray yearFractions = DoubleArray.of(dates.size(), i -> relativeYearFraction(dates.get(i)));
+    DoubleArray discountFactors = discountFactors(yearFractions);
+    ImmutableList.Builder<ZeroRateSensitivity> builder = ImmutableList.builder();
+    for (int i = 0; i < yearFractions.size(); i++) {
+      double yearFraction = yearFractions.get(i);
+      double sensitivity = yearFraction <= EFFECTIVE_ZERO ? 0d : -discountFactors.get(i) * yearFraction;
+      builder.add(ZeroRateSensitivity.of(currency, yearFraction, sensitivity));
+    }
+    return builder.build();
+  }
+
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
     double yearFraction = pointSens.getYearFraction();
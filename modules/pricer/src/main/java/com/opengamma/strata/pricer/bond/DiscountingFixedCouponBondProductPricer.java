@@ -12,7 +12,7 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.J
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -314,15 +314,10 @@ public class DiscountingFixedCouponBondProductPricer {
       CompoundedRateType compoundedRateType,
       int periodsPerYear) {
 
-    final Function<Double, Double> residual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double z) {
-        return dirtyPriceFromCurvesWithZSpread(
-            bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(residual, -0.01, 0.01); // Starting range is [-1%, 1%]
-    return ROOT_FINDER.getRoot(residual, range[0], range[1]);
+    DoubleUnaryOperator residual = z -> dirtyPriceFromCurvesWithZSpread(
+        bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPointsPrimitive(residual, -0.01, 0.01); // Starting range is [-1%, 1%]
+    return ROOT_FINDER.getRootPrimitive(residual, range[0], range[1]);
   }
 
   //-------------------------------------------------------------------------
@@ -706,14 +701,9 @@ public class DiscountingFixedCouponBondProductPricer {
       return (bond.getFixedRate() + (1d - cleanPrice) / maturity) / cleanPrice;
     }
 
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double y) {
-        return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
-    double yield = ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
+    DoubleUnaryOperator priceResidual = y -> dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPointsPrimitive(priceResidual, 0.00, 0.20);
+    double yield = ROOT_FINDER.getRootPrimitive(priceResidual, range[0], range[1]);
     return yield;
   }
 
@@ -740,14 +730,9 @@ public class DiscountingFixedCouponBondProductPricer {
           (-1.0d / maturity * cleanPrice - (bond.getFixedRate() + (1d - cleanPrice) / maturity)) / (cleanPrice * cleanPrice);
       return ValueDerivatives.of(yield, DoubleArray.of(priceBar));
     }
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double y) {
-        return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
-    double yield = ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
+    DoubleUnaryOperator priceResidual = y -> dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPointsPrimitive(priceResidual, 0.00, 0.20);
+    double yield = ROOT_FINDER.getRootPrimitive(priceResidual, range[0], range[1]);
     ValueDerivatives priceDYield = dirtyPriceFromYieldAd(bond, settlementDate, yield);
     return ValueDerivatives.of(yield, DoubleArray.of(1.0 / priceDYield.getDerivative(0)));
   }
@@ -12,6 +12,7 @@ import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -146,7 +147,7 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
     }
     for (int i = start; i < nExpiries; ++i) {
       for (int j = startIndex[i]; j < startIndex[i + 1]; ++j) {
-        Function<Double, double[]> func = getValueVegaFunction(capList.get(j), ratesProvider, vols, prevExpiry, j);
+        DoubleFunction<double[]> func = getValueVegaFunction(capList.get(j), ratesProvider, vols, prevExpiry, j);
         GenericImpliedVolatiltySolver solver = new GenericImpliedVolatiltySolver(func);
         double priceFixed = i == 0 ? 0d : priceFixed(capList.get(j), ratesProvider, vols, prevExpiry);
         double capletVol = solver.impliedVolatility(priceList.get(j) - priceFixed, initialVol.get(j));
@@ -159,7 +160,7 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
 
   //-------------------------------------------------------------------------
   // price and vega function
-  private Function<Double, double[]> getValueVegaFunction(
+  private DoubleFunction<double[]> getValueVegaFunction(
       ResolvedIborCapFloorLeg cap,
       RatesProvider ratesProvider,
       IborCapletFloorletVolatilities vols,
@@ -167,9 +168,9 @@ public class SurfaceIborCapletFloorletVolatilityBootstrapper extends IborCapletF
       int nodeIndex) {
 
     VolatilityIborCapletFloorletPeriodPricer periodPricer = getLegPricer().getPeriodPricer();
-    Function<Double, double[]> priceAndVegaFunction = new Function<Double, double[]>() {
+    DoubleFunction<double[]> priceAndVegaFunction = new DoubleFunction<double[]>() {
       @Override
-      public double[] apply(Double x) {
+      public double[] apply(double x) {
         IborCapletFloorletVolatilities newVols = vols.withParameter(nodeIndex, x);
         double price = cap.getCapletFloorletPeriods().stream()
             .filter(p -> p.getFixingDateTime().isAfter(prevExpiry))
@@ -10,7 +10,7 @@ import static com.opengamma.strata.math.impl.util.Epsilon.epsilonP;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -153,21 +153,21 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
 
       Pricer pricer = new Pricer(cds, discountFactors, times, flactionalSpreads.get(i), pointsUpfront.get(i), lgd[i], stepinDate,
           effectiveStartDate, settlementDate, accrued);
-      Function<Double, Double> func = pricer.getPointFunction(i, creditCurve);
+      DoubleUnaryOperator func = pricer.getPointFunction(i, creditCurve);
 
       switch (getArbitrageHandling()) {
         case IGNORE: {
           try {
-            double[] bracket = BRACKETER.getBracketedPoints(
+            double[] bracket = BRACKETER.getBracketedPointsPrimitive(
                 func, 0.8 * guess[i], 1.25 * guess[i], Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
             double zeroRate = bracket[0] > bracket[1] ?
-                ROOTFINDER.getRoot(func, bracket[1], bracket[0]) :
-                ROOTFINDER.getRoot(func, bracket[0], bracket[1]); //Negative guess handled
+                ROOTFINDER.getRootPrimitive(func, bracket[1], bracket[0]) :
+                ROOTFINDER.getRootPrimitive(func, bracket[0], bracket[1]); //Negative guess handled
             creditCurve = creditCurve.withParameter(i, zeroRate);
           } catch (final MathException e) { //handling bracketing failure due to small survival probability
-            if (Math.abs(func.apply(creditCurve.getYValues().get(i - 1))) < 1.e-12) {
+            if (Math.abs(func.applyAsDouble(creditCurve.getYValues().get(i - 1))) < 1.e-12) {
               creditCurve = creditCurve.withParameter(i, creditCurve.getYValues().get(i - 1));
-            } else if (func.apply(MAX_RT / times.get(i)) <  -1.e-12) { // root does not exist for positive survival probability
+            } else if (func.applyAsDouble(MAX_RT / times.get(i)) <  -1.e-12) { // root does not exist for positive survival probability
               creditCurve = creditCurve.withParameter(i, MAX_RT / times.get(i));
             } else {
               throw new MathException(e);
@@ -179,7 +179,7 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
           final double minValue = i == 0 ?
               0d :
               creditCurve.getYValues().get(i - 1) * creditCurve.getXValues().get(i - 1) / creditCurve.getXValues().get(i);
-          if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+          if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
             final StringBuilder msg = new StringBuilder();
             if (pointsUpfront.get(i) == 0.0) {
               msg.append("The par spread of " + flactionalSpreads.get(i) + " at index " + i);
@@ -192,8 +192,9 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
             throw new IllegalArgumentException(msg.toString());
           }
           guess[i] = Math.max(minValue, guess[i]);
-          double[] bracket = BRACKETER.getBracketedPoints(func, guess[i], 1.2 * guess[i], minValue, Double.POSITIVE_INFINITY);
-          double zeroRate = ROOTFINDER.getRoot(func, bracket[0], bracket[1]);
+          double[] bracket = BRACKETER.getBracketedPointsPrimitive(
+              func, guess[i], 1.2 * guess[i], minValue, Double.POSITIVE_INFINITY);
+          double zeroRate = ROOTFINDER.getRootPrimitive(func, bracket[0], bracket[1]);
           creditCurve = creditCurve.withParameter(i, zeroRate);
           break;
         }
@@ -201,13 +202,13 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
           final double minValue = i == 0 ?
               0.0 :
               creditCurve.getYValues().get(i - 1) * creditCurve.getXValues().get(i - 1) / creditCurve.getXValues().get(i);
-          if (i > 0 && func.apply(minValue) > 0.0) { //can never fail on the first spread
+          if (i > 0 && func.applyAsDouble(minValue) > 0.0) { //can never fail on the first spread
             creditCurve = creditCurve.withParameter(i, minValue);
           } else {
             guess[i] = Math.max(minValue, guess[i]);
-            final double[] bracket =
-                BRACKETER.getBracketedPoints(func, guess[i], 1.2 * guess[i], minValue, Double.POSITIVE_INFINITY);
-            final double zeroRate = ROOTFINDER.getRoot(func, bracket[0], bracket[1]);
+            final double[] bracket = BRACKETER.getBracketedPointsPrimitive(
+                func, guess[i], 1.2 * guess[i], minValue, Double.POSITIVE_INFINITY);
+            final double zeroRate = ROOTFINDER.getRootPrimitive(func, bracket[0], bracket[1]);
             creditCurve = creditCurve.withParameter(i, zeroRate);
           }
           break;
@@ -338,15 +339,12 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
       }
     }
 
-    public Function<Double, Double> getPointFunction(int index, NodalCurve creditCurve) {
-      return new Function<Double, Double>() {
-        @Override
-        public Double apply(Double x) {
-          NodalCurve cc = creditCurve.withParameter(index, x);
-          double rpv01 = rpv01(cc, PriceType.CLEAN);
-          double pro = protectionLeg(cc);
-          return pro - fracSpread * rpv01 - puf;
-        }
+    public DoubleUnaryOperator getPointFunction(int index, NodalCurve creditCurve) {
+      return x -> {
+        NodalCurve cc = creditCurve.withParameter(index, x);
+        double rpv01 = rpv01(cc, PriceType.CLEAN);
+        double pro = protectionLeg(cc);
+        return pro - fracSpread * rpv01 - puf;
       };
     }
 
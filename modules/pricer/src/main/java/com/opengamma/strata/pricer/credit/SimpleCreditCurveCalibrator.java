@@ -7,7 +7,7 @@ package com.opengamma.strata.pricer.credit;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -126,7 +126,7 @@ public final class SimpleCreditCurveCalibrator extends IsdaCompliantCreditCurveC
             CurveExtrapolators.PRODUCT_LINEAR);
 
     for (int i = 0; i < n; i++) {
-      Function<Double, Double> func = getPriceFunction(
+      DoubleUnaryOperator func = getPriceFunction(
           i,
           calibrationCDSs.get(i),
           premiums.get(i),
@@ -136,17 +136,18 @@ public final class SimpleCreditCurveCalibrator extends IsdaCompliantCreditCurveC
           discountFactors,
           recoveryRates,
           refData);
-      double[] bracket = BRACKER.getBracketedPoints(func, 0.8 * guess[i], 1.25 * guess[i], 0.0, Double.POSITIVE_INFINITY);
+      double[] bracket = BRACKER.getBracketedPointsPrimitive(
+          func, 0.8 * guess[i], 1.25 * guess[i], 0.0, Double.POSITIVE_INFINITY);
       double zeroRate = bracket[0] > bracket[1] ?
-          ROOTFINDER.getRoot(func, bracket[1], bracket[0]) :
-          ROOTFINDER.getRoot(func, bracket[0], bracket[1]); //Negative guess handled
+          ROOTFINDER.getRootPrimitive(func, bracket[1], bracket[0]) :
+          ROOTFINDER.getRootPrimitive(func, bracket[0], bracket[1]); //Negative guess handled
       creditCurve = creditCurve.withParameter(i, zeroRate);
     }
 
     return creditCurve;
   }
 
-  private Function<Double, Double> getPriceFunction(
+  private DoubleUnaryOperator getPriceFunction(
       int index,
       ResolvedCdsTrade cds,
       double flactionalSpread,
@@ -166,19 +167,15 @@ public final class SimpleCreditCurveCalibrator extends IsdaCompliantCreditCurveC
         .discountCurves(ImmutableMap.of(currency, discountFactors))
         .recoveryRateCurves(ImmutableMap.of(legalEntityId, recoveryRates))
         .build();
-    Function<Double, Double> func = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        NodalCurve tempCreditCurve = creditCurve.withParameter(index, x);
-        ImmutableCreditRatesProvider rates = ratesbase.toBuilder()
-            .creditCurves(ImmutableMap.of(pair, LegalEntitySurvivalProbabilities.of(
-                legalEntityId, IsdaCreditDiscountFactors.of(currency, valuationDate, tempCreditCurve))))
-            .build();
-        double price = getTradePricer().price(cds, rates, flactionalSpread, PriceType.CLEAN, refData);
-        return price - pointsUpfront;
-      }
+    return x -> {
+      NodalCurve tempCreditCurve = creditCurve.withParameter(index, x);
+      ImmutableCreditRatesProvider rates = ratesbase.toBuilder()
+          .creditCurves(ImmutableMap.of(pair, LegalEntitySurvivalProbabilities.of(
+              legalEntityId, IsdaCreditDiscountFactors.of(currency, valuationDate, tempCreditCurve))))
+          .build();
+      double price = getTradePricer().price(cds, rates, flactionalSpread, PriceType.CLEAN, refData);
+      return price - pointsUpfront;
     };
-    return func;
   }
 
 }
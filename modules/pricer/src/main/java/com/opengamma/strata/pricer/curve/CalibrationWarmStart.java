@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * The result of a base calibration, used to warm-start the calibration of scenarios.
+ * <p>
+ * When the same curve group is calibrated for many scenarios, such as a set of historical
+ * or perturbed quotes, the solution of each scenario is typically close to that of the base.
+ * This captures the calibrated parameters and the Jacobian of the calibration function of each group
+ * in the base calibration. Passing it to the scenario {@code calibrate} method of {@link RatesCurveCalibrator}
+ * starts the root finder from the base solution with the base Jacobian as its initial estimate, avoiding the
+ * initial Jacobian evaluation and reducing the number of iterations.
+ * <p>
+ * Instances are obtained from {@link RatesCurveCalibrator#calibrateWarmStart}.
+ * This class is immutable and thread-safe, so it can be shared between scenarios calibrated in parallel.
+ */
+public final class CalibrationWarmStart {
+
+  /**
+   * The calibrated provider of the base calibration.
+   */
+  private final ImmutableRatesProvider calibratedProvider;
+  /**
+   * The calibrated parameters and calibration Jacobian, keyed by the index of the group.
+   */
+  private final ImmutableMap<Integer, Pair<DoubleArray, DoubleMatrix>> groups;
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  CalibrationWarmStart(
+      ImmutableRatesProvider calibratedProvider,
+      Map<Integer, Pair<DoubleArray, DoubleMatrix>> groups) {
+
+    this.calibratedProvider = calibratedProvider;
+    this.groups = ImmutableMap.copyOf(groups);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the calibrated provider of the base calibration.
+   *
+   * @return the calibrated provider
+   */
+  public ImmutableRatesProvider getCalibratedProvider() {
+    return calibratedProvider;
+  }
+
+  /**
+   * Finds the calibrated parameters and Jacobian for a group.
+   * <p>
+   * Nothing is returned if the group was not calibrated in the base, or if the number of
+   * parameters differs, such as when nodes are filtered out for a different valuation date.
+   *
+   * @param groupIndex  the index of the group
+   * @param parameterCount  the number of parameters in the group
+   * @return the calibrated parameters and Jacobian, empty if not available
+   */
+  Optional<Pair<DoubleArray, DoubleMatrix>> findGroup(int groupIndex, int parameterCount) {
+    return Optional.ofNullable(groups.get(groupIndex))
+        .filter(pair -> pair.getFirst().size() == parameterCount);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("CalibrationWarmStart[groups={}]", groups.size());
+  }
+
+}
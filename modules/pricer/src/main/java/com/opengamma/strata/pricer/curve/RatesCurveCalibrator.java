@@ -9,8 +9,10 @@ import static com.opengamma.strata.collect.Guavate.filtering;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -23,6 +25,7 @@ import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
 import com.opengamma.strata.market.curve.CurveName;
@@ -216,14 +219,74 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
+  }
+
+  /**
+   * Calibrates a single curve group, capturing the information needed to warm-start scenario calibrations.
+   * <p>
+   * This calibrates in the same way as {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}.
+   * In addition, the calibrated parameters and the Jacobian of the calibration function of each group are
+   * captured, allowing them to be used as the starting point when calibrating scenarios based on the same data.
+   * The calibrated provider is available from {@link CalibrationWarmStart#getCalibratedProvider()}.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the base market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @return the warm start, containing the rates provider resulting from the calibration
+   */
+  public CalibrationWarmStart calibrateWarmStart(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    ImmutableRatesProvider knownData = knownData(marketData);
+    Map<Integer, Pair<DoubleArray, DoubleMatrix>> groups = new HashMap<>();
+    ImmutableRatesProvider provider =
+        calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, null, groups);
+    return new CalibrationWarmStart(provider, groups);
+  }
+
+  /**
+   * Calibrates a single curve group for a scenario, starting from the solution of a base calibration.
+   * <p>
+   * This is intended for calibrating many scenarios where the market data of each scenario is close
+   * to the base market data, such as historical or perturbed quotes.
+   * Instead of starting from the initial guesses of the definition and evaluating the Jacobian,
+   * the root finder starts from the calibrated parameters of the base calibration, using the Jacobian
+   * of the base calibration as the initial estimate. This typically reduces the number of iterations.
+   * The calibrated curves agree with those of a normal calibration to within the tolerance of the root finder.
+   * <p>
+   * The Jacobian matrices stored in the curve metadata are computed at the calibrated parameters of the scenario.
+   * If the number of parameters of a group differs from the base, that group is calibrated normally.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param warmStart  the warm start, obtained from a base calibration of the same curve group definition
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      CalibrationWarmStart warmStart) {
+
+    ArgChecker.notNull(warmStart, "warmStart");
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, warmStart, null);
+  }
+
+  // the known data derived from the market data
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .flatMap(filtering(IndexQuoteId.class))
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -246,6 +309,19 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(allGroupDefns, knownData, marketData, refData, null, null);
+  }
+
+  // calibrates the groups, optionally starting from a warm start and optionally capturing a warm start
+  // the warm start to use and the map of warm start data to populate are null if not applicable
+  private ImmutableRatesProvider calibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      CalibrationWarmStart warmStart,
+      Map<Integer, Pair<DoubleArray, DoubleMatrix>> warmStartCapture) {
+
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -257,7 +333,8 @@ public final class RatesCurveCalibrator {
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
-    for (RatesCurveGroupDefinition groupDefn : allGroupDefns) {
+    for (int groupIndex = 0; groupIndex < allGroupDefns.size(); groupIndex++) {
+      RatesCurveGroupDefinition groupDefn = allGroupDefns.get(groupIndex);
       if (groupDefn.getEntries().isEmpty()) {
         continue;
       }
@@ -274,7 +351,8 @@ public final class RatesCurveCalibrator {
 
       // calibrate
       RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      DoubleArray calibratedGroupParams = calibrateGroup(
+          providerGenerator, trades, initialGuesses, orderGroup, groupIndex, warmStart, warmStartCapture);
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
       // use calibration to build Jacobian matrices
@@ -308,16 +386,30 @@ public final class RatesCurveCalibrator {
       RatesProviderGenerator providerGenerator,
       ImmutableList<ResolvedTrade> trades,
       ImmutableList<Double> initialGuesses,
-      ImmutableList<CurveParameterSize> curveOrder) {
+      ImmutableList<CurveParameterSize> curveOrder,
+      int groupIndex,
+      CalibrationWarmStart warmStart,
+      Map<Integer, Pair<DoubleArray, DoubleMatrix>> warmStartCapture) {
 
     // setup for calibration
     Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
     Function<DoubleArray, DoubleMatrix> derivativeCalculator =
         new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
 
-    // calibrate
+    // calibrate, starting from the base solution and Jacobian if available
     DoubleArray initialGuess = DoubleArray.copyOf(initialGuesses);
-    return rootFinder.findRoot(valueCalculator, derivativeCalculator, initialGuess);
+    Optional<Pair<DoubleArray, DoubleMatrix>> start = warmStart != null ?
+        warmStart.findGroup(groupIndex, initialGuess.size()) :
+        Optional.empty();
+    DoubleArray calibratedParams = start.isPresent() ?
+        rootFinder.findRoot(valueCalculator, derivativeCalculator, start.get().getFirst(), start.get().getSecond()) :
+        rootFinder.findRoot(valueCalculator, derivativeCalculator, initialGuess);
+
+    // capture the solution and Jacobian for use in later calibrations
+    if (warmStartCapture != null) {
+      warmStartCapture.put(groupIndex, Pair.of(calibratedParams, derivativeCalculator.apply(calibratedParams)));
+    }
+    return calibratedParams;
   }
 
   //-------------------------------------------------------------------------
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.random.BrownianBridge;
+import com.opengamma.strata.math.impl.random.RandomNumberGenerator;
+import com.opengamma.strata.math.impl.random.SobolNormalRandomNumberGenerator;
+import com.opengamma.strata.math.impl.random.SplittableNormalRandomNumberGenerator;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Monte Carlo engine for the Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * The simulation takes place in the forward measure associated to the zero-coupon bond paying at
+ * the numeraire time. In this measure the ratio of two bond prices is log-normal and driven by a
+ * single Gaussian state, so the paths are sampled exactly at the simulation times, without
+ * discretization error.
+ * <p>
+ * The paths are generated by a Brownian bridge from either a pseudo-random or a Sobol sequence,
+ * optionally with antithetic variates. They are evaluated in blocks, in parallel using fork-join.
+ * Each block has its own random stream, determined by the block index, and the block results
+ * are combined in order, so the result does not depend on the number of threads.
+ * <p>
+ * Reference: Henrard, M. (2003). "Explicit bond option and swaption formula in Heath-Jarrow-Morton one-factor model".
+ * International Journal of Theoretical and Applied Finance, 6(1):57--72.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class HullWhiteMonteCarloEngine {
+
+  /**
+   * The default number of paths in a block.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 1024;
+  /**
+   * The Hull-White model.
+   */
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+
+  /**
+   * The number of independent samples.
+   */
+  private final int pathCount;
+  /**
+   * Whether the Sobol sequence is used, rather than pseudo-random numbers.
+   */
+  private final boolean sobol;
+  /**
+   * The seed of the pseudo-random numbers.
+   */
+  private final long seed;
+  /**
+   * Whether antithetic variates are used.
+   */
+  private final boolean antithetic;
+  /**
+   * The number of samples in a block.
+   */
+  private final int blockSize;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an engine using pseudo-random numbers.
+   *
+   * @param pathCount  the number of independent samples, at least two
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static HullWhiteMonteCarloEngine pseudoRandom(int pathCount, long seed) {
+    return new HullWhiteMonteCarloEngine(pathCount, false, seed, false, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Obtains an engine using a Sobol sequence.
+   * <p>
+   * The number of simulation times must not exceed the maximum Sobol dimension of 1000.
+   *
+   * @param pathCount  the number of independent samples, at least two
+   * @return the engine
+   */
+  public static HullWhiteMonteCarloEngine sobol(int pathCount) {
+    return new HullWhiteMonteCarloEngine(pathCount, true, 0, false, DEFAULT_BLOCK_SIZE);
+  }
+
+  // restricted constructor
+  private HullWhiteMonteCarloEngine(int pathCount, boolean sobol, long seed, boolean antithetic, int blockSize) {
+    ArgChecker.isTrue(pathCount >= 2, "Path count must be at least two, but was {}", pathCount);
+    ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    this.pathCount = pathCount;
+    this.sobol = sobol;
+    this.seed = seed;
+    this.antithetic = antithetic;
+    this.blockSize = blockSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this engine with antithetic variates enabled or disabled.
+   * <p>
+   * When enabled, each sample is the average of the payoff on a path and on its mirror image.
+   *
+   * @param antithetic  whether to use antithetic variates
+   * @return the engine
+   */
+  public HullWhiteMonteCarloEngine withAntithetic(boolean antithetic) {
+    return new HullWhiteMonteCarloEngine(pathCount, sobol, seed, antithetic, blockSize);
+  }
+
+  /**
+   * Returns a copy of this engine with the specified block size.
+   * <p>
+   * The block is the unit of parallel work. For pseudo-random numbers the block size
+   * changes the random streams, and thus the result.
+   *
+   * @param blockSize  the number of samples in a block
+   * @return the engine
+   */
+  public HullWhiteMonteCarloEngine withBlockSize(int blockSize) {
+    return new HullWhiteMonteCarloEngine(pathCount, sobol, seed, antithetic, blockSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of independent samples.
+   *
+   * @return the path count
+   */
+  public int getPathCount() {
+    return pathCount;
+  }
+
+  /**
+   * Gets whether the Sobol sequence is used.
+   *
+   * @return true if the Sobol sequence is used, false for pseudo-random numbers
+   */
+  public boolean isSobol() {
+    return sobol;
+  }
+
+  /**
+   * Gets whether antithetic variates are used.
+   *
+   * @return true if antithetic variates are used
+   */
+  public boolean isAntithetic() {
+    return antithetic;
+  }
+
+  /**
+   * Gets the number of samples in a block.
+   *
+   * @return the block size
+   */
+  public int getBlockSize() {
+    return blockSize;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of a payoff by simulation.
+   * <p>
+   * The payoff value on each path is expressed in units of the numeraire, see {@link HullWhiteMonteCarloPayoff}.
+   * The present value is the average of these values multiplied by the initial numeraire.
+   * <p>
+   * The times are year fractions from the valuation date, consistent with the model parameters.
+   * The simulation times must be strictly increasing, positive and not after the numeraire time.
+   *
+   * @param parameters  the Hull-White model parameters
+   * @param discountFactors  the function providing the initial discount factor for a time
+   * @param simulationTimes  the times at which the model state is simulated
+   * @param maturityTimes  the maturities of the bonds priced on the paths
+   * @param numeraireTime  the maturity of the numeraire bond
+   * @param payoff  the payoff
+   * @return the present value and its standard error
+   */
+  public MonteCarloResult presentValue(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleUnaryOperator discountFactors,
+      DoubleArray simulationTimes,
+      DoubleArray maturityTimes,
+      double numeraireTime,
+      HullWhiteMonteCarloPayoff payoff) {
+
+    ArgChecker.notNull(parameters, "parameters");
+    ArgChecker.notNull(discountFactors, "discountFactors");
+    ArgChecker.notEmpty(simulationTimes, "simulationTimes");
+    ArgChecker.notNull(maturityTimes, "maturityTimes");
+    ArgChecker.notNull(payoff, "payoff");
+    ArgChecker.isTrue(simulationTimes.get(simulationTimes.size() - 1) <= numeraireTime,
+        "Simulation times must not be after the numeraire time");
+    Simulation simulation =
+        new Simulation(parameters, discountFactors, simulationTimes, maturityTimes, numeraireTime, payoff);
+    new BlockTask(simulation, 0, simulation.blockCount).invoke();
+    return simulation.result();
+  }
+
+  //-------------------------------------------------------------------------
+  // the state of a single simulation
+  private final class Simulation {
+
+    private final int blockCount;
+    private final double numeraireDiscountFactor;
+    private final double[] times;
+    private final double[] variances;
+    private final double[] maturities;
+    private final double[] maturityRatios;
+    private final double[] maturityFactors;
+    private final double[] timeRatios;
+    private final double[] timeFactors;
+    private final BrownianBridge bridge;
+    private final HullWhiteMonteCarloPayoff payoff;
+    private final SplittableNormalRandomNumberGenerator[] streams;
+    private final double[] blockSums;
+    private final double[] blockSumSquares;
+
+    private Simulation(
+        HullWhiteOneFactorPiecewiseConstantParameters parameters,
+        DoubleUnaryOperator discountFactors,
+        DoubleArray simulationTimes,
+        DoubleArray maturityTimes,
+        double numeraireTime,
+        HullWhiteMonteCarloPayoff payoff) {
+
+      int timeCount = simulationTimes.size();
+      ArgChecker.isTrue(simulationTimes.get(0) > 0d, "Simulation times must be strictly positive");
+      ArgChecker.isTrue(!sobol || timeCount <= SobolNormalRandomNumberGenerator.MAX_DIMENSION,
+          "Sobol sequence supports at most {} simulation times", SobolNormalRandomNumberGenerator.MAX_DIMENSION);
+      this.blockCount = (pathCount + blockSize - 1) / blockSize;
+      this.numeraireDiscountFactor = discountFactors.applyAsDouble(numeraireTime);
+      this.payoff = payoff;
+      double meanReversion = parameters.getMeanReversion();
+      this.times = simulationTimes.toArray();
+      this.variances = new double[timeCount];
+      this.timeRatios = new double[timeCount];
+      this.timeFactors = new double[timeCount];
+      for (int i = 0; i < timeCount; i++) {
+        double beta = MODEL.beta(parameters, 0d, times[i]);
+        variances[i] = beta * beta;
+        timeRatios[i] = discountFactors.applyAsDouble(times[i]) / numeraireDiscountFactor;
+        timeFactors[i] = factor(meanReversion, numeraireTime, times[i]);
+      }
+      this.bridge = BrownianBridge.of(DoubleArray.ofUnsafe(variances));
+      this.maturities = maturityTimes.toArray();
+      this.maturityRatios = new double[maturities.length];
+      this.maturityFactors = new double[maturities.length];
+      for (int i = 0; i < maturities.length; i++) {
+        maturityRatios[i] = discountFactors.applyAsDouble(maturities[i]) / numeraireDiscountFactor;
+        maturityFactors[i] = factor(meanReversion, numeraireTime, maturities[i]);
+      }
+      // the pseudo-random streams are split in block order, making them independent of scheduling
+      this.streams = new SplittableNormalRandomNumberGenerator[sobol ? 0 : blockCount];
+      SplittableNormalRandomNumberGenerator root = new SplittableNormalRandomNumberGenerator(seed);
+      for (int i = 0; i < streams.length; i++) {
+        streams[i] = root.split();
+      }
+      this.blockSums = new double[blockCount];
+      this.blockSumSquares = new double[blockCount];
+    }
+
+    // the volatility factor of the bond maturing at u, relative to the numeraire bond maturing at v
+    private double factor(double meanReversion, double v, double u) {
+      return (Math.exp(-meanReversion * v) - Math.exp(-meanReversion * u)) / meanReversion;
+    }
+
+    // simulates the paths of one block
+    private void runBlock(int blockIndex) {
+      int start = blockIndex * blockSize;
+      int count = Math.min(blockSize, pathCount - start);
+      int timeCount = times.length;
+      RandomNumberGenerator generator = generator(blockIndex, start, timeCount);
+      HullWhiteMonteCarloPath path = new HullWhiteMonteCarloPath(
+          times, variances, maturities, maturityRatios, maturityFactors, timeRatios, timeFactors);
+      double[] states = path.states();
+      double sum = 0d;
+      double sumSquare = 0d;
+      for (int i = 0; i < count; i++) {
+        bridge.buildPath(generator.getVector(timeCount), states);
+        double value = payoff.rebasedValue(path);
+        if (antithetic) {
+          for (int j = 0; j < timeCount; j++) {
+            states[j] = -states[j];
+          }
+          value = 0.5 * (value + payoff.rebasedValue(path));
+        }
+        sum += value;
+        sumSquare += value * value;
+      }
+      blockSums[blockIndex] = sum;
+      blockSumSquares[blockIndex] = sumSquare;
+    }
+
+    // obtains the generator for a block
+    private RandomNumberGenerator generator(int blockIndex, int start, int timeCount) {
+      if (sobol) {
+        SobolNormalRandomNumberGenerator generator = new SobolNormalRandomNumberGenerator(timeCount);
+        generator.skipTo(start);
+        return generator;
+      }
+      return streams[blockIndex];
+    }
+
+    // combines the block results in order
+    private MonteCarloResult result() {
+      double sum = 0d;
+      double sumSquare = 0d;
+      for (int i = 0; i < blockCount; i++) {
+        sum += blockSums[i];
+        sumSquare += blockSumSquares[i];
+      }
+      double mean = sum / pathCount;
+      double variance = Math.max((sumSquare - pathCount * mean * mean) / (pathCount - 1), 0d);
+      double standardError = Math.sqrt(variance / pathCount);
+      return MonteCarloResult.of(
+          numeraireDiscountFactor * mean, numeraireDiscountFactor * standardError, pathCount);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // recursively splits a range of blocks into parallel tasks
+  private static final class BlockTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Simulation simulation;
+    private final int from;
+    private final int to;
+
+    private BlockTask(Simulation simulation, int from, int to) {
+      this.simulation = simulation;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        simulation.runBlock(from);
+      } else {
+        int mid = (from + to) >>> 1;
+        invokeAll(new BlockTask(simulation, from, mid), new BlockTask(simulation, mid, to));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+/**
+ * A path of a Hull-White one factor Monte Carlo simulation.
+ * <p>
+ * The simulation takes place in the forward measure associated to the zero-coupon bond
+ * paying at the numeraire time. At each simulation time the model is described by a single
+ * Gaussian state, from which the price of any zero-coupon bond is obtained in closed form.
+ * <p>
+ * The bond maturities are fixed for the simulation, allowing the parts of the bond prices that
+ * do not depend on the path to be calculated once.
+ * <p>
+ * Instances are reused from one path to the next, thus they must not be retained by payoffs.
+ * This class is mutable and not thread-safe.
+ */
+public final class HullWhiteMonteCarloPath {
+
+  /**
+   * The simulation times.
+   */
+  private final double[] times;
+  /**
+   * The variance of the state at each simulation time.
+   */
+  private final double[] variances;
+  /**
+   * The bond maturity times.
+   */
+  private final double[] maturities;
+  /**
+   * The initial bond prices of the maturities divided by the initial numeraire bond price.
+   */
+  private final double[] maturityRatios;
+  /**
+   * The volatility factor of the maturities relative to the numeraire.
+   */
+  private final double[] maturityFactors;
+  /**
+   * The initial bond prices of the simulation times divided by the initial numeraire bond price.
+   */
+  private final double[] timeRatios;
+  /**
+   * The volatility factor of the simulation times relative to the numeraire.
+   */
+  private final double[] timeFactors;
+  /**
+   * The state at each simulation time, updated for each path.
+   */
+  private final double[] states;
+
+  // creates an instance, the arrays are shared between paths and not modified
+  HullWhiteMonteCarloPath(
+      double[] times,
+      double[] variances,
+      double[] maturities,
+      double[] maturityRatios,
+      double[] maturityFactors,
+      double[] timeRatios,
+      double[] timeFactors) {
+
+    this.times = times;
+    this.variances = variances;
+    this.maturities = maturities;
+    this.maturityRatios = maturityRatios;
+    this.maturityFactors = maturityFactors;
+    this.timeRatios = timeRatios;
+    this.timeFactors = timeFactors;
+    this.states = new double[times.length];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of simulation times.
+   *
+   * @return the number of simulation times
+   */
+  public int getTimeCount() {
+    return times.length;
+  }
+
+  /**
+   * Gets a simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the time
+   */
+  public double getTime(int timeIndex) {
+    return times[timeIndex];
+  }
+
+  /**
+   * Gets the number of bond maturities.
+   *
+   * @return the number of maturities
+   */
+  public int getMaturityCount() {
+    return maturities.length;
+  }
+
+  /**
+   * Gets a bond maturity time.
+   *
+   * @param maturityIndex  the index of the maturity
+   * @return the maturity time
+   */
+  public double getMaturity(int maturityIndex) {
+    return maturities[maturityIndex];
+  }
+
+  /**
+   * Gets the state of the model at a simulation time.
+   * <p>
+   * The state is a centred Gaussian variable whose variance is the integral of the
+   * squared volatility scaled by the mean reversion.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the state
+   */
+  public double getState(int timeIndex) {
+    return states[timeIndex];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the price of a zero-coupon bond at a simulation time divided by the numeraire.
+   * <p>
+   * This is the value, in units of the numeraire, of the bond paying one at the maturity.
+   * The maturity must not be before the simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param maturityIndex  the index of the bond maturity
+   * @return the rebased bond price
+   */
+  public double rebasedBondPrice(int timeIndex, int maturityIndex) {
+    return rebased(maturityRatios[maturityIndex], maturityFactors[maturityIndex], timeIndex);
+  }
+
+  /**
+   * Calculates the price of a zero-coupon bond at a simulation time.
+   * <p>
+   * The maturity must not be before the simulation time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @param maturityIndex  the index of the bond maturity
+   * @return the bond price
+   */
+  public double bondPrice(int timeIndex, int maturityIndex) {
+    return rebasedBondPrice(timeIndex, maturityIndex) * numeraire(timeIndex);
+  }
+
+  /**
+   * Calculates the numeraire at a simulation time.
+   * <p>
+   * The numeraire is the price of the zero-coupon bond paying one at the numeraire time.
+   *
+   * @param timeIndex  the index of the simulation time
+   * @return the numeraire
+   */
+  public double numeraire(int timeIndex) {
+    return 1d / rebased(timeRatios[timeIndex], timeFactors[timeIndex], timeIndex);
+  }
+
+  // P(t, u) / P(t, v) = P(0, u) / P(0, v) exp(-H X(t) - H^2 Var(X(t)) / 2)
+  private double rebased(double initialRatio, double factor, int timeIndex) {
+    return initialRatio * Math.exp(-factor * (states[timeIndex] + 0.5 * factor * variances[timeIndex]));
+  }
+
+  //-------------------------------------------------------------------------
+  // the states, populated by the engine
+  double[] states() {
+    return states;
+  }
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+/**
+ * A payoff evaluated on the paths of a Hull-White one factor Monte Carlo simulation.
+ * <p>
+ * Implementations must be thread-safe, as paths are evaluated in parallel.
+ */
+@FunctionalInterface
+public interface HullWhiteMonteCarloPayoff {
+
+  /**
+   * Calculates the value of the payoff on a path, expressed in units of the numeraire.
+   * <p>
+   * An amount paid at a simulation time is divided by the numeraire at that time,
+   * see {@link HullWhiteMonteCarloPath#numeraire(int)}.
+   * The path is only valid for the duration of the call.
+   *
+   * @param path  the path
+   * @return the rebased value
+   */
+  public abstract double rebasedValue(HullWhiteMonteCarloPath path);
+
+}
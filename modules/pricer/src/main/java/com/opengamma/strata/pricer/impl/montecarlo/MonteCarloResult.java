@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The result of a Monte Carlo simulation.
+ * <p>
+ * This holds the estimated value together with its standard error.
+ */
+public final class MonteCarloResult {
+
+  /**
+   * The estimated value.
+   */
+  private final double value;
+  /**
+   * The standard error of the estimate.
+   */
+  private final double standardError;
+  /**
+   * The number of independent samples.
+   */
+  private final int sampleCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param value  the estimated value
+   * @param standardError  the standard error of the estimate
+   * @param sampleCount  the number of independent samples
+   * @return the result
+   */
+  public static MonteCarloResult of(double value, double standardError, int sampleCount) {
+    return new MonteCarloResult(value, standardError, sampleCount);
+  }
+
+  // restricted constructor
+  private MonteCarloResult(double value, double standardError, int sampleCount) {
+    this.value = value;
+    this.standardError = standardError;
+    this.sampleCount = sampleCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the estimated value.
+   *
+   * @return the value
+   */
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the standard error of the estimate.
+   * <p>
+   * For quasi-random sequences this is the error that a pseudo-random simulation would have,
+   * and is usually an overestimate of the actual error.
+   *
+   * @return the standard error
+   */
+  public double getStandardError() {
+    return standardError;
+  }
+
+  /**
+   * Gets the number of independent samples.
+   * <p>
+   * When antithetic variates are used, each sample is the average of a pair of paths.
+   *
+   * @return the sample count
+   */
+  public int getSampleCount() {
+    return sampleCount;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("MonteCarloResult[value={}, standardError={}, samples={}]", value, standardError, sampleCount);
+  }
+
+}
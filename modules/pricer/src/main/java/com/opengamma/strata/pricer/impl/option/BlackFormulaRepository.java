@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -1235,19 +1236,8 @@ public final class BlackFormulaRepository {
 
     boolean isCall = strike >= forward;
 
-    Function<Double, Double> priceFunc = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        return price(forward, strike, timeToExpiry, x, isCall);
-      }
-    };
-
-    Function<Double, Double> vegaFunc = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        return vega(forward, strike, timeToExpiry, x);
-      }
-    };
+    DoubleUnaryOperator priceFunc = x -> price(forward, strike, timeToExpiry, x, isCall);
+    DoubleUnaryOperator vegaFunc = x -> vega(forward, strike, timeToExpiry, x);
 
     GenericImpliedVolatiltySolver solver = new GenericImpliedVolatiltySolver(priceFunc, vegaFunc);
     return solver.impliedVolatility(otmPrice, volGuess);
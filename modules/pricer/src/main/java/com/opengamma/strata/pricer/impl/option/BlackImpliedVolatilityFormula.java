@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.cern.Probability;
+
+/**
+ * Implied volatility of the Black formula, computed with a fixed maximum number of iterations.
+ * <p>
+ * The approach follows "Let's Be Rational" (P. Jäckel, Wilmott, 2015).
+ * The price is mapped to the normalised price of an out-of-the-money call,
+ * {@code b(x, s) = exp(x/2) N(x/s + s/2) - exp(-x/2) N(x/s - s/2)},
+ * where {@code x = -|ln(F/K)|} and {@code s} is the total volatility, {@code vol * sqrt(T)}.
+ * The normalised price is convex in {@code s} below the inflection point {@code sqrt(2|x|)} and concave above.
+ * An initial guess is obtained from the asymptotic form of the price on the relevant side of the inflection point.
+ * This is refined using third order Householder iterations on {@code ln(b)} below the inflection point
+ * and on {@code b} above, which converge to machine precision in two or three iterations.
+ * <p>
+ * Unlike {@link BlackFormulaRepository#impliedVolatility(double, double, double, double, boolean)},
+ * there is no bracketing or root finder, and no objects are created for each option.
+ * Array methods are provided to compute the volatilities of a smile or a cube.
+ * <p>
+ * As the numeraire is just a multiplication factor, all prices are <b>forward</b> prices, i.e. (spot price)/numeraire.
+ */
+public final class BlackImpliedVolatilityFormula {
+
+  /** The relative rounding error allowed when a price is less than the intrinsic value. */
+  private static final double ROUNDING = 1e-14;
+  /** The maximum number of iterations. */
+  private static final int MAX_ITERATIONS = 6;
+  /** The relative change of the total volatility at which the iterations stop. */
+  private static final double TOLERANCE = 1e-15;
+  /** 1 / sqrt(2 pi). */
+  private static final double ONE_OVER_SQRT_TWO_PI = 1d / Math.sqrt(2d * Math.PI);
+  /** sqrt(3). */
+  private static final double SQRT_THREE = Math.sqrt(3d);
+  /** sqrt(8). */
+  private static final double SQRT_EIGHT = Math.sqrt(8d);
+  /** 2 pi / (3 sqrt(3)), used in the lower asymptotic form. */
+  private static final double TWO_PI_OVER_SQRT_TWENTY_SEVEN = 2d * Math.PI / Math.sqrt(27d);
+
+  // restricted constructor
+  private BlackImpliedVolatilityFormula() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal (Black) implied volatility.
+   * <p>
+   * The price may be that of an in-the-money or out-of-the-money option.
+   * If the price equals the intrinsic value, the volatility is zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the log-normal implied volatility
+   * @throws IllegalArgumentException if the price is outside the bounds of the Black formula
+   */
+  public static double impliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(forward > 0d && forward < Double.POSITIVE_INFINITY, "invalid forward; have {}", forward);
+    ArgChecker.isTrue(strike >= 0d && strike < Double.POSITIVE_INFINITY, "invalid strike; have {}", strike);
+    ArgChecker.isTrue(
+        timeToExpiry > 0d && timeToExpiry < Double.POSITIVE_INFINITY, "invalid timeToExpiry; have {}", timeToExpiry);
+    double intrinsicPrice = Math.max(0d, (isCall ? 1d : -1d) * (forward - strike));
+    // by put-call parity, the price of the out-of-the-money option
+    double otmPrice = price - intrinsicPrice;
+    ArgChecker.isTrue(
+        otmPrice >= -ROUNDING * Math.max(forward, strike), "price less than intrinsic value; have {}", price);
+    if (otmPrice <= 0d) {
+      return 0d;
+    }
+    ArgChecker.isTrue(otmPrice < Math.min(forward, strike), "price exceeded upper bound; have {}", price);
+    double x = -Math.abs(Math.log(forward / strike));
+    double beta = otmPrice / Math.sqrt(forward * strike);
+    return totalVolatility(beta, x) / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatilities of a smile.
+   * <p>
+   * The options have the same forward and expiry, and differ by strike.
+   *
+   * @param prices  the forward prices
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strikes, of the same size as the prices
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for calls, false for puts
+   * @return the log-normal implied volatilities
+   * @throws IllegalArgumentException if a price is outside the bounds of the Black formula
+   */
+  public static DoubleArray impliedVolatilities(
+      DoubleArray prices,
+      double forward,
+      DoubleArray strikes,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(prices.size() == strikes.size(), "prices and strikes must be of the same size");
+    return DoubleArray.of(
+        prices.size(), i -> impliedVolatility(prices.get(i), forward, strikes.get(i), timeToExpiry, isCall));
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatilities of a set of options.
+   * <p>
+   * Each option is defined by the value at the same index of each array.
+   *
+   * @param prices  the forward prices
+   * @param forwards  the forward values of the underlyings
+   * @param strikes  the strikes
+   * @param timesToExpiry  the times to expiry
+   * @param isCall  true for calls, false for puts
+   * @return the log-normal implied volatilities
+   * @throws IllegalArgumentException if a price is outside the bounds of the Black formula
+   */
+  public static DoubleArray impliedVolatilities(
+      DoubleArray prices,
+      DoubleArray forwards,
+      DoubleArray strikes,
+      DoubleArray timesToExpiry,
+      boolean isCall) {
+
+    int size = prices.size();
+    ArgChecker.isTrue(
+        forwards.size() == size && strikes.size() == size && timesToExpiry.size() == size,
+        "prices, forwards, strikes and timesToExpiry must be of the same size");
+    return DoubleArray.of(
+        size, i -> impliedVolatility(prices.get(i), forwards.get(i), strikes.get(i), timesToExpiry.get(i), isCall));
+  }
+
+  //-------------------------------------------------------------------------
+  // the total volatility matching the normalised price beta of an out-of-the-money call, x <= 0
+  private static double totalVolatility(double beta, double x) {
+    double bMax = Math.exp(0.5 * x);
+    ArgChecker.isTrue(beta < bMax, "price exceeded upper bound; have {}", beta);
+    double sc = Math.sqrt(-2d * x);
+    // at-the-money the price is concave for all s
+    boolean lower = x < 0d && beta < normalisedPrice(x, sc);
+    double s = lower ? lowerGuess(beta, x, sc) : upperGuess(beta, bMax, sc);
+    double logBeta = Math.log(beta);
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double b = normalisedPrice(x, s);
+      double vega = normalisedVega(x, s);
+      if (!(b > 0d && vega > 0d)) {
+        // underflow far below the solution, move towards the inflection point
+        s = 0.5 * (s + sc);
+        continue;
+      }
+      double xOverS2 = x / (s * s);
+      // ratios of the second and third derivatives to the first
+      double h2 = x * xOverS2 / s - 0.25 * s;
+      double h3 = h2 * h2 - 3d * xOverS2 * xOverS2 - 0.25;
+      double newton;
+      if (lower) {
+        // objective ln(b) - ln(beta), which is close to linear for small prices
+        double r = vega / b;
+        newton = -(Math.log(b) - logBeta) / r;
+        double g3 = h3 - 3d * r * h2 + 2d * r * r;
+        h2 = h2 - r;
+        h3 = g3;
+      } else {
+        newton = -(b - beta) / vega;
+      }
+      double change = householder3(newton, h2, h3);
+      double sNext = s + change;
+      s = sNext > 0d ? sNext : 0.5 * s;
+      if (Math.abs(change) <= TOLERANCE * s) {
+        break;
+      }
+    }
+    return s;
+  }
+
+  // guess below the inflection point, from b ~ (2 pi |x| / sqrt(27)) N(x / (sqrt(3) s))^3
+  private static double lowerGuess(double beta, double x, double sc) {
+    double q = Math.cbrt(beta / (TWO_PI_OVER_SQRT_TWENTY_SEVEN * -x));
+    if (q >= 0.5) {
+      return sc;
+    }
+    double guess = x / (SQRT_THREE * Probability.normalInverse(q));
+    return Math.min(guess, sc);
+  }
+
+  // guess above the inflection point, from b ~ bMax (1 - 2 N(-s/2))
+  private static double upperGuess(double beta, double bMax, double sc) {
+    double guess = -2d * Probability.normalInverse(0.5 * (bMax - beta) / bMax);
+    // for a tiny at-the-money price, the guess is lost to rounding, thus use b ~ s / sqrt(2 pi)
+    return guess > sc ? guess : Math.max(sc, beta / ONE_OVER_SQRT_TWO_PI);
+  }
+
+  // the third order Householder step, from the Newton step and the derivative ratios
+  private static double householder3(double newton, double h2, double h3) {
+    return newton * (1d + 0.5 * h2 * newton) / (1d + newton * (h2 + h3 * newton / 6d));
+  }
+
+  // the normalised price of a call, exp(x/2) N(x/s + s/2) - exp(-x/2) N(x/s - s/2)
+  private static double normalisedPrice(double x, double s) {
+    if (x == 0d) {
+      // erf avoids the loss of precision of the difference for small s
+      return Probability.errorFunction(s / SQRT_EIGHT);
+    }
+    double h = x / s;
+    double t = 0.5 * s;
+    return Math.exp(0.5 * x) * Probability.normal(h + t) - Math.exp(-0.5 * x) * Probability.normal(h - t);
+  }
+
+  // the derivative of the normalised price with respect to s
+  private static double normalisedVega(double x, double s) {
+    double h = x / s;
+    double t = 0.5 * s;
+    return ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5 * (h * h + t * t));
+  }
+
+}
@@ -5,7 +5,8 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.collect.ArgChecker;
@@ -30,27 +31,21 @@ public class GenericImpliedVolatiltySolver {
   /**
    * The price function.
    */
-  private final Function<Double, Double> priceFunc;
+  private final DoubleUnaryOperator priceFunc;
   /**
    * The combined price and vega function.
    */
-  private final Function<Double, double[]> priceAndVegaFunc;
+  private final DoubleFunction<double[]> priceAndVegaFunc;
 
   /**
    * Creates an instance.
    * 
    * @param priceAndVegaFunc  the combined price and vega function
    */
-  public GenericImpliedVolatiltySolver(Function<Double, double[]> priceAndVegaFunc) {
+  public GenericImpliedVolatiltySolver(DoubleFunction<double[]> priceAndVegaFunc) {
     ArgChecker.notNull(priceAndVegaFunc, "priceAndVegaFunc");
     this.priceAndVegaFunc = priceAndVegaFunc;
-    this.priceFunc = new Function<Double, Double>() {
-
-      @Override
-      public Double apply(Double sigma) {
-        return priceAndVegaFunc.apply(sigma)[0];
-      }
-    };
+    this.priceFunc = sigma -> priceAndVegaFunc.apply(sigma)[0];
   }
 
   /**
@@ -59,17 +54,11 @@ public class GenericImpliedVolatiltySolver {
    * @param priceFunc  the pricing function
    * @param vegaFunc  the vega function
    */
-  public GenericImpliedVolatiltySolver(Function<Double, Double> priceFunc, Function<Double, Double> vegaFunc) {
+  public GenericImpliedVolatiltySolver(DoubleUnaryOperator priceFunc, DoubleUnaryOperator vegaFunc) {
     ArgChecker.notNull(priceFunc, "priceFunc");
     ArgChecker.notNull(vegaFunc, "vegaFunc");
     this.priceFunc = priceFunc;
-    this.priceAndVegaFunc = new Function<Double, double[]>() {
-
-      @Override
-      public double[] apply(Double sigma) {
-        return new double[] {priceFunc.apply(sigma), vegaFunc.apply(sigma)};
-      }
-    };
+    this.priceAndVegaFunc = sigma -> new double[] {priceFunc.applyAsDouble(sigma), vegaFunc.applyAsDouble(sigma)};
   }
 
   //-------------------------------------------------------------------------
@@ -164,13 +153,8 @@ public class GenericImpliedVolatiltySolver {
   //-------------------------------------------------------------------------
   private double[] bracketRoot(double optionPrice, double sigma) {
     BracketRoot bracketer = new BracketRoot();
-    Function<Double, Double> func = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double volatility) {
-        return priceFunc.apply(volatility) / optionPrice - 1.0;
-      }
-    };
-    return bracketer.getBracketedPoints(
+    DoubleUnaryOperator func = volatility -> priceFunc.applyAsDouble(volatility) / optionPrice - 1.0;
+    return bracketer.getBracketedPointsPrimitive(
         func,
         Math.max(0.0, sigma - BRACKET_STEP),
         sigma + BRACKET_STEP,
@@ -180,15 +164,11 @@ public class GenericImpliedVolatiltySolver {
 
   private double solveByBisection(double optionPrice, double lowerSigma, double upperSigma) {
     BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(VOL_TOL);
-    Function<Double, Double> func = new Function<Double, Double>() {
-
-      @Override
-      public Double apply(Double volatility) {
-        double trialPrice = priceFunc.apply(volatility);
-        return trialPrice / optionPrice - 1.0;
-      }
+    DoubleUnaryOperator func = volatility -> {
+      double trialPrice = priceFunc.applyAsDouble(volatility);
+      return trialPrice / optionPrice - 1.0;
     };
-    return rootFinder.getRoot(func, lowerSigma, upperSigma);
+    return rootFinder.getRootPrimitive(func, lowerSigma, upperSigma);
   }
 
 }
@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.value.ValueDerivatives;
@@ -303,14 +303,10 @@ public final class NormalFormulaRepository {
       if (count++ > MAX_ITERATIONS) {
         BracketRoot bracketer = new BracketRoot();
         BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(EPS);
-        Function<Double, Double> func = new Function<Double, Double>() {
-          @Override
-          public Double apply(Double volatility) {
-            return numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
-          }
-        };
-        double[] range = bracketer.getBracketedPoints(func, 0d, 10d);
-        return rootFinder.getRoot(func, range[0], range[1]);
+        DoubleUnaryOperator func =
+            volatility -> numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
+        double[] range = bracketer.getBracketedPointsPrimitive(func, 0d, 10d);
+        return rootFinder.getRootPrimitive(func, range[0], range[1]);
       }
     }
     return sigma;
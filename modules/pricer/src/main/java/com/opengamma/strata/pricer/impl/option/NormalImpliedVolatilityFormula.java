@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.cern.Probability;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Implied volatility of the normal (Bachelier) formula, computed without a root finder.
+ * <p>
+ * The approach follows "Implied Normal Volatility" (P. Jäckel, Wilmott, 2017).
+ * The price of the out-of-the-money option is written as {@code |F - K| * -phiTilde(x)},
+ * where {@code phiTilde(x) = N(x) + n(x) / x} and {@code x = -|F - K| / (vol * sqrt(T))}.
+ * A rational approximation of the inverse of {@code phiTilde} is refined by a third order
+ * Householder step, giving the volatility to close to machine precision.
+ * <p>
+ * Unlike {@link NormalFormulaRepository#impliedVolatility(double, double, double, double, double, double, PutCall)},
+ * there is no iterative search, and no objects are created for each option.
+ * Array methods are provided to compute the volatilities of a smile or a cube.
+ * <p>
+ * The numeraire is a simple multiplier and is the responsibility of the caller,
+ * thus all prices are <b>forward</b> prices, i.e. (spot price)/numeraire.
+ */
+public final class NormalImpliedVolatilityFormula {
+
+  /** The relative rounding error allowed when a price is less than the intrinsic value. */
+  private static final double ROUNDING = 1e-14;
+  /** The maximum number of refinement steps. */
+  private static final int MAX_ITERATIONS = 2;
+  /** The relative change at which the refinement stops. */
+  private static final double TOLERANCE = 1e-15;
+  /** 1 / sqrt(2 pi). */
+  private static final double ONE_OVER_SQRT_TWO_PI = 1d / Math.sqrt(2d * Math.PI);
+  /** sqrt(2 pi). */
+  private static final double SQRT_TWO_PI = Math.sqrt(2d * Math.PI);
+  /** The value of phiTilde separating the two rational approximations. */
+  private static final double PHI_TILDE_SPLIT = -0.001882039271;
+
+  // restricted constructor
+  private NormalImpliedVolatilityFormula() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal implied volatility.
+   * <p>
+   * The price may be that of an in-the-money or out-of-the-money option.
+   * If the price equals the intrinsic value, the volatility is zero.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether the option is put or call
+   * @return the normal implied volatility
+   * @throws IllegalArgumentException if the price is less than the intrinsic value
+   */
+  public static double impliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isTrue(
+        timeToExpiry > 0d && timeToExpiry < Double.POSITIVE_INFINITY, "invalid timeToExpiry; have {}", timeToExpiry);
+    double moneyness = Math.abs(forward - strike);
+    double intrinsicPrice = Math.max(0d, (putCall.isCall() ? 1d : -1d) * (forward - strike));
+    // by put-call parity, the price of the out-of-the-money option
+    double otmPrice = price - intrinsicPrice;
+    ArgChecker.isTrue(
+        otmPrice >= -ROUNDING * Math.max(Math.abs(forward), Math.abs(strike)),
+        "price less than intrinsic value; have {}",
+        price);
+    ArgChecker.isTrue(otmPrice < Double.POSITIVE_INFINITY, "invalid price; have {}", price);
+    if (otmPrice <= 0d) {
+      return 0d;
+    }
+    double rootT = Math.sqrt(timeToExpiry);
+    if (moneyness == 0d) {
+      // at-the-money, price = vol * sqrt(T) / sqrt(2 pi)
+      return otmPrice * SQRT_TWO_PI / rootT;
+    }
+    double x = inversePhiTilde(-otmPrice / moneyness);
+    return moneyness / (-x * rootT);
+  }
+
+  /**
+   * Computes the normal implied volatilities of a smile.
+   * <p>
+   * The options have the same forward and expiry, and differ by strike.
+   *
+   * @param prices  the forward prices
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strikes, of the same size as the prices
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether the options are puts or calls
+   * @return the normal implied volatilities
+   * @throws IllegalArgumentException if a price is less than the intrinsic value
+   */
+  public static DoubleArray impliedVolatilities(
+      DoubleArray prices,
+      double forward,
+      DoubleArray strikes,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isTrue(prices.size() == strikes.size(), "prices and strikes must be of the same size");
+    return DoubleArray.of(
+        prices.size(), i -> impliedVolatility(prices.get(i), forward, strikes.get(i), timeToExpiry, putCall));
+  }
+
+  /**
+   * Computes the normal implied volatilities of a set of options.
+   * <p>
+   * Each option is defined by the value at the same index of each array.
+   *
+   * @param prices  the forward prices
+   * @param forwards  the forward values of the underlyings
+   * @param strikes  the strikes
+   * @param timesToExpiry  the times to expiry
+   * @param putCall  whether the options are puts or calls
+   * @return the normal implied volatilities
+   * @throws IllegalArgumentException if a price is less than the intrinsic value
+   */
+  public static DoubleArray impliedVolatilities(
+      DoubleArray prices,
+      DoubleArray forwards,
+      DoubleArray strikes,
+      DoubleArray timesToExpiry,
+      PutCall putCall) {
+
+    int size = prices.size();
+    ArgChecker.isTrue(
+        forwards.size() == size && strikes.size() == size && timesToExpiry.size() == size,
+        "prices, forwards, strikes and timesToExpiry must be of the same size");
+    return DoubleArray.of(
+        size, i -> impliedVolatility(prices.get(i), forwards.get(i), strikes.get(i), timesToExpiry.get(i), putCall));
+  }
+
+  //-------------------------------------------------------------------------
+  // the negative x such that phiTilde(x) = phiTildeStar, for a negative phiTildeStar
+  private static double inversePhiTilde(double phiTildeStar) {
+    double x;
+    if (phiTildeStar < PHI_TILDE_SPLIT) {
+      double g = 1d / (phiTildeStar - 0.5);
+      double g2 = g * g;
+      double xi = (0.032114372355 - g2 * (0.016969777977 - g2 * (2.6207332461E-3 - 9.6066952861E-5 * g2))) /
+          (1d - g2 * (0.6635646938 - g2 * (0.14528712196 - 0.010472855461 * g2)));
+      x = g * (ONE_OVER_SQRT_TWO_PI + xi * g2);
+    } else {
+      double h = Math.sqrt(-Math.log(-phiTildeStar));
+      x = (9.4883409779 - h * (9.6320903635 - h * (0.58556997323 + 2.1464093351 * h))) /
+          (1d - h * (0.65174820867 + h * (1.5120247828 + 6.6437847132E-5 * h)));
+    }
+    // third order Householder refinement, with phiTilde'(x) = -n(x) / x^2
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double pdf = ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5 * x * x);
+      double q = (Probability.normal(x) + pdf / x - phiTildeStar) / pdf;
+      double x2 = x * x;
+      double change = 3d * q * x2 * (2d - q * x * (2d + x2)) /
+          (6d + q * x * (-12d + x * (6d * q + x * (-6d + q * x * (3d + x2)))));
+      x += change;
+      if (Math.abs(change) <= TOLERANCE * Math.abs(x)) {
+        break;
+      }
+    }
+    return x;
+  }
+
+}
@@ -15,6 +15,7 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
@@ -256,15 +257,24 @@ public class ApproxForwardOvernightAveragedRateComputationFn
     // Accumulated rate - publication strictly before valuation date: try accessing fixing time-series.
     // fixedPeriod is altered by this method.
     private double pastAccumulation() {
-      double accumulatedInterest = 0.0d;
-      LocalDateDoubleTimeSeries indexFixingDateSeries = rates.getFixings();
+      // find the fixings published before the valuation date, then look up the time-series in a single pass
+      int firstPeriod = fixedPeriod;
+      List<LocalDate> pastFixings = new ArrayList<>();
       while ((fixedPeriod < nbPeriods) &&
           rates.getValuationDate().isAfter(observations.get(fixedPeriod).getPublicationDate())) {
-        OvernightIndexObservation obs = observations.get(fixedPeriod);
-        accumulatedInterest += obs.getYearFraction() *
-            checkedFixing(obs.getFixingDate(), indexFixingDateSeries, index);
+        pastFixings.add(observations.get(fixedPeriod).getFixingDate());
         fixedPeriod++;
       }
+      LocalDateDoubleTimeSeries indexFixingDateSeries = rates.getFixings();
+      DoubleArray pastRates = pastFixings.isEmpty() ?
+          DoubleArray.EMPTY :
+          indexFixingDateSeries.getAll(pastFixings, Double.NaN);
+      double accumulatedInterest = 0.0d;
+      for (int i = 0; i < pastFixings.size(); i++) {
+        OvernightIndexObservation obs = observations.get(firstPeriod + i);
+        accumulatedInterest += obs.getYearFraction() *
+            checkedFixing(pastFixings.get(i), pastRates.get(i), indexFixingDateSeries, index);
+      }
       return accumulatedInterest;
     }
 
@@ -352,6 +362,17 @@ public class ApproxForwardOvernightAveragedRateComputationFn
       return combinedPointSensitivity;
     }
 
+    // Check that the fixing looked up is present, where NaN indicates the fixing may be missing.
+    private static double checkedFixing(
+        LocalDate currentFixingTs,
+        double fixedRate,
+        LocalDateDoubleTimeSeries indexFixingDateSeries,
+        OvernightIndex index) {
+
+      // NaN may also be stored in the time-series, so query it to distinguish
+      return Double.isNaN(fixedRate) ? checkedFixing(currentFixingTs, indexFixingDateSeries, index) : fixedRate;
+    }
+
     // Check that the fixing is present. Throws an exception if not and return the rate as double.
     private static double checkedFixing(
         LocalDate currentFixingTs,
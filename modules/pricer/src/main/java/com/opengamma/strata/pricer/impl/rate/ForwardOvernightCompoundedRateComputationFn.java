@@ -6,11 +6,14 @@
 package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.OptionalDouble;
 
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.ObjDoublePair;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -125,29 +128,30 @@ public class ForwardOvernightCompoundedRateComputationFn
 
     // Composition - publication strictly before valuation date: try accessing fixing time-series
     private double pastCompositionFactor() {
-      double compositionFactor = 1.0d;
+      // find the fixings up to the last non-cutoff date, then look up the time-series in a single pass
+      List<LocalDate> pastFixings = new ArrayList<>();
       LocalDate currentFixing = firstFixing;
-      LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
-      while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
-          rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
-        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
-        LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
-        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
-        compositionFactor *= 1.0d + accrualFactor * checkedFixing(currentFixing, indexFixingDateSeries, computation.getIndex());
+      while (!currentFixing.isAfter(lastFixingNonCutoff) && // fixing in the non-cutoff period
+          rates.getValuationDate().isAfter(computation.calculatePublicationFromFixing(currentFixing))) {
+        pastFixings.add(currentFixing);
         currentFixing = computation.getFixingCalendar().next(currentFixing);
-        currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       }
-      if (currentFixing.equals(lastFixingNonCutoff) && // fixing is on the last non-cutoff date, cutoff period known
-          rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
-        double rate = checkedFixing(currentFixing, indexFixingDateSeries, computation.getIndex());
-        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(currentFixing);
+      DoubleArray pastRates = pastFixings.isEmpty() ?
+          DoubleArray.EMPTY :
+          indexFixingDateSeries.getAll(pastFixings, Double.NaN);
+      double compositionFactor = 1.0d;
+      for (int j = 0; j < pastFixings.size(); j++) {
+        LocalDate fixing = pastFixings.get(j);
+        double rate = checkedFixing(fixing, pastRates.get(j), indexFixingDateSeries, computation.getIndex());
+        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(fixing);
         LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
         double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
         compositionFactor *= 1.0d + accrualFactor * rate;
-        for (int i = 0; i < cutoffOffset - 1; i++) {
-          compositionFactor *= 1.0d + accrualFactorCutoff[i] * rate;
+        if (fixing.equals(lastFixingNonCutoff)) { // fixing is on the last non-cutoff date, cutoff period known
+          for (int i = 0; i < cutoffOffset - 1; i++) {
+            compositionFactor *= 1.0d + accrualFactorCutoff[i] * rate;
+          }
         }
-        currentFixing = computation.getFixingCalendar().next(currentFixing);
       }
       nextFixing = currentFixing;
       return compositionFactor;
@@ -261,6 +265,17 @@ public class ForwardOvernightCompoundedRateComputationFn
       return combinedPointSensitivity;
     }
 
+    // Check that the fixing looked up is present, where NaN indicates the fixing may be missing.
+    private static double checkedFixing(
+        LocalDate currentFixingTs,
+        double fixedRate,
+        LocalDateDoubleTimeSeries indexFixingDateSeries,
+        OvernightIndex index) {
+
+      // NaN may also be stored in the time-series, so query it to distinguish
+      return Double.isNaN(fixedRate) ? checkedFixing(currentFixingTs, indexFixingDateSeries, index) : fixedRate;
+    }
+
     // Check that the fixing is present. Throws an exception if not and return the rate as double.
     private static double checkedFixing(
         LocalDate currentFixingTs,
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.DiscountFactors;
+
+/**
+ * A set of rates providers, one for each scenario, queried for all scenarios at once.
+ * <p>
+ * Scenario pricing normally prices a trade once for each scenario, looking up the discount factors
+ * and index rates from the rates provider of the scenario each time a cash flow is priced.
+ * This class allows a pricer to walk the cash flows of a trade once, obtaining the discount factor
+ * or forward rate for every scenario with a single call that returns a {@link DoubleArray}.
+ * <p>
+ * The discount factors and index rates of each scenario are obtained from the underlying
+ * rates providers on first use and then retained. As such, this class is not thread-safe.
+ * It is intended to be created, used to price one or more trades and discarded by a single thread.
+ */
+public final class ScenarioRatesProvider {
+
+  /**
+   * The rates provider of each scenario.
+   */
+  private final ImmutableList<RatesProvider> scenarios;
+  /**
+   * The discount factors of each scenario, keyed by currency.
+   */
+  private final Map<Currency, DiscountFactors[]> discountFactors = new HashMap<>();
+  /**
+   * The Ibor index rates of each scenario, keyed by index.
+   */
+  private final Map<IborIndex, IborIndexRates[]> iborIndexRates = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the rates provider of each scenario.
+   *
+   * @param scenarios  the rates provider of each scenario
+   * @return the scenario rates provider
+   */
+  public static ScenarioRatesProvider of(List<? extends RatesProvider> scenarios) {
+    ArgChecker.notEmpty(scenarios, "scenarios");
+    return new ScenarioRatesProvider(ImmutableList.copyOf(scenarios));
+  }
+
+  // restricted constructor
+  private ScenarioRatesProvider(ImmutableList<RatesProvider> scenarios) {
+    this.scenarios = scenarios;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of scenarios.
+   *
+   * @return the number of scenarios
+   */
+  public int getScenarioCount() {
+    return scenarios.size();
+  }
+
+  /**
+   * Gets the rates provider of a scenario.
+   *
+   * @param scenarioIndex  the index of the scenario
+   * @return the rates provider of the scenario
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public RatesProvider getScenario(int scenarioIndex) {
+    return scenarios.get(scenarioIndex);
+  }
+
+  /**
+   * Gets the valuation date of a scenario.
+   * <p>
+   * The valuation date may differ between scenarios, for example in a historical scenario set.
+   *
+   * @param scenarioIndex  the index of the scenario
+   * @return the valuation date of the scenario
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public LocalDate getValuationDate(int scenarioIndex) {
+    return scenarios.get(scenarioIndex).getValuationDate();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the discount factor of a currency for a date in each scenario.
+   * <p>
+   * This is equivalent to calling {@link RatesProvider#discountFactor(Currency, LocalDate)}
+   * on the rates provider of each scenario.
+   *
+   * @param currency  the currency to get the discount factor for
+   * @param date  the date to discount to
+   * @return the discount factor in each scenario
+   * @throws IllegalArgumentException if the discount factors are not available in one of the scenarios
+   */
+  public DoubleArray discountFactor(Currency currency, LocalDate date) {
+    DiscountFactors[] factors = discountFactors.computeIfAbsent(currency, this::discountFactorsArray);
+    return DoubleArray.of(factors.length, i -> factors[i].discountFactor(date));
+  }
+
+  // resolves the discount factors of each scenario
+  private DiscountFactors[] discountFactorsArray(Currency currency) {
+    DiscountFactors[] factors = new DiscountFactors[scenarios.size()];
+    for (int i = 0; i < factors.length; i++) {
+      factors[i] = scenarios.get(i).discountFactors(currency);
+    }
+    return factors;
+  }
+
+  /**
+   * Gets the rate of an Ibor index observation in each scenario.
+   * <p>
+   * This is equivalent to calling {@link IborIndexRates#rate(IborIndexObservation)} on the
+   * Ibor index rates of the rates provider of each scenario.
+   * As such, the fixing is used if the fixing date is before the valuation date of the scenario,
+   * and the forward rate otherwise.
+   *
+   * @param observation  the rate observation, including the fixing date
+   * @return the rate of the index in each scenario
+   * @throws IllegalArgumentException if the index rates are not available in one of the scenarios
+   */
+  public DoubleArray iborIndexRate(IborIndexObservation observation) {
+    IborIndexRates[] rates = iborIndexRates.computeIfAbsent(observation.getIndex(), this::iborIndexRatesArray);
+    return DoubleArray.of(rates.length, i -> rates[i].rate(observation));
+  }
+
+  // resolves the Ibor index rates of each scenario
+  private IborIndexRates[] iborIndexRatesArray(IborIndex index) {
+    IborIndexRates[] rates = new IborIndexRates[scenarios.size()];
+    for (int i = 0; i < rates.length; i++) {
+      rates[i] = scenarios.get(i).iborIndexRates(index);
+    }
+    return rates;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("ScenarioRatesProvider[scenarios={}]", scenarios.size());
+  }
+
+}
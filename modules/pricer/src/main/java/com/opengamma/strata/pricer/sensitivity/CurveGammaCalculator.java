@@ -9,6 +9,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,18 @@ public final class CurveGammaCalculator {
    */
   public static final CurveGammaCalculator DEFAULT = new CurveGammaCalculator(FiniteDifferenceType.FORWARD, 1e-4);
 
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The shift to be applied to the curves.
+   */
+  private final double shift;
+  /**
+   * Whether the bumped curves are evaluated in parallel.
+   */
+  private final boolean parallel;
   /**
    * The first order finite difference calculator.
    */
@@ -106,9 +119,31 @@ public final class CurveGammaCalculator {
    * @param shift  the shift to be applied to the curves
    */
   private CurveGammaCalculator(FiniteDifferenceType fdType, double shift) {
+    this(fdType, shift, false);
+  }
+
+  private CurveGammaCalculator(FiniteDifferenceType fdType, double shift, boolean parallel) {
+    this.fdType = fdType;
+    this.shift = shift;
+    this.parallel = parallel;
     this.fd = new VectorFieldFirstOrderDifferentiator(fdType, shift);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this calculator that evaluates the bumped curves in parallel.
+   * <p>
+   * When computing cross gamma, the bumped providers of a curve, and the sensitivities computed from them,
+   * are evaluated in parallel on the common fork-join pool.
+   * The sensitivity functions must therefore be thread-safe.
+   * The result is the same as that of the sequential calculator.
+   * 
+   * @return the parallel calculator
+   */
+  public CurveGammaCalculator parallel() {
+    return new CurveGammaCalculator(fdType, shift, true);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes intra-curve cross gamma by applying finite difference method to curve delta.
@@ -127,63 +162,55 @@ public final class CurveGammaCalculator {
       RatesProvider ratesProvider,
       Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
 
+    return calculateCrossGammaIntraCurve(ratesProvider, ImmutableList.of(sensitivitiesFn)).get(0);
+  }
+
+  /**
+   * Computes intra-curve cross gamma for a set of sensitivity functions, such as the trades of a portfolio.
+   * <p>
+   * The result is the same as calling {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}
+   * for each function, but each bumped rates provider is only created once and is shared by all the functions.
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity functions
+   * @return the cross gamma, in the same order as the functions
+   */
+  public ImmutableList<CrossGammaParameterSensitivities> calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
-    CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    // used to check target sensitivity exits
+    ImmutableList<CurrencyParameterSensitivities> baseDeltas = sensitivitiesFns.stream()
+        .map(fn -> fn.apply(immProv))
+        .collect(toImmutableList());
+    CrossGammaParameterSensitivities[] results = new CrossGammaParameterSensitivities[baseDeltas.size()];
+    Arrays.fill(results, CrossGammaParameterSensitivities.empty());
     // discount curve
     for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
       Currency currency = entry.getKey();
-      Curve curve = entry.getValue();
-      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-        CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-            curve, currency, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-        result = result.combinedWith(gammaSingle);
-      } else if (curve.split().size() > 1) {
-        ImmutableList<Curve> curves = curve.split();
-        int nCurves = curves.size();
-        for (int i = 0; i < nCurves; ++i) {
-          int currentIndex = i;
-          Curve underlyingCurve = curves.get(currentIndex);
-          if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                underlyingCurve,
-                currency,
-                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                sensitivitiesFn);
-            result = result.combinedWith(gammaSingle);
-          }
-        }
-      }
+      computeGammaForCurveOrUnderlying(
+          entry.getValue(),
+          currency,
+          c -> immProv.toBuilder().discountCurve(currency, c).build(),
+          sensitivitiesFns,
+          baseDeltas,
+          results);
     }
     // forward curve
     for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
       Index index = entry.getKey();
       if (index instanceof RateIndex || index instanceof PriceIndex) {
-        Currency currency = getCurrency(index);
-        Curve curve = entry.getValue();
-        if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              curve, currency, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-          result = result.combinedWith(gammaSingle);
-        } else if (curve.split().size() > 1) {
-          ImmutableList<Curve> curves = curve.split();
-          int nCurves = curves.size();
-          for (int i = 0; i < nCurves; ++i) {
-            int currentIndex = i;
-            Curve underlyingCurve = curves.get(currentIndex);
-            if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  underlyingCurve,
-                  currency,
-                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              result = result.combinedWith(gammaSingle);
-            }
-          }
-        }
+        computeGammaForCurveOrUnderlying(
+            entry.getValue(),
+            getCurrency(index),
+            c -> immProv.toBuilder().indexCurve(index, c).build(),
+            sensitivitiesFns,
+            baseDeltas,
+            results);
       }
     }
-    return result;
+    return ImmutableList.copyOf(results);
   }
 
   //-------------------------------------------------------------------------
@@ -302,17 +329,43 @@ public final class CurveGammaCalculator {
 
     ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
     CurrencyParameterSensitivities baseDelta = sensitivitiesFn.apply(immProv); // used to check target sensitivity exits.
-    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
-    for (CurrencyParameterSensitivity baseDeltaSingle : baseDelta.getSensitivities()) {
-      CrossGammaParameterSensitivities resultInner = CrossGammaParameterSensitivities.empty();
-      // discount curve
-      for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
-        Currency currency = entry.getKey();
+    ImmutableList<CurrencyParameterSensitivity> baseDeltaSingles = baseDelta.getSensitivities();
+    // each curve is bumped once, with the sensitivity of every curve delta to it taken from the same bumped provider
+    CrossGammaParameterSensitivities[] resultsInner = new CrossGammaParameterSensitivities[baseDeltaSingles.size()];
+    Arrays.fill(resultsInner, CrossGammaParameterSensitivities.empty());
+    // discount curve
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      Curve curve = entry.getValue();
+      if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
+        computeGammaForCurve(
+            baseDeltaSingles, curve, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn, resultsInner);
+      } else if (curve.split().size() > 1) {
+        ImmutableList<Curve> curves = curve.split();
+        int nCurves = curves.size();
+        for (int i = 0; i < nCurves; ++i) {
+          int currentIndex = i;
+          Curve underlyingCurve = curves.get(currentIndex);
+          if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
+            computeGammaForCurve(
+                baseDeltaSingles,
+                underlyingCurve,
+                c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
+                sensitivitiesFn,
+                resultsInner);
+          }
+        }
+      }
+    }
+    // forward curve
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        Currency currency = getCurrency(index);
         Curve curve = entry.getValue();
         if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-          CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-              baseDeltaSingle, curve, c -> immProv.toBuilder().discountCurve(currency, c).build(), sensitivitiesFn);
-          resultInner = resultInner.combinedWith(gammaSingle);
+          computeGammaForCurve(
+              baseDeltaSingles, curve, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn, resultsInner);
         } else if (curve.split().size() > 1) {
           ImmutableList<Curve> curves = curve.split();
           int nCurves = curves.size();
@@ -320,45 +373,20 @@ public final class CurveGammaCalculator {
             int currentIndex = i;
             Curve underlyingCurve = curves.get(currentIndex);
             if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-              CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                  baseDeltaSingle,
+              computeGammaForCurve(
+                  baseDeltaSingles,
                   underlyingCurve,
-                  c -> immProv.toBuilder().discountCurve(currency, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                  sensitivitiesFn);
-              resultInner = resultInner.combinedWith(gammaSingle);
-            }
-          }
-        }
-      }
-      // forward curve
-      for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
-        Index index = entry.getKey();
-        if (index instanceof RateIndex || index instanceof PriceIndex) {
-          Currency currency = getCurrency(index);
-          Curve curve = entry.getValue();
-          if (baseDelta.findSensitivity(curve.getName(), currency).isPresent()) {
-            CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                baseDeltaSingle, curve, c -> immProv.toBuilder().indexCurve(index, c).build(), sensitivitiesFn);
-            resultInner = resultInner.combinedWith(gammaSingle);
-          } else if (curve.split().size() > 1) {
-            ImmutableList<Curve> curves = curve.split();
-            int nCurves = curves.size();
-            for (int i = 0; i < nCurves; ++i) {
-              int currentIndex = i;
-              Curve underlyingCurve = curves.get(currentIndex);
-              if (baseDelta.findSensitivity(underlyingCurve.getName(), currency).isPresent()) {
-                CrossGammaParameterSensitivity gammaSingle = computeGammaForCurve(
-                    baseDeltaSingle,
-                    underlyingCurve,
-                    c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
-                    sensitivitiesFn);
-                resultInner = resultInner.combinedWith(gammaSingle);
-              }
+                  c -> immProv.toBuilder().indexCurve(index, curve.withUnderlyingCurve(currentIndex, c)).build(),
+                  sensitivitiesFn,
+                  resultsInner);
             }
           }
         }
       }
-      result = result.combinedWith(combineSensitivities(baseDeltaSingle, resultInner));
+    }
+    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    for (int k = 0; k < baseDeltaSingles.size(); k++) {
+      result = result.combinedWith(combineSensitivities(baseDeltaSingles.get(k), resultsInner[k]));
     }
     return result;
   }
@@ -373,36 +401,94 @@ public final class CurveGammaCalculator {
     throw new IllegalArgumentException("unsupported index");
   }
 
-  // compute the second order sensitivity to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
+  // compute the second order sensitivity to the curve for the functions with a delta to it,
+  // and to the underlying curves for the other functions
+  private void computeGammaForCurveOrUnderlying(
       Curve curve,
       Currency sensitivityCurrency,
       Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      List<CurrencyParameterSensitivities> baseDeltas,
+      CrossGammaParameterSensitivities[] results) {
+
+    List<Integer> curveFns = new ArrayList<>();
+    List<Integer> otherFns = new ArrayList<>();
+    for (int k = 0; k < baseDeltas.size(); k++) {
+      if (baseDeltas.get(k).findSensitivity(curve.getName(), sensitivityCurrency).isPresent()) {
+        curveFns.add(k);
+      } else {
+        otherFns.add(k);
+      }
+    }
+    computeGammaForCurve(curve, sensitivityCurrency, ratesProviderFn, sensitivitiesFns, curveFns, results);
+    ImmutableList<Curve> curves = curve.split();
+    int nCurves = curves.size();
+    if (nCurves > 1) {
+      for (int i = 0; i < nCurves; ++i) {
+        int currentIndex = i;
+        Curve underlyingCurve = curves.get(currentIndex);
+        List<Integer> underlyingFns = otherFns.stream()
+            .filter(k -> baseDeltas.get(k).findSensitivity(underlyingCurve.getName(), sensitivityCurrency).isPresent())
+            .collect(toImmutableList());
+        computeGammaForCurve(
+            underlyingCurve,
+            sensitivityCurrency,
+            c -> ratesProviderFn.apply(curve.withUnderlyingCurve(currentIndex, c)),
+            sensitivitiesFns,
+            underlyingFns,
+            results);
+      }
+    }
+  }
+
+  // compute the second order sensitivity to Curve for the selected functions
+  // each bumped provider is shared by the functions, with the function results concatenated
+  private void computeGammaForCurve(
+      Curve curve,
+      Currency sensitivityCurrency,
+      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      List<Integer> selectedFns,
+      CrossGammaParameterSensitivities[] results) {
 
+    if (selectedFns.isEmpty()) {
+      return;
+    }
     Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray t) {
         Curve newCurve = replaceParameters(curve, t);
         ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
-        CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(newCurve.getName(), sensitivityCurrency).getSensitivity();
+        DoubleArray result = DoubleArray.EMPTY;
+        for (int k : selectedFns) {
+          CurrencyParameterSensitivities sensiMulti = sensitivitiesFns.get(k).apply(newRates);
+          result = result.concat(sensiMulti.getSensitivity(newCurve.getName(), sensitivityCurrency).getSensitivity());
+        }
+        return result;
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensi);
+    for (int j = 0; j < selectedFns.size(); j++) {
+      int k = selectedFns.get(j);
+      int offset = j * nParams;
+      DoubleMatrix sensiSingle = DoubleMatrix.of(nParams, nParams, (r, c) -> sensi.get(offset + r, c));
+      results[k] = results[k].combinedWith(
+          CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensiSingle));
+    }
   }
 
-  // computes the sensitivity of baseDeltaSingle to Curve
-  CrossGammaParameterSensitivity computeGammaForCurve(
-      CurrencyParameterSensitivity baseDeltaSingle,
+  // computes the sensitivity of each element of baseDeltaSingles to Curve
+  // each bumped provider is shared by the curve deltas, with the deltas concatenated
+  private void computeGammaForCurve(
+      List<CurrencyParameterSensitivity> baseDeltaSingles,
       Curve curve,
       Function<Curve, ImmutableRatesProvider> ratesProviderFn,
-      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn) {
+      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivitiesFn,
+      CrossGammaParameterSensitivities[] results) {
 
     Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
       @Override
@@ -410,21 +496,34 @@ public final class CurveGammaCalculator {
         Curve newCurve = replaceParameters(curve, t);
         ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
         CurrencyParameterSensitivities sensiMulti = sensitivitiesFn.apply(newRates);
-        return sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity();
+        DoubleArray result = DoubleArray.EMPTY;
+        for (CurrencyParameterSensitivity baseDeltaSingle : baseDeltaSingles) {
+          result = result.concat(
+              sensiMulti.getSensitivity(baseDeltaSingle.getMarketDataName(), baseDeltaSingle.getCurrency()).getSensitivity());
+        }
+        return result;
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
-    return CrossGammaParameterSensitivity.of(
-        baseDeltaSingle.getMarketDataName(),
-        baseDeltaSingle.getParameterMetadata(),
-        curve.getName(),
-        metadata,
-        baseDeltaSingle.getCurrency(),
-        sensi);
+    int offset = 0;
+    for (int k = 0; k < baseDeltaSingles.size(); k++) {
+      CurrencyParameterSensitivity baseDeltaSingle = baseDeltaSingles.get(k);
+      int nDelta = baseDeltaSingle.getParameterCount();
+      int rowOffset = offset;
+      DoubleMatrix sensiSingle = DoubleMatrix.of(nDelta, nParams, (r, c) -> sensi.get(rowOffset + r, c));
+      results[k] = results[k].combinedWith(CrossGammaParameterSensitivity.of(
+          baseDeltaSingle.getMarketDataName(),
+          baseDeltaSingle.getParameterMetadata(),
+          curve.getName(),
+          metadata,
+          baseDeltaSingle.getCurrency(),
+          sensiSingle));
+      offset += nDelta;
+    }
   }
 
   private CrossGammaParameterSensitivity combineSensitivities(
@@ -476,6 +575,44 @@ public final class CurveGammaCalculator {
   }
 
   //-------------------------------------------------------------------------
+  // differentiates the function by finite difference, evaluating the bumped points in parallel if required
+  // the differences are computed in the same way as VectorFieldFirstOrderDifferentiator
+  private DoubleMatrix differentiate(Function<DoubleArray, DoubleArray> function, DoubleArray x) {
+    int n = x.size();
+    if (!parallel || n == 0) {
+      return fd.differentiate(function).apply(x);
+    }
+    DoubleArray base = fdType == FiniteDifferenceType.CENTRAL ? null : function.apply(x);
+    DoubleArray[] up = fdType == FiniteDifferenceType.BACKWARD ? null : evaluateBumped(function, x, shift);
+    DoubleArray[] down = fdType == FiniteDifferenceType.FORWARD ? null : evaluateBumped(function, x, -shift);
+    int m = (up != null ? up[0] : down[0]).size();
+    double[][] res = new double[m][n];
+    for (int j = 0; j < n; j++) {
+      for (int i = 0; i < m; i++) {
+        switch (fdType) {
+          case FORWARD:
+            res[i][j] = (up[j].get(i) - base.get(i)) / shift;
+            break;
+          case CENTRAL:
+            res[i][j] = (up[j].get(i) - down[j].get(i)) / (2 * shift);
+            break;
+          default:
+            res[i][j] = (base.get(i) - down[j].get(i)) / shift;
+            break;
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(res);
+  }
+
+  // evaluates the function with each point bumped in turn, in parallel
+  private static DoubleArray[] evaluateBumped(Function<DoubleArray, DoubleArray> function, DoubleArray x, double bump) {
+    return IntStream.range(0, x.size())
+        .parallel()
+        .mapToObj(j -> function.apply(x.with(j, x.get(j) + bump)))
+        .toArray(DoubleArray[]::new);
+  }
+
   private Curve replaceParameters(Curve curve, DoubleArray newParameters) {
     return curve.withPerturbation((i, v, m) -> newParameters.get(i));
   }
@@ -533,7 +670,7 @@ public final class CurveGammaCalculator {
       }
     };
     int nParams = curve.getParameterCount();
-    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    DoubleMatrix sensi = differentiate(function, DoubleArray.of(nParams, n -> curve.getParameter(n)));
     List<ParameterMetadata> metadata = IntStream.range(0, nParams)
         .mapToObj(i -> curve.getParameterMetadata(i))
         .collect(toImmutableList());
@@ -5,14 +5,20 @@
  */
 package com.opengamma.strata.pricer.sensitivity;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.joda.beans.MetaProperty;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
@@ -52,6 +58,10 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * The shift used for finite difference.
    */
   private final double shift;
+  /**
+   * Whether the bumped rates providers are evaluated in parallel.
+   */
+  private final boolean parallel;
 
   /**
    * Create an instance of the finite difference calculator.
@@ -59,7 +69,27 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * @param shift  the shift used in the finite difference computation
    */
   public RatesFiniteDifferenceSensitivityCalculator(double shift) {
+    this(shift, false);
+  }
+
+  private RatesFiniteDifferenceSensitivityCalculator(double shift, boolean parallel) {
     this.shift = shift;
+    this.parallel = parallel;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this calculator that evaluates the bumped rates providers in parallel.
+   * <p>
+   * When computing the sensitivity to a {@code RatesProvider}, the bumped providers of a curve,
+   * and the values computed from them, are evaluated in parallel on the common fork-join pool.
+   * The value functions must therefore be thread-safe.
+   * The result is the same as that of the sequential calculator.
+   * 
+   * @return the parallel calculator
+   */
+  public RatesFiniteDifferenceSensitivityCalculator parallel() {
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, true);
   }
 
   //-------------------------------------------------------------------------
@@ -77,42 +107,77 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       RatesProvider provider,
       Function<ImmutableRatesProvider, CurrencyAmount> valueFn) {
 
+    return sensitivity(provider, ImmutableList.of(valueFn)).get(0);
+  }
+
+  /**
+   * Computes the first order sensitivities of a set of functions of a RatesProvider, such as the trades
+   * of a portfolio, by finite difference.
+   * <p>
+   * The result is the same as calling {@link #sensitivity(RatesProvider, Function)} for each function,
+   * but each bumped rates provider is only created once and is shared by all the functions.
+   * 
+   * @param provider  the rates provider
+   * @param valueFns  the functions from a rate provider to a currency amount for which the sensitivity should be computed
+   * @return the curve sensitivities, in the same order as the functions
+   */
+  public ImmutableList<CurrencyParameterSensitivities> sensitivity(
+      RatesProvider provider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyAmount>> valueFns) {
+
     ImmutableRatesProvider immProv = provider.toImmutableRatesProvider();
-    CurrencyAmount valueInit = valueFn.apply(immProv);
-    CurrencyParameterSensitivities discounting = sensitivity(
+    ImmutableList<CurrencyAmount> valuesInit = valueFns.stream()
+        .map(valueFn -> valueFn.apply(immProv))
+        .collect(toImmutableList());
+    CurrencyParameterSensitivities[] discounting = sensitivity(
         immProv,
         immProv.getDiscountCurves(),
         (base, bumped) -> base.toBuilder().discountCurves(bumped).build(),
-        valueFn,
-        valueInit);
-    CurrencyParameterSensitivities forward = sensitivity(
+        valueFns,
+        valuesInit);
+    CurrencyParameterSensitivities[] forward = sensitivity(
         immProv,
         immProv.getIndexCurves(),
         (base, bumped) -> base.toBuilder().indexCurves(bumped).build(),
-        valueFn,
-        valueInit);
-    return discounting.combinedWith(forward);
+        valueFns,
+        valuesInit);
+    return IntStream.range(0, valueFns.size())
+        .mapToObj(k -> discounting[k].combinedWith(forward[k]))
+        .collect(toImmutableList());
   }
 
   // computes the sensitivity with respect to the curves
-  private <T> CurrencyParameterSensitivities sensitivity(
+  private <T> CurrencyParameterSensitivities[] sensitivity(
       ImmutableRatesProvider provider,
       Map<T, Curve> baseCurves,
       BiFunction<ImmutableRatesProvider, Map<T, Curve>, ImmutableRatesProvider> storeBumpedFn,
-      Function<ImmutableRatesProvider, CurrencyAmount> valueFn,
-      CurrencyAmount valueInit) {
+      List<? extends Function<ImmutableRatesProvider, CurrencyAmount>> valueFns,
+      List<CurrencyAmount> valuesInit) {
 
-    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    CurrencyParameterSensitivities[] result = new CurrencyParameterSensitivities[valueFns.size()];
+    Arrays.fill(result, CurrencyParameterSensitivities.empty());
     for (Entry<T, Curve> entry : baseCurves.entrySet()) {
       Curve curve = entry.getValue();
-      DoubleArray sensitivity = DoubleArray.of(curve.getParameterCount(), i -> {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(entry.getKey(), dscBumped);
-        ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
-        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      });
-      result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
+      // each bumped provider is used by all the functions
+      IntStream bumps = IntStream.range(0, curve.getParameterCount());
+      double[][] bumpedValues = (parallel ? bumps.parallel() : bumps)
+          .mapToObj(i -> {
+            Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
+            Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
+            mapBumped.put(entry.getKey(), dscBumped);
+            ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
+            return valueFns.stream()
+                .mapToDouble(valueFn -> valueFn.apply(providerDscBumped).getAmount())
+                .toArray();
+          })
+          .toArray(double[][]::new);
+      for (int k = 0; k < valueFns.size(); k++) {
+        int fnIndex = k;
+        CurrencyAmount valueInit = valuesInit.get(k);
+        DoubleArray sensitivity = DoubleArray.of(
+            curve.getParameterCount(), i -> (bumpedValues[i][fnIndex] - valueInit.getAmount()) / shift);
+        result[k] = result[k].combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
+      }
     }
     return result;
   }
@@ -5,17 +5,24 @@
  */
 package com.opengamma.strata.pricer.swap;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
@@ -23,7 +30,13 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
 import com.opengamma.strata.product.swap.ResolvedSwapLeg;
 import com.opengamma.strata.product.swap.SwapPaymentEvent;
@@ -126,6 +139,112 @@ public class DiscountingSwapLegPricer {
     return presentValuePeriodsInternal(leg, provider) + presentValueEventsInternal(leg, provider);
   }
 
+  /**
+   * Calculates the present value of the swap leg for each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwapLeg, RatesProvider)}
+   * with the rates provider of each scenario. However, the periods of the leg are walked only once.
+   * When the standard period and event pricers are used, rate payment periods with a single fixed or Ibor
+   * accrual period and no FX reset, known amount periods and notional exchanges are priced for all
+   * scenarios together. Other periods and events are priced one scenario at a time.
+   * 
+   * @param leg  the leg
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the swap leg in each scenario
+   */
+  public CurrencyScenarioArray presentValue(ResolvedSwapLeg leg, ScenarioRatesProvider provider) {
+    return CurrencyScenarioArray.of(leg.getCurrency(), presentValueInternal(leg, provider));
+  }
+
+  // calculates the present value in the currency of the swap leg for each scenario
+  DoubleArray presentValueInternal(ResolvedSwapLeg leg, ScenarioRatesProvider provider) {
+    int scenarioCount = provider.getScenarioCount();
+    double[] periodsTotal = new double[scenarioCount];
+    boolean batchPeriods = paymentPeriodPricer == SwapPaymentPeriodPricer.standard();
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      LocalDate paymentDate = period.getPaymentDate();
+      if (batchPeriods && isPaidInAllScenarios(paymentDate, provider) && isBatchable(period)) {
+        add(periodsTotal, presentValueBatch(period, provider));
+      } else {
+        for (int i = 0; i < scenarioCount; i++) {
+          if (!paymentDate.isBefore(provider.getValuationDate(i))) {
+            periodsTotal[i] += paymentPeriodPricer.presentValue(period, provider.getScenario(i));
+          }
+        }
+      }
+    }
+    double[] eventsTotal = new double[scenarioCount];
+    boolean batchEvents = paymentEventPricer == SwapPaymentEventPricer.standard();
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      LocalDate paymentDate = event.getPaymentDate();
+      if (batchEvents && isPaidInAllScenarios(paymentDate, provider) && event instanceof NotionalExchange) {
+        Payment payment = ((NotionalExchange) event).getPayment();
+        add(eventsTotal, provider.discountFactor(payment.getCurrency(), paymentDate).multipliedBy(payment.getAmount()));
+      } else {
+        for (int i = 0; i < scenarioCount; i++) {
+          if (!paymentDate.isBefore(provider.getValuationDate(i))) {
+            eventsTotal[i] += paymentEventPricer.presentValue(event, provider.getScenario(i));
+          }
+        }
+      }
+    }
+    return DoubleArray.of(scenarioCount, i -> periodsTotal[i] + eventsTotal[i]);
+  }
+
+  // checks if the payment date is on or after the valuation date of every scenario
+  // if not, the period is priced one scenario at a time, so nothing is looked up for the scenarios where it is paid
+  private static boolean isPaidInAllScenarios(LocalDate paymentDate, ScenarioRatesProvider provider) {
+    for (int i = 0; i < provider.getScenarioCount(); i++) {
+      if (paymentDate.isBefore(provider.getValuationDate(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // checks if the period can be priced for all scenarios together
+  private static boolean isBatchable(SwapPaymentPeriod period) {
+    if (period instanceof KnownAmountSwapPaymentPeriod) {
+      return true;
+    }
+    if (period instanceof RatePaymentPeriod) {
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getAccrualPeriods().size() != 1 || ratePeriod.getFxReset().isPresent()) {
+        return false;
+      }
+      RateComputation computation = ratePeriod.getAccrualPeriods().get(0).getRateComputation();
+      return computation instanceof FixedRateComputation || computation instanceof IborRateComputation;
+    }
+    return false;
+  }
+
+  // prices the period for all scenarios together, matching the standard period pricer
+  private static DoubleArray presentValueBatch(SwapPaymentPeriod period, ScenarioRatesProvider provider) {
+    DoubleArray discountFactors = provider.discountFactor(period.getCurrency(), period.getPaymentDate());
+    if (period instanceof KnownAmountSwapPaymentPeriod) {
+      return discountFactors.multipliedBy(((KnownAmountSwapPaymentPeriod) period).getPayment().getAmount());
+    }
+    RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+    RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0);
+    RateComputation computation = accrualPeriod.getRateComputation();
+    DoubleArray rawRates = computation instanceof FixedRateComputation ?
+        DoubleArray.filled(provider.getScenarioCount(), ((FixedRateComputation) computation).getRate()) :
+        provider.iborIndexRate(((IborRateComputation) computation).getObservation());
+    double notional = ratePeriod.getNotional();
+    return rawRates.mapWithIndex((i, rawRate) -> {
+      double treatedRate = rawRate * accrualPeriod.getGearing() + accrualPeriod.getSpread();
+      double unitAccrual = accrualPeriod.getNegativeRateMethod().adjust(treatedRate * accrualPeriod.getYearFraction());
+      return unitAccrual * notional * discountFactors.get(i);
+    });
+  }
+
+  // adds the values to the totals
+  private static void add(double[] totals, DoubleArray values) {
+    for (int i = 0; i < totals.length; i++) {
+      totals[i] += values.get(i);
+    }
+  }
+
   /**
    * Calculates the forecast value of the swap leg.
    * <p>
@@ -514,9 +633,17 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the events composing the leg in the currency of the swap leg
   double presentValueEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentEvent> events = unpaid(leg.getPaymentEvents(), SwapPaymentEvent::getPaymentDate, provider);
     double total = 0d;
-    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
-      if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
+    if (paymentEventPricer == SwapPaymentEventPricer.standard()) {
+      // the standard pricer discounts the forecast value, so the discount factors are obtained together
+      List<LocalDate> paymentDates = paymentDates(events, SwapPaymentEvent::getPaymentDate);
+      DoubleArray discountFactors = discountFactors(leg, paymentDates, provider);
+      for (int i = 0; i < events.size(); i++) {
+        total += paymentEventPricer.forecastValue(events.get(i), provider) * discountFactors.get(i);
+      }
+    } else {
+      for (SwapPaymentEvent event : events) {
         total += paymentEventPricer.presentValue(event, provider);
       }
     }
@@ -525,15 +652,47 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the periods composing the leg in the currency of the swap leg
   double presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentPeriod> periods = unpaid(leg.getPaymentPeriods(), SwapPaymentPeriod::getPaymentDate, provider);
     double total = 0d;
-    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
+    if (paymentPeriodPricer == SwapPaymentPeriodPricer.standard()) {
+      // the standard pricer discounts the forecast value, so the discount factors are obtained together
+      List<LocalDate> paymentDates = paymentDates(periods, SwapPaymentPeriod::getPaymentDate);
+      DoubleArray discountFactors = discountFactors(leg, paymentDates, provider);
+      for (int i = 0; i < periods.size(); i++) {
+        total += paymentPeriodPricer.forecastValue(periods.get(i), provider) * discountFactors.get(i);
+      }
+    } else {
+      for (SwapPaymentPeriod period : periods) {
         total += paymentPeriodPricer.presentValue(period, provider);
       }
     }
     return total;
   }
 
+  // selects the periods or events that are paid on or after the valuation date
+  private static <T> List<T> unpaid(List<T> items, Function<T, LocalDate> paymentDateFn, RatesProvider provider) {
+    return items.stream()
+        .filter(item -> !paymentDateFn.apply(item).isBefore(provider.getValuationDate()))
+        .collect(toImmutableList());
+  }
+
+  // extracts the payment dates of the periods or events
+  private static <T> List<LocalDate> paymentDates(List<T> items, Function<T, LocalDate> paymentDateFn) {
+    return items.stream().map(paymentDateFn).collect(toImmutableList());
+  }
+
+  // obtains the discount factors of the payment dates in a single call, as all payments are in the leg currency
+  private static DoubleArray discountFactors(
+      ResolvedSwapLeg leg,
+      List<LocalDate> paymentDates,
+      RatesProvider provider) {
+
+    if (paymentDates.isEmpty()) {
+      return DoubleArray.EMPTY;
+    }
+    return provider.discountFactors(leg.getCurrency()).discountFactors(paymentDates);
+  }
+
   // calculates the present value curve sensitivity of the events composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
     PointSensitivityBuilder builder = PointSensitivityBuilder.none();
@@ -559,37 +718,49 @@ public class DiscountingSwapLegPricer {
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    List<LocalDate> paymentDates = new ArrayList<>();
+    double[] forecastValues = new double[leg.getPaymentPeriods().size()];
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
         if (forecastValue != 0d) {
-          Currency currency = period.getCurrency();
-          LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          forecastValues[paymentDates.size()] = forecastValue;
+          paymentDates.add(period.getPaymentDate());
         }
       }
     }
-    return CashFlows.of(builder.build());
+    return cashFlows(leg, paymentDates, forecastValues, provider);
   }
 
   // calculates the cash flow of the events composing the leg in the currency of the swap leg
   CashFlows cashFlowEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    List<LocalDate> paymentDates = new ArrayList<>();
+    double[] forecastValues = new double[leg.getPaymentEvents().size()];
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentEventPricer.forecastValue(event, provider);
         if (forecastValue != 0d) {
-          Currency currency = event.getCurrency();
-          LocalDate paymentDate = event.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          forecastValues[paymentDates.size()] = forecastValue;
+          paymentDates.add(event.getPaymentDate());
         }
       }
     }
+    return cashFlows(leg, paymentDates, forecastValues, provider);
+  }
+
+  // creates the cash flows, obtaining the discount factors of the payment dates in a single call
+  private static CashFlows cashFlows(
+      ResolvedSwapLeg leg,
+      List<LocalDate> paymentDates,
+      double[] forecastValues,
+      RatesProvider provider) {
+
+    DoubleArray discountFactors = discountFactors(leg, paymentDates, provider);
+    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    for (int i = 0; i < paymentDates.size(); i++) {
+      builder.add(CashFlow.ofForecastValue(
+          paymentDates.get(i), leg.getCurrency(), forecastValues[i], discountFactors.get(i)));
+    }
     return CashFlows.of(builder.build());
   }
 
@@ -8,7 +8,9 @@ package com.opengamma.strata.pricer.swap;
 import static com.opengamma.strata.basics.currency.MultiCurrencyAmount.toMultiCurrencyAmount;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.ToDoubleBiFunction;
@@ -18,13 +20,16 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Triple;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.rate.FixedOvernightCompoundedAnnualRateComputation;
 import com.opengamma.strata.product.rate.FixedRateComputation;
 import com.opengamma.strata.product.swap.CompoundingMethod;
@@ -111,6 +116,28 @@ public class DiscountingSwapProductPricer {
     return swapValue(provider, swap, legPricer::presentValueInternal);
   }
 
+  /**
+   * Calculates the present value of the swap product for each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwap, RatesProvider)}
+   * with the rates provider of each scenario. However, the cash flows of the swap are walked only once,
+   * with the discount factors and forward rates obtained for all scenarios together.
+   * See {@link DiscountingSwapLegPricer#presentValue(ResolvedSwapLeg, ScenarioRatesProvider)}.
+   * The result is expressed using the payment currency of each leg.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the swap product in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedSwap swap, ScenarioRatesProvider provider) {
+    // legs in the same currency are summed in leg order, as in the single scenario case
+    Map<Currency, DoubleArray> values = new LinkedHashMap<>();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      values.merge(leg.getCurrency(), legPricer.presentValueInternal(leg, provider), DoubleArray::plus);
+    }
+    return MultiCurrencyScenarioArray.of(values);
+  }
+
   /**
    * Calculates the forecast value of the swap product.
    * <p>
@@ -9,10 +9,12 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.product.swap.ResolvedSwap;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
 
@@ -86,6 +88,22 @@ public class DiscountingSwapTradePricer {
     return productPricer.presentValue(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value of the swap trade for each scenario.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedSwapTrade, RatesProvider)}
+   * with the rates provider of each scenario. However, the cash flows of the swap are walked only once,
+   * with the discount factors and forward rates obtained for all scenarios together.
+   * The result is expressed using the payment currency of each leg.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider of each scenario
+   * @return the present value of the swap trade in each scenario
+   */
+  public MultiCurrencyScenarioArray presentValue(ResolvedSwapTrade trade, ScenarioRatesProvider provider) {
+    return productPricer.presentValue(trade.getProduct(), provider);
+  }
+
   /**
    * Explains the present value of the swap trade.
    * <p>
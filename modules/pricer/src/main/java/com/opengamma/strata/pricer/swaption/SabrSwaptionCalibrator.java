@@ -12,6 +12,9 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -188,79 +191,163 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
-    SwaptionVolatilitiesName name = definition.getName();
-    FixedFloatSwapConvention convention = definition.getConvention();
-    DayCount dayCount = definition.getDayCount();
-    SurfaceInterpolator interpolator = definition.getInterpolator();
-
-    BitSet fixed = new BitSet();
-    fixed.set(1); // Beta fixed
-    BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
-    LocalDate calibrationDate = calibrationDateTime.toLocalDate();
-    // Sorted maps to obtain the surfaces nodes in standard order
-    TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
-    TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
+    List<CellCalibration> cells = new ArrayList<>();
     for (Tenor tenor : data.getTenors()) {
       RawOptionData tenorData = data.getData(tenor);
-      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
-      List<Period> expiries = tenorData.getExpiries();
-      for (Period expiry : expiries) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
+      for (Period expiry : tenorData.getExpiries()) {
+        CellCalibration cell = calibrateCell(
+            definition, calibrationDateTime, ratesProvider, betaSurface, shiftSurface, stopOnMathException,
+            tenor, tenorData, expiry, null);
+        if (cell != null) {
+          cells.add(cell);
         }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiry, tenor);
-            throw new MathException(message, e);
+      }
+    }
+    return toVolatilities(definition, calibrationDateTime, betaSurface, shiftSurface, cells);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the tenors in parallel.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * The expiries of each tenor are calibrated in order on a single task, with the tasks for the
+   * different tenors run concurrently using the specified executor.
+   * Each expiry is warm-started from the calibrated parameters of the previous expiry of the same tenor.
+   * If the warm-started fit has a root-mean-square error greater than the calibration error of one
+   * basis point of volatility, the usual starting points are also tried and the best fit is used.
+   * As such, the result may differ slightly from that of the sequential calibration, but does not
+   * depend on the executor or the order in which the tasks complete.
+   * <p>
+   * This method offers the flexibility to skip the data sets that throw a MathException (stopOnMathException = false).
+   * The option to skip those data sets should be use with care, as part of the input data may be unused in the output.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the tenors, such as {@code ForkJoinPool.commonPool()}
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShiftInParallel(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<List<CellCalibration>>> futures = new ArrayList<>();
+    for (Tenor tenor : data.getTenors()) {
+      RawOptionData tenorData = data.getData(tenor);
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        List<CellCalibration> tenorCells = new ArrayList<>();
+        DoubleArray warmStart = null;
+        for (Period expiry : tenorData.getExpiries()) {
+          CellCalibration cell = calibrateCell(
+              definition, calibrationDateTime, ratesProvider, betaSurface, shiftSurface, stopOnMathException,
+              tenor, tenorData, expiry, warmStart);
+          if (cell != null) {
+            tenorCells.add(cell);
+            warmStart = cell.sabrPoint.getParameters();
           }
         }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiry.toString() + "x" + tenor));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+        return tenorCells;
+      }, executor));
+    }
+    // results are combined in the order of the tenors, independently of the order of completion
+    List<CellCalibration> cells = new ArrayList<>();
+    for (CompletableFuture<List<CellCalibration>> future : futures) {
+      try {
+        cells.addAll(future.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
         }
+        throw ex;
       }
     }
+    return toVolatilities(definition, calibrationDateTime, betaSurface, shiftSurface, cells);
+  }
+
+  // calibrates a single expiry and tenor, returning null if there is no data or the calibration is skipped
+  private CellCalibration calibrateCell(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Tenor tenor,
+      RawOptionData tenorData,
+      Period expiry,
+      DoubleArray warmStart) {
+
+    FixedFloatSwapConvention convention = definition.getConvention();
+    DayCount dayCount = definition.getDayCount();
+    BitSet fixed = new BitSet();
+    fixed.set(1); // Beta fixed
+    BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
+    LocalDate calibrationDate = calibrationDateTime.toLocalDate();
+    double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+    Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
+    if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
+      return null;
+    }
+    LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
+    LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+    double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+    double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+    double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+    LocalDate endDate = effectiveDate.plus(tenor);
+    SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+    double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+    try {
+      Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
+          calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
+              availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData, warmStart);
+      ParameterMetadata parameterMetadata = SwaptionSurfaceExpiryTenorParameterMetadata.of(
+          timeToExpiry,
+          timeTenor,
+          expiry.toString() + "x" + tenor);
+      return new CellCalibration(
+          timeToExpiry, timeTenor, parameterMetadata, calibrationResult.getFirst(), calibrationResult.getSecond());
+    } catch (MathException e) {
+      if (stopOnMathException) {
+        String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
+            expiry, tenor);
+        throw new MathException(message, e);
+      }
+      return null;
+    }
+  }
+
+  // creates the volatilities from the calibrated expiries and tenors
+  private SabrParametersSwaptionVolatilities toVolatilities(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      Surface betaSurface,
+      Surface shiftSurface,
+      List<CellCalibration> cells) {
+
+    SwaptionVolatilitiesName name = definition.getName();
+    FixedFloatSwapConvention convention = definition.getConvention();
+    DayCount dayCount = definition.getDayCount();
+    SurfaceInterpolator interpolator = definition.getInterpolator();
+    // Sorted maps to obtain the surfaces nodes in standard order
+    TreeMap<Double, TreeMap<Double, CellCalibration>> cellsTmp = new TreeMap<>();
+    for (CellCalibration cell : cells) {
+      cellsTmp.computeIfAbsent(cell.timeToExpiry, t -> new TreeMap<>()).put(cell.timeTenor, cell);
+    }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
     DoubleArray timeTenorArray = DoubleArray.EMPTY;
     DoubleArray alphaArray = DoubleArray.EMPTY;
@@ -270,20 +357,17 @@ public final class SabrSwaptionCalibrator {
     List<DoubleArray> dataSensitivityAlpha = new ArrayList<>(); // Sensitivity to the calibrating data
     List<DoubleArray> dataSensitivityRho = new ArrayList<>();
     List<DoubleArray> dataSensitivityNu = new ArrayList<>();
-    for (Double timeToExpiry : parameterMetadataTmp.keySet()) {
-      TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-      TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-      TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-      for (Double timeTenor : parameterMetadataExpiryMap.keySet()) {
-        parameterMetadata.add(parameterMetadataExpiryMap.get(timeTenor));
-        dataSensitivityAlpha.add(dataSensitivityAlphaExpiryMap.get(timeTenor));
-        dataSensitivityRho.add(dataSensitivityRhoExpiryMap.get(timeTenor));
-        dataSensitivityNu.add(dataSensitivityNuExpiryMap.get(timeTenor));
+    for (Double timeToExpiry : cellsTmp.keySet()) {
+      TreeMap<Double, CellCalibration> cellsExpiryMap = cellsTmp.get(timeToExpiry);
+      for (Double timeTenor : cellsExpiryMap.keySet()) {
+        CellCalibration cell = cellsExpiryMap.get(timeTenor);
+        parameterMetadata.add(cell.parameterMetadata);
+        dataSensitivityAlpha.add(cell.inverseJacobian.row(0));
+        dataSensitivityRho.add(cell.inverseJacobian.row(2));
+        dataSensitivityNu.add(cell.inverseJacobian.row(3));
         timeToExpiryArray = timeToExpiryArray.concat(timeToExpiry);
         timeTenorArray = timeTenorArray.concat(timeTenor);
-        SabrFormulaData sabrPt = sabrPointExpiryMap.get(timeTenor);
+        SabrFormulaData sabrPt = cell.sabrPoint;
         alphaArray = alphaArray.concat(sabrPt.getAlpha());
         rhoArray = rhoArray.concat(sabrPt.getRho());
         nuArray = nuArray.concat(sabrPt.getNu());
@@ -318,6 +402,7 @@ public final class SabrSwaptionCalibrator {
 
   // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
   // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
+  // If a warm start is provided, it is tried first and the other starting points are only used if its fit is poor.
   private Pair<SabrFormulaData, DoubleMatrix> calibration(
       double forward,
       double shift,
@@ -329,7 +414,8 @@ public final class SabrSwaptionCalibrator {
       DoubleArray strike,
       DoubleArray data,
       Period expiry,
-      RawOptionData rawData) {
+      RawOptionData rawData,
+      DoubleArray warmStart) {
 
     double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
     // Correlation is usually positive for normal and negative for log-normal;.
@@ -345,8 +431,17 @@ public final class SabrSwaptionCalibrator {
     nuStart[3] = 0.50;
     double chi2 = 1.0E+12; // Large number
     Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
-    for (int i = 0; i < 4; i++) { // Try different starting points and take the best
-      DoubleArray startParameters = DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]);
+    List<DoubleArray> startParametersList = new ArrayList<>();
+    if (warmStart != null) {
+      startParametersList.add(DoubleArray.of(warmStart.get(0), beta, warmStart.get(2), warmStart.get(3)));
+    }
+    for (int i = 0; i < 4; i++) {
+      startParametersList.add(DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]));
+    }
+    for (DoubleArray startParameters : startParametersList) { // Try different starting points and take the best
+      if (warmStart != null && chi2 <= strike.size()) {
+        break; // Warm start fit within the error of the calibration on average
+      }
       Pair<LeastSquareResultsWithTransform, DoubleArray> r;
       if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
         r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
@@ -897,4 +992,28 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  // the result of calibrating a single expiry and tenor
+  private static final class CellCalibration {
+    private final double timeToExpiry;
+    private final double timeTenor;
+    private final ParameterMetadata parameterMetadata;
+    private final SabrFormulaData sabrPoint;
+    private final DoubleMatrix inverseJacobian;
+
+    private CellCalibration(
+        double timeToExpiry,
+        double timeTenor,
+        ParameterMetadata parameterMetadata,
+        SabrFormulaData sabrPoint,
+        DoubleMatrix inverseJacobian) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.timeTenor = timeTenor;
+      this.parameterMetadata = parameterMetadata;
+      this.sabrPoint = sabrPoint;
+      this.inverseJacobian = inverseJacobian;
+    }
+  }
+
 }
@@ -12,13 +12,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.curve.ConstantCurve;
@@ -27,6 +30,7 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.fx.RatesProviderFxDataSets;
+import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.rate.SimpleRatesProvider;
 
 /**
@@ -94,6 +98,17 @@ public class DiscountingPaymentPricerTest {
     assertThat(computed).isCloseTo(0d, offset(0d));
   }
 
+  @Test
+  public void test_presentValueAmounts_provider() {
+    RatesProvider provider = RatesProviderFxDataSets.createProvider();
+    List<Payment> payments = payments();
+    DoubleArray computed = PRICER.presentValueAmounts(payments, provider);
+    assertThat(computed.size()).isEqualTo(payments.size());
+    for (int i = 0; i < payments.size(); i++) {
+      assertThat(computed.get(i)).isEqualTo(PRICER.presentValueAmount(payments.get(i), provider));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_presentValueWithSpread_df_spread_continuous() {
@@ -259,6 +274,27 @@ public class DiscountingPaymentPricerTest {
     assertThat(PRICER.cashFlows(PAYMENT_PAST, PROVIDER)).isEqualTo(CashFlows.NONE);
   }
 
+  @Test
+  public void test_cashFlows_provider() {
+    RatesProvider provider = RatesProviderFxDataSets.createProvider();
+    List<Payment> payments = payments();
+    CashFlows expected = payments.stream()
+        .map(payment -> PRICER.cashFlows(payment, provider))
+        .reduce(CashFlows.NONE, CashFlows::combinedWith);
+    assertThat(PRICER.cashFlows(payments, provider)).isEqualTo(expected);
+  }
+
+  // payments in two currencies, including one that has occurred
+  private static List<Payment> payments() {
+    return ImmutableList.of(
+        PAYMENT_PAST,
+        PAYMENT,
+        Payment.of(CurrencyAmount.of(Currency.EUR, 2_000_000), PAYMENT_DATE.plusMonths(1)),
+        Payment.of(CurrencyAmount.of(USD, -5_000_000), PAYMENT_DATE.plusYears(2)),
+        Payment.of(CurrencyAmount.of(Currency.EUR, 3_000_000), PAYMENT_DATE.plusYears(5)),
+        Payment.of(CurrencyAmount.of(USD, 7_000_000), PAYMENT_DATE.plusYears(10)));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_currencyExposure() {
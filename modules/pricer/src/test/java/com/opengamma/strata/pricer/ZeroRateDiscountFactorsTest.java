@@ -18,10 +18,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -108,6 +110,17 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_BEFORE)).isEqualTo(1d);
   }
   
+  @Test
+  public void test_discountFactors() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2015, 9, 4));
+    DoubleArray computed = test.discountFactors(dates);
+    assertThat(computed.size()).isEqualTo(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertThat(computed.get(i)).isCloseTo(test.discountFactor(dates.get(i)), offset(TOL));
+    }
+  }
+
   @Test
   public void test_discountFactorTimeDerivative() {
     DiscountFactors test = DiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -187,6 +200,20 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.zeroRatePointSensitivity(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_zeroRatePointSensitivities() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2015, 9, 4));
+    List<ZeroRateSensitivity> computed = test.zeroRatePointSensitivities(dates);
+    assertThat(computed).hasSize(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      ZeroRateSensitivity expected = test.zeroRatePointSensitivity(dates.get(i));
+      assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+      assertThat(computed.get(i).getYearFraction()).isEqualTo(expected.getYearFraction());
+      assertThat(computed.get(i).getSensitivity()).isCloseTo(expected.getSensitivity(), offset(TOL));
+    }
+  }
+
   @Test
   public void test_zeroRatePointSensitivity_beforeValDate() {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -297,6 +297,17 @@ public class CalibrationZeroRateUsd2OisFuturesIrsTest {
     calibration_market_quote_sensitivity_check(f, shift);
   }
 
+  @Test
+  public void calibration_warm_start() {
+    CalibrationWarmStart warmStart = CALIBRATOR.calibrateWarmStart(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    assertPresentValue(warmStart.getCalibratedProvider());
+    RatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, warmStart);
+    assertPresentValue(result);
+    Function<MarketData, RatesProvider> f =
+        marketData -> CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, marketData, REF_DATA, warmStart);
+    calibration_market_quote_sensitivity_check(f, 1.0E-6);
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.montecarlo;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.impl.rate.swap.CashFlowEquivalentCalculator;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swaption.HullWhiteSwaptionPhysicalProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+
+/**
+ * Test {@link HullWhiteMonteCarloEngine}.
+ */
+public class HullWhiteMonteCarloEngineTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final LocalDate EXPIRY = LocalDate.of(2016, 7, 7);
+  private static final double NOTIONAL = 100_000_000d;
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final HullWhiteOneFactorPiecewiseConstantParameters PARAMETERS = HW_PROVIDER.getParameters();
+  private static final ImmutableRatesProvider RATES_PROVIDER = HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+  private static final DiscountFactors DSC = RATES_PROVIDER.discountFactors(EUR);
+  private static final DoubleUnaryOperator DSC_FUNCTION = DSC::discountFactor;
+  private static final HullWhiteSwaptionPhysicalProductPricer PRICER_ANALYTIC =
+      HullWhiteSwaptionPhysicalProductPricer.DEFAULT;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_swaption_pseudoRandom() {
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.pseudoRandom(50_000, 1L).withAntithetic(true);
+    assertThat(engine.getPathCount()).isEqualTo(50_000);
+    assertThat(engine.isSobol()).isFalse();
+    assertThat(engine.isAntithetic()).isTrue();
+    for (BuySell buySell : BuySell.values()) {
+      for (double rate : new double[] {0.015, 0.02, 0.03}) {
+        ResolvedSwaption swaption = swaption(buySell, rate);
+        double expected = PRICER_ANALYTIC.presentValue(swaption, RATES_PROVIDER, HW_PROVIDER).getAmount();
+        MonteCarloResult computed = presentValue(engine, swaption);
+        assertThat(computed.getSampleCount()).isEqualTo(50_000);
+        assertThat(computed.getValue()).isCloseTo(expected, offset(3d * computed.getStandardError()));
+        assertThat(computed.getStandardError()).isLessThan(expected * 1e-2);
+      }
+    }
+  }
+
+  @Test
+  public void test_swaption_sobol() {
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.sobol(16_383);
+    assertThat(engine.isSobol()).isTrue();
+    assertThat(engine.isAntithetic()).isFalse();
+    for (BuySell buySell : BuySell.values()) {
+      for (double rate : new double[] {0.015, 0.02, 0.03}) {
+        ResolvedSwaption swaption = swaption(buySell, rate);
+        double expected = PRICER_ANALYTIC.presentValue(swaption, RATES_PROVIDER, HW_PROVIDER).getAmount();
+        MonteCarloResult computed = presentValue(engine, swaption);
+        // the quasi-random error is much smaller than the reported standard error
+        assertThat(computed.getValue()).isCloseTo(expected, offset(0.1d * computed.getStandardError()));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_bonds_multipleTimes() {
+    DoubleArray times = DoubleArray.of(0.5, 1d, 2d, 3.5, 5d);
+    DoubleArray maturities = DoubleArray.of(5.5, 7d);
+    double numeraireTime = 8d;
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.pseudoRandom(20_000, 2L);
+    for (int i = 0; i < times.size(); i++) {
+      int timeIndex = i;
+      // a payment of one at the simulation time
+      MonteCarloResult cash = engine.presentValue(
+          PARAMETERS, DSC_FUNCTION, times, maturities, numeraireTime, path -> 1d / path.numeraire(timeIndex));
+      assertThat(cash.getValue())
+          .isCloseTo(DSC.discountFactor(times.get(i)), offset(Math.max(3d * cash.getStandardError(), 1e-12)));
+      for (int k = 0; k < maturities.size(); k++) {
+        int maturityIndex = k;
+        // a bond maturing at the maturity, valued at the simulation time
+        MonteCarloResult bond = engine.presentValue(
+            PARAMETERS, DSC_FUNCTION, times, maturities, numeraireTime,
+            path -> path.bondPrice(timeIndex, maturityIndex) / path.numeraire(timeIndex));
+        assertThat(bond.getValue())
+            .isCloseTo(DSC.discountFactor(maturities.get(k)), offset(Math.max(3d * bond.getStandardError(), 1e-12)));
+      }
+    }
+  }
+
+  @Test
+  public void test_path() {
+    DoubleArray times = DoubleArray.of(1d, 2d);
+    DoubleArray maturities = DoubleArray.of(3d);
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.sobol(2).withBlockSize(1);
+    engine.presentValue(PARAMETERS, DSC_FUNCTION, times, maturities, 3d, path -> {
+      assertThat(path.getTimeCount()).isEqualTo(2);
+      assertThat(path.getTime(1)).isEqualTo(2d);
+      assertThat(path.getMaturityCount()).isEqualTo(1);
+      assertThat(path.getMaturity(0)).isEqualTo(3d);
+      // the numeraire bond is the bond maturing at the numeraire time
+      assertThat(path.rebasedBondPrice(1, 0)).isCloseTo(1d, offset(1e-15));
+      assertThat(path.bondPrice(1, 0)).isCloseTo(path.numeraire(1), offset(1e-15));
+      return path.getState(0);
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_reproducible() throws Exception {
+    ResolvedSwaption swaption = swaption(BuySell.BUY, 0.02);
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.pseudoRandom(5_000, 3L).withBlockSize(100);
+    assertThat(engine.getBlockSize()).isEqualTo(100);
+    MonteCarloResult computed = presentValue(engine, swaption);
+    ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      MonteCarloResult singleThread = pool.submit(() -> presentValue(engine, swaption)).get();
+      assertThat(singleThread.getValue()).isEqualTo(computed.getValue());
+      assertThat(singleThread.getStandardError()).isEqualTo(computed.getStandardError());
+    } finally {
+      pool.shutdown();
+    }
+    MonteCarloResult otherSeed = presentValue(HullWhiteMonteCarloEngine.pseudoRandom(5_000, 4L), swaption);
+    assertThat(otherSeed.getValue()).isNotEqualTo(computed.getValue());
+  }
+
+  @Test
+  public void test_sobol_blockSize() {
+    ResolvedSwaption swaption = swaption(BuySell.SELL, 0.02);
+    MonteCarloResult computed1 = presentValue(HullWhiteMonteCarloEngine.sobol(4_000), swaption);
+    MonteCarloResult computed2 = presentValue(HullWhiteMonteCarloEngine.sobol(4_000).withBlockSize(333), swaption);
+    assertThat(computed2.getValue()).isCloseTo(computed1.getValue(), offset(1e-8));
+  }
+
+  @Test
+  public void test_antithetic_reducesError() {
+    ResolvedSwaption swaption = swaption(BuySell.BUY, 0.02);
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.pseudoRandom(10_000, 5L);
+    MonteCarloResult plain = presentValue(engine, swaption);
+    MonteCarloResult antithetic = presentValue(engine.withAntithetic(true), swaption);
+    assertThat(antithetic.getStandardError()).isLessThan(plain.getStandardError());
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteMonteCarloEngine.pseudoRandom(1, 1L));
+    assertThatIllegalArgumentException().isThrownBy(() -> HullWhiteMonteCarloEngine.sobol(10).withBlockSize(0));
+    HullWhiteMonteCarloEngine engine = HullWhiteMonteCarloEngine.sobol(10);
+    DoubleArray maturities = DoubleArray.of(3d);
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> engine.presentValue(PARAMETERS, DSC_FUNCTION, DoubleArray.of(1d, 4d), maturities, 3d, path -> 1d));
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> engine.presentValue(PARAMETERS, DSC_FUNCTION, DoubleArray.of(0d, 1d), maturities, 3d, path -> 1d));
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> engine.presentValue(PARAMETERS, DSC_FUNCTION, DoubleArray.of(2d, 1d), maturities, 3d, path -> 1d));
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> engine.presentValue(PARAMETERS, DSC_FUNCTION, DoubleArray.EMPTY, maturities, 3d, path -> 1d));
+  }
+
+  //-------------------------------------------------------------------------
+  private static ResolvedSwaption swaption(BuySell buySell, double rate) {
+    Swap swap = EUR_FIXED_1Y_EURIBOR_6M
+        .createTrade(EXPIRY, Period.ZERO, Tenor.TENOR_5Y, buySell, NOTIONAL, rate, REF_DATA)
+        .getProduct();
+    return Swaption.builder()
+        .expiryDate(AdjustableDate.of(EXPIRY))
+        .expiryTime(LocalTime.NOON)
+        .expiryZone(ZoneOffset.UTC)
+        .swaptionSettlement(PhysicalSwaptionSettlement.DEFAULT)
+        .longShort(LongShort.LONG)
+        .underlying(swap)
+        .build()
+        .resolve(REF_DATA);
+  }
+
+  // prices the swaption by simulating the bond prices at expiry, using the expiry bond as numeraire
+  private static MonteCarloResult presentValue(HullWhiteMonteCarloEngine engine, ResolvedSwaption swaption) {
+    ResolvedSwapLeg cashFlows =
+        CashFlowEquivalentCalculator.cashFlowEquivalentSwap(swaption.getUnderlying(), RATES_PROVIDER);
+    int nbCashFlows = cashFlows.getPaymentEvents().size();
+    double[] amounts = new double[nbCashFlows];
+    double[] maturities = new double[nbCashFlows];
+    for (int i = 0; i < nbCashFlows; i++) {
+      NotionalExchange payment = (NotionalExchange) cashFlows.getPaymentEvents().get(i);
+      amounts[i] = payment.getPaymentAmount().getAmount();
+      maturities[i] = HW_PROVIDER.relativeTime(payment.getPaymentDate());
+    }
+    double expiryTime = HW_PROVIDER.relativeTime(swaption.getExpiryDate());
+    HullWhiteMonteCarloPayoff payoff = path -> {
+      double swapValue = 0d;
+      for (int i = 0; i < nbCashFlows; i++) {
+        swapValue += amounts[i] * path.rebasedBondPrice(0, i);
+      }
+      return Math.max(swapValue, 0d);
+    };
+    return engine.presentValue(
+        PARAMETERS, DSC_FUNCTION, DoubleArray.of(expiryTime), DoubleArray.ofUnsafe(maturities), expiryTime, payoff);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertUtilityClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link BlackImpliedVolatilityFormula}.
+ */
+public class BlackImpliedVolatilityFormulaTest {
+
+  private static final double FORWARD = 0.03;
+  private static final double[] STRIKE_RATIOS = {0.05, 0.25, 0.5, 0.8, 0.95, 0.999, 1d, 1.001, 1.05, 1.25, 2d, 4d, 20d};
+  private static final double[] VOLS = {0.01, 0.05, 0.2, 0.5, 1d, 2d};
+  private static final double[] TIMES = {0.02, 0.25, 1d, 5d, 30d};
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_roundTrip() {
+    for (double ratio : STRIKE_RATIOS) {
+      double strike = FORWARD * ratio;
+      for (double vol : VOLS) {
+        for (double time : TIMES) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, isCall);
+            double intrinsic = Math.max(0d, (isCall ? 1d : -1d) * (FORWARD - strike));
+            // skip prices that are not distinguishable from the intrinsic value
+            if (price - intrinsic > 1e-10 * price) {
+              double computed = BlackImpliedVolatilityFormula.impliedVolatility(price, FORWARD, strike, time, isCall);
+              // the rounding of the reference price, divided by the vega, limits the accuracy
+              double vega = BlackFormulaRepository.vega(FORWARD, strike, time, vol);
+              double tolerance = 1e-12 * vol + 1e-15 * (FORWARD + strike) / vega;
+              assertThat(computed).isCloseTo(vol, offset(tolerance));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_matchesRepository() {
+    double[] strikes = {0.01, 0.02, 0.03, 0.04, 0.08};
+    for (double strike : strikes) {
+      double price = BlackFormulaRepository.price(FORWARD, strike, 2d, 0.35, strike >= FORWARD);
+      double expected = BlackFormulaRepository.impliedVolatility(price, FORWARD, strike, 2d, strike >= FORWARD);
+      double computed = BlackImpliedVolatilityFormula.impliedVolatility(price, FORWARD, strike, 2d, strike >= FORWARD);
+      assertThat(computed).isCloseTo(expected, offset(1e-8));
+      assertThat(computed).isCloseTo(0.35, offset(1e-14));
+    }
+  }
+
+  @Test
+  public void test_intrinsic() {
+    assertThat(BlackImpliedVolatilityFormula.impliedVolatility(0d, FORWARD, 0.04, 1d, true)).isEqualTo(0d);
+    assertThat(BlackImpliedVolatilityFormula.impliedVolatility(0.01, FORWARD, 0.04, 1d, false)).isEqualTo(0d);
+    assertThat(BlackImpliedVolatilityFormula.impliedVolatility(FORWARD, FORWARD, 0d, 1d, true)).isEqualTo(0d);
+    // rounding can result in a price just below the intrinsic value
+    double price = BlackFormulaRepository.price(0.025, 0.00625, 0.083, 0.1, true);
+    assertThat(BlackImpliedVolatilityFormula.impliedVolatility(price, 0.025, 0.00625, 0.083, true)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatility(0.009, FORWARD, 0.02, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatility(FORWARD, FORWARD, 0.04, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatility(0.001, -FORWARD, 0.04, 1d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatility(0.001, FORWARD, 0.04, 0d, true));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_impliedVolatilities() {
+    DoubleArray strikes = DoubleArray.of(0.01, 0.02, 0.03, 0.04, 0.08);
+    DoubleArray vols = DoubleArray.of(0.5, 0.4, 0.3, 0.35, 0.45);
+    DoubleArray prices = DoubleArray.of(
+        strikes.size(), i -> BlackFormulaRepository.price(FORWARD, strikes.get(i), 3d, vols.get(i), true));
+    DoubleArray computed = BlackImpliedVolatilityFormula.impliedVolatilities(prices, FORWARD, strikes, 3d, true);
+    assertThat(computed.equalWithTolerance(vols, 1e-13)).isTrue();
+
+    DoubleArray forwards = DoubleArray.filled(strikes.size(), FORWARD);
+    DoubleArray times = DoubleArray.filled(strikes.size(), 3d);
+    assertThat(BlackImpliedVolatilityFormula.impliedVolatilities(prices, forwards, strikes, times, true))
+        .isEqualTo(computed);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatilities(prices, FORWARD, times.subArray(1), 3d, true));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackImpliedVolatilityFormula.impliedVolatilities(
+            prices, forwards.subArray(1), strikes, times, true));
+  }
+
+  @Test
+  public void coverage() {
+    assertUtilityClass(BlackImpliedVolatilityFormula.class);
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertUtilityClass;
+import static com.opengamma.strata.product.common.PutCall.CALL;
+import static com.opengamma.strata.product.common.PutCall.PUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link NormalImpliedVolatilityFormula}.
+ */
+public class NormalImpliedVolatilityFormulaTest {
+
+  private static final double FORWARD = -0.005;
+  private static final double[] STRIKE_SHIFTS = {-0.05, -0.01, -0.002, -0.0001, 0d, 0.0001, 0.002, 0.01, 0.05};
+  private static final double[] VOLS = {0.0005, 0.002, 0.0075, 0.02, 0.1};
+  private static final double[] TIMES = {0.02, 0.25, 1d, 5d, 30d};
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_roundTrip() {
+    for (double shift : STRIKE_SHIFTS) {
+      double strike = FORWARD + shift;
+      for (double vol : VOLS) {
+        for (double time : TIMES) {
+          for (PutCall putCall : new PutCall[] {CALL, PUT}) {
+            double price = NormalFormulaRepository.price(FORWARD, strike, time, vol, putCall);
+            double intrinsic = Math.max(0d, (putCall.isCall() ? 1d : -1d) * (FORWARD - strike));
+            // skip prices that are not distinguishable from the intrinsic value
+            if (price - intrinsic > 1e-10 * price) {
+              double computed = NormalImpliedVolatilityFormula.impliedVolatility(price, FORWARD, strike, time, putCall);
+              // the error in the price of the in-the-money option limits the accuracy
+              double tolerance = 1e-12 + 1e-15 * price / (price - intrinsic);
+              assertThat(computed).isCloseTo(vol, offset(tolerance * vol));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_matchesRepository() {
+    double[] strikes = {0.0150, -0.0100, -0.0050, -0.00};
+    double[] vols = {0.0075, 0.0100, 0.0050, 0.0200};
+    double[] times = {1.0, 5.0, 0.25, 1.0};
+    PutCall[] putCalls = {PUT, CALL, CALL, PUT};
+    for (int i = 0; i < strikes.length; i++) {
+      double price = NormalFormulaRepository.price(FORWARD, strikes[i], times[i], vols[i], putCalls[i]);
+      double expected = NormalFormulaRepository
+          .impliedVolatility(price, FORWARD, strikes[i], times[i], vols[i], 1d, putCalls[i]);
+      double computed = NormalImpliedVolatilityFormula.impliedVolatility(price, FORWARD, strikes[i], times[i], putCalls[i]);
+      assertThat(computed).isCloseTo(expected, offset(1e-10));
+      assertThat(computed).isCloseTo(vols[i], offset(1e-16));
+    }
+  }
+
+  @Test
+  public void test_intrinsic() {
+    assertThat(NormalImpliedVolatilityFormula.impliedVolatility(0d, FORWARD, 0.01, 1d, CALL)).isEqualTo(0d);
+    assertThat(NormalImpliedVolatilityFormula.impliedVolatility(0.015, FORWARD, 0.01, 1d, PUT)).isEqualTo(0d);
+    // rounding can result in a price just below the intrinsic value
+    assertThat(NormalImpliedVolatilityFormula.impliedVolatility(0.015 - 1e-18, FORWARD, 0.01, 1d, PUT)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalImpliedVolatilityFormula.impliedVolatility(0.01, FORWARD, 0.01, 1d, PUT));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalImpliedVolatilityFormula.impliedVolatility(0.001, FORWARD, 0.01, 0d, CALL));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_impliedVolatilities() {
+    DoubleArray strikes = DoubleArray.of(-0.01, -0.005, 0d, 0.01, 0.02);
+    DoubleArray vols = DoubleArray.of(0.008, 0.007, 0.0065, 0.007, 0.0085);
+    DoubleArray prices = DoubleArray.of(
+        strikes.size(), i -> NormalFormulaRepository.price(FORWARD, strikes.get(i), 3d, vols.get(i), PUT));
+    DoubleArray computed = NormalImpliedVolatilityFormula.impliedVolatilities(prices, FORWARD, strikes, 3d, PUT);
+    assertThat(computed.equalWithTolerance(vols, 1e-15)).isTrue();
+
+    DoubleArray forwards = DoubleArray.filled(strikes.size(), FORWARD);
+    DoubleArray times = DoubleArray.filled(strikes.size(), 3d);
+    assertThat(NormalImpliedVolatilityFormula.impliedVolatilities(prices, forwards, strikes, times, PUT))
+        .isEqualTo(computed);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalImpliedVolatilityFormula.impliedVolatilities(prices, FORWARD, times.subArray(1), 3d, PUT));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalImpliedVolatilityFormula.impliedVolatilities(
+            prices, forwards.subArray(1), strikes, times, PUT));
+  }
+
+  @Test
+  public void coverage() {
+    assertUtilityClass(NormalImpliedVolatilityFormula.class);
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.rate;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+
+/**
+ * Test {@link ScenarioRatesProvider}.
+ */
+public class ScenarioRatesProviderTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider PROVIDER1 = RatesProviderDataSets.multiGbpUsd(date(2014, 1, 22));
+  private static final ImmutableRatesProvider PROVIDER2 = RatesProviderDataSets.multiGbpUsd(date(2014, 1, 24));
+  private static final LocalDate DATE = date(2015, 6, 30);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(ImmutableList.of(PROVIDER1, PROVIDER2));
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.getScenario(0)).isSameAs(PROVIDER1);
+    assertThat(test.getScenario(1)).isSameAs(PROVIDER2);
+    assertThat(test.getValuationDate(0)).isEqualTo(date(2014, 1, 22));
+    assertThat(test.getValuationDate(1)).isEqualTo(date(2014, 1, 24));
+    assertThat(test.toString()).isEqualTo("ScenarioRatesProvider[scenarios=2]");
+  }
+
+  @Test
+  public void test_of_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioRatesProvider.of(ImmutableList.of()));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_discountFactor() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(ImmutableList.of(PROVIDER1, PROVIDER2));
+    DoubleArray expected = DoubleArray.of(PROVIDER1.discountFactor(GBP, DATE), PROVIDER2.discountFactor(GBP, DATE));
+    assertThat(test.discountFactor(GBP, DATE)).isEqualTo(expected);
+    assertThat(test.discountFactor(GBP, DATE)).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_discountFactor_notFound() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(ImmutableList.of(PROVIDER1, PROVIDER2));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.discountFactor(EUR, DATE));
+  }
+
+  @Test
+  public void test_iborIndexRate() {
+    ScenarioRatesProvider test = ScenarioRatesProvider.of(ImmutableList.of(PROVIDER1, PROVIDER2));
+    IborIndexObservation obs = IborIndexObservation.of(GBP_LIBOR_3M, DATE, REF_DATA);
+    DoubleArray expected = DoubleArray.of(
+        PROVIDER1.iborIndexRates(GBP_LIBOR_3M).rate(obs),
+        PROVIDER2.iborIndexRates(GBP_LIBOR_3M).rate(obs));
+    assertThat(test.iborIndexRate(obs)).isEqualTo(expected);
+  }
+
+}
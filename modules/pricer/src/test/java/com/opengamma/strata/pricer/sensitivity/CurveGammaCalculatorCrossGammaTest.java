@@ -11,6 +11,7 @@ import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -19,6 +20,7 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -444,6 +446,35 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  @Test
+  public void sensitivity_parallel() {
+    for (CurveGammaCalculator calculator : new CurveGammaCalculator[] {FORWARD, CENTRAL, BACKWARD}) {
+      CurveGammaCalculator parallel = calculator.parallel();
+      assertThat(parallel.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn))
+          .isEqualTo(calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn));
+      assertThat(parallel.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn))
+          .isEqualTo(calculator.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn));
+      assertThat(parallel.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, this::sensiCombinedFn))
+          .isEqualTo(
+              calculator.calculateCrossGammaCrossCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, this::sensiCombinedFn));
+    }
+  }
+
+  @Test
+  public void sensitivity_intra_portfolio() {
+    List<CrossGammaParameterSensitivities> computed = CENTRAL.parallel().calculateCrossGammaIntraCurve(
+        RatesProviderDataSets.MULTI_CPI_USD, ImmutableList.of(this::sensiFn, this::sensiModFn));
+    assertThat(computed).containsExactly(
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiFn),
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, this::sensiModFn));
+    List<CrossGammaParameterSensitivities> computedCombined = CENTRAL.calculateCrossGammaIntraCurve(
+        RatesProviderDataSets.MULTI_CPI_USD_COMBINED, ImmutableList.of(this::sensiCombinedFn, this::sensiCombinedFn));
+    CrossGammaParameterSensitivities expectedCombined =
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, this::sensiCombinedFn);
+    assertThat(computedCombined).containsExactly(expectedCombined, expectedCombined);
+    assertThat(CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, ImmutableList.of())).isEmpty();
+  }
+
   //-------------------------------------------------------------------------
   private CurrencyParameterSensitivities sensiFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
@@ -15,6 +15,7 @@ import java.util.Map.Entry;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -132,6 +133,17 @@ public class RatesFiniteDifferenceSensitivityCalculatorTest {
   }
 
   //-------------------------------------------------------------------------
+  @Test
+  public void sensitivity_parallel_portfolio() {
+    CurrencyParameterSensitivities expected = FD_CALCULATOR.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn);
+    assertThat(FD_CALCULATOR.parallel().sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fn)).isEqualTo(expected);
+    List<CurrencyParameterSensitivities> computed = FD_CALCULATOR.parallel().sensitivity(
+        RatesProviderDataSets.MULTI_CPI_USD, ImmutableList.of(this::fn, provider -> fn(provider).multipliedBy(2d)));
+    assertThat(computed).hasSize(2);
+    assertThat(computed.get(0)).isEqualTo(expected);
+    assertThat(computed.get(1).equalWithTolerance(expected.multipliedBy(2d), TOLERANCE_DELTA)).isTrue();
+  }
+
   @Test
   public void sensitivity_legalEntity_Zero() {
     CurrencyParameterSensitivities sensiComputed = FD_CALCULATOR.sensitivity(
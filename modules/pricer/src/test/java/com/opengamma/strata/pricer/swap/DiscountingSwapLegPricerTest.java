@@ -76,6 +76,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -152,6 +153,11 @@ public class DiscountingSwapLegPricerTest {
     double df2 = 0.98d;
     when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
         .thenReturn(df2);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockDf.discountFactors(ImmutableList.of(
+        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate(), FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1, df2));
+    when(mockProv.discountFactors(USD)).thenReturn(mockDf);
     when(mockProv.getValuationDate()).thenReturn(RatesProviderDataSets.VAL_DATE_2014_01_22);
     double pvbp = PRICER_LEG.pvbp(leg, mockProv);
     double ceExpected = PRICER_LEG.presentValuePeriodsInternal(leg, mockProv) / pvbp;
@@ -203,6 +209,9 @@ public class DiscountingSwapLegPricerTest {
     double df1 = 0.99d;
     when(mockProv.discountFactor(GBP, p.getPaymentDate()))
         .thenReturn(df1);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockDf.discountFactors(ImmutableList.of(p.getPaymentDate()))).thenReturn(DoubleArray.of(df1));
+    when(mockProv.discountFactors(GBP)).thenReturn(mockDf);
     double spread = 1.0E-6;
     RateAccrualPeriod ap1 = FIXED_RATE_ACCRUAL_PERIOD.toBuilder().spread(spread).build();
     RateAccrualPeriod ap2 = FIXED_RATE_ACCRUAL_PERIOD_2.toBuilder().spread(spread).build();
@@ -317,6 +326,37 @@ public class DiscountingSwapLegPricerTest {
     assertThat(test.presentValuePeriodsInternal(IBOR_SWAP_LEG_REC_GBP, MOCK_PROV)).isEqualTo(500d);
   }
 
+  @Test
+  public void test_presentValue_batchDiscountFactors() {
+    LocalDate tradeDate = RATES_USD.getValuationDate();
+    LocalDate effectiveDate = USD_LIBOR_3M_LIBOR_6M.calculateSpotDateFromTradeDate(tradeDate, REF_DATA);
+    LocalDate endDate = effectiveDate.plus(TENOR_10Y);
+    ResolvedSwapLeg leg = IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M.getSpreadLeg()
+        .toLeg(effectiveDate, endDate, RECEIVE, NOTIONAL, 0.0015)
+        .resolve(REF_DATA)
+        .toBuilder()
+        .paymentEvents(
+            NotionalExchange.of(CurrencyAmount.of(USD, -NOTIONAL), effectiveDate),
+            NotionalExchange.of(CurrencyAmount.of(USD, NOTIONAL), endDate))
+        .build();
+    // the discount factors are obtained together, the result must be identical to pricing each period
+    double expectedPeriods = 0d;
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      expectedPeriods += SwapPaymentPeriodPricer.standard().presentValue(period, RATES_USD);
+    }
+    double expectedEvents = 0d;
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      expectedEvents += SwapPaymentEventPricer.standard().presentValue(event, RATES_USD);
+    }
+    assertThat(PRICER_LEG.presentValuePeriodsInternal(leg, RATES_USD)).isEqualTo(expectedPeriods);
+    assertThat(PRICER_LEG.presentValueEventsInternal(leg, RATES_USD)).isEqualTo(expectedEvents);
+    CashFlows cashFlows = PRICER_LEG.cashFlows(leg, RATES_USD);
+    assertThat(cashFlows.getCashFlows()).hasSize(leg.getPaymentPeriods().size() + 2);
+    for (CashFlow flow : cashFlows.getCashFlows()) {
+      assertThat(flow.getDiscountFactor()).isEqualTo(RATES_USD.discountFactor(USD, flow.getPaymentDate()));
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_forecastValue() {
@@ -796,9 +836,11 @@ public class DiscountingSwapLegPricerTest {
     when(mockPeriod.forecastValue(period1, mockProv)).thenReturn(fv1);
     when(mockPeriod.forecastValue(period2, mockProv)).thenReturn(fv2);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period1.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period2.getPaymentDate())).thenReturn(df2);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), event.getPaymentDate())).thenReturn(df);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockDf.discountFactors(ImmutableList.of(period1.getPaymentDate(), period2.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1, df2));
+    when(mockDf.discountFactors(ImmutableList.of(event.getPaymentDate()))).thenReturn(DoubleArray.of(df));
+    when(mockProv.discountFactors(expSwapLeg.getCurrency())).thenReturn(mockDf);
     DiscountingSwapLegPricer pricer = new DiscountingSwapLegPricer(mockPeriod, eventPricer);
 
     CashFlows computed = pricer.cashFlows(expSwapLeg, mockProv);
@@ -22,6 +22,7 @@ import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_E
 import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP;
 import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_GBP_USD;
 import static com.opengamma.strata.pricer.datasets.RatesProviderDataSets.MULTI_USD;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_RATE_PAYMENT_PERIOD_PAY_GBP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_RATE_PAYMENT_PERIOD_PAY_USD;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_SWAP_LEG_PAY;
@@ -29,6 +30,7 @@ import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_SWAP_LEG_PAY_
 import static com.opengamma.strata.pricer.swap.SwapDummyData.IBOR_RATE_COMP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.IBOR_RATE_PAYMENT_PERIOD_REC_GBP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.IBOR_SWAP_LEG_REC_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.IBOR_SWAP_LEG_REC_GBP_MULTI;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.INFLATION_FIXED_SWAP_LEG_PAY_GBP;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.INFLATION_FIXED_SWAP_LEG_PAY_GBP_FIXED_RATE;
 import static com.opengamma.strata.pricer.swap.SwapDummyData.INFLATION_MONTHLY_SWAP_LEG_REC_GBP;
@@ -77,6 +79,7 @@ import com.opengamma.strata.basics.schedule.PeriodicSchedule;
 import com.opengamma.strata.basics.value.ValueSchedule;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.curve.Curve;
@@ -91,12 +94,14 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.rate.ScenarioRatesProvider;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
 import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.FixedAccrualMethod;
@@ -568,6 +573,33 @@ public class DiscountingSwapProductPricerTest {
     assertThat(pvComputed.getAmount(BRL).getAmount()).isCloseTo(pvExpected, offset(NOTIONAL * TOLERANCE_RATE));
   }
 
+  @Test
+  public void test_presentValue_scenarios() {
+    ImmutableList<RatesProvider> scenarios = ImmutableList.of(
+        MULTI_GBP_USD,
+        RatesProviderDataSets.multiGbpUsd(date(2014, 1, 21)),
+        RatesProviderDataSets.multiGbpUsd(date(2014, 1, 24)).toBuilder()
+            .timeSeries(USD_LIBOR_3M, LocalDateDoubleTimeSeries.of(date(2014, 1, 22), 0.0024))
+            .timeSeries(USD_LIBOR_6M, LocalDateDoubleTimeSeries.of(date(2014, 1, 22), 0.0035))
+            .build());
+    ScenarioRatesProvider scenarioProvider = ScenarioRatesProvider.of(scenarios);
+    ImmutableList<ResolvedSwap> swaps = ImmutableList.of(
+        SWAP,
+        SWAP_CROSS_CURRENCY,
+        ResolvedSwap.of(IBOR_SWAP_LEG_REC_GBP_MULTI, FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP),
+        SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA).getProduct(),
+        SWAP_USD_LIBOR_3M_LIBOR_6M_5Y.resolve(REF_DATA).getProduct());
+    for (ResolvedSwap swap : swaps) {
+      MultiCurrencyScenarioArray expected =
+          MultiCurrencyScenarioArray.of(scenarios.size(), i -> SWAP_PRODUCT_PRICER.presentValue(swap, scenarios.get(i)));
+      assertThat(SWAP_PRODUCT_PRICER.presentValue(swap, scenarioProvider)).isEqualTo(expected);
+    }
+
+    // test via SwapTrade
+    MultiCurrencyScenarioArray expected = SWAP_PRODUCT_PRICER.presentValue(SWAP, scenarioProvider);
+    assertThat(SWAP_TRADE_PRICER.presentValue(SWAP_TRADE, scenarioProvider)).isEqualTo(expected);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_forecastValue_singleCurrency() {
@@ -888,10 +920,14 @@ public class DiscountingSwapProductPricerTest {
     when(mockPeriod.forecastValue(IBOR_RATE_PAYMENT_PERIOD_REC_GBP, mockProv)).thenReturn(fvGBP);
     when(mockPeriod.forecastValue(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, mockProv)).thenReturn(fvUSD);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getCurrency(),
-        IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getCurrency(),
-        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())).thenReturn(df2);
+    DiscountFactors mockDfGbp = mock(DiscountFactors.class);
+    when(mockDfGbp.discountFactors(ImmutableList.of(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df1));
+    when(mockProv.discountFactors(GBP)).thenReturn(mockDfGbp);
+    DiscountFactors mockDfUsd = mock(DiscountFactors.class);
+    when(mockDfUsd.discountFactors(ImmutableList.of(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())))
+        .thenReturn(DoubleArray.of(df2));
+    when(mockProv.discountFactors(USD)).thenReturn(mockDfUsd);
     SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
     DiscountingSwapLegPricer pricerLeg = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
     DiscountingSwapProductPricer pricerSwap = new DiscountingSwapProductPricer(pricerLeg);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.expression;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+
+/**
+ * Finds the property of a bean matching a token of a value path.
+ * <p>
+ * A token matches a property if the names are equal ignoring case.
+ * The match is made once for each type of bean, with the resulting meta-property
+ * used to access the value of every bean of that type.
+ * Dynamic beans, whose properties vary between instances, are matched each time.
+ */
+final class BeanPropertyLookup {
+
+  /**
+   * The meta-properties of each type of bean, keyed by lower case property name.
+   * The map is built from the meta-bean of the first bean of each type, which need not be registered.
+   */
+  private static final ConcurrentMap<Class<?>, ImmutableMap<String, MetaProperty<?>>> PROPERTIES =
+      new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the property matching the token.
+   * <p>
+   * If more than one property matches, the first is returned.
+   *
+   * @param bean  the bean
+   * @param token  the token
+   * @return the matching meta-property, empty if none
+   */
+  static Optional<MetaProperty<?>> findProperty(Bean bean, String token) {
+    return Optional.ofNullable(properties(bean).get(token.toLowerCase(Locale.ENGLISH)));
+  }
+
+  /**
+   * Finds the only property of the bean.
+   *
+   * @param bean  the bean
+   * @return the meta-property, empty if the bean does not have exactly one property
+   */
+  static Optional<MetaProperty<?>> findSingleProperty(Bean bean) {
+    MetaBean metaBean = bean.metaBean();
+    return metaBean.metaPropertyCount() == 1 ?
+        Optional.of(Iterables.getOnlyElement(metaBean.metaPropertyIterable())) :
+        Optional.empty();
+  }
+
+  // gets the properties of the bean, keyed by lower case name
+  private static ImmutableMap<String, MetaProperty<?>> properties(Bean bean) {
+    if (bean instanceof DynamicBean) {
+      return buildProperties(bean.metaBean());
+    }
+    return PROPERTIES.computeIfAbsent(bean.getClass(), type -> buildProperties(bean.metaBean()));
+  }
+
+  // builds the map of properties, with the first property taking precedence if two names differ only by case
+  private static ImmutableMap<String, MetaProperty<?>> buildProperties(MetaBean metaBean) {
+    Map<String, MetaProperty<?>> properties = new LinkedHashMap<>();
+    for (MetaProperty<?> metaProperty : metaBean.metaPropertyIterable()) {
+      properties.putIfAbsent(metaProperty.name().toLowerCase(Locale.ENGLISH), metaProperty);
+    }
+    return ImmutableMap.copyOf(properties);
+  }
+
+  //-------------------------------------------------------------------------
+  private BeanPropertyLookup() {
+  }
+
+}
@@ -10,6 +10,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -69,12 +70,10 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
-    Optional<String> propertyName = bean.propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> property = BeanPropertyLookup.findProperty(bean, firstToken);
 
-    if (propertyName.isPresent()) {
-      Object propertyValue = bean.property(propertyName.get()).get();
+    if (property.isPresent()) {
+      Object propertyValue = property.get().get(bean);
 
       return propertyValue != null ?
           EvaluationResult.success(propertyValue, remainingTokens) :
@@ -83,9 +82,9 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     // The bean has a single property which doesn't match the token.
     // Return the property value without consuming any tokens.
     // This allows skipping over properties when the bean only has a single property.
-    if (bean.propertyNames().size() == 1) {
-      String singlePropertyName = Iterables.getOnlyElement(bean.propertyNames());
-      Object propertyValue = bean.property(singlePropertyName).get();
+    Optional<MetaProperty<?>> singleProperty = BeanPropertyLookup.findSingleProperty(bean);
+    if (singleProperty.isPresent()) {
+      Object propertyValue = singleProperty.get().get(bean);
       List<String> tokens = ImmutableList.<String>builder().add(firstToken).addAll(remainingTokens).build();
 
       return propertyValue != null ?
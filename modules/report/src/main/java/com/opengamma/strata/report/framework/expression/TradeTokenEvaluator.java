@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.Sets;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
@@ -42,15 +43,11 @@ public class TradeTokenEvaluator extends TokenEvaluator<Trade> {
       String firstToken,
       List<String> remainingTokens) {
 
-    MetaBean metaBean = MetaBean.of(trade.getClass());
-
     // trade
-    Optional<String> tradePropertyName = metaBean.metaPropertyMap().keySet().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> tradeProperty = BeanPropertyLookup.findProperty((Bean) trade, firstToken);
 
-    if (tradePropertyName.isPresent()) {
-      Object propertyValue = metaBean.metaProperty(tradePropertyName.get()).get((Bean) trade);
+    if (tradeProperty.isPresent()) {
+      Object propertyValue = tradeProperty.get().get((Bean) trade);
       if (propertyValue == null) {
         return EvaluationResult.failure("Property '{}' not set", firstToken);
       }
@@ -58,12 +55,10 @@ public class TradeTokenEvaluator extends TokenEvaluator<Trade> {
     }
 
     // trade info
-    Optional<String> tradeInfoPropertyName = trade.getInfo().propertyNames().stream()
-        .filter(p -> p.equalsIgnoreCase(firstToken))
-        .findFirst();
+    Optional<MetaProperty<?>> tradeInfoProperty = BeanPropertyLookup.findProperty(trade.getInfo(), firstToken);
 
-    if (tradeInfoPropertyName.isPresent()) {
-      Object propertyValue = trade.getInfo().property(tradeInfoPropertyName.get()).get();
+    if (tradeInfoProperty.isPresent()) {
+      Object propertyValue = tradeInfoProperty.get().get(trade.getInfo());
       if (propertyValue == null) {
         return EvaluationResult.failure("Property '{}' not set", firstToken);
       }
@@ -52,6 +52,20 @@ public final class ValuePathEvaluator {
       new SecurityTokenEvaluator(),
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
+  /**
+   * The evaluator for each type of value, selected once for each type.
+   */
+  private static final ClassValue<Optional<TokenEvaluator<Object>>> TYPE_EVALUATORS =
+      new ClassValue<Optional<TokenEvaluator<Object>>>() {
+        @Override
+        protected Optional<TokenEvaluator<Object>> computeValue(Class<?> type) {
+          return findEvaluator(type);
+        }
+      };
+  /**
+   * The number of rows above which the rows are evaluated in parallel.
+   */
+  private static final int PARALLEL_ROW_THRESHOLD = 1000;
 
   //-------------------------------------------------------------------------
   /**
@@ -92,11 +106,33 @@ public final class ValuePathEvaluator {
     }
     CalculationFunctions functions = results.getCalculationFunctions();
     int rowCount = results.getCalculationResults().getRowCount();
-    return IntStream.range(0, rowCount)
+    IntStream rowIndices = IntStream.range(0, rowCount);
+    // the rows are independent, and the order of the results is retained when evaluated in parallel
+    return (rowCount > PARALLEL_ROW_THRESHOLD ? rowIndices.parallel() : rowIndices)
         .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
         .collect(toImmutableList());
   }
 
+  /**
+   * Evaluates a value path against a single row of a set of results, returning the resolved result.
+   * <p>
+   * The row index may refer to a target that has no calculation results,
+   * allowing values of the target to be evaluated when no measures were calculated.
+   *
+   * @param valuePath  the value path
+   * @param results  the calculation results
+   * @param rowIndex  the index of the row, which is the index of the target
+   * @return the resolved result
+   */
+  public static Result<?> evaluate(String valuePath, ReportCalculationResults results, int rowIndex) {
+    List<String> tokens = tokenize(valuePath);
+
+    if (tokens.size() < 1) {
+      return Result.failure(FailureReason.INVALID, "Column expressions must not be empty");
+    }
+    return evaluate(results.getCalculationFunctions(), tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex));
+  }
+
   // Tokens always has at least one token
   private static <T> Result<?> evaluate(
       CalculationFunctions functions,
@@ -143,8 +179,13 @@ public final class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // gets the evaluator for the type, cached for each type
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return TYPE_EVALUATORS.get(targetClass);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.report.ReportCalculationResults;
+import com.opengamma.strata.report.framework.expression.ValuePathEvaluator;
+import com.opengamma.strata.report.framework.format.ReportOutputFormat;
+
+/**
+ * Calculation listener that writes a trade report in CSV format as the results are calculated.
+ * <p>
+ * A {@link TradeReport} holds the results of every trade, and is created from the complete set
+ * of calculation results. Instead, this listener evaluates, formats and writes each row of the report
+ * as soon as all the results of the row have been received, and then discards the results.
+ * The memory used is therefore independent of the number of trades.
+ * <p>
+ * The rows are written in the order of the calculation targets. A row that completes before an earlier
+ * row is held until the earlier row is written. At most {@code maxBufferedRows} rows are held in this way.
+ * If the limit is exceeded, the earliest held row is written immediately, and any earlier row
+ * that is still being calculated is written when it completes, out of order.
+ * <p>
+ * The columns passed to the calculation runner must be the
+ * {@linkplain TradeReportRunner#requirements(TradeReportTemplate) requirements} of the template.
+ * For example:
+ * <pre>
+ *  List&lt;Column&gt; columns = TradeReportRunner.INSTANCE.requirements(template).getTradeMeasureRequirements();
+ *  TradeReportCsvWriter writer = TradeReportCsvWriter.of(template, valuationDate, functions, refData, out);
+ *  calculationRunner.calculateAsync(rules, trades, columns, marketData, refData, writer);
+ * </pre>
+ * <p>
+ * The output stream is flushed, but not closed, when the calculations are complete.
+ * As with any listener, an instance must not be used for more than one set of calculations.
+ */
+public final class TradeReportCsvWriter implements CalculationListener {
+
+  /**
+   * The default maximum number of completed rows held awaiting earlier rows.
+   */
+  private static final int DEFAULT_MAX_BUFFERED_ROWS = 10_000;
+  /**
+   * The failure used for a report column with no value.
+   */
+  private static final Result<?> NO_VALUE =
+      Result.failure(FailureReason.INVALID, "No value specified in report template");
+
+  /**
+   * The report columns.
+   */
+  private final List<TradeReportColumn> reportColumns;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The calculation functions.
+   */
+  private final CalculationFunctions calculationFunctions;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The maximum number of completed rows held awaiting earlier rows.
+   */
+  private final int maxBufferedRows;
+  /**
+   * The writer of the output stream.
+   */
+  private final OutputStreamWriter outputWriter;
+  /**
+   * The CSV output.
+   */
+  private final CsvOutput csvOut;
+  /**
+   * The rows being calculated, keyed by row index.
+   */
+  private final Map<Integer, PendingRow> pendingRows = new HashMap<>();
+  /**
+   * The formatted rows held awaiting earlier rows, keyed by row index.
+   */
+  private final TreeMap<Integer, ImmutableList<String>> bufferedRows = new TreeMap<>();
+  /**
+   * The calculated columns, set when the calculations start.
+   */
+  private List<Column> columns;
+  /**
+   * The headers of the calculated columns, set when the calculations start.
+   */
+  private List<ColumnHeader> columnHeaders;
+  /**
+   * The index of the next row to write in order.
+   */
+  private int nextRowIndex;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that writes the report to the output stream.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date used in the calculations
+   * @param calculationFunctions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param out  the output stream to write to
+   * @return the writer
+   */
+  public static TradeReportCsvWriter of(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      OutputStream out) {
+
+    return of(template, valuationDate, calculationFunctions, refData, out, DEFAULT_MAX_BUFFERED_ROWS);
+  }
+
+  /**
+   * Obtains an instance that writes the report to the output stream, specifying the size of the buffer.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date used in the calculations
+   * @param calculationFunctions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param out  the output stream to write to
+   * @param maxBufferedRows  the maximum number of completed rows held awaiting earlier rows
+   * @return the writer
+   */
+  public static TradeReportCsvWriter of(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      OutputStream out,
+      int maxBufferedRows) {
+
+    return new TradeReportCsvWriter(template, valuationDate, calculationFunctions, refData, out, maxBufferedRows);
+  }
+
+  // restricted constructor
+  private TradeReportCsvWriter(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      OutputStream out,
+      int maxBufferedRows) {
+
+    ArgChecker.notNull(template, "template");
+    ArgChecker.notNull(out, "out");
+    this.reportColumns = template.getColumns();
+    this.valuationDate = ArgChecker.notNull(valuationDate, "valuationDate");
+    this.calculationFunctions = ArgChecker.notNull(calculationFunctions, "calculationFunctions");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.maxBufferedRows = ArgChecker.notNegative(maxBufferedRows, "maxBufferedRows");
+    this.outputWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    this.csvOut = CsvOutput.safe(outputWriter);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    this.columns = ImmutableList.copyOf(columns);
+    this.columnHeaders = columns.stream().map(Column::toHeader).collect(toImmutableList());
+    csvOut.writeLine(reportColumns.stream().map(TradeReportColumn::getHeader).collect(toImmutableList()));
+    // with no calculated columns no results are received, so every row is complete
+    if (columns.isEmpty()) {
+      for (int rowIndex = 0; rowIndex < targets.size(); rowIndex++) {
+        csvOut.writeLine(formatRow(targets.get(rowIndex), new Result<?>[0]));
+      }
+    }
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    PendingRow row = pendingRows.computeIfAbsent(rowIndex, index -> new PendingRow(target, columns.size()));
+    if (row.add(result)) {
+      pendingRows.remove(rowIndex);
+      rowCompleted(rowIndex, formatRow(target, row.cells));
+    }
+  }
+
+  @Override
+  public void calculationsComplete() {
+    // any row still pending has a missing result, which is reported as a failure
+    for (Entry<Integer, PendingRow> entry : new TreeMap<>(pendingRows).entrySet()) {
+      PendingRow row = entry.getValue();
+      rowCompleted(entry.getKey(), formatRow(row.target, row.missingAsFailure()));
+    }
+    pendingRows.clear();
+    bufferedRows.values().forEach(csvOut::writeLine);
+    bufferedRows.clear();
+    Unchecked.wrap(outputWriter::flush);
+  }
+
+  //-------------------------------------------------------------------------
+  // writes the row, or holds it until the earlier rows have been written
+  private void rowCompleted(int rowIndex, ImmutableList<String> formattedRow) {
+    if (rowIndex < nextRowIndex) {
+      // an earlier row has been written ahead of this one as the buffer was full
+      csvOut.writeLine(formattedRow);
+      return;
+    }
+    bufferedRows.put(rowIndex, formattedRow);
+    while (!bufferedRows.isEmpty() &&
+        (bufferedRows.firstKey() == nextRowIndex || bufferedRows.size() > maxBufferedRows)) {
+      Entry<Integer, ImmutableList<String>> first = bufferedRows.pollFirstEntry();
+      csvOut.writeLine(first.getValue());
+      nextRowIndex = first.getKey() + 1;
+    }
+  }
+
+  // evaluates and formats the report columns of a single row
+  private ImmutableList<String> formatRow(CalculationTarget target, Result<?>[] cells) {
+    ReportCalculationResults rowResults = ReportCalculationResults.of(
+        valuationDate,
+        ImmutableList.of(target),
+        columns,
+        Results.of(columnHeaders, Arrays.asList(cells)),
+        calculationFunctions,
+        refData);
+    ImmutableList.Builder<String> formattedRow = ImmutableList.builder();
+    for (TradeReportColumn reportColumn : reportColumns) {
+      Result<?> result = reportColumn.getValue()
+          .<Result<?>>map(valuePath -> ValuePathEvaluator.evaluate(valuePath, rowResults, 0))
+          .orElse(NO_VALUE);
+      formattedRow.add(TradeReportFormatter.INSTANCE.formatResult(reportColumn, result, ReportOutputFormat.CSV));
+    }
+    return formattedRow.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The results of a row that is being calculated.
+   */
+  private static final class PendingRow {
+
+    /**
+     * The calculation target.
+     */
+    private final CalculationTarget target;
+    /**
+     * The results received, indexed by column.
+     */
+    private final Result<?>[] cells;
+    /**
+     * The number of results received.
+     */
+    private int received;
+
+    private PendingRow(CalculationTarget target, int columnCount) {
+      this.target = target;
+      this.cells = new Result<?>[columnCount];
+    }
+
+    // adds the result, returning true if the row is complete
+    private boolean add(CalculationResult result) {
+      if (cells[result.getColumnIndex()] == null) {
+        received++;
+      }
+      cells[result.getColumnIndex()] = result.getResult();
+      return received == cells.length;
+    }
+
+    // returns the results, with a failure for any result not received
+    private Result<?>[] missingAsFailure() {
+      Result<?>[] completed = cells.clone();
+      for (int i = 0; i < completed.length; i++) {
+        if (completed[i] == null) {
+          completed[i] = Result.failure(FailureReason.MISSING_DATA, "No result was calculated");
+        }
+      }
+      return completed;
+    }
+  }
+
+}
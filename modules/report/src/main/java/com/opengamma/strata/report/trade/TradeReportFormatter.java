@@ -66,9 +66,18 @@ public final class TradeReportFormatter
 
   @Override
   protected String formatData(TradeReport report, int rowIdx, int colIdx, ReportOutputFormat format) {
-    TradeReportColumn templateColumn = report.getColumns().get(colIdx);
-    Result<?> result = report.getData().get(rowIdx, colIdx);
+    return formatResult(report.getColumns().get(colIdx), report.getData().get(rowIdx, colIdx), format);
+  }
 
+  /**
+   * Formats the result of a single cell of a trade report.
+   *
+   * @param templateColumn  the report column containing the cell
+   * @param result  the result in the cell
+   * @param format  the report output format
+   * @return the formatted result
+   */
+  String formatResult(TradeReportColumn templateColumn, Result<?> result, ReportOutputFormat format) {
     if (result.isFailure()) {
       return templateColumn.isIgnoreFailures() ? "" : Messages.format("FAIL: {}", result.getFailure().getMessage());
     }
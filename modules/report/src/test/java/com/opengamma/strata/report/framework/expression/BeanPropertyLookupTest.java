@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.MinimalMetaBean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link BeanPropertyLookup}.
+ */
+public class BeanPropertyLookupTest {
+
+  @Test
+  public void test_findProperty_unregisteredBean() {
+    UnregisteredBean bean = new UnregisteredBean(12d);
+    assertThatIllegalArgumentException().isThrownBy(() -> MetaBean.of(UnregisteredBean.class));
+    assertThat(BeanPropertyLookup.findProperty(bean, "Amount").map(MetaProperty::name)).hasValue("amount");
+    assertThat(BeanPropertyLookup.findProperty(bean, "amount").get().get(bean)).isEqualTo(12d);
+    assertThat(BeanPropertyLookup.findProperty(bean, "notional")).isEmpty();
+    assertThat(BeanPropertyLookup.findSingleProperty(bean).map(MetaProperty::name)).hasValue("amount");
+  }
+
+  //-------------------------------------------------------------------------
+  // a bean whose meta-bean is not registered
+  private static final class UnregisteredBean implements ImmutableBean {
+
+    private static final MetaBean META_BEAN =
+        MinimalMetaBean.of(UnregisteredBean.class, new String[] {"amount"}, () -> null, bean -> bean.amount);
+
+    @PropertyDefinition
+    private final double amount;
+
+    private UnregisteredBean(double amount) {
+      this.amount = amount;
+    }
+
+    @Override
+    public MetaBean metaBean() {
+      return META_BEAN;
+    }
+  }
+
+}
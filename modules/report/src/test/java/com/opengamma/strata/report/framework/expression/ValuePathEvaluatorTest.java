@@ -6,6 +6,7 @@
 package com.opengamma.strata.report.framework.expression;
 
 import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.product.common.BuySell.BUY;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +130,38 @@ public class ValuePathEvaluatorTest {
     assertThat(counterpartyResults).isEqualTo(expectedCounterparties);
   }
 
+  @Test
+  public void tradePath_caseInsensitive() {
+    ReportCalculationResults reportResults = reportResults();
+
+    List<Result<?>> results = ValuePathEvaluator.evaluate("trade.PRODUCT.notional", reportResults);
+    assertThat(results.get(0)).isEqualTo(Result.success(1_000_000d));
+    List<Result<?>> failures = ValuePathEvaluator.evaluate("Trade.Product.Unknown", reportResults);
+    assertThat(failures.get(0).isFailure()).isTrue();
+    assertThat(failures.get(0).getFailure().getMessage()).contains("Unknown");
+  }
+
+  @Test
+  public void tradePath_manyRows() {
+    int rowCount = 2500;
+    Column column = Column.of(Measure.of("PresentValue"));
+    List<Trade> trades = IntStream.range(0, rowCount)
+        .mapToObj(i -> trade("cpty" + i, i))
+        .collect(toImmutableList());
+    List<Result<?>> resultValues = IntStream.range(0, rowCount)
+        .mapToObj(i -> Result.success(CurrencyAmount.of(Currency.GBP, i)))
+        .collect(toImmutableList());
+    Results results = Results.of(ImmutableList.of(column.toHeader()), resultValues);
+    ReportCalculationResults reportResults =
+        ReportCalculationResults.of(LocalDate.now(ZoneOffset.UTC), trades, ImmutableList.of(column), results);
+
+    List<Result<?>> counterpartyResults = ValuePathEvaluator.evaluate("Trade.Counterparty.Value", reportResults);
+    List<Result<?>> expected = IntStream.range(0, rowCount)
+        .mapToObj(i -> Result.success("cpty" + i))
+        .collect(toImmutableList());
+    assertThat(counterpartyResults).isEqualTo(expected);
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   private static ReportCalculationResults reportResults() {
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Test {@link TradeReportCsvWriter}.
+ */
+public class TradeReportCsvWriterTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 8, 3);
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measure.of("PresentValue")),
+      Column.of(Measure.of("ParRate")));
+  private static final TradeReportTemplate TEMPLATE = TradeReportTemplate.builder()
+      .columns(
+          TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build(),
+          TradeReportColumn.builder().header("Notional").value("Product.Notional").build(),
+          TradeReportColumn.builder().header("PV").value("Measures.PresentValue").build(),
+          TradeReportColumn.builder().header("Par Rate").value("Measures.ParRate").build(),
+          TradeReportColumn.builder().header("Empty").build())
+      .build();
+  private static final List<CalculationTarget> TRADES = ImmutableList.of(
+      trade("cpty1", 1_000_000),
+      trade("cpty2", 2_000_000),
+      trade("cpty3", 3_000_000),
+      trade("cpty4", 4_000_000));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_matchesReport() {
+    List<CalculationResult> results = results();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportCsvWriter test = TradeReportCsvWriter.of(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    test.calculationsStarted(TRADES, COLUMNS);
+    // results arrive out of order
+    for (int i : new int[] {5, 2, 3, 0, 4, 7, 1, 6}) {
+      test.resultReceived(TRADES.get(results.get(i).getRowIndex()), results.get(i));
+    }
+    test.calculationsComplete();
+
+    assertThat(csv(out)).isEqualTo(expectedCsv(results));
+  }
+
+  @Test
+  public void test_bufferFull() {
+    List<CalculationResult> results = results();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportCsvWriter test = TradeReportCsvWriter.of(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out, 1);
+    test.calculationsStarted(TRADES, COLUMNS);
+    // row 0 is last to complete, rows 1 and 2 are held until the buffer is full
+    for (int i : new int[] {2, 3, 4, 5, 6, 7, 0, 1}) {
+      test.resultReceived(TRADES.get(results.get(i).getRowIndex()), results.get(i));
+    }
+    test.calculationsComplete();
+
+    List<String> expected = expectedCsv(results);
+    assertThat(csv(out)).containsExactly(
+        expected.get(0), expected.get(2), expected.get(3), expected.get(4), expected.get(1));
+  }
+
+  @Test
+  public void test_missingResult() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportCsvWriter test = TradeReportCsvWriter.of(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    test.calculationsStarted(TRADES.subList(0, 1), COLUMNS);
+    test.resultReceived(TRADES.get(0), CalculationResult.of(0, 0, Result.success(CurrencyAmount.of(Currency.GBP, 1))));
+    test.calculationsComplete();
+
+    List<String> csv = csv(out);
+    assertThat(csv).hasSize(2);
+    assertThat(csv.get(1)).startsWith("cpty1,").contains("FAIL: No result was calculated");
+  }
+
+  @Test
+  public void test_noCalculatedColumns() {
+    TradeReportTemplate template = TradeReportTemplate.builder()
+        .columns(TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build())
+        .build();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportCsvWriter test = TradeReportCsvWriter.of(
+        template, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    test.calculationsStarted(TRADES.subList(0, 2), ImmutableList.of());
+    test.calculationsComplete();
+
+    assertThat(csv(out)).containsExactly("Counterparty", "cpty1", "cpty2");
+  }
+
+  //-------------------------------------------------------------------------
+  // the results in row order, with a failure in the third row
+  private static List<CalculationResult> results() {
+    List<CalculationResult> results = new ArrayList<>();
+    for (int row = 0; row < TRADES.size(); row++) {
+      results.add(CalculationResult.of(row, 0, Result.success(CurrencyAmount.of(Currency.GBP, row + 0.5))));
+      results.add(row == 2 ?
+          CalculationResult.of(row, 1, Result.failure(FailureReason.CALCULATION_FAILED, "Failed")) :
+          CalculationResult.of(row, 1, Result.success(0.01 * row)));
+    }
+    return results;
+  }
+
+  // the CSV written by the trade report
+  private static List<String> expectedCsv(List<CalculationResult> results) {
+    List<Result<?>> cells = new ArrayList<>();
+    results.forEach(result -> cells.add(result.getResult()));
+    Results calculationResults =
+        Results.of(ImmutableList.of(COLUMNS.get(0).toHeader(), COLUMNS.get(1).toHeader()), cells);
+    ReportCalculationResults reportResults = ReportCalculationResults.of(VAL_DATE, TRADES, COLUMNS, calculationResults);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TradeReportRunner.INSTANCE.runReport(reportResults, TEMPLATE).writeCsv(out);
+    return csv(out);
+  }
+
+  private static List<String> csv(ByteArrayOutputStream out) {
+    return ImmutableList.copyOf(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\\R"));
+  }
+
+  private static FraTrade trade(String counterparty, double notional) {
+    TradeInfo tradeInfo = TradeInfo.builder()
+        .counterparty(StandardId.of("cpty", counterparty))
+        .build();
+    Fra fra = Fra.builder()
+        .buySell(BUY)
+        .notional(notional)
+        .startDate(date(2015, 8, 5))
+        .endDate(date(2015, 11, 5))
+        .paymentDate(AdjustableDate.of(date(2015, 8, 7)))
+        .fixedRate(0.25d)
+        .index(GBP_LIBOR_3M)
+        .build();
+    return FraTrade.builder()
+        .info(tradeInfo)
+        .product(fra)
+        .build();
+  }
+
+}